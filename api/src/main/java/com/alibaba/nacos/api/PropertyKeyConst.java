@@ -83,6 +83,22 @@ public class PropertyKeyConst {
     
     public static final String CLIENT_WORKER_THREAD_COUNT = "clientWorkerThreadCount";
     
+    /**
+     * Count of lanes to notify config listeners, notifications of one config are always run in the same lane. 0 to
+     * notify listeners in the config listen thread.
+     */
+    public static final String CONFIG_LISTENER_NOTIFY_LANES = "configListenerNotifyLanes";
+    
+    /**
+     * Max count of pending notify tasks of each config listener notify lane.
+     */
+    public static final String CONFIG_LISTENER_NOTIFY_LANE_CAPACITY = "configListenerNotifyLaneCapacity";
+    
+    /**
+     * Store of config snapshots, `indexed` to save all snapshots in one indexed file, otherwise one file per config.
+     */
+    public static final String CONFIG_SNAPSHOT_STORE = "configSnapshotStore";
+    
     public static final String MAX_RETRY = "maxRetry";
     
     public static final String ENABLE_REMOTE_SYNC_CONFIG = "enableRemoteSyncConfig";
@@ -103,6 +119,16 @@ public class PropertyKeyConst {
     
     public static final String NAMING_ASYNC_QUERY_SUBSCRIBE_SERVICE = "namingAsyncQuerySubscribeService";
     
+    /**
+     * Interval in milliseconds to write changed service infos to the naming disk cache, 0 to write synchronously.
+     */
+    public static final String NAMING_CACHE_WRITE_INTERVAL = "namingCacheWriteInterval";
+    
+    /**
+     * Whether to write the naming disk cache as one compact snapshot file instead of one file per service.
+     */
+    public static final String NAMING_CACHE_COMPACT_SNAPSHOT = "namingCacheCompactSnapshot";
+    
     public static final String REDO_DELAY_TIME = "redoDelayTime";
     
     public static final String REDO_DELAY_THREAD_COUNT = "redoDelayThreadCount";
@@ -59,6 +59,16 @@ public enum AbilityKey {
     SERVER_AGENT_REGISTRY("agent", "Server whether support release agent server and register endpoint for agent server",
             AbilityMode.SERVER),
     
+    /**
+     * For binary payload codec.
+     */
+    SERVER_BINARY_PAYLOAD("binaryPayload", "Server whether support decode binary payload", AbilityMode.SERVER),
+    
+    /**
+     * For batch redo of naming register and subscribe.
+     */
+    SERVER_BATCH_REDO("batchRedo", "Server whether support batch redo register and subscribe", AbilityMode.SERVER),
+    
     /**
      * For fuzzy watch naming or config.
      */
@@ -82,6 +92,22 @@ public enum AbilityKey {
     SDK_AGENT_REGISTRY("agent", "Client whether support release agent server and register endpoint for agent server",
             AbilityMode.SDK_CLIENT),
     
+    /**
+     * For binary payload codec.
+     */
+    SDK_CLIENT_BINARY_PAYLOAD("binaryPayload", "Client whether support decode binary payload", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * For delta service push.
+     */
+    SDK_CLIENT_DELTA_PUSH("deltaPush", "Client whether support apply delta service push", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * For binary payload codec.
+     */
+    CLUSTER_CLIENT_BINARY_PAYLOAD("binaryPayload", "Cluster client whether support decode binary payload",
+            AbilityMode.CLUSTER_CLIENT),
+    
     /**
      * For Test temporarily.
      */
@@ -49,6 +49,8 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
         supportedAbilities.put(AbilityKey.SDK_CLIENT_DISTRIBUTED_LOCK, true);
         supportedAbilities.put(AbilityKey.SDK_MCP_REGISTRY, true);
         supportedAbilities.put(AbilityKey.SDK_AGENT_REGISTRY, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_DELTA_PUSH, true);
     }
     
     /**.
@@ -50,6 +50,8 @@ public class ServerAbilities extends AbstractAbilityRegistry {
         supportedAbilities.put(AbilityKey.SERVER_DISTRIBUTED_LOCK, true);
         supportedAbilities.put(AbilityKey.SERVER_MCP_REGISTRY, true);
         supportedAbilities.put(AbilityKey.SERVER_AGENT_REGISTRY, true);
+        supportedAbilities.put(AbilityKey.SERVER_BINARY_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SERVER_BATCH_REDO, true);
     }
     
     /**.
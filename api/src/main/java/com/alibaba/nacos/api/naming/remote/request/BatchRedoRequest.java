@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch redo request, carries the register and subscribe requests to redo after reconnecting to server, so redo of
+ * many services needs few requests.
+ *
+ * <p>Each inner request is handled by server as if it is sent alone, including auth and param check.
+ *
+ * @author Nacos
+ */
+public class BatchRedoRequest extends AbstractNamingRequest {
+    
+    private List<InstanceRequest> instanceRequests = new ArrayList<>();
+    
+    private List<BatchInstanceRequest> batchInstanceRequests = new ArrayList<>();
+    
+    private List<SubscribeServiceRequest> subscribeRequests = new ArrayList<>();
+    
+    public BatchRedoRequest() {
+    }
+    
+    public BatchRedoRequest(String namespace) {
+        super(namespace, null, null);
+    }
+    
+    public List<InstanceRequest> getInstanceRequests() {
+        return instanceRequests;
+    }
+    
+    public void setInstanceRequests(List<InstanceRequest> instanceRequests) {
+        this.instanceRequests = instanceRequests;
+    }
+    
+    public List<BatchInstanceRequest> getBatchInstanceRequests() {
+        return batchInstanceRequests;
+    }
+    
+    public void setBatchInstanceRequests(List<BatchInstanceRequest> batchInstanceRequests) {
+        this.batchInstanceRequests = batchInstanceRequests;
+    }
+    
+    public List<SubscribeServiceRequest> getSubscribeRequests() {
+        return subscribeRequests;
+    }
+    
+    public void setSubscribeRequests(List<SubscribeServiceRequest> subscribeRequests) {
+        this.subscribeRequests = subscribeRequests;
+    }
+    
+    /**
+     * Get count of all inner requests.
+     *
+     * @return count of inner requests
+     */
+    public int size() {
+        return instanceRequests.size() + batchInstanceRequests.size() + subscribeRequests.size();
+    }
+}
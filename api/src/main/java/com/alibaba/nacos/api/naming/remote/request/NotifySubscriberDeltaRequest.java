@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+
+/**
+ * Notify subscriber delta request, only carries the instances changed from the base revision the client acknowledged.
+ *
+ * <p>The service info carries everything of the service except hosts. Instances are identified by
+ * {@link Instance#toInetAddr()}. If the client does not hold the base revision, it should reply
+ * {@link com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse#BASE_REVISION_MISMATCH} so that the
+ * server pushes full data.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberDeltaRequest extends ServerRequest {
+    
+    private String namespace;
+    
+    private String serviceName;
+    
+    private String groupName;
+    
+    private ServiceInfo serviceInfo;
+    
+    private long baseRevision;
+    
+    private long revision;
+    
+    private List<Instance> addedInstances = new ArrayList<>();
+    
+    private List<Instance> removedInstances = new ArrayList<>();
+    
+    private List<Instance> modifiedInstances = new ArrayList<>();
+    
+    public NotifySubscriberDeltaRequest() {
+    }
+    
+    @Override
+    public String getModule() {
+        return NAMING_MODULE;
+    }
+    
+    public String getNamespace() {
+        return namespace;
+    }
+    
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+    
+    public String getServiceName() {
+        return serviceName;
+    }
+    
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+    
+    public String getGroupName() {
+        return groupName;
+    }
+    
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public void setServiceInfo(ServiceInfo serviceInfo) {
+        this.serviceInfo = serviceInfo;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public void setAddedInstances(List<Instance> addedInstances) {
+        this.addedInstances = addedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public void setRemovedInstances(List<Instance> removedInstances) {
+        this.removedInstances = removedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public void setModifiedInstances(List<Instance> modifiedInstances) {
+        this.modifiedInstances = modifiedInstances;
+    }
+}
@@ -36,6 +36,12 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of the pushed service info, used as base revision of later {@link NotifySubscriberDeltaRequest}. 0 means
+     * the server does not support delta push.
+     */
+    private long revision;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -84,4 +90,12 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
 }
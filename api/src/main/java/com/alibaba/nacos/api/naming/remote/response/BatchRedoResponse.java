@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.response;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of batch redo request, with the result of each inner request in the order of request.
+ *
+ * @author Nacos
+ */
+public class BatchRedoResponse extends Response {
+    
+    private List<Boolean> instanceResults = new ArrayList<>();
+    
+    private List<Boolean> batchInstanceResults = new ArrayList<>();
+    
+    private List<Boolean> subscribeResults = new ArrayList<>();
+    
+    public List<Boolean> getInstanceResults() {
+        return instanceResults;
+    }
+    
+    public void setInstanceResults(List<Boolean> instanceResults) {
+        this.instanceResults = instanceResults;
+    }
+    
+    public List<Boolean> getBatchInstanceResults() {
+        return batchInstanceResults;
+    }
+    
+    public void setBatchInstanceResults(List<Boolean> batchInstanceResults) {
+        this.batchInstanceResults = batchInstanceResults;
+    }
+    
+    public List<Boolean> getSubscribeResults() {
+        return subscribeResults;
+    }
+    
+    public void setSubscribeResults(List<Boolean> subscribeResults) {
+        this.subscribeResults = subscribeResults;
+    }
+}
@@ -25,4 +25,9 @@ import com.alibaba.nacos.api.remote.response.Response;
  */
 public class NotifySubscriberResponse extends Response {
     
+    /**
+     * The base revision of a delta push is not the revision the client holds, the server should push full data.
+     */
+    public static final int BASE_REVISION_MISMATCH = 412;
+
 }
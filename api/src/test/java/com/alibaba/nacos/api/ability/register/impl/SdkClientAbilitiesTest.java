@@ -30,5 +30,7 @@ class SdkClientAbilitiesTest {
         assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_FUZZY_WATCH));
         assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_DISTRIBUTED_LOCK));
         assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_MCP_REGISTRY));
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD));
+        assertTrue(SdkClientAbilities.getStaticAbilities().get(AbilityKey.SDK_CLIENT_DELTA_PUSH));
     }
 }
\ No newline at end of file
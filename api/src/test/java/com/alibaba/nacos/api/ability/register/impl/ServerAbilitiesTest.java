@@ -33,4 +33,14 @@ class ServerAbilitiesTest {
     void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_PERSISTENT_INSTANCE_BY_GRPC));
     }
+    
+    @Test
+    void testSupportBinaryPayloadAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_BINARY_PAYLOAD));
+    }
+    
+    @Test
+    void testSupportBatchRedoAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_BATCH_REDO));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRedoRequestTest extends BasedNamingRequestTest {
+    
+    @Test
+    void testSerializeAndDeserialize() throws JsonProcessingException {
+        BatchRedoRequest request = new BatchRedoRequest(NAMESPACE);
+        request.getInstanceRequests().add(new InstanceRequest(NAMESPACE, SERVICE, GROUP,
+                NamingRemoteConstants.REGISTER_INSTANCE, new Instance()));
+        request.getBatchInstanceRequests().add(new BatchInstanceRequest(NAMESPACE, SERVICE, GROUP,
+                NamingRemoteConstants.BATCH_REGISTER_INSTANCE, Collections.singletonList(new Instance())));
+        request.getSubscribeRequests().add(new SubscribeServiceRequest(NAMESPACE, GROUP, SERVICE, "", true));
+        assertEquals(3, request.size());
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"module\":\"naming\""));
+        assertTrue(json.contains("\"namespace\":\"" + NAMESPACE + "\""));
+        
+        BatchRedoRequest actual = mapper.readValue(json, BatchRedoRequest.class);
+        assertEquals(NAMESPACE, actual.getNamespace());
+        assertEquals(3, actual.size());
+        checkNamingRequestBasedInfo(actual.getInstanceRequests().get(0));
+        assertEquals(NamingRemoteConstants.REGISTER_INSTANCE, actual.getInstanceRequests().get(0).getType());
+        checkNamingRequestBasedInfo(actual.getBatchInstanceRequests().get(0));
+        assertEquals(1, actual.getBatchInstanceRequests().get(0).getInstances().size());
+        checkNamingRequestBasedInfo(actual.getSubscribeRequests().get(0));
+        assertTrue(actual.getSubscribeRequests().get(0).isSubscribe());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotifySubscriberDeltaRequestTest {
+    
+    private static final String SERVICE = "service";
+    
+    private static final String GROUP = "group";
+    
+    private static final String NAMESPACE = "namespace";
+    
+    private static ObjectMapper mapper;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        mapper = new ObjectMapper();
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    @Test
+    void testSerialize() throws JsonProcessingException {
+        NotifySubscriberDeltaRequest request = new NotifySubscriberDeltaRequest();
+        request.setServiceName(SERVICE);
+        request.setGroupName(GROUP);
+        request.setNamespace(NAMESPACE);
+        request.setServiceInfo(new ServiceInfo(GROUP + "@@" + SERVICE));
+        request.setBaseRevision(1L);
+        request.setRevision(2L);
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8080);
+        request.setAddedInstances(Collections.singletonList(instance));
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"serviceName\":\"" + SERVICE + "\""));
+        assertTrue(json.contains("\"module\":\"" + NAMING_MODULE + "\""));
+        assertTrue(json.contains("\"baseRevision\":1"));
+        assertTrue(json.contains("\"revision\":2"));
+        assertTrue(json.contains("\"addedInstances\":[{"));
+        assertTrue(json.contains("\"removedInstances\":[]"));
+    }
+    
+    @Test
+    void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{},\"namespace\":\"namespace\",\"serviceName\":\"service\",\"groupName\":\"group\","
+                + "\"serviceInfo\":{\"name\":\"service\",\"groupName\":\"group\",\"cacheMillis\":1000,\"hosts\":[]},"
+                + "\"baseRevision\":1,\"revision\":2,\"addedInstances\":[],\"removedInstances\":[{\"ip\":\"1.1.1.1\","
+                + "\"port\":8080}],\"modifiedInstances\":[],\"module\":\"naming\"}";
+        NotifySubscriberDeltaRequest actual = mapper.readValue(json, NotifySubscriberDeltaRequest.class);
+        assertEquals(SERVICE, actual.getServiceName());
+        assertEquals(GROUP, actual.getGroupName());
+        assertEquals(NAMESPACE, actual.getNamespace());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(2L, actual.getRevision());
+        assertEquals(GROUP + "@@" + SERVICE, actual.getServiceInfo().getKey());
+        assertTrue(actual.getAddedInstances().isEmpty());
+        assertEquals("1.1.1.1:8080", actual.getRemovedInstances().get(0).toInetAddr());
+    }
+}
@@ -103,27 +103,27 @@ class AbilityKeyTest {
         assertTrue(enumMap.get(AbilityKey.SERVER_FUZZY_WATCH));
         assertTrue(enumMap.get(AbilityKey.SERVER_PERSISTENT_INSTANCE_BY_GRPC));
         assertTrue(enumMap.get(AbilityKey.SERVER_MCP_REGISTRY));
-        
+    
     }
     
     @Test
     void testGetAllValues() {
         Collection<AbilityKey> actual = AbilityKey.getAllValues(AbilityMode.SERVER);
-        assertEquals(5, actual.size());
+        assertEquals(7, actual.size());
         actual = AbilityKey.getAllValues(AbilityMode.SDK_CLIENT);
-        assertEquals(4, actual.size());
+        assertEquals(6, actual.size());
         actual = AbilityKey.getAllValues(AbilityMode.CLUSTER_CLIENT);
-        assertEquals(1, actual.size());
+        assertEquals(2, actual.size());
     }
     
     @Test
     void testGetAllNames() {
         Collection<String> actual = AbilityKey.getAllNames(AbilityMode.SERVER);
-        assertEquals(5, actual.size());
+        assertEquals(7, actual.size());
         actual = AbilityKey.getAllNames(AbilityMode.SDK_CLIENT);
-        assertEquals(4, actual.size());
+        assertEquals(6, actual.size());
         actual = AbilityKey.getAllNames(AbilityMode.CLUSTER_CLIENT);
-        assertEquals(1, actual.size());
+        assertEquals(2, actual.size());
     }
     
     @Test
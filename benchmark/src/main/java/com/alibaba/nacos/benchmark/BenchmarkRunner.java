@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Runs benchmarks with a named profile and writes the results as json, so results of different commits can be
+ * compared with each other or with any jmh visualizer.
+ *
+ * <p>Usage: {@code java -cp benchmarks.jar com.alibaba.nacos.benchmark.BenchmarkRunner [quick|full] [include regex]},
+ * or {@code mvn package -Pbenchmark,benchmark-quick -pl benchmark -am -Dbenchmark.include=GrpcUtils}. The
+ * {@code quick} profile runs one short fork for a fast local check, the {@code full} profile runs two forks with the
+ * iterations declared by each benchmark. Results are written to {@code target/jmh-result/{profile}-{time}.json}.
+ *
+ * @author Nacos
+ */
+public class BenchmarkRunner {
+    
+    private static final String PROFILE_QUICK = "quick";
+    
+    private static final String PROFILE_FULL = "full";
+    
+    private static final String ALL_BENCHMARKS = ".*";
+    
+    private static final int FULL_FORKS = 2;
+    
+    private static final int QUICK_MEASUREMENT_ITERATIONS = 3;
+    
+    private static final String RESULT_DIR = "target" + File.separator + "jmh-result";
+    
+    /**
+     * Run benchmarks.
+     *
+     * @param args profile and include regex of benchmarks, both optional
+     * @throws RunnerException when any benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        String profile = args.length > 0 ? args[0] : PROFILE_QUICK;
+        String include = args.length > 1 ? args[1] : ALL_BENCHMARKS;
+        File resultDir = new File(RESULT_DIR);
+        if (!resultDir.exists() && !resultDir.mkdirs()) {
+            throw new IllegalStateException("Can't create result directory " + resultDir.getAbsolutePath());
+        }
+        String time = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File result = new File(resultDir, profile + "-" + time + ".json");
+        ChainedOptionsBuilder builder = new OptionsBuilder().include(include).shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON).result(result.getPath());
+        if (PROFILE_QUICK.equals(profile)) {
+            builder.forks(1).warmupIterations(1).warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(QUICK_MEASUREMENT_ITERATIONS).measurementTime(TimeValue.seconds(1));
+        } else if (PROFILE_FULL.equals(profile)) {
+            builder.forks(FULL_FORKS);
+        } else {
+            throw new IllegalArgumentException("Unknown benchmark profile " + profile + ", use quick or full.");
+        }
+        new Runner(builder.build()).run();
+        System.out.println("Benchmark results are written to " + result.getAbsolutePath());
+    }
+}
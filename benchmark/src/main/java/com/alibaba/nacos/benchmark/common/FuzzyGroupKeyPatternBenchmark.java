@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FuzzyGroupKeyPattern} matching of a changed resource against all fuzzy watch patterns, as done for
+ * every config or service change while fuzzy watchers exist.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuzzyGroupKeyPatternBenchmark {
+    
+    private static final String NAMESPACE = "public";
+    
+    @Param({"100", "10000"})
+    private int patternCount;
+    
+    @Param({"1000"})
+    private int resourceCount;
+    
+    private List<String> patterns;
+    
+    private String[] resources;
+    
+    /**
+     * Prepare prefix, suffix and exact patterns over a few groups.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            String group = "group" + i % 10;
+            String resource;
+            switch (i % 3) {
+                case 0:
+                    resource = "app" + i + "*";
+                    break;
+                case 1:
+                    resource = "*" + i + ".yaml";
+                    break;
+                default:
+                    resource = "app" + i + ".properties";
+                    break;
+            }
+            patterns.add(FuzzyGroupKeyPattern.generatePattern(resource, group, NAMESPACE));
+        }
+        resources = new String[resourceCount];
+        for (int i = 0; i < resourceCount; i++) {
+            resources[i] = "app" + i + ".properties";
+        }
+    }
+    
+    /**
+     * Match a random resource against all patterns, as done for every change.
+     */
+    @Benchmark
+    public Set<String> filterMatchedPatterns() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return FuzzyGroupKeyPattern.filterMatchedPatterns(patterns, resources[random.nextInt(resourceCount)],
+                "group" + random.nextInt(10), NAMESPACE);
+    }
+    
+    /**
+     * Match a random resource against a random pattern.
+     */
+    @Benchmark
+    public boolean matchPattern() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return FuzzyGroupKeyPattern.matchPattern(patterns.get(random.nextInt(patternCount)),
+                resources[random.nextInt(resourceCount)], "group0", NAMESPACE);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GrpcUtils#convert} and {@link GrpcUtils#parse} of the largest payloads on the rpc path, the batch
+ * listen request sent by clients and the config query response sent by server, with json and binary bodies.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcUtilsBenchmark {
+    
+    private static final String MD5 = "d41d8cd98f00b204e9800998ecf8427e";
+    
+    @Param({"false", "true"})
+    private boolean binaryPayload;
+    
+    @Param({"100"})
+    private int listenCount;
+    
+    @Param({"1024", "65536"})
+    private int contentSize;
+    
+    private ConfigBatchListenRequest listenRequest;
+    
+    private ConfigQueryResponse queryResponse;
+    
+    private Payload listenPayload;
+    
+    private Payload queryPayload;
+    
+    /**
+     * Prepare requests, responses and their payloads.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        PayloadRegistry.init();
+        listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setListen(true);
+        for (int i = 0; i < listenCount; i++) {
+            listenRequest.addConfigListenContext("DEFAULT_GROUP", "dataId" + i, "public", MD5);
+        }
+        StringBuilder content = new StringBuilder(contentSize);
+        for (int i = 0; i < contentSize; i++) {
+            content.append((char) ('a' + i % 26));
+        }
+        queryResponse = ConfigQueryResponse.buildSuccessResponse(content.toString());
+        queryResponse.setMd5(MD5);
+        queryResponse.setContentType("text");
+        queryResponse.setLastModified(System.currentTimeMillis());
+        listenPayload = GrpcUtils.convert(listenRequest, binaryPayload);
+        queryPayload = GrpcUtils.convert(queryResponse, binaryPayload);
+    }
+    
+    @Benchmark
+    public Payload convertListenRequest() {
+        return GrpcUtils.convert(listenRequest, binaryPayload);
+    }
+    
+    @Benchmark
+    public Object parseListenRequest() {
+        return GrpcUtils.parse(listenPayload);
+    }
+    
+    @Benchmark
+    public Payload convertQueryResponse() {
+        return GrpcUtils.convert(queryResponse, binaryPayload);
+    }
+    
+    @Benchmark
+    public Object parseQueryResponse() {
+        return GrpcUtils.parse(queryPayload);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures {@link NotifyCenter#publishEvent} from many threads into one publisher with one subscriber, which is the
+ * shape of the instance change and config change event flows.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class NotifyCenterBenchmark {
+    
+    private static final int QUEUE_MAX_SIZE = 16384;
+    
+    private BenchmarkSubscriber subscriber;
+    
+    /**
+     * Register publisher and subscriber of benchmark event.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        NotifyCenter.registerToPublisher(BenchmarkEvent.class, QUEUE_MAX_SIZE);
+        subscriber = new BenchmarkSubscriber();
+        NotifyCenter.registerSubscriber(subscriber);
+    }
+    
+    /**
+     * Deregister subscriber and publisher.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(subscriber);
+        NotifyCenter.deregisterPublisher(BenchmarkEvent.class);
+    }
+    
+    @Benchmark
+    public boolean publishEvent() {
+        return NotifyCenter.publishEvent(new BenchmarkEvent());
+    }
+    
+    private static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = -2431577541318063823L;
+    }
+    
+    private static class BenchmarkSubscriber extends Subscriber<BenchmarkEvent> {
+        
+        private final LongAdder received = new LongAdder();
+        
+        @Override
+        public void onEvent(BenchmarkEvent event) {
+            received.increment();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return BenchmarkEvent.class;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@link ConfigCacheService#dumpWithMd5} for the two shapes seen during dump all and config change: content
+ * unchanged so only the timestamp is refreshed, and content changed so the disk cache is rewritten.
+ *
+ * <p>The disk cache is written to a temporary nacos home, one fork per disk type.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ConfigCacheServiceBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "public";
+    
+    private static final String TYPE = "text";
+    
+    private static final int QUEUE_MAX_SIZE = 16384;
+    
+    @Param({"raw", "segment"})
+    private String diskType;
+    
+    @Param({"10000"})
+    private int configCount;
+    
+    @Param({"1024"})
+    private int contentSize;
+    
+    private final AtomicLong lastModified = new AtomicLong(1L);
+    
+    private String[] dataIds;
+    
+    private String[] contents;
+    
+    private String[] md5s;
+    
+    /**
+     * Prepare a temporary nacos home and dump all configs once.
+     *
+     * @throws IOException when temporary nacos home can't be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        System.setProperty("nacos.home", Files.createTempDirectory("nacos-benchmark").toString());
+        System.setProperty("config_disk_type", diskType);
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, QUEUE_MAX_SIZE);
+        contents = new String[] {content('a'), content('b')};
+        md5s = new String[] {MD5Utils.md5Hex(contents[0], "UTF-8"), MD5Utils.md5Hex(contents[1], "UTF-8")};
+        dataIds = new String[configCount];
+        for (int i = 0; i < configCount; i++) {
+            dataIds[i] = "dataId" + i;
+            ConfigCacheService.dumpWithMd5(dataIds[i], GROUP, TENANT, contents[0], md5s[0],
+                    lastModified.incrementAndGet(), TYPE, null);
+        }
+    }
+    
+    private String content(char base) {
+        StringBuilder builder = new StringBuilder(contentSize);
+        for (int i = 0; i < contentSize; i++) {
+            builder.append((char) (base + i % 24));
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Dump with unchanged content and a newer timestamp.
+     */
+    @Benchmark
+    public boolean dumpUnchanged() {
+        String dataId = dataIds[ThreadLocalRandom.current().nextInt(configCount)];
+        return ConfigCacheService.dumpWithMd5(dataId, GROUP, TENANT, contents[0], md5s[0],
+                lastModified.incrementAndGet(), TYPE, null);
+    }
+    
+    /**
+     * Dump with changed content, flipping between two versions.
+     */
+    @Benchmark
+    public boolean dumpChanged() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int version = random.nextInt(contents.length);
+        return ConfigCacheService.dumpWithMd5(dataIds[random.nextInt(configCount)], GROUP, TENANT, contents[version],
+                md5s[version], lastModified.incrementAndGet(), TYPE, null);
+    }
+}
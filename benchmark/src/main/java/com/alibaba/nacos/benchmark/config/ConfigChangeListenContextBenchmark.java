@@ -0,0 +1,215 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.config.server.model.ConfigListenState;
+import com.alibaba.nacos.config.server.remote.ConfigChangeListenContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConfigChangeListenContext} with the monitor based {@link SynchronizedConfigChangeListenContext}
+ * under the batch listen storm after a server restart: many threads registering listens of many connections while
+ * config changes iterate listeners of the changed group key.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ConfigChangeListenContextBenchmark {
+    
+    private static final String MD5 = "d41d8cd98f00b204e9800998ecf8427e";
+    
+    @Param({"concurrent", "synchronized"})
+    private String implementation;
+    
+    @Param({"40000"})
+    private int connectionCount;
+    
+    @Param({"50"})
+    private int groupKeysPerConnection;
+    
+    @Param({"2000"})
+    private int groupKeyCount;
+    
+    private ListenContext context;
+    
+    private String[] connectionIds;
+    
+    private String[] groupKeys;
+    
+    /**
+     * Prepare a context with every connection listening to its group keys.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "concurrent".equals(implementation) ? new ConcurrentListenContext() : new SynchronizedListenContext();
+        connectionIds = new String[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            connectionIds[i] = "1700000000000_127.0.0.1_" + i;
+        }
+        groupKeys = new String[groupKeyCount];
+        for (int i = 0; i < groupKeyCount; i++) {
+            groupKeys[i] = "dataId" + i + "+DEFAULT_GROUP+public";
+        }
+        for (int i = 0; i < connectionCount; i++) {
+            for (int j = 0; j < groupKeysPerConnection; j++) {
+                context.addListen(groupKeys[(i + j) % groupKeyCount], connectionIds[i]);
+            }
+        }
+    }
+    
+    /**
+     * Re-listen of a random connection, as done by batch listen requests after reconnect.
+     */
+    @Benchmark
+    public void addListen() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        context.addListen(groupKeys[random.nextInt(groupKeyCount)], connectionIds[random.nextInt(connectionCount)]);
+    }
+    
+    /**
+     * Listen and remove listen of a random group key.
+     */
+    @Benchmark
+    public void addAndRemoveListen() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String groupKey = groupKeys[random.nextInt(groupKeyCount)];
+        String connectionId = connectionIds[random.nextInt(connectionCount)];
+        context.addListen(groupKey, connectionId);
+        context.removeListen(groupKey, connectionId);
+    }
+    
+    /**
+     * Iterate the listeners of a random group key, as done by the config change notifier.
+     */
+    @Benchmark
+    public void notifyListeners(Blackhole blackhole) {
+        String groupKey = groupKeys[ThreadLocalRandom.current().nextInt(groupKeyCount)];
+        for (String each : context.getListeners(groupKey)) {
+            blackhole.consume(context.getConfigListenState(each, groupKey));
+        }
+    }
+    
+    /**
+     * Disconnect and reconnect of a random connection.
+     */
+    @Benchmark
+    public void reconnect() {
+        int index = ThreadLocalRandom.current().nextInt(connectionCount);
+        context.clearContextForConnectionId(connectionIds[index]);
+        for (int j = 0; j < groupKeysPerConnection; j++) {
+            context.addListen(groupKeys[(index + j) % groupKeyCount], connectionIds[index]);
+        }
+    }
+    
+    private interface ListenContext {
+        
+        void addListen(String groupKey, String connectionId);
+        
+        void removeListen(String groupKey, String connectionId);
+        
+        Iterable<String> getListeners(String groupKey);
+        
+        ConfigListenState getConfigListenState(String connectionId, String groupKey);
+        
+        void clearContextForConnectionId(String connectionId);
+    }
+    
+    private static class ConcurrentListenContext implements ListenContext {
+        
+        private final ConfigChangeListenContext delegate = new ConfigChangeListenContext();
+        
+        @Override
+        public void addListen(String groupKey, String connectionId) {
+            delegate.addListen(groupKey, MD5, connectionId, false);
+        }
+        
+        @Override
+        public void removeListen(String groupKey, String connectionId) {
+            delegate.removeListen(groupKey, connectionId);
+        }
+        
+        @Override
+        public Iterable<String> getListeners(String groupKey) {
+            return delegate.getListenersView(groupKey);
+        }
+        
+        @Override
+        public ConfigListenState getConfigListenState(String connectionId, String groupKey) {
+            return delegate.getConfigListenState(connectionId, groupKey);
+        }
+        
+        @Override
+        public void clearContextForConnectionId(String connectionId) {
+            delegate.clearContextForConnectionId(connectionId);
+        }
+    }
+    
+    private static class SynchronizedListenContext implements ListenContext {
+        
+        private final SynchronizedConfigChangeListenContext delegate = new SynchronizedConfigChangeListenContext();
+        
+        @Override
+        public void addListen(String groupKey, String connectionId) {
+            delegate.addListen(groupKey, MD5, connectionId, false);
+        }
+        
+        @Override
+        public void removeListen(String groupKey, String connectionId) {
+            delegate.removeListen(groupKey, connectionId);
+        }
+        
+        @Override
+        public Iterable<String> getListeners(String groupKey) {
+            Set<String> listeners = delegate.getListeners(groupKey);
+            return listeners == null ? Collections.emptySet() : listeners;
+        }
+        
+        @Override
+        public ConfigListenState getConfigListenState(String connectionId, String groupKey) {
+            return delegate.getConfigListenState(connectionId, groupKey);
+        }
+        
+        @Override
+        public void clearContextForConnectionId(String connectionId) {
+            delegate.clearContextForConnectionId(connectionId);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.config.server.model.ConfigListenState;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The monitor based config change listen context replaced by the concurrent one, kept as the baseline of
+ * {@link ConfigChangeListenContextBenchmark}.
+ *
+ * @author Nacos
+ */
+class SynchronizedConfigChangeListenContext {
+    
+    private final ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    
+    private final ConcurrentHashMap<String, HashMap<String, ConfigListenState>> connectionIdContext = new ConcurrentHashMap<>();
+    
+    synchronized void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
+        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
+        ConfigListenState listenState = new ConfigListenState(md5);
+        listenState.setNamespaceTransfer(isNamespaceTransfer);
+        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, listenState);
+    }
+    
+    synchronized void removeListen(String groupKey, String connectionId) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (connectionIds != null) {
+            connectionIds.remove(connectionId);
+            if (connectionIds.isEmpty()) {
+                groupKeyContext.remove(groupKey);
+            }
+        }
+        HashMap<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
+        if (groupKeys != null) {
+            groupKeys.remove(groupKey);
+        }
+    }
+    
+    synchronized Set<String> getListeners(String groupKey) {
+        HashSet<String> connectionIds = groupKeyContext.get(groupKey);
+        return CollectionUtils.isNotEmpty(connectionIds) ? new HashSet<>(connectionIds) : null;
+    }
+    
+    synchronized void clearContextForConnectionId(String connectionId) {
+        Map<String, ConfigListenState> groupKeys = connectionIdContext.remove(connectionId);
+        if (groupKeys == null) {
+            return;
+        }
+        for (String groupKey : groupKeys.keySet()) {
+            Set<String> connectionIds = groupKeyContext.get(groupKey);
+            if (connectionIds != null) {
+                connectionIds.remove(connectionId);
+                if (connectionIds.isEmpty()) {
+                    groupKeyContext.remove(groupKey);
+                }
+            }
+        }
+    }
+    
+    ConfigListenState getConfigListenState(String connectionId, String groupKey) {
+        Map<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
+        return groupKeys == null ? null : groupKeys.get(groupKey);
+    }
+}
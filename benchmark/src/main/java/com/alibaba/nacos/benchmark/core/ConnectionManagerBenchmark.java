@@ -0,0 +1,167 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.core;
+
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.RequestFuture;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.ConnectionType;
+import com.alibaba.nacos.core.remote.ClientConnectionEventListenerRegistry;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConnectionManager} with the monitor based {@link SynchronizedConnectionManager} under a reconnect
+ * storm after a load balancer failover: many threads unregistering and registering SDK connections while the
+ * connection limit and load checks count connections by label and by client ip.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionManagerBenchmark {
+    
+    @Param({"lock-free", "synchronized"})
+    private String implementation;
+    
+    @Param({"50000"})
+    private int connectionCount;
+    
+    @Param({"1000"})
+    private int clientIpCount;
+    
+    private ConnectionManager connectionManager;
+    
+    private String[] connectionIds;
+    
+    private Connection[] connections;
+    
+    /**
+     * Prepare a connection manager with all connections registered.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        // connection limit check reads control configs from the environment.
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        ClientConnectionEventListenerRegistry registry = new ClientConnectionEventListenerRegistry();
+        connectionManager = "lock-free".equals(implementation) ? new ConnectionManager(registry)
+                : new SynchronizedConnectionManager(registry);
+        connectionIds = new String[connectionCount];
+        connections = new Connection[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            connectionIds[i] = "1700000000000_10.0." + (i % clientIpCount) + "_" + i;
+            Map<String, String> labels = new HashMap<>(4);
+            labels.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK);
+            labels.put(RemoteConstants.LABEL_MODULE, i % 2 == 0 ? RemoteConstants.LABEL_MODULE_NAMING
+                    : RemoteConstants.LABEL_MODULE_CONFIG);
+            ConnectionMeta meta = new ConnectionMeta(connectionIds[i], clientIp(i), clientIp(i), i, 9848,
+                    ConnectionType.GRPC.getType(), "Nacos-Java-Client:v3.0.0", "benchmark", labels);
+            connections[i] = new BenchmarkConnection(meta);
+            connectionManager.register(connectionIds[i], connections[i]);
+        }
+    }
+    
+    private String clientIp(int index) {
+        int ip = index % clientIpCount;
+        return "10.0." + (ip >> 8) + "." + (ip & 0xFF);
+    }
+    
+    /**
+     * Disconnect and reconnect of a random connection.
+     */
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(7)
+    public boolean reconnect() {
+        int index = ThreadLocalRandom.current().nextInt(connectionCount);
+        connectionManager.unregister(connectionIds[index]);
+        return connectionManager.register(connectionIds[index], connections[index]);
+    }
+    
+    /**
+     * Count sdk connections and connections of a random client ip, as done by load and limit checks.
+     */
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(1)
+    public int count() {
+        int index = ThreadLocalRandom.current().nextInt(clientIpCount);
+        return connectionManager.currentSdkClientCount() + connectionManager.getCountForIp(clientIp(index));
+    }
+    
+    private static class BenchmarkConnection extends Connection {
+        
+        BenchmarkConnection(ConnectionMeta metaInfo) {
+            super(metaInfo);
+        }
+        
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+        
+        @Override
+        public void sendRequestNoAck(Request request) {
+        }
+        
+        @Override
+        public Response request(Request request, long timeoutMills) {
+            return null;
+        }
+        
+        @Override
+        public RequestFuture requestFuture(Request request) {
+            return null;
+        }
+        
+        @Override
+        public void asyncRequest(Request request, RequestCallBack requestCallBack) {
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.core;
+
+import com.alibaba.nacos.core.remote.ClientConnectionEventListenerRegistry;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+
+import java.util.Map;
+
+/**
+ * Connection manager with the monitor based registration and the scanning label count replaced by the lock-free
+ * registry, kept as the baseline of {@link ConnectionManagerBenchmark}.
+ *
+ * @author Nacos
+ */
+class SynchronizedConnectionManager extends ConnectionManager {
+    
+    SynchronizedConnectionManager(ClientConnectionEventListenerRegistry clientConnectionEventListenerRegistry) {
+        super(clientConnectionEventListenerRegistry);
+    }
+    
+    @Override
+    public synchronized boolean register(String connectionId, Connection connection) {
+        return super.register(connectionId, connection);
+    }
+    
+    @Override
+    public synchronized void unregister(String connectionId) {
+        super.unregister(connectionId);
+    }
+    
+    @Override
+    public int currentClientsCount(Map<String, String> filterLabels) {
+        int count = 0;
+        for (Connection connection : currentClients().values()) {
+            Map<String, String> labels = connection.getMetaInfo().getLabels();
+            boolean disMatchFound = false;
+            for (Map.Entry<String, String> entry : filterLabels.entrySet()) {
+                if (!entry.getValue().equals(labels.get(entry.getKey()))) {
+                    disMatchFound = true;
+                    break;
+                }
+            }
+            if (!disMatchFound) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
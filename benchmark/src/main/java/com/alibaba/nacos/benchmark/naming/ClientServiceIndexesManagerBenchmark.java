@@ -0,0 +1,126 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ClientServiceIndexesManager} index updates under the register and subscribe storm after a server
+ * restart, together with the reads done by pushes.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ClientServiceIndexesManagerBenchmark {
+    
+    private static final int QUEUE_MAX_SIZE = 16384;
+    
+    @Param({"1000"})
+    private int serviceCount;
+    
+    @Param({"10000"})
+    private int clientCount;
+    
+    private ClientServiceIndexesManager indexesManager;
+    
+    private Service[] services;
+    
+    private String[] clientIds;
+    
+    /**
+     * Prepare indexes with every client registered to and subscribing one service.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        NotifyCenter.registerToPublisher(ServiceEvent.ServiceChangedEvent.class,
+                NamingEventPublisherFactory.getInstance(), QUEUE_MAX_SIZE);
+        NotifyCenter.registerToPublisher(ServiceEvent.ServiceSubscribedEvent.class,
+                NamingEventPublisherFactory.getInstance(), QUEUE_MAX_SIZE);
+        indexesManager = new ClientServiceIndexesManager();
+        services = new Service[serviceCount];
+        for (int i = 0; i < serviceCount; i++) {
+            services[i] = Service.newService("public", "DEFAULT_GROUP", "service" + i);
+        }
+        clientIds = new String[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clientIds[i] = "1700000000000_10.0.0." + i + "_" + i;
+            Service service = services[i % serviceCount];
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientIds[i]));
+            indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, clientIds[i]));
+        }
+    }
+    
+    /**
+     * Register and deregister a random client to a random service.
+     */
+    @Benchmark
+    public void registerAndDeregister() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Service service = services[random.nextInt(serviceCount)];
+        String clientId = clientIds[random.nextInt(clientCount)];
+        indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
+        indexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, clientId));
+    }
+    
+    /**
+     * Subscribe and unsubscribe a random client to a random service.
+     */
+    @Benchmark
+    public void subscribeAndUnsubscribe() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Service service = services[random.nextInt(serviceCount)];
+        String clientId = clientIds[random.nextInt(clientCount)];
+        indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, clientId));
+        indexesManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service, clientId));
+    }
+    
+    /**
+     * Read subscribers of a random service, as done by push.
+     */
+    @Benchmark
+    public Collection<String> getAllClientsSubscribeService() {
+        return indexesManager.getAllClientsSubscribeService(services[ThreadLocalRandom.current().nextInt(serviceCount)]);
+    }
+}
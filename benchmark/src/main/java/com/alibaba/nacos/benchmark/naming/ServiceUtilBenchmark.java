@@ -0,0 +1,120 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ServiceUtil#selectInstancesWithHealthyProtection}, which runs for every subscribe query and every
+ * push, with and without the protect threshold being reached.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceUtilBenchmark {
+    
+    private static final int CLUSTER_COUNT = 4;
+    
+    private static final String SUBSCRIBER_IP = "10.0.0.1";
+    
+    @Param({"100", "2000"})
+    private int instanceCount;
+    
+    @Param({"0.1", "0.9"})
+    private float unhealthyRatio;
+    
+    @Param({"0.5"})
+    private float protectThreshold;
+    
+    private AnnotationConfigApplicationContext context;
+    
+    private ServiceInfo serviceInfo;
+    
+    private ServiceMetadata serviceMetadata;
+    
+    /**
+     * Prepare a service of instances over a few clusters, the first part of which is unhealthy.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(SelectorManager.class);
+        ApplicationUtils.injectContext(context);
+        serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark", "");
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        int unhealthyCount = (int) (instanceCount * unhealthyRatio);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.1." + (i >> 8) + "." + (i & 0xff));
+            instance.setPort(8080);
+            instance.setClusterName("cluster" + i % CLUSTER_COUNT);
+            instance.setHealthy(i >= unhealthyCount);
+            instance.setEnabled(true);
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        serviceMetadata = new ServiceMetadata();
+        serviceMetadata.setProtectThreshold(protectThreshold);
+    }
+    
+    /**
+     * Close application context.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public ServiceInfo selectAllClusters() {
+        return ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, "", true, true,
+                SUBSCRIBER_IP);
+    }
+    
+    @Benchmark
+    public ServiceInfo selectOneCluster() {
+        return ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, "cluster0", true, true,
+                SUBSCRIBER_IP);
+    }
+}
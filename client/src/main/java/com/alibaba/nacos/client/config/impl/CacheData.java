@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.config.ConfigChangeItem;
 import com.alibaba.nacos.api.config.listener.AbstractSharedListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.client.config.common.GroupKey;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
 import com.alibaba.nacos.client.config.filter.impl.ConfigResponse;
 import com.alibaba.nacos.client.config.listener.impl.AbstractConfigChangeListener;
@@ -175,6 +176,11 @@ public class CacheData {
     
     private String type;
     
+    /**
+     * notifier to run listeners without user executor, null to run them in the caller thread.
+     */
+    private volatile ConfigListenerNotifier listenerNotifier;
+    
     public boolean isInitializing() {
         return isInitializing;
     }
@@ -226,6 +232,14 @@ public class CacheData {
         return type;
     }
     
+    public ConfigListenerNotifier getListenerNotifier() {
+        return listenerNotifier;
+    }
+    
+    public void setListenerNotifier(ConfigListenerNotifier listenerNotifier) {
+        this.listenerNotifier = listenerNotifier;
+    }
+    
     public void setType(String type) {
         this.type = type;
     }
@@ -498,6 +512,14 @@ public class CacheData {
                         envName, dataId, group, tenant, md5, listener);
                 job.async = true;
                 listener.getExecutor().execute(job);
+            } else if (null != listenerNotifier) {
+                LOGGER.info(
+                        "[{}] [notify-listener] task submitted to notify lane, dataId={}, group={},tenant={}, md5={}, listener={} ",
+                        envName, dataId, group, tenant, md5, listener);
+                job.async = true;
+                // mark before submit to avoid the same listener being submitted again before the task runs.
+                listenerWrap.inNotifying = true;
+                listenerNotifier.execute(GroupKey.getKeyTenant(dataId, group, tenant), job);
             } else {
                 LOGGER.info(
                         "[{}] [notify-listener] task execute in nacos thread, dataId={}, group={},tenant={}, md5={}, listener={} ",
@@ -85,6 +85,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -93,12 +94,14 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -153,8 +156,19 @@ public class ClientWorker implements Closeable {
 
     private static final int THREAD_MULTIPLE = 1;
     
+    private static final long DEFAULT_REFRESH_WAIT_TIMEOUT = 3000L;
+    
     private boolean enableClientMetrics = true;
     
+    private ConfigListenerNotifier listenerNotifier;
+    
+    private ThreadPoolExecutor refreshExecutor;
+    
+    /**
+     * groupKey -> refresh submitted to refreshExecutor, which may still be running after the previous round timed out.
+     */
+    private final Map<String, Future<?>> refreshingFutures = new ConcurrentHashMap<>();
+    
     /**
      * index(taskId)-> total cache count for this taskId.
      */
@@ -386,6 +400,7 @@ public class ClientWorker implements Closeable {
         
         String key = GroupKey.getKey(dataId, group);
         cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group);
+        cache.setListenerNotifier(listenerNotifier);
         
         synchronized (cacheMap) {
             CacheData cacheFromMap = getCache(dataId, group);
@@ -444,6 +459,7 @@ public class ClientWorker implements Closeable {
                 cache.setInitializing(true);
             } else {
                 cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group, tenant);
+                cache.setListenerNotifier(listenerNotifier);
                 int taskId = calculateTaskId();
                 increaseTaskIdCount(taskId);
                 cache.setTaskId(taskId);
@@ -541,6 +557,13 @@ public class ClientWorker implements Closeable {
 
         ThreadPoolExecutor executor = instantiateClientExecutor(properties);
         agent.setExecutor(executor);
+        listenerNotifier = instantiateListenerNotifier(properties);
+        if (null != listenerNotifier) {
+            refreshExecutor = instantiateRefreshExecutor(listenerNotifier.getLaneCount());
+        }
+        if (ConfigSnapshotStore.TYPE_INDEXED.equals(properties.getProperty(PropertyKeyConst.CONFIG_SNAPSHOT_STORE))) {
+            ConfigSnapshotStore.enable(agent.getName());
+        }
 
         agent.start();
         configFuzzyWatchGroupKeyHolder.start();
@@ -565,6 +588,24 @@ public class ClientWorker implements Closeable {
         );
     }
 
+    private ConfigListenerNotifier instantiateListenerNotifier(final NacosClientProperties properties) {
+        int laneCount = properties.getInteger(PropertyKeyConst.CONFIG_LISTENER_NOTIFY_LANES,
+                ThreadUtils.getSuitableThreadCount(THREAD_MULTIPLE));
+        if (laneCount <= 0) {
+            return null;
+        }
+        int laneCapacity = properties.getInteger(PropertyKeyConst.CONFIG_LISTENER_NOTIFY_LANE_CAPACITY,
+                ConfigListenerNotifier.DEFAULT_LANE_CAPACITY);
+        return new ConfigListenerNotifier(agent.getName(), laneCount, laneCapacity, enableClientMetrics);
+    }
+    
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    private ThreadPoolExecutor instantiateRefreshExecutor(int threadCount) {
+        // config contents are fetched apart from the listener lanes, so a slow listener will not delay the fetches.
+        return new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new NameThreadFactory("com.alibaba.nacos.client.config.refresh." + agent.getName()));
+    }
+    
     private int initWorkerThreadCount(NacosClientProperties properties) {
         int count = ThreadUtils.getSuitableThreadCount(THREAD_MULTIPLE);
         if (properties == null) {
@@ -637,6 +678,13 @@ public class ClientWorker implements Closeable {
         if (agent != null) {
             agent.shutdown();
         }
+        if (listenerNotifier != null) {
+            listenerNotifier.shutdown();
+        }
+        if (refreshExecutor != null) {
+            ThreadUtils.shutdownThreadPool(refreshExecutor, LOGGER);
+        }
+        ConfigSnapshotStore.flushAll();
         LOGGER.info("{} do shutdown stop", className);
     }
     
@@ -1017,6 +1065,43 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        /**
+         * Refresh content of configs and check listeners. Configs are refreshed in parallel by the refresh executor if
+         * listener lanes are enabled, and this method returns after all configs are refreshed or the request timeout
+         * is passed. The configs not refreshed in time are left inconsistent and checked again in next round, in which
+         * a config still being refreshed is waited for instead of being refreshed again.
+         *
+         * @param rpcClient   rpc client
+         * @param refreshKeys group key to whether notify
+         */
+        private void refreshContentAndCheck(RpcClient rpcClient, Map<String, Boolean> refreshKeys) {
+            if (null == refreshExecutor || refreshExecutor.isShutdown()) {
+                refreshKeys.forEach((groupKey, notify) -> refreshContentAndCheck(rpcClient, groupKey, notify));
+                return;
+            }
+            refreshingFutures.values().removeIf(Future::isDone);
+            List<Future<?>> refreshFutures = new ArrayList<>(refreshKeys.size());
+            refreshKeys.forEach((groupKey, notify) -> refreshFutures.add(refreshingFutures.compute(groupKey,
+                    (key, refreshing) -> null != refreshing && !refreshing.isDone() ? refreshing
+                            : refreshExecutor.submit(() -> refreshContentAndCheck(rpcClient, groupKey, notify)))));
+            long waitTimeout = requestTimeout > 0 ? requestTimeout : DEFAULT_REFRESH_WAIT_TIMEOUT;
+            long deadline = System.currentTimeMillis() + waitTimeout;
+            for (Future<?> future : refreshFutures) {
+                try {
+                    future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException timeoutException) {
+                    LOGGER.warn("[{}] Async refresh content and check not finished in {} ms, check in next round.",
+                            agent.getName(), waitTimeout);
+                    return;
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable throwable) {
+                    LOGGER.error("Async refresh content and check error ", throwable);
+                }
+            }
+        }
+        
         private void refreshContentAndCheck(RpcClient rpcClient, CacheData cacheData, boolean notify) {
             try {
                 
@@ -1113,6 +1198,8 @@ public class ClientWorker implements Closeable {
                             if (listenResponse != null && listenResponse.isSuccess()) {
                                 
                                 Set<String> changeKeys = new HashSet<String>();
+                                // group key to whether notify, refreshed in parallel after collected.
+                                Map<String, Boolean> refreshKeys = new LinkedHashMap<>();
                                 
                                 List<ConfigChangeBatchListenResponse.ConfigContext> changedConfigs = listenResponse.getChangedConfigs();
                                 //handle changed keys,notify listener
@@ -1123,7 +1210,7 @@ public class ClientWorker implements Closeable {
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
                                         boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
-                                        refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
+                                        refreshKeys.put(changeKey, !isInitializing);
                                     }
                                     
                                 }
@@ -1134,10 +1221,11 @@ public class ClientWorker implements Closeable {
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
                                             boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
-                                            refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
+                                            refreshKeys.put(changeKey, !isInitializing);
                                         }
                                     }
                                 }
+                                refreshContentAndCheck(rpcClient, refreshKeys);
                                 
                                 //handler content configs
                                 for (CacheData cacheData : listenCaches) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.client.monitor.MetricsMonitor;
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import org.slf4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Notifier to run config listener tasks on hash sharded lanes.
+ *
+ * <p>Each lane is a single thread executor and the tasks of one config are always run in the lane selected by the hash
+ * of its group key, so notifications of one config keep their order while different configs are notified in
+ * parallel. A slow listener only delays the configs sharing its lane instead of all configs of the client.
+ *
+ * <p>The queue of each lane is bounded by {@link PropertyKeyConst#CONFIG_LISTENER_NOTIFY_LANE_CAPACITY}. When a lane
+ * is full, the task is run in the caller thread as before lanes are introduced, which slows down the config listen
+ * task as back pressure. The pending task count and caller runs count are exposed by {@link MetricsMonitor}.
+ *
+ * @author Nacos
+ */
+public class ConfigListenerNotifier implements Closeable {
+    
+    private static final Logger LOGGER = LogUtils.logger(ConfigListenerNotifier.class);
+    
+    static final int DEFAULT_LANE_CAPACITY = 4096;
+    
+    private final ThreadPoolExecutor[] lanes;
+    
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    
+    private final boolean enableMetrics;
+    
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    public ConfigListenerNotifier(String name, int laneCount, int laneCapacity, boolean enableMetrics) {
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(laneCapacity),
+                    new NameThreadFactory("com.alibaba.nacos.client.config.notifier." + name + "." + i));
+        }
+        this.enableMetrics = enableMetrics;
+    }
+    
+    /**
+     * Execute task in the lane of the group key, or in the caller thread if the lane is full or shutdown.
+     *
+     * @param groupKey group key of config
+     * @param task     task
+     * @return future of the task
+     */
+    public Future<?> execute(String groupKey, Runnable task) {
+        ThreadPoolExecutor lane = lanes[laneOf(groupKey)];
+        pendingCount.incrementAndGet();
+        try {
+            Future<?> future = lane.submit(() -> {
+                try {
+                    task.run();
+                } finally {
+                    updatePending(pendingCount.decrementAndGet());
+                }
+            });
+            updatePending(pendingCount.get());
+            return future;
+        } catch (RejectedExecutionException e) {
+            pendingCount.decrementAndGet();
+            if (enableMetrics) {
+                MetricsMonitor.getConfigNotifyCallerRunsMonitor().inc();
+            }
+            LOGGER.warn("[notify-lane-full] run notify task in caller thread, groupKey={}, lane pending={}", groupKey,
+                    lane.getQueue().size());
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+    
+    int laneOf(String groupKey) {
+        int hash = groupKey.hashCode();
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % lanes.length;
+    }
+    
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+    
+    public int getLaneCount() {
+        return lanes.length;
+    }
+    
+    private void updatePending(int pending) {
+        if (enableMetrics) {
+            MetricsMonitor.getConfigNotifyPendingMonitor().set(pending);
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        // pending tasks are still run after shutdown, so the futures waited by config listen task will be done.
+        for (ThreadPoolExecutor each : lanes) {
+            each.shutdown();
+        }
+    }
+}
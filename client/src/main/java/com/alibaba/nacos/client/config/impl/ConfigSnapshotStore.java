@@ -0,0 +1,461 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.client.config.common.GroupKey;
+import com.alibaba.nacos.client.config.utils.JvmUtil;
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static com.alibaba.nacos.client.utils.ParamUtil.simplyEnvNameIfOverLimit;
+
+/**
+ * Config snapshot store which saves all snapshots of one env in one append-only file with an in-memory index.
+ *
+ * <p>Selected by {@link PropertyKeyConst#CONFIG_SNAPSHOT_STORE} with value {@link #TYPE_INDEXED}, instead of one file
+ * for each config. Each record of the file is {@code [key length][value length][crc32][key][value]}, a value length
+ * of -1 means the config is removed. The whole file is read once to build the index when the client worker starts, a
+ * broken tail left by crash is truncated. Saved snapshots are kept in memory and appended to the file together every
+ * second, and the file is compacted when more than half of it is overwritten records.
+ *
+ * <p>The store is not used when {@link JvmUtil#isMultiInstance()}, as the file can not be appended by multiple
+ * processes.
+ *
+ * @author Nacos
+ */
+public class ConfigSnapshotStore {
+    
+    private static final Logger LOGGER = LogUtils.logger(ConfigSnapshotStore.class);
+    
+    public static final String TYPE_INDEXED = "indexed";
+    
+    public static final String CONTENT = "content";
+    
+    public static final String ENCRYPTED_DATA_KEY = "encrypted-data-key";
+    
+    private static final String SUFFIX = "_nacos";
+    
+    private static final String STORE_DIR = "snapshot-store";
+    
+    private static final String FILE_SUFFIX = ".dat";
+    
+    private static final String TMP_SUFFIX = ".tmp";
+    
+    private static final long FLUSH_INTERVAL = 1000L;
+    
+    private static final long COMPACT_MIN_BYTES = 1024L * 1024L;
+    
+    private static final int HEADER_BYTES = 12;
+    
+    private static final int REMOVED = -1;
+    
+    private static final Map<String, ConfigSnapshotStore> STORES = new ConcurrentHashMap<>();
+    
+    private static volatile ScheduledExecutorService flushExecutor;
+    
+    private final File file;
+    
+    private final Map<String, Location> index = new HashMap<>();
+    
+    /**
+     * Snapshots saved but not appended to file yet, null value means removed.
+     */
+    private final Map<String, String> pending = new LinkedHashMap<>();
+    
+    private FileChannel channel;
+    
+    private long liveBytes;
+    
+    ConfigSnapshotStore(File file) throws IOException {
+        this.file = file;
+        openChannel();
+    }
+    
+    /**
+     * Enable indexed snapshot stores of the env and load them from disk.
+     *
+     * @param envName env name
+     */
+    public static void enable(String envName) {
+        if (JvmUtil.isMultiInstance()) {
+            LOGGER.warn("[{}] indexed snapshot store is not supported for multi instance, use snapshot files.",
+                    envName);
+            return;
+        }
+        for (String kind : new String[] {CONTENT, ENCRYPTED_DATA_KEY}) {
+            STORES.computeIfAbsent(storeKey(envName, kind), key -> open(envName, kind));
+        }
+        ensureFlushExecutor();
+    }
+    
+    /**
+     * Get indexed snapshot store of the env.
+     *
+     * @param envName env name
+     * @param kind    {@link #CONTENT} or {@link #ENCRYPTED_DATA_KEY}
+     * @return store, null if indexed snapshot store is not enabled for the env
+     */
+    public static ConfigSnapshotStore getStore(String envName, String kind) {
+        return STORES.isEmpty() ? null : STORES.get(storeKey(envName, kind));
+    }
+    
+    /**
+     * Append the saved snapshots of all stores to disk.
+     */
+    public static void flushAll() {
+        for (ConfigSnapshotStore each : STORES.values()) {
+            each.flush();
+        }
+    }
+    
+    /**
+     * Remove all snapshots of all stores.
+     */
+    public static void clearAll() {
+        for (ConfigSnapshotStore each : STORES.values()) {
+            each.clear();
+        }
+    }
+    
+    private static String storeKey(String envName, String kind) {
+        return envName + File.separator + kind;
+    }
+    
+    private static ConfigSnapshotStore open(String envName, String kind) {
+        File dir = new File(new File(LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH,
+                simplyEnvNameIfOverLimit(envName) + SUFFIX), STORE_DIR);
+        File file = new File(dir, kind + FILE_SUFFIX);
+        try {
+            long start = System.currentTimeMillis();
+            ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+            LOGGER.info("[{}] load {} snapshots from {} cost {} ms", envName, store.size(), file,
+                    System.currentTimeMillis() - start);
+            return store;
+        } catch (IOException e) {
+            LOGGER.error("[{}] open snapshot store {} failed, use snapshot files.", envName, file, e);
+            return null;
+        }
+    }
+    
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    private static void ensureFlushExecutor() {
+        if (null == flushExecutor) {
+            synchronized (ConfigSnapshotStore.class) {
+                if (null == flushExecutor) {
+                    ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1,
+                            new NameThreadFactory("com.alibaba.nacos.client.config.snapshot.store"));
+                    executor.scheduleWithFixedDelay(ConfigSnapshotStore::flushAll, FLUSH_INTERVAL, FLUSH_INTERVAL,
+                            TimeUnit.MILLISECONDS);
+                    ThreadUtils.addShutdownHook(ConfigSnapshotStore::flushAll);
+                    flushExecutor = executor;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Get snapshot.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return snapshot, null if not exist
+     */
+    public synchronized String get(String dataId, String group, String tenant) {
+        String key = GroupKey.getKeyTenant(dataId, group, tenant);
+        if (pending.containsKey(key)) {
+            return pending.get(key);
+        }
+        Location location = index.get(key);
+        if (null == location) {
+            return null;
+        }
+        try {
+            ByteBuffer value = ByteBuffer.allocate(location.valueLength);
+            readFully(channel, value, location.valueOffset());
+            return new String(value.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.error("read snapshot {} from {} failed", key, file, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Save snapshot, which is appended to disk in the next flush.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param value  snapshot, null to remove the snapshot
+     */
+    public synchronized void put(String dataId, String group, String tenant, String value) {
+        pending.put(GroupKey.getKeyTenant(dataId, group, tenant), value);
+    }
+    
+    /**
+     * Append saved snapshots to disk, and compact the file if needed.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<byte[]> records = new ArrayList<>(pending.size());
+            int totalBytes = 0;
+            for (Map.Entry<String, String> entry : pending.entrySet()) {
+                byte[] record = encode(entry.getKey(), entry.getValue());
+                records.add(record);
+                totalBytes += record.length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(totalBytes);
+            records.forEach(buffer::put);
+            buffer.flip();
+            long position = channel.size();
+            try {
+                writeFully(channel, buffer, position);
+            } catch (IOException e) {
+                // a torn record left in the middle of the file would make load drop all records appended after it.
+                truncateQuietly(position, e);
+                throw e;
+            }
+            int i = 0;
+            for (Map.Entry<String, String> entry : pending.entrySet()) {
+                byte[] record = records.get(i++);
+                // value length is the second int of record header.
+                applyRecord(entry.getKey(), ByteBuffer.wrap(record).getInt(Integer.BYTES), position, record.length);
+                position += record.length;
+            }
+            pending.clear();
+            long fileBytes = channel.size();
+            if (fileBytes > COMPACT_MIN_BYTES && fileBytes > liveBytes << 1) {
+                compact();
+            }
+        } catch (IOException e) {
+            // keep pending snapshots to retry in the next flush.
+            LOGGER.error("flush snapshot store {} failed", file, e);
+        }
+    }
+    
+    /**
+     * Remove all snapshots of the store.
+     */
+    public synchronized void clear() {
+        pending.clear();
+        index.clear();
+        liveBytes = 0;
+        try {
+            closeChannel();
+            Files.deleteIfExists(file.toPath());
+            openChannel();
+        } catch (IOException e) {
+            LOGGER.error("clear snapshot store {} failed", file, e);
+        }
+    }
+    
+    public synchronized int size() {
+        return index.size();
+    }
+    
+    long getFileBytes() throws IOException {
+        return channel.size();
+    }
+    
+    private void openChannel() throws IOException {
+        File dir = file.getParentFile();
+        if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+            throw new IOException("can not create dir " + dir);
+        }
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        load();
+    }
+    
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("snapshot store " + file + " is too large, size " + size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        readFully(channel, buffer, 0);
+        buffer.flip();
+        CRC32 crc32 = new CRC32();
+        int position = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int keyLength = buffer.getInt();
+            int valueLength = buffer.getInt();
+            int crc = buffer.getInt();
+            int bodyLength = keyLength + Math.max(valueLength, 0);
+            if (keyLength <= 0 || valueLength < REMOVED || bodyLength < 0 || bodyLength > buffer.remaining()) {
+                break;
+            }
+            crc32.reset();
+            crc32.update(buffer.array(), buffer.position(), bodyLength);
+            if ((int) crc32.getValue() != crc) {
+                break;
+            }
+            String key = new String(buffer.array(), buffer.position(), keyLength, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + bodyLength);
+            applyRecord(key, valueLength, position, HEADER_BYTES + bodyLength);
+            position = buffer.position();
+        }
+        if (position < size) {
+            LOGGER.warn("snapshot store {} has broken tail from {}, truncate it.", file, position);
+            channel.truncate(position);
+        }
+    }
+    
+    private void applyRecord(String key, int valueLength, long recordOffset, int recordLength) {
+        Location old = valueLength == REMOVED ? index.remove(key)
+                : index.put(key, new Location(recordOffset, recordLength, valueLength));
+        if (null != old) {
+            liveBytes -= old.recordLength;
+        }
+        if (valueLength != REMOVED) {
+            liveBytes += recordLength;
+        }
+    }
+    
+    private void compact() throws IOException {
+        File tmp = new File(file.getParentFile(), file.getName() + TMP_SUFFIX);
+        Map<String, Location> compacted = new HashMap<>(index.size());
+        long position = 0;
+        try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                ByteBuffer record = ByteBuffer.allocate(location.recordLength);
+                readFully(channel, record, location.recordOffset);
+                record.flip();
+                writeFully(out, record, position);
+                compacted.put(entry.getKey(), new Location(position, location.recordLength, location.valueLength));
+                position += location.recordLength;
+            }
+        }
+        closeChannel();
+        try {
+            moveFile(tmp, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp.toPath());
+            throw e;
+        } finally {
+            // reopen the compacted file, or the original file if the move failed, whose index is still valid.
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        index.clear();
+        index.putAll(compacted);
+        liveBytes = position;
+        LOGGER.info("compact snapshot store {} to {} bytes", file, position);
+    }
+    
+    private void truncateQuietly(long size, IOException cause) {
+        try {
+            channel.truncate(size);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+    
+    private static void moveFile(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private void closeChannel() throws IOException {
+        if (null != channel) {
+            channel.close();
+        }
+    }
+    
+    private static byte[] encode(String key, String value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = null == value ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc32 = new CRC32();
+        crc32.update(keyBytes);
+        crc32.update(valueBytes);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + keyBytes.length + valueBytes.length);
+        record.putInt(keyBytes.length);
+        record.putInt(null == value ? REMOVED : valueBytes.length);
+        record.putInt((int) crc32.getValue());
+        record.put(keyBytes);
+        record.put(valueBytes);
+        return record.array();
+    }
+    
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("unexpected end of snapshot store");
+            }
+            offset += read;
+        }
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+    
+    private static class Location {
+        
+        private final long recordOffset;
+        
+        private final int recordLength;
+        
+        private final int valueLength;
+        
+        Location(long recordOffset, int recordLength, int valueLength) {
+            this.recordOffset = recordOffset;
+            this.recordLength = recordLength;
+            this.valueLength = valueLength;
+        }
+        
+        long valueOffset() {
+            return recordOffset + recordLength - valueLength;
+        }
+    }
+}
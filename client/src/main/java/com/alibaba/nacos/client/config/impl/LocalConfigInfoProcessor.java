@@ -86,6 +86,13 @@ public class LocalConfigInfoProcessor {
         if (!SnapShotSwitch.getIsSnapShot()) {
             return null;
         }
+        ConfigSnapshotStore store = ConfigSnapshotStore.getStore(name, ConfigSnapshotStore.CONTENT);
+        if (null != store) {
+            String snapshot = store.get(dataId, group, tenant);
+            if (null != snapshot) {
+                return snapshot;
+            }
+        }
         File file = getSnapshotFile(name, dataId, group, tenant);
         if (!file.exists() || !file.isFile()) {
             return null;
@@ -126,6 +133,14 @@ public class LocalConfigInfoProcessor {
         if (!SnapShotSwitch.getIsSnapShot()) {
             return;
         }
+        ConfigSnapshotStore store = ConfigSnapshotStore.getStore(envName, ConfigSnapshotStore.CONTENT);
+        if (null != store) {
+            store.put(dataId, group, tenant, config);
+            // snapshot file written before the store enabled should also be deleted.
+            if (null != config) {
+                return;
+            }
+        }
         File file = getSnapshotFile(envName, dataId, group, tenant);
         if (null == config) {
             try {
@@ -171,6 +186,8 @@ public class LocalConfigInfoProcessor {
             }
         } catch (IOException ioe) {
             LOGGER.error("clean all snapshot error, " + ioe.toString(), ioe);
+        } finally {
+            ConfigSnapshotStore.clearAll();
         }
     }
     
@@ -180,6 +197,10 @@ public class LocalConfigInfoProcessor {
      * @param envName env name
      */
     public static void cleanEnvSnapshot(String envName) {
+        ConfigSnapshotStore store = ConfigSnapshotStore.getStore(envName, ConfigSnapshotStore.CONTENT);
+        if (null != store) {
+            store.clear();
+        }
         File tmp = new File(LOCAL_SNAPSHOT_PATH, envName + SUFFIX);
         tmp = new File(tmp, ENV_CHILD);
         try {
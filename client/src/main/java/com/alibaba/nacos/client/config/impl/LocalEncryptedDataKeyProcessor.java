@@ -81,6 +81,13 @@ public class LocalEncryptedDataKeyProcessor extends LocalConfigInfoProcessor {
         if (!SnapShotSwitch.getIsSnapShot()) {
             return null;
         }
+        ConfigSnapshotStore store = ConfigSnapshotStore.getStore(envName, ConfigSnapshotStore.ENCRYPTED_DATA_KEY);
+        if (null != store) {
+            String snapshot = store.get(dataId, group, tenant);
+            if (null != snapshot) {
+                return snapshot;
+            }
+        }
         File file = getEncryptDataKeySnapshotFile(envName, dataId, group, tenant);
         if (!file.exists() || !file.isFile()) {
             return null;
@@ -102,6 +109,14 @@ public class LocalEncryptedDataKeyProcessor extends LocalConfigInfoProcessor {
         if (!SnapShotSwitch.getIsSnapShot()) {
             return;
         }
+        ConfigSnapshotStore store = ConfigSnapshotStore.getStore(envName, ConfigSnapshotStore.ENCRYPTED_DATA_KEY);
+        if (null != store) {
+            store.put(dataId, group, tenant, encryptDataKey);
+            // snapshot file written before the store enabled should also be deleted.
+            if (null != encryptDataKey) {
+                return;
+            }
+        }
         File file = getEncryptDataKeySnapshotFile(envName, dataId, group, tenant);
         try {
             if (null == encryptDataKey) {
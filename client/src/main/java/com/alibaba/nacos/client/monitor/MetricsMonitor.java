@@ -38,6 +38,10 @@ public class MetricsMonitor {
             .name("nacos_client_naming_request_failed_total").help("nacos_client_naming_request_failed_total")
             .labelNames("module", "req_class", "res_status", "res_code", "err_class").register();
     
+    private static final Counter NACOS_CLIENT_CONFIG_NOTIFY_CALLER_RUNS_TOTAL = Counter.build()
+            .name("nacos_client_config_notify_caller_runs_total").help("nacos_client_config_notify_caller_runs_total")
+            .labelNames("module").register();
+    
     public static Gauge.Child getServiceInfoMapSizeMonitor() {
         return NACOS_MONITOR_GAUGE.labels("naming", "serviceInfoMapSize");
     }
@@ -46,6 +50,14 @@ public class MetricsMonitor {
         return NACOS_MONITOR_GAUGE.labels("config", "listenConfigCount");
     }
     
+    public static Gauge.Child getConfigNotifyPendingMonitor() {
+        return NACOS_MONITOR_GAUGE.labels("config", "notifyPendingCount");
+    }
+    
+    public static Counter.Child getConfigNotifyCallerRunsMonitor() {
+        return NACOS_CLIENT_CONFIG_NOTIFY_CALLER_RUNS_TOTAL.labels("config");
+    }
+    
     public static Histogram.Child getConfigRequestMonitor(String method, String url, String code) {
         return NACOS_CLIENT_REQUEST_HISTOGRAM.labels("config", method, url, code);
     }
@@ -31,7 +31,13 @@ import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +51,18 @@ import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
  */
 public class DiskCache {
     
+    /**
+     * Name of the compact snapshot file, which holds all service infos in one json per line. Service keys always
+     * contain {@code @@}, so it never conflicts with the file of a service.
+     */
+    public static final String SNAPSHOT_FILE_NAME = "naming-services.snapshot";
+    
+    private static final String TEMP_DIR = ".tmp";
+    
+    private static final String JSON_START = "{";
+    
+    private static final char LINE_BREAK = '\n';
+    
     /**
      * Write service info to dir.
      *
@@ -57,9 +75,6 @@ public class DiskCache {
             makeSureCacheDirExists(dir);
             
             File file = new File(dir, dom.getKeyEncoded());
-            createFileIfAbsent(file, false);
-            
-            StringBuilder keyContentBuffer = new StringBuilder();
             
             String json = dom.getJsonFromServer();
             
@@ -67,22 +82,98 @@ public class DiskCache {
                 json = JacksonUtils.toJson(dom);
             }
             
-            keyContentBuffer.append(json);
-            
-            //Use the concurrent API to ensure the consistency.
-            ConcurrentDiskUtil.writeFileContent(file, keyContentBuffer.toString(), Charset.defaultCharset().toString());
+            //Replace the file by rename, so readers never see a partially written file.
+            writeAtomically(file, json, Charset.defaultCharset());
             
         } catch (Throwable e) {
             NAMING_LOGGER.error("[NA] failed to write cache for dom:" + dom.getName(), e);
         }
     }
     
+    /**
+     * Write service infos to the compact snapshot file of dir.
+     *
+     * @param services service infos
+     * @param dir      directory
+     */
+    public static void writeSnapshot(Collection<ServiceInfo> services, String dir) {
+        try {
+            makeSureCacheDirExists(dir);
+            StringBuilder content = new StringBuilder();
+            for (ServiceInfo each : services) {
+                String json = each.getJsonFromServer();
+                if (StringUtils.isEmpty(json) || json.indexOf(LINE_BREAK) >= 0) {
+                    json = JacksonUtils.toJson(each);
+                }
+                content.append(json).append(LINE_BREAK);
+            }
+            writeAtomically(new File(dir, SNAPSHOT_FILE_NAME), content.toString(), StandardCharsets.UTF_8);
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to write cache snapshot, size: " + services.size(), e);
+        }
+    }
+    
+    /**
+     * Read service infos from the compact snapshot file of dir.
+     *
+     * @param dir directory
+     * @return service infos, empty if snapshot not exist
+     */
+    public static Map<String, ServiceInfo> readSnapshot(String dir) {
+        Map<String, ServiceInfo> result = new HashMap<>(16);
+        File file = new File(dir, SNAPSHOT_FILE_NAME);
+        if (!file.isFile()) {
+            return result;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String json;
+            while ((json = reader.readLine()) != null) {
+                if (!json.startsWith(JSON_START)) {
+                    continue;
+                }
+                try {
+                    ServiceInfo serviceInfo = JacksonUtils.toObj(json, ServiceInfo.class);
+                    if (!StringUtils.isEmpty(serviceInfo.getName()) && !CollectionUtils.isEmpty(
+                            serviceInfo.getHosts())) {
+                        serviceInfo.setJsonFromServer(json);
+                        result.put(serviceInfo.getKey(), serviceInfo);
+                    }
+                } catch (Throwable e) {
+                    NAMING_LOGGER.error("[NA] error while parsing cache snapshot: " + json, e);
+                }
+            }
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to read cache snapshot", e);
+        }
+        return result;
+    }
+    
+    private static void writeAtomically(File file, String content, Charset charset) throws IOException {
+        if (file.isDirectory()) {
+            throw new IOException("failed to write cache, file is a directory: " + file.getPath());
+        }
+        File tempDir = new File(file.getParentFile(), TEMP_DIR);
+        createFileIfAbsent(tempDir, true);
+        Path tempFile = Files.createTempFile(tempDir.toPath(), "cache", null);
+        try {
+            Files.write(tempFile, content.getBytes(charset));
+            try {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
     public static String getLineSeparator() {
         return System.getProperty("line.separator");
     }
     
     /**
-     * Read service info from disk.
+     * Read service info from disk, both the files of services and the compact snapshot, the newer one wins.
      *
      * @param cacheDir cache file dir
      * @return service infos
@@ -96,11 +187,17 @@ public class DiskCache {
             }
             
             for (File file : files) {
-                if (!file.isFile()) {
+                if (!file.isFile() || SNAPSHOT_FILE_NAME.equals(file.getName())) {
                     continue;
                 }
                 domMap.putAll(parseServiceInfoFromCache(file));
             }
+            for (Map.Entry<String, ServiceInfo> entry : readSnapshot(cacheDir).entrySet()) {
+                ServiceInfo cached = domMap.get(entry.getKey());
+                if (null == cached || cached.getLastRefTime() <= entry.getValue().getLastRefTime()) {
+                    domMap.put(entry.getKey(), entry.getValue());
+                }
+            }
         } catch (Throwable e) {
             NAMING_LOGGER.error("[NA] failed to read cache file", e);
         }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
+
+/**
+ * Write-behind writer of the naming disk cache.
+ *
+ * <p>Changed service infos are only recorded in memory, and written to disk by a background thread every
+ * {@link PropertyKeyConst#NAMING_CACHE_WRITE_INTERVAL} milliseconds, so a service changed many times in one interval
+ * is written once and the push handling thread never waits for disk. When
+ * {@link PropertyKeyConst#NAMING_CACHE_COMPACT_SNAPSHOT} is enabled, all service infos are written to one snapshot
+ * file instead of one file per service, services without instances or no longer held in memory are pruned from it.
+ *
+ * @author Nacos
+ */
+public class DiskCacheWriter implements Closeable {
+    
+    private static final long DEFAULT_WRITE_INTERVAL = 1000L;
+    
+    private final String cacheDir;
+    
+    private final long writeInterval;
+    
+    private final boolean compactSnapshot;
+    
+    private final ConcurrentMap<String, ServiceInfo> pendingServices = new ConcurrentHashMap<>();
+    
+    /**
+     * All service infos of compact snapshot, lazily loaded from the snapshot file at first flush.
+     */
+    private Map<String, ServiceInfo> snapshotServices;
+    
+    /**
+     * Service infos held in memory keyed by key without clusters, null if unknown.
+     */
+    private final Map<String, ServiceInfo> liveServices;
+    
+    private ScheduledExecutorService executorService;
+    
+    public DiskCacheWriter(String cacheDir, NacosClientProperties properties) {
+        this(cacheDir, properties, null);
+    }
+    
+    public DiskCacheWriter(String cacheDir, NacosClientProperties properties, Map<String, ServiceInfo> liveServices) {
+        this.cacheDir = cacheDir;
+        this.liveServices = liveServices;
+        this.writeInterval = null == properties ? DEFAULT_WRITE_INTERVAL
+                : properties.getLong(PropertyKeyConst.NAMING_CACHE_WRITE_INTERVAL, DEFAULT_WRITE_INTERVAL);
+        this.compactSnapshot = null != properties && properties.getBoolean(
+                PropertyKeyConst.NAMING_CACHE_COMPACT_SNAPSHOT, false);
+        if (writeInterval > 0) {
+            this.executorService = new ScheduledThreadPoolExecutor(1,
+                    new NameThreadFactory("com.alibaba.nacos.client.naming.disk.cache.writer"));
+            this.executorService.scheduleWithFixedDelay(this::flush, writeInterval, writeInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Write service info to disk cache, only the latest service info of a service in one interval is written.
+     *
+     * @param serviceInfo service info
+     */
+    public void write(ServiceInfo serviceInfo) {
+        pendingServices.put(serviceInfo.getKey(), serviceInfo);
+        if (null == executorService) {
+            flush();
+        }
+    }
+    
+    /**
+     * Write all pending service infos to disk.
+     */
+    public synchronized void flush() {
+        if (pendingServices.isEmpty()) {
+            return;
+        }
+        try {
+            if (compactSnapshot) {
+                flushSnapshot();
+            } else {
+                for (String key : pendingServices.keySet()) {
+                    ServiceInfo serviceInfo = pendingServices.remove(key);
+                    if (null != serviceInfo) {
+                        DiskCache.write(serviceInfo, cacheDir);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            NAMING_LOGGER.error("[NA] failed to flush disk cache", e);
+        }
+    }
+    
+    private void flushSnapshot() {
+        if (null == snapshotServices) {
+            snapshotServices = new HashMap<>(DiskCache.readSnapshot(cacheDir));
+        }
+        for (String key : pendingServices.keySet()) {
+            ServiceInfo serviceInfo = pendingServices.remove(key);
+            if (null == serviceInfo) {
+                continue;
+            }
+            if (CollectionUtils.isEmpty(serviceInfo.getHosts())) {
+                snapshotServices.remove(key);
+            } else {
+                snapshotServices.put(key, serviceInfo);
+            }
+        }
+        if (null != liveServices) {
+            snapshotServices.values().removeIf(each -> !liveServices.containsKey(each.getKeyWithoutClusters()));
+        }
+        DiskCache.writeSnapshot(snapshotServices.values(), cacheDir);
+    }
+    
+    public boolean isCompactSnapshot() {
+        return compactSnapshot;
+    }
+    
+    int getPendingCount() {
+        return pendingServices.size();
+    }
+    
+    @Override
+    public void shutdown() {
+        if (null != executorService) {
+            ThreadUtils.shutdownThreadPool(executorService, NAMING_LOGGER);
+        }
+        flush();
+    }
+}
@@ -18,7 +18,9 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
@@ -32,6 +34,8 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,12 +51,16 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    private final ConcurrentMap<String, PushedRevision> pushedRevisions = new ConcurrentHashMap<>();
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
     
     private final InstancesDiffer instancesDiffer;
     
+    private final DiskCacheWriter diskCacheWriter;
+    
     private String cacheDir;
     
     private String notifierEventScope;
@@ -67,6 +75,7 @@ public class ServiceInfoHolder implements Closeable {
         } else {
             this.serviceInfoMap = new ConcurrentHashMap<>(16);
         }
+        this.diskCacheWriter = new DiskCacheWriter(cacheDir, properties, serviceInfoMap);
         this.failoverReactor = new FailoverReactor(this, notifierEventScope);
         this.pushEmptyProtection = isPushEmptyProtect(properties);
         this.notifierEventScope = notifierEventScope;
@@ -122,6 +131,89 @@ public class ServiceInfoHolder implements Closeable {
      * @return service info
      */
     public ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+        return doProcessServiceInfo(serviceInfo, null);
+    }
+    
+    /**
+     * Process service info pushed by server, and remember the revision as the base of later delta push.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of the service info on server, 0 if server does not support delta push
+     * @return service info
+     */
+    public ServiceInfo processPushedServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        recordPushedRevision(serviceInfo, result, revision);
+        return result;
+    }
+    
+    /**
+     * Apply delta push to the cached service info of the base revision.
+     *
+     * @param deltaRequest delta push request
+     * @return new service info, or {@code null} if the cached service info is not the base revision of the delta
+     */
+    public ServiceInfo processServiceInfoDelta(NotifySubscriberDeltaRequest deltaRequest) {
+        ServiceInfo deltaServiceInfo = deltaRequest.getServiceInfo();
+        String serviceKey = deltaServiceInfo.getKeyWithoutClusters();
+        PushedRevision base = pushedRevisions.get(serviceKey);
+        ServiceInfo oldService = serviceInfoMap.get(serviceKey);
+        // the cached service info may be replaced by query result, so the identity of the base is checked too.
+        if (null == base || null == oldService || base.revision != deltaRequest.getBaseRevision()
+                || base.serviceInfo != oldService) {
+            NAMING_LOGGER.warn("base revision {} of delta push not found, serviceKey: {}",
+                    deltaRequest.getBaseRevision(), serviceKey);
+            return null;
+        }
+        ServiceInfo serviceInfo = applyDelta(oldService, deltaRequest);
+        InstancesDiff diff = new InstancesDiff(deltaRequest.getAddedInstances(), deltaRequest.getRemovedInstances(),
+                deltaRequest.getModifiedInstances());
+        ServiceInfo result = doProcessServiceInfo(serviceInfo, diff);
+        recordPushedRevision(serviceInfo, result, deltaRequest.getRevision());
+        return result;
+    }
+    
+    private ServiceInfo applyDelta(ServiceInfo oldService, NotifySubscriberDeltaRequest deltaRequest) {
+        Map<String, Instance> hosts = new LinkedHashMap<>(oldService.getHosts().size() * 4 / 3 + 1);
+        for (Instance each : oldService.getHosts()) {
+            hosts.put(each.toInetAddr(), each);
+        }
+        for (Instance each : deltaRequest.getRemovedInstances()) {
+            hosts.remove(each.toInetAddr());
+        }
+        for (Instance each : deltaRequest.getModifiedInstances()) {
+            hosts.put(each.toInetAddr(), each);
+        }
+        for (Instance each : deltaRequest.getAddedInstances()) {
+            hosts.put(each.toInetAddr(), each);
+        }
+        ServiceInfo deltaServiceInfo = deltaRequest.getServiceInfo();
+        ServiceInfo result = new ServiceInfo();
+        result.setName(deltaServiceInfo.getName());
+        result.setGroupName(deltaServiceInfo.getGroupName());
+        result.setClusters(deltaServiceInfo.getClusters());
+        result.setCacheMillis(deltaServiceInfo.getCacheMillis());
+        result.setLastRefTime(deltaServiceInfo.getLastRefTime());
+        result.setChecksum(deltaServiceInfo.getChecksum());
+        result.setAllIps(deltaServiceInfo.isAllIps());
+        result.setReachProtectionThreshold(deltaServiceInfo.isReachProtectionThreshold());
+        result.setHosts(new ArrayList<>(hosts.values()));
+        return result;
+    }
+    
+    private void recordPushedRevision(ServiceInfo pushed, ServiceInfo result, long revision) {
+        String serviceKey = pushed.getKeyWithoutClusters();
+        if (null == serviceKey) {
+            return;
+        }
+        if (revision > 0 && pushed == result) {
+            pushedRevisions.put(serviceKey, new PushedRevision(revision, result));
+        } else {
+            pushedRevisions.remove(serviceKey);
+        }
+    }
+    
+    private ServiceInfo doProcessServiceInfo(ServiceInfo serviceInfo, InstancesDiff knownDiff) {
         String serviceKey = serviceInfo.getKeyWithoutClusters();
         if (serviceKey == null) {
             NAMING_LOGGER.warn("process service info but serviceKey is null, service host: {}",
@@ -136,7 +228,7 @@ public class ServiceInfoHolder implements Closeable {
             return oldService;
         }
         serviceInfoMap.put(serviceKey, serviceInfo);
-        InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
+        InstancesDiff diff = null != knownDiff ? knownDiff : getServiceInfoDiff(oldService, serviceInfo);
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
         }
@@ -158,7 +250,7 @@ public class ServiceInfoHolder implements Closeable {
                         new InstancesChangeEvent(notifierEventScope, serviceInfo.getName(), serviceInfo.getGroupName(),
                                 serviceInfo.getClusters(), serviceInfo.getHosts(), diff));
             }
-            DiskCache.write(serviceInfo, cacheDir);
+            diskCacheWriter.write(serviceInfo);
         }
         return serviceInfo;
     }
@@ -189,6 +281,19 @@ public class ServiceInfoHolder implements Closeable {
         String className = this.getClass().getName();
         NAMING_LOGGER.info("{} do shutdown begin", className);
         failoverReactor.shutdown();
+        diskCacheWriter.shutdown();
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
+    
+    private static class PushedRevision {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private PushedRevision(long revision, ServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+        }
+    }
 }
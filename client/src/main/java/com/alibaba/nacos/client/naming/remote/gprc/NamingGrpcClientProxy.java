@@ -29,6 +29,7 @@ import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
 import com.alibaba.nacos.api.naming.remote.request.AbstractNamingRequest;
 import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchRedoRequest;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.NamingFuzzyWatchRequest;
 import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
@@ -36,6 +37,7 @@ import com.alibaba.nacos.api.naming.remote.request.ServiceListRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchRedoResponse;
 import com.alibaba.nacos.api.naming.remote.response.NamingFuzzyWatchResponse;
 import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
@@ -56,6 +58,7 @@ import com.alibaba.nacos.client.naming.remote.AbstractNamingClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.NamingGrpcRedoService;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.BatchInstanceRedoData;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.InstanceRedoData;
+import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
 import com.alibaba.nacos.client.security.SecurityProxy;
 import com.alibaba.nacos.client.utils.AppNameUtils;
 import com.alibaba.nacos.common.notify.Event;
@@ -412,6 +415,57 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         return response.getServiceInfo();
     }
     
+    /**
+     * Execute batch redo operation, register instances and subscribe services by one request.
+     *
+     * <p>Only the redo data which is handled successfully by server will be marked as registered, others will be
+     * redone one by one later.
+     *
+     * @param instances   instance redo data to register
+     * @param subscribers subscriber redo data to subscribe
+     * @throws NacosException nacos exception
+     */
+    public void doBatchRedo(List<InstanceRedoData> instances, List<SubscriberRedoData> subscribers)
+            throws NacosException {
+        BatchRedoRequest request = new BatchRedoRequest(namespaceId);
+        List<InstanceRedoData> singleInstances = new ArrayList<>();
+        List<InstanceRedoData> batchInstances = new ArrayList<>();
+        for (InstanceRedoData each : instances) {
+            if (each instanceof BatchInstanceRedoData) {
+                batchInstances.add(each);
+                request.getBatchInstanceRequests().add(new BatchInstanceRequest(namespaceId, each.getServiceName(),
+                        each.getGroupName(), NamingRemoteConstants.BATCH_REGISTER_INSTANCE,
+                        ((BatchInstanceRedoData) each).getInstances()));
+            } else {
+                singleInstances.add(each);
+                request.getInstanceRequests().add(new InstanceRequest(namespaceId, each.getServiceName(),
+                        each.getGroupName(), NamingRemoteConstants.REGISTER_INSTANCE, each.get()));
+            }
+        }
+        for (SubscriberRedoData each : subscribers) {
+            request.getSubscribeRequests().add(new SubscribeServiceRequest(namespaceId, each.getGroupName(),
+                    each.getServiceName(), each.get(), true));
+        }
+        BatchRedoResponse response = requestToServer(request, BatchRedoResponse.class);
+        markInstancesRegistered(singleInstances, response.getInstanceResults());
+        markInstancesRegistered(batchInstances, response.getBatchInstanceResults());
+        List<Boolean> subscribeResults = response.getSubscribeResults();
+        for (int i = 0; i < subscribers.size() && i < subscribeResults.size(); i++) {
+            if (Boolean.TRUE.equals(subscribeResults.get(i))) {
+                SubscriberRedoData each = subscribers.get(i);
+                redoService.subscriberRegistered(each.getServiceName(), each.getGroupName(), each.get());
+            }
+        }
+    }
+    
+    private void markInstancesRegistered(List<InstanceRedoData> instances, List<Boolean> results) {
+        for (int i = 0; i < instances.size() && i < results.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                redoService.instanceRegistered(instances.get(i).getServiceName(), instances.get(i).getGroupName());
+            }
+        }
+    }
+    
     @Override
     public void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException {
         NAMING_LOGGER.info("[GRPC-UNSUBSCRIBE] service:{}, group:{}, cluster:{} ", serviceName, groupName, clusters);
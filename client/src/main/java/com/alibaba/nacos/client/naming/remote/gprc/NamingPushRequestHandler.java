@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -41,9 +42,16 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            serviceInfoHolder.processPushedServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
             return new NotifySubscriberResponse();
         }
+        if (request instanceof NotifySubscriberDeltaRequest) {
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (null == serviceInfoHolder.processServiceInfoDelta((NotifySubscriberDeltaRequest) request)) {
+                response.setErrorInfo(NotifySubscriberResponse.BASE_REVISION_MISMATCH, "base revision not found");
+            }
+            return response;
+        }
         return null;
     }
 }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.BatchInstanceRedoData;
@@ -25,6 +26,9 @@ import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
 import com.alibaba.nacos.client.utils.LogUtils;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Redo task.
  * TODO refactor to extends from {@link com.alibaba.nacos.client.redo.service.AbstractRedoTask}
@@ -33,6 +37,11 @@ import com.alibaba.nacos.common.task.AbstractExecuteTask;
  */
 public class RedoScheduledTask extends AbstractExecuteTask {
     
+    /**
+     * Max count of register and subscribe redo data in one batch redo request.
+     */
+    static final int BATCH_REDO_SIZE = 200;
+    
     private final NamingGrpcClientProxy clientProxy;
     
     private final NamingGrpcRedoService redoService;
@@ -49,6 +58,9 @@ public class RedoScheduledTask extends AbstractExecuteTask {
             return;
         }
         try {
+            if (isBatchRedoSupported()) {
+                batchRedoForRegister();
+            }
             redoForInstances();
             redoForSubscribes();
         } catch (Exception e) {
@@ -56,6 +68,46 @@ public class RedoScheduledTask extends AbstractExecuteTask {
         }
     }
     
+    /**
+     * Redo the register of instances and subscribers by batch request, which needs much fewer requests than redo one by
+     * one after reconnecting to a new server. The redo data failed in batch will be redone one by one later.
+     */
+    private void batchRedoForRegister() {
+        List<InstanceRedoData> instances = new ArrayList<>();
+        for (InstanceRedoData each : redoService.findInstanceRedoData()) {
+            if (NamingRedoData.RedoType.REGISTER == each.getRedoType()) {
+                instances.add(each);
+            }
+        }
+        List<SubscriberRedoData> subscribers = new ArrayList<>();
+        for (SubscriberRedoData each : redoService.findSubscriberRedoData()) {
+            if (NamingRedoData.RedoType.REGISTER == each.getRedoType()) {
+                subscribers.add(each);
+            }
+        }
+        if (instances.size() + subscribers.size() <= 1) {
+            return;
+        }
+        int instanceIndex = 0;
+        int subscriberIndex = 0;
+        while (instanceIndex < instances.size() || subscriberIndex < subscribers.size()) {
+            int instanceEnd = Math.min(instances.size(), instanceIndex + BATCH_REDO_SIZE);
+            int subscriberEnd = Math.min(subscribers.size(),
+                    subscriberIndex + BATCH_REDO_SIZE - (instanceEnd - instanceIndex));
+            List<InstanceRedoData> instanceBatch = instances.subList(instanceIndex, instanceEnd);
+            List<SubscriberRedoData> subscriberBatch = subscribers.subList(subscriberIndex, subscriberEnd);
+            LogUtils.NAMING_LOGGER.info("Batch redo register for {} instances and {} subscribers",
+                    instanceBatch.size(), subscriberBatch.size());
+            try {
+                clientProxy.doBatchRedo(instanceBatch, subscriberBatch);
+            } catch (NacosException e) {
+                LogUtils.NAMING_LOGGER.warn("Batch redo register failed, will redo one by one. ", e);
+            }
+            instanceIndex = instanceEnd;
+            subscriberIndex = subscriberEnd;
+        }
+    }
+    
     private void redoForInstances() {
         for (InstanceRedoData each : redoService.findInstanceRedoData()) {
             try {
@@ -140,6 +192,10 @@ public class RedoScheduledTask extends AbstractExecuteTask {
         }
     }
     
+    private boolean isBatchRedoSupported() {
+        return !isClientDisabled() && clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_BATCH_REDO);
+    }
+    
     private boolean isClientDisabled() {
         return !clientProxy.isEnable();
     }
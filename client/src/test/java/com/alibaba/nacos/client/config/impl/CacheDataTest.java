@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -156,6 +157,44 @@ class CacheDataTest {
         
     }
     
+    @Test
+    void testCheckListenerMd5WithListenerNotifier() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        final CacheData data = new CacheData(filter, "name1", "keyLane", "group", "tenant");
+        ConfigListenerNotifier notifier = new ConfigListenerNotifier("test", 2,
+                ConfigListenerNotifier.DEFAULT_LANE_CAPACITY, false);
+        data.setListenerNotifier(notifier);
+        final List<String> list = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        Listener listener = new Listener() {
+            @Override
+            public Executor getExecutor() {
+                return null;
+            }
+            
+            @Override
+            public void receiveConfigInfo(String configInfo) {
+                list.add(configInfo);
+                threads.add(Thread.currentThread());
+            }
+        };
+        try {
+            data.addListener(listener);
+            data.setContent("new");
+            data.checkListenerMd5();
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (!data.checkListenersMd5Consistent() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertTrue(data.checkListenersMd5Consistent());
+            assertEquals(1, list.size());
+            assertEquals("new", list.get(0));
+            assertNotEquals(Thread.currentThread(), threads.get(0));
+        } finally {
+            notifier.shutdown();
+        }
+    }
+    
     @Test
     void testCheckListenerMd5NotifyTimeouts() throws NacosException {
         System.setProperty("nacos.listener.notify.warn.timeout", "1000");
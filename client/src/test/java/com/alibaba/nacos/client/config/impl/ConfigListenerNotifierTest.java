@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigListenerNotifierTest {
+    
+    private ConfigListenerNotifier notifier;
+    
+    @AfterEach
+    void tearDown() {
+        if (notifier != null) {
+            notifier.shutdown();
+        }
+    }
+    
+    @Test
+    void testExecuteInOrderForSameKey() throws Exception {
+        notifier = new ConfigListenerNotifier("test", 4, ConfigListenerNotifier.DEFAULT_LANE_CAPACITY, false);
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        Future<?> last = null;
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            last = notifier.execute("dataId+group+tenant", () -> result.add(index));
+        }
+        last.get(5, TimeUnit.SECONDS);
+        assertEquals(100, result.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, result.get(i));
+        }
+        assertEquals(0, notifier.getPendingCount());
+    }
+    
+    @Test
+    void testSlowTaskNotBlockOtherLane() throws Exception {
+        notifier = new ConfigListenerNotifier("test", 2, ConfigListenerNotifier.DEFAULT_LANE_CAPACITY, false);
+        String slowKey = "slow+group";
+        String otherKey = null;
+        for (int i = 0; otherKey == null; i++) {
+            if (notifier.laneOf("key" + i) != notifier.laneOf(slowKey)) {
+                otherKey = "key" + i;
+            }
+        }
+        assertNotEquals(notifier.laneOf(slowKey), notifier.laneOf(otherKey));
+        CountDownLatch slowLatch = new CountDownLatch(1);
+        notifier.execute(slowKey, () -> {
+            try {
+                slowLatch.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        CountDownLatch otherLatch = new CountDownLatch(1);
+        notifier.execute(otherKey, otherLatch::countDown);
+        assertTrue(otherLatch.await(5, TimeUnit.SECONDS));
+        slowLatch.countDown();
+    }
+    
+    @Test
+    void testRunInCallerWhenLaneFull() throws Exception {
+        notifier = new ConfigListenerNotifier("test", 1, 1, false);
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        notifier.execute("key", () -> {
+            startLatch.countDown();
+            try {
+                blockLatch.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        assertTrue(startLatch.await(5, TimeUnit.SECONDS));
+        // fill the queue of the lane.
+        notifier.execute("key", () -> {
+        });
+        Thread caller = Thread.currentThread();
+        List<Thread> runThreads = new ArrayList<>();
+        Future<?> future = notifier.execute("key", () -> runThreads.add(Thread.currentThread()));
+        assertTrue(future.isDone());
+        assertEquals(caller, runThreads.get(0));
+        blockLatch.countDown();
+    }
+}
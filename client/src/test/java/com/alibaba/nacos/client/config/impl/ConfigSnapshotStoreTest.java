@@ -0,0 +1,163 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ConfigSnapshotStoreTest {
+    
+    @TempDir
+    File tempDir;
+    
+    @Test
+    void testPutAndGet() throws IOException {
+        File file = new File(tempDir, "content.dat");
+        ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+        store.put("dataId", "group", "", "content");
+        store.put("dataId", "group", "tenant", "tenantContent");
+        // read from pending snapshots before flush.
+        assertEquals("content", store.get("dataId", "group", ""));
+        assertEquals(0, file.length());
+        store.flush();
+        assertTrue(file.length() > 0);
+        assertEquals("content", store.get("dataId", "group", ""));
+        assertEquals("tenantContent", store.get("dataId", "group", "tenant"));
+        assertNull(store.get("otherDataId", "group", ""));
+        assertEquals(2, store.size());
+    }
+    
+    @Test
+    void testReloadAfterUpdateAndRemove() throws IOException {
+        File file = new File(tempDir, "content.dat");
+        ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+        store.put("dataId1", "group", "", "content1");
+        store.put("dataId2", "group", "", "content2");
+        store.flush();
+        store.put("dataId1", "group", "", "newContent1");
+        store.put("dataId2", "group", "", null);
+        store.flush();
+        assertNull(store.get("dataId2", "group", ""));
+        
+        ConfigSnapshotStore reloaded = new ConfigSnapshotStore(file);
+        assertEquals(1, reloaded.size());
+        assertEquals("newContent1", reloaded.get("dataId1", "group", ""));
+        assertNull(reloaded.get("dataId2", "group", ""));
+    }
+    
+    @Test
+    void testTruncateTornRecordWhenFlushFailed() throws Exception {
+        File file = new File(tempDir, "content.dat");
+        ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+        store.put("dataId1", "group", "", "content1");
+        store.flush();
+        long validLength = file.length();
+        Field channelField = ConfigSnapshotStore.class.getDeclaredField("channel");
+        channelField.setAccessible(true);
+        FileChannel channel = (FileChannel) channelField.get(store);
+        FileChannel failingChannel = mock(FileChannel.class, AdditionalAnswers.delegatesTo(channel));
+        doAnswer(invocation -> {
+            ByteBuffer buffer = invocation.getArgument(0);
+            ByteBuffer half = buffer.duplicate();
+            half.limit(buffer.position() + buffer.remaining() / 2);
+            channel.write(half, invocation.getArgument(1));
+            throw new IOException("disk full");
+        }).when(failingChannel).write(any(ByteBuffer.class), anyLong());
+        channelField.set(store, failingChannel);
+        store.put("dataId2", "group", "", "content2");
+        store.flush();
+        assertEquals(validLength, file.length());
+        
+        // pending snapshots are kept and written by the next flush.
+        channelField.set(store, channel);
+        store.flush();
+        ConfigSnapshotStore reloaded = new ConfigSnapshotStore(file);
+        assertEquals(2, reloaded.size());
+        assertEquals("content2", reloaded.get("dataId2", "group", ""));
+    }
+    
+    @Test
+    void testTruncateBrokenTail() throws IOException {
+        File file = new File(tempDir, "content.dat");
+        ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+        store.put("dataId1", "group", "", "content1");
+        store.flush();
+        long validLength = file.length();
+        store.put("dataId2", "group", "", "content2");
+        store.flush();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+        
+        ConfigSnapshotStore reloaded = new ConfigSnapshotStore(file);
+        assertEquals("content1", reloaded.get("dataId1", "group", ""));
+        assertNull(reloaded.get("dataId2", "group", ""));
+        assertEquals(validLength, file.length());
+    }
+    
+    @Test
+    void testCompact() throws IOException {
+        File file = new File(tempDir, "content.dat");
+        ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 64 * 1024; i++) {
+            content.append('c');
+        }
+        for (int i = 0; i < 40; i++) {
+            store.put("dataId", "group", "", content.toString() + i);
+            store.put("otherDataId", "group", "", "other");
+            store.flush();
+        }
+        assertTrue(store.getFileBytes() < 2 * 1024 * 1024);
+        assertEquals(content.toString() + 39, store.get("dataId", "group", ""));
+        
+        ConfigSnapshotStore reloaded = new ConfigSnapshotStore(file);
+        assertEquals(2, reloaded.size());
+        assertEquals(content.toString() + 39, reloaded.get("dataId", "group", ""));
+        assertEquals("other", reloaded.get("otherDataId", "group", ""));
+    }
+    
+    @Test
+    void testClear() throws IOException {
+        File file = new File(tempDir, "content.dat");
+        ConfigSnapshotStore store = new ConfigSnapshotStore(file);
+        store.put("dataId", "group", "", "content");
+        store.flush();
+        store.clear();
+        assertNull(store.get("dataId", "group", ""));
+        assertEquals(0, file.length());
+        store.put("dataId", "group", "", "newContent");
+        store.flush();
+        assertEquals("newContent", new ConfigSnapshotStore(file).get("dataId", "group", ""));
+    }
+}
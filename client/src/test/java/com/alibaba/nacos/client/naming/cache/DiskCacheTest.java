@@ -74,6 +74,21 @@ class DiskCacheTest {
         assertServiceInfo(actual.get(serviceInfo.getKey()), serviceInfo);
     }
     
+    @Test
+    void testSnapshot() {
+        ServiceInfo newer = new ServiceInfo("G@@testName", "testClusters");
+        newer.setHosts(Collections.singletonList(instance));
+        newer.setLastRefTime(System.currentTimeMillis());
+        DiskCache.write(serviceInfo, CACHE_DIR);
+        DiskCache.writeSnapshot(Collections.singletonList(newer), CACHE_DIR);
+        Map<String, ServiceInfo> snapshot = DiskCache.readSnapshot(CACHE_DIR);
+        assertEquals(1, snapshot.size());
+        Map<String, ServiceInfo> actual = DiskCache.read(CACHE_DIR);
+        assertEquals(1, actual.size());
+        assertEquals(newer.getLastRefTime(), actual.get(serviceInfo.getKey()).getLastRefTime());
+        assertServiceInfo(actual.get(serviceInfo.getKey()), newer);
+    }
+    
     @Test
     void testWriteCacheWithErrorPath() {
         File file = new File(CACHE_DIR, serviceInfo.getKeyEncoded());
@@ -0,0 +1,159 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.common.utils.IoUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskCacheWriterTest {
+    
+    private File cacheDir;
+    
+    private DiskCacheWriter writer;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        cacheDir = Files.createTempDirectory("naming-cache").toFile();
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        if (null != writer) {
+            writer.shutdown();
+        }
+        IoUtils.delete(cacheDir);
+    }
+    
+    @Test
+    void testWriteSynchronously() {
+        writer = newWriter("0", false);
+        ServiceInfo serviceInfo = newServiceInfo("G@@a", "1.1.1.1");
+        writer.write(serviceInfo);
+        assertTrue(new File(cacheDir, serviceInfo.getKeyEncoded()).isFile());
+        assertEquals(0, writer.getPendingCount());
+    }
+    
+    @Test
+    void testWriteBehindCoalesced() {
+        writer = newWriter("60000", false);
+        ServiceInfo serviceInfo = newServiceInfo("G@@a", "1.1.1.1");
+        writer.write(serviceInfo);
+        writer.write(newServiceInfo("G@@a", "2.2.2.2"));
+        assertEquals(1, writer.getPendingCount());
+        assertFalse(new File(cacheDir, serviceInfo.getKeyEncoded()).exists());
+        
+        writer.flush();
+        Map<String, ServiceInfo> actual = DiskCache.read(cacheDir.getPath());
+        assertEquals(1, actual.size());
+        assertEquals("2.2.2.2", actual.get(serviceInfo.getKey()).getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testShutdownFlushPending() {
+        writer = newWriter("60000", false);
+        writer.write(newServiceInfo("G@@a", "1.1.1.1"));
+        writer.shutdown();
+        assertEquals(1, DiskCache.read(cacheDir.getPath()).size());
+        writer = null;
+    }
+    
+    @Test
+    void testCompactSnapshot() {
+        writer = newWriter("0", true);
+        assertTrue(writer.isCompactSnapshot());
+        writer.write(newServiceInfo("G@@a", "1.1.1.1"));
+        writer.write(newServiceInfo("G@@b", "2.2.2.2"));
+        assertTrue(new File(cacheDir, DiskCache.SNAPSHOT_FILE_NAME).isFile());
+        assertFalse(new File(cacheDir, newServiceInfo("G@@a", "1.1.1.1").getKeyEncoded()).exists());
+        assertEquals(2, DiskCache.read(cacheDir.getPath()).size());
+        
+        // a new writer keeps the services in the existing snapshot.
+        writer.shutdown();
+        writer = newWriter("0", true);
+        writer.write(newServiceInfo("G@@c", "3.3.3.3"));
+        Map<String, ServiceInfo> actual = DiskCache.read(cacheDir.getPath());
+        assertEquals(3, actual.size());
+        assertEquals("2.2.2.2", actual.get("G@@b").getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testCompactSnapshotPruneRemovedServices() {
+        Map<String, ServiceInfo> liveServices = new HashMap<>();
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.NAMING_CACHE_WRITE_INTERVAL, "0");
+        properties.setProperty(PropertyKeyConst.NAMING_CACHE_COMPACT_SNAPSHOT, "true");
+        writer = new DiskCacheWriter(cacheDir.getPath(), NacosClientProperties.PROTOTYPE.derive(properties),
+                liveServices);
+        ServiceInfo serviceA = newServiceInfo("G@@a", "1.1.1.1");
+        ServiceInfo serviceB = newServiceInfo("G@@b", "2.2.2.2");
+        liveServices.put(serviceA.getKeyWithoutClusters(), serviceA);
+        liveServices.put(serviceB.getKeyWithoutClusters(), serviceB);
+        writer.write(serviceA);
+        writer.write(serviceB);
+        assertEquals(2, DiskCache.read(cacheDir.getPath()).size());
+        
+        // service without instances is removed from snapshot.
+        ServiceInfo emptyServiceA = new ServiceInfo("G@@a", "");
+        liveServices.put(emptyServiceA.getKeyWithoutClusters(), emptyServiceA);
+        writer.write(emptyServiceA);
+        Map<String, ServiceInfo> actual = DiskCache.read(cacheDir.getPath());
+        assertEquals(1, actual.size());
+        assertTrue(actual.containsKey("G@@b"));
+        
+        // service no longer held in memory is removed from snapshot at next flush.
+        liveServices.remove(serviceB.getKeyWithoutClusters());
+        ServiceInfo serviceC = newServiceInfo("G@@c", "3.3.3.3");
+        liveServices.put(serviceC.getKeyWithoutClusters(), serviceC);
+        writer.write(serviceC);
+        actual = DiskCache.read(cacheDir.getPath());
+        assertEquals(1, actual.size());
+        assertTrue(actual.containsKey("G@@c"));
+    }
+    
+    private DiskCacheWriter newWriter(String writeInterval, boolean compactSnapshot) {
+        Properties properties = new Properties();
+        properties.setProperty(PropertyKeyConst.NAMING_CACHE_WRITE_INTERVAL, writeInterval);
+        properties.setProperty(PropertyKeyConst.NAMING_CACHE_COMPACT_SNAPSHOT, String.valueOf(compactSnapshot));
+        return new DiskCacheWriter(cacheDir.getPath(), NacosClientProperties.PROTOTYPE.derive(properties));
+    }
+    
+    private ServiceInfo newServiceInfo(String name, String ip) {
+        ServiceInfo serviceInfo = new ServiceInfo(name, "");
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(8848);
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        return serviceInfo;
+    }
+}
@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
@@ -34,6 +35,7 @@ import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
@@ -101,6 +103,58 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processPushedServiceInfo(info, 1L);
+        
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        NotifySubscriberDeltaRequest delta = new NotifySubscriberDeltaRequest();
+        delta.setServiceInfo(new ServiceInfo("a@@b@@c"));
+        delta.setBaseRevision(1L);
+        delta.setRevision(2L);
+        delta.setModifiedInstances(Collections.singletonList(modified));
+        delta.setRemovedInstances(Collections.singletonList(createInstance("1.1.1.2", 2)));
+        delta.setAddedInstances(Collections.singletonList(createInstance("1.1.1.3", 3)));
+        ServiceInfo actual = holder.processServiceInfoDelta(delta);
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0, actual.getHosts().get(0).getWeight());
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        assertEquals(actual, holder.getServiceInfo("b", "a"));
+        
+        // delta based on the revision just applied.
+        delta.setBaseRevision(2L);
+        delta.setRevision(3L);
+        delta.setModifiedInstances(Collections.emptyList());
+        delta.setAddedInstances(Collections.emptyList());
+        delta.setRemovedInstances(Collections.singletonList(createInstance("1.1.1.3", 3)));
+        assertEquals(1, holder.processServiceInfoDelta(delta).getHosts().size());
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaWithBaseMismatch() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        info.setHosts(Collections.singletonList(createInstance("1.1.1.1", 1)));
+        holder.processPushedServiceInfo(info, 1L);
+        NotifySubscriberDeltaRequest delta = new NotifySubscriberDeltaRequest();
+        delta.setServiceInfo(new ServiceInfo("a@@b@@c"));
+        delta.setBaseRevision(2L);
+        delta.setRevision(3L);
+        assertNull(holder.processServiceInfoDelta(delta));
+        
+        // cached service info replaced by query result is no longer a base of delta push.
+        delta.setBaseRevision(1L);
+        ServiceInfo queried = new ServiceInfo("a@@b@@c");
+        queried.setHosts(Collections.singletonList(createInstance("1.1.1.2", 2)));
+        holder.processServiceInfo(queried);
+        assertNull(holder.processServiceInfoDelta(delta));
+    }
+    
     @Test
     void testProcessServiceInfoEnableClientMetricsTrue() {
         ServiceInfoHolder holder = createServiceInfoHolder(true);
@@ -28,14 +28,17 @@ import com.alibaba.nacos.api.naming.pojo.Service;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
 import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchRedoRequest;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.PersistentInstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
 import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchRedoResponse;
 import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
 import com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse;
 import com.alibaba.nacos.api.naming.remote.response.ServiceListResponse;
 import com.alibaba.nacos.api.naming.remote.response.SubscribeServiceResponse;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.api.remote.DefaultRequestFuture;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.RequestFuture;
@@ -310,6 +313,27 @@ class NamingGrpcClientProxyTest {
         }));
     }
     
+    @Test
+    void testDoBatchRedo() throws Exception {
+        Field redoServiceField = NamingGrpcClientProxy.class.getDeclaredField("redoService");
+        redoServiceField.setAccessible(true);
+        NamingGrpcRedoService redoService = (NamingGrpcRedoService) redoServiceField.get(client);
+        redoService.cacheInstanceForRedo(SERVICE_NAME, GROUP_NAME, instance);
+        redoService.cacheSubscriberForRedo(SERVICE_NAME, GROUP_NAME, CLUSTERS);
+        BatchRedoResponse batchRedoResponse = new BatchRedoResponse();
+        batchRedoResponse.setInstanceResults(Collections.singletonList(true));
+        batchRedoResponse.setSubscribeResults(Collections.singletonList(false));
+        when(this.rpcClient.request(any())).thenReturn(batchRedoResponse);
+        client.doBatchRedo(new ArrayList<>(redoService.findInstanceRedoData()),
+                new ArrayList<>(redoService.findSubscriberRedoData()));
+        verify(this.rpcClient, times(1)).request(argThat(request -> request instanceof BatchRedoRequest
+                && ((BatchRedoRequest) request).getInstanceRequests().size() == 1
+                && ((BatchRedoRequest) request).getSubscribeRequests().size() == 1));
+        assertTrue(redoService.getRegisteredInstancesByKey(NamingUtils.getGroupedName(SERVICE_NAME, GROUP_NAME))
+                .isRegistered());
+        assertFalse(redoService.isSubscriberRegistered(SERVICE_NAME, GROUP_NAME, CLUSTERS));
+    }
+    
     @Test
     void testBatchDeregisterServiceWithEmptyInstances() throws NacosException {
         assertThrows(NacosException.class, () -> {
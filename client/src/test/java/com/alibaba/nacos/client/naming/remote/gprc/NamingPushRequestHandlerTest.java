@@ -19,6 +19,7 @@
 package com.alibaba.nacos.client.naming.remote.gprc;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
@@ -30,11 +31,14 @@ import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -49,13 +53,28 @@ class NamingPushRequestHandlerTest {
         Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
         //then
         assertTrue(response instanceof NotifySubscriberResponse);
-        verify(holder, times(1)).processServiceInfo(info);
+        verify(holder, times(1)).processPushedServiceInfo(info, 0L);
     }
     
     @Test
-    void testRequestReplyOtherType() {
+    void testRequestReplyDelta() {
         ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        NotifySubscriberDeltaRequest req = new NotifySubscriberDeltaRequest();
+        when(holder.processServiceInfoDelta(req)).thenReturn(new ServiceInfo("name", "cluster1"));
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        
+        when(holder.processServiceInfoDelta(req)).thenReturn(null);
+        response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertFalse(response.isSuccess());
+        assertEquals(NotifySubscriberResponse.BASE_REVISION_MISMATCH, response.getErrorCode());
+    }
     
+    @Test
+    void testRequestReplyOtherType() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        
         NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
         assertNull(handler.requestReply(new HealthCheckRequest(), new TestConnection(new RpcClient.ServerInfo())));
     }
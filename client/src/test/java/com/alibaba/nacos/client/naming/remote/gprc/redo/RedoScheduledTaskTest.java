@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
@@ -25,6 +26,7 @@ import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -32,10 +34,14 @@ import org.mockito.quality.Strictness;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -214,6 +220,48 @@ class RedoScheduledTaskTest {
         return result;
     }
     
+    @Test
+    void testRunBatchRedoRegister() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_BATCH_REDO)).thenReturn(true);
+        when(redoService.findInstanceRedoData()).thenReturn(generateMockInstanceData(false, false, true),
+                Collections.emptySet());
+        when(redoService.findSubscriberRedoData()).thenReturn(generateMockSubscriberData(false, false, true),
+                Collections.emptySet());
+        redoTask.run();
+        ArgumentCaptor<List<InstanceRedoData>> instances = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SubscriberRedoData>> subscribers = ArgumentCaptor.forClass(List.class);
+        verify(clientProxy).doBatchRedo(instances.capture(), subscribers.capture());
+        assertEquals(1, instances.getValue().size());
+        assertEquals(1, subscribers.getValue().size());
+        verify(clientProxy, never()).doRegisterService(SERVICE, GROUP, INSTANCE);
+        verify(clientProxy, never()).doSubscribe(SERVICE, GROUP, CLUSTER);
+    }
+    
+    @Test
+    void testRunBatchRedoRegisterSplitByBatchSize() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_BATCH_REDO)).thenReturn(true);
+        Set<SubscriberRedoData> mockData = new HashSet<>();
+        for (int i = 0; i <= RedoScheduledTask.BATCH_REDO_SIZE; i++) {
+            SubscriberRedoData redoData = SubscriberRedoData.build(SERVICE + i, GROUP, CLUSTER);
+            redoData.setExpectedRegistered(true);
+            mockData.add(redoData);
+        }
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData, Collections.emptySet());
+        redoTask.run();
+        verify(clientProxy, times(2)).doBatchRedo(anyList(), anyList());
+    }
+    
+    @Test
+    void testRunBatchRedoRegisterFailedAndRedoOneByOne() throws NacosException {
+        when(clientProxy.isAbilitySupportedByServer(AbilityKey.SERVER_BATCH_REDO)).thenReturn(true);
+        when(redoService.findInstanceRedoData()).thenReturn(generateMockInstanceData(false, false, true));
+        when(redoService.findSubscriberRedoData()).thenReturn(generateMockSubscriberData(false, false, true));
+        doThrow(new NacosException()).when(clientProxy).doBatchRedo(anyList(), anyList());
+        redoTask.run();
+        verify(clientProxy).doRegisterService(SERVICE, GROUP, INSTANCE);
+        verify(clientProxy).doSubscribe(SERVICE, GROUP, CLUSTER);
+    }
+    
     @Test
     void testRunRedoWithDisconnection() {
         when(redoService.isConnected()).thenReturn(false);
@@ -20,6 +20,8 @@ import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.JustForTest;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.notify.ringbuffer.RingBufferPublisher;
+import com.alibaba.nacos.common.notify.ringbuffer.RingBufferPublisherFactory;
 import com.alibaba.nacos.common.spi.NacosServiceLoader;
 import com.alibaba.nacos.common.utils.ClassUtils;
 import com.alibaba.nacos.common.utils.MapUtil;
@@ -50,6 +52,14 @@ public class NotifyCenter {
     
     public static int shareBufferSize;
     
+    public static final String DEFAULT_PUBLISHER_TYPE = "default";
+    
+    public static final String RING_BUFFER_PUBLISHER_TYPE = "ring-buffer";
+    
+    public static final String PUBLISHER_TYPE_PROPERTY = "nacos.core.notify.publisher-type";
+    
+    private static String publisherType;
+    
     private static final AtomicBoolean CLOSED = new AtomicBoolean(false);
     
     private static final EventPublisherFactory DEFAULT_PUBLISHER_FACTORY;
@@ -79,22 +89,31 @@ public class NotifyCenter {
         final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
         Iterator<EventPublisher> iterator = publishers.iterator();
         
+        // Publisher type used when no EventPublisher is provided by SPI, default or ring-buffer.
+        publisherType = System.getProperty(PUBLISHER_TYPE_PROPERTY, DEFAULT_PUBLISHER_TYPE);
+        
         if (iterator.hasNext()) {
             clazz = iterator.next().getClass();
+        } else if (isRingBufferPublisherType()) {
+            clazz = RingBufferPublisher.class;
         } else {
             clazz = DefaultPublisher.class;
         }
         
-        DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
-            try {
-                EventPublisher publisher = clazz.newInstance();
-                publisher.init(cls, buffer);
-                return publisher;
-            } catch (Throwable ex) {
-                LOGGER.error("Service class newInstance has error : ", ex);
-                throw new NacosRuntimeException(SERVER_ERROR, ex);
-            }
-        };
+        if (RingBufferPublisher.class == clazz) {
+            DEFAULT_PUBLISHER_FACTORY = RingBufferPublisherFactory.getInstance();
+        } else {
+            DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
+                try {
+                    EventPublisher publisher = clazz.newInstance();
+                    publisher.init(cls, buffer);
+                    return publisher;
+                } catch (Throwable ex) {
+                    LOGGER.error("Service class newInstance has error : ", ex);
+                    throw new NacosRuntimeException(SERVER_ERROR, ex);
+                }
+            };
+        }
         
         try {
             
@@ -109,6 +128,15 @@ public class NotifyCenter {
         ThreadUtils.addShutdownHook(NotifyCenter::shutdown);
     }
     
+    /**
+     * Whether the ring buffer publisher is selected by {@code nacos.core.notify.publisher-type}.
+     *
+     * @return true if the ring buffer publisher is selected
+     */
+    public static boolean isRingBufferPublisherType() {
+        return RING_BUFFER_PUBLISHER_TYPE.equalsIgnoreCase(publisherType);
+    }
+    
     @JustForTest
     public static Map<String, EventPublisher> getPublisherMap() {
         return INSTANCE.publisherMap;
@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify.ringbuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Blocks the consumer on a condition, lowest cpu usage and highest latency. Producers only take the lock when the
+ * consumer is actually blocked.
+ *
+ * @author Nacos
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+    
+    private static final long MAX_WAIT_MILLIS = 100L;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private volatile boolean waiting;
+    
+    @Override
+    public void waitFor(BooleanSupplier available, BooleanSupplier shutdown) throws InterruptedException {
+        if (available.getAsBoolean()) {
+            return;
+        }
+        lock.lock();
+        try {
+            waiting = true;
+            while (!available.getAsBoolean() && !shutdown.getAsBoolean()) {
+                // timed wait in case of the signal is missed by the unlocked check of producers.
+                notEmpty.await(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            waiting = false;
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void signalAllWhenBlocking() {
+        if (!waiting) {
+            return;
+        }
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify.ringbuffer;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Busy spins the consumer thread, lowest latency and only suitable when the consumer can own a core.
+ *
+ * @author Nacos
+ */
+public class BusySpinWaitStrategy implements WaitStrategy {
+    
+    @Override
+    public void waitFor(BooleanSupplier available, BooleanSupplier shutdown) throws InterruptedException {
+        while (!available.getAsBoolean() && !shutdown.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+    
+    @Override
+    public void signalAllWhenBlocking() {
+    }
+}
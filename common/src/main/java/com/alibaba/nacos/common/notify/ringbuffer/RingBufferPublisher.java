@@ -0,0 +1,370 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify.ringbuffer;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Event publisher staging events in a pre-allocated ring buffer, in the style of the LMAX disruptor.
+ *
+ * <p>Producers claim a sequence with a CAS on the cursor and mark the slot published; no lock is taken and no node is
+ * allocated per event. A single consumer thread drains all published events up to the batch size at once, waiting by
+ * the configured {@link WaitStrategy} when the buffer is empty. Like {@link com.alibaba.nacos.common.notify.DefaultPublisher},
+ * the event is handled synchronously in the caller when the buffer is full.
+ *
+ * <p>Subscribers are kept by subscribe type, so the publisher can serve one event type or, as a
+ * {@link ShardedEventPublisher}, a group of event types in order. Subscribers without their own executor are called
+ * by the consumer thread, or by one of the subscriber shard executors if shards are configured, which keeps a slow
+ * subscriber from delaying the others while each subscriber still receives events in order.
+ *
+ * <p>Events are dispatched the same way as the publisher being replaced: a sharded publisher notifies every subscriber
+ * of the event type like the naming event publisher, otherwise subscribers out of scope and expired events are
+ * skipped like {@link com.alibaba.nacos.common.notify.DefaultPublisher}.
+ *
+ * <p>Configured by system properties {@value WAIT_STRATEGY_PROPERTY} (blocking by default),
+ * {@value BATCH_SIZE_PROPERTY} and {@value SUBSCRIBER_SHARDS_PROPERTY} (0 by default).
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisher implements ShardedEventPublisher {
+    
+    public static final String WAIT_STRATEGY_PROPERTY = "nacos.core.notify.ring-buffer.wait-strategy";
+    
+    public static final String BATCH_SIZE_PROPERTY = "nacos.core.notify.ring-buffer.batch-size";
+    
+    public static final String SUBSCRIBER_SHARDS_PROPERTY = "nacos.core.notify.ring-buffer.subscriber-shards";
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String THREAD_NAME = "nacos.publisher-";
+    
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    
+    private static final int DEFAULT_SUBSCRIBER_SHARDS = 0;
+    
+    private static final int DEFAULT_WAIT_TIMES = 60;
+    
+    private static final int MIN_CAPACITY = 2;
+    
+    private final Map<Class<? extends Event>, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    
+    private final WaitStrategy waitStrategy;
+    
+    private final int batchSize;
+    
+    private final int subscriberShardCount;
+    
+    private final boolean sharded;
+    
+    /**
+     * The last claimed sequence.
+     */
+    private final AtomicLong cursor = new AtomicLong(-1L);
+    
+    /**
+     * The last consumed sequence, only written by the consumer thread.
+     */
+    private volatile long consumed = -1L;
+    
+    private volatile long lastEventSequence = -1L;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private Event[] entries;
+    
+    /**
+     * The sequence published in each slot, the slot of sequence s is available when it holds s.
+     */
+    private AtomicLongArray published;
+    
+    private int mask;
+    
+    private ExecutorService[] subscriberShards;
+    
+    private Thread consumer;
+    
+    private String publisherName;
+    
+    private final BooleanSupplier nextAvailable = () -> isPublished(consumed + 1);
+    
+    private final BooleanSupplier isShutdown = () -> shutdown;
+    
+    public RingBufferPublisher() {
+        this(false);
+    }
+    
+    public RingBufferPublisher(boolean sharded) {
+        this(WaitStrategy.of(System.getProperty(WAIT_STRATEGY_PROPERTY)),
+                Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE),
+                Integer.getInteger(SUBSCRIBER_SHARDS_PROPERTY, DEFAULT_SUBSCRIBER_SHARDS), sharded);
+    }
+    
+    public RingBufferPublisher(WaitStrategy waitStrategy, int batchSize, int subscriberShardCount) {
+        this(waitStrategy, batchSize, subscriberShardCount, false);
+    }
+    
+    public RingBufferPublisher(WaitStrategy waitStrategy, int batchSize, int subscriberShardCount, boolean sharded) {
+        this.waitStrategy = waitStrategy;
+        this.batchSize = Math.max(1, batchSize);
+        this.subscriberShardCount = Math.max(0, subscriberShardCount);
+        this.sharded = sharded;
+    }
+    
+    @Override
+    public synchronized void init(Class<? extends Event> type, int bufferSize) {
+        if (initialized) {
+            return;
+        }
+        int capacity = capacityOf(bufferSize == -1 ? NotifyCenter.ringBufferSize : bufferSize);
+        this.entries = new Event[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+        this.mask = capacity - 1;
+        this.publisherName = type.getName();
+        if (subscriberShardCount > 0) {
+            subscriberShards = new ExecutorService[subscriberShardCount];
+            for (int i = 0; i < subscriberShardCount; i++) {
+                subscriberShards[i] = ExecutorFactory
+                        .newSingleExecutorService(new NameThreadFactory(THREAD_NAME + publisherName + ".shard-" + i));
+            }
+        }
+        consumer = new NameThreadFactory(THREAD_NAME + publisherName).newThread(this::run);
+        consumer.start();
+        initialized = true;
+    }
+    
+    private static int capacityOf(int bufferSize) {
+        int size = Math.max(MIN_CAPACITY, bufferSize);
+        int capacity = Integer.highestOneBit(size);
+        return capacity == size ? capacity : capacity << 1;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return Math.max(0L, cursor.get() - consumed);
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfAbsent(subscribeType, type -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfPresent(subscribeType, (type, each) -> {
+            each.remove(subscriber);
+            return each.isEmpty() ? null : each;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        long sequence = claim();
+        if (sequence < 0) {
+            LOGGER.warn("Ring buffer of {} is full, synchronize sending time, event : {}", publisherName, event);
+            receiveEvent(event);
+            return true;
+        }
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        published.set(index, sequence);
+        waitStrategy.signalAllWhenBlocking();
+        return true;
+    }
+    
+    /**
+     * Claim the next sequence.
+     *
+     * @return claimed sequence, -1 if the buffer is full
+     */
+    private long claim() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            if (next - entries.length > consumed) {
+                return -1L;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+    
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == sequence;
+    }
+    
+    private void run() {
+        try {
+            waitSubscriberForInit();
+            while (!shutdown) {
+                waitStrategy.waitFor(nextAvailable, isShutdown);
+                drain();
+            }
+        } catch (InterruptedException e) {
+            // shutdown
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    private void waitSubscriberForInit() {
+        // To ensure that messages are not lost, enable EventHandler when waiting for the first Subscriber to register
+        for (int waitTimes = DEFAULT_WAIT_TIMES; waitTimes > 0; waitTimes--) {
+            if (shutdown || !subscribers.isEmpty()) {
+                break;
+            }
+            ThreadUtils.sleep(1000L);
+        }
+    }
+    
+    /**
+     * Handle all continuously published events up to the batch size, and release their slots at once.
+     */
+    private void drain() {
+        long next = consumed + 1;
+        long last = next + batchSize - 1;
+        long sequence = next;
+        while (sequence <= last && !shutdown && isPublished(sequence)) {
+            int index = (int) sequence & mask;
+            Event event = entries[index];
+            entries[index] = null;
+            try {
+                receiveEvent(event);
+            } catch (Throwable ex) {
+                LOGGER.error("Event listener exception : ", ex);
+            }
+            sequence++;
+        }
+        if (sequence > next) {
+            consumed = sequence - 1;
+        }
+    }
+    
+    void receiveEvent(Event event) {
+        Set<Subscriber> eventSubscribers = subscribers.get(event.getClass());
+        if (sharded) {
+            if (null == eventSubscribers) {
+                LOGGER.debug("[NotifyCenter] No subscribers for event {}", event.getClass().getName());
+                return;
+            }
+            for (Subscriber subscriber : eventSubscribers) {
+                notifySubscriber(subscriber, event);
+            }
+            return;
+        }
+        if (null == eventSubscribers) {
+            LOGGER.warn("[NotifyCenter] the {} is lost, because there is no subscriber.", event);
+            return;
+        }
+        long currentEventSequence = event.sequence();
+        for (Subscriber subscriber : eventSubscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            if (subscriber.ignoreExpireEvent() && lastEventSequence > currentEventSequence) {
+                LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                        event.getClass());
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+        if (currentEventSequence > lastEventSequence) {
+            lastEventSequence = currentEventSequence;
+        }
+    }
+    
+    @Override
+    public void notifySubscriber(final Subscriber subscriber, final Event event) {
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        final Runnable job = () -> subscriber.onEvent(event);
+        Executor executor = subscriber.executor();
+        if (null == executor && null != subscriberShards) {
+            executor = subscriberShards[(System.identityHashCode(subscriber) & Integer.MAX_VALUE) % subscriberShards.length];
+        }
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        waitStrategy.signalAllWhenBlocking();
+        if (null != consumer) {
+            consumer.interrupt();
+        }
+        if (null != subscriberShards) {
+            for (ExecutorService each : subscriberShards) {
+                ThreadUtils.shutdownThreadPool(each);
+            }
+        }
+    }
+    
+    public boolean isInitialized() {
+        return initialized;
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d", publisherName, shutdown,
+                currentEventSize(), null == entries ? 0 : entries.length);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify.ringbuffer;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.EventPublisherFactory;
+
+/**
+ * Event publisher factory creating {@link RingBufferPublisher}, one publisher per event type.
+ *
+ * @author Nacos
+ */
+public class RingBufferPublisherFactory implements EventPublisherFactory {
+    
+    private static final RingBufferPublisherFactory INSTANCE = new RingBufferPublisherFactory();
+    
+    public static RingBufferPublisherFactory getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public EventPublisher apply(Class<? extends Event> eventType, Integer maxQueueSize) {
+        RingBufferPublisher publisher = new RingBufferPublisher();
+        publisher.init(eventType, maxQueueSize);
+        return publisher;
+    }
+}
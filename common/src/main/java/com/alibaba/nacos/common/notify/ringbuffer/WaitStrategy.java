@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify.ringbuffer;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Strategy of the {@link RingBufferPublisher} consumer waiting for events to be published.
+ *
+ * @author Nacos
+ */
+public interface WaitStrategy {
+    
+    String BLOCKING = "blocking";
+    
+    String SLEEPING = "sleeping";
+    
+    String YIELDING = "yielding";
+    
+    String BUSY_SPIN = "busy-spin";
+    
+    /**
+     * Wait until the event is available or the publisher is shutdown.
+     *
+     * @param available whether the next event is available
+     * @param shutdown  whether the publisher is shutdown
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void waitFor(BooleanSupplier available, BooleanSupplier shutdown) throws InterruptedException;
+    
+    /**
+     * Wake up the consumer if it is blocked, called after each publish.
+     */
+    void signalAllWhenBlocking();
+    
+    /**
+     * Get wait strategy by name, {@link #BLOCKING} if the name is unknown.
+     *
+     * @param name name of wait strategy
+     * @return wait strategy
+     */
+    static WaitStrategy of(String name) {
+        if (StringUtils.isBlank(name)) {
+            return new BlockingWaitStrategy();
+        }
+        switch (name.trim().toLowerCase()) {
+            case SLEEPING:
+                return new SleepingWaitStrategy();
+            case YIELDING:
+                return new YieldingWaitStrategy();
+            case BUSY_SPIN:
+                return new BusySpinWaitStrategy();
+            default:
+                return new BlockingWaitStrategy();
+        }
+    }
+}
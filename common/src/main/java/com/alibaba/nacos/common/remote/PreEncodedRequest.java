@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote;
+
+/**
+ * Request which shares one serialized body between many connections.
+ *
+ * <p>The request id differs for every connection, so the shared body is encoded without request id and headers, and
+ * the request id is spliced in when the request is converted to payload.
+ *
+ * @author Nacos
+ */
+public interface PreEncodedRequest {
+    
+    /**
+     * Payload type of the encoded body, usually the simple class name of the original request type.
+     *
+     * @return payload type registered in {@link PayloadRegistry}
+     */
+    String encodedType();
+    
+    /**
+     * Serialized body of the request without request id and headers, must be a json object.
+     *
+     * @return encoded bytes, must not be modified by callers
+     */
+    byte[] encodedBodyWithoutRequestId();
+    
+    /**
+     * Body of the request encoded by the binary codec of {@link #encodedType()}, without request id. Only peers
+     * supporting binary payload need it, so implementations should encode it lazily and cache it.
+     *
+     * @return encoded bytes, must not be modified by callers
+     */
+    byte[] encodedBinaryBodyWithoutRequestId();
+}
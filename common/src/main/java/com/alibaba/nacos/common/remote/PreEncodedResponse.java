@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote;
+
+/**
+ * Response which already holds its serialized body, so that it can be sent many times without being encoded again.
+ *
+ * <p>Implementations must not be modified after the body is encoded, otherwise the body sent to the client will not
+ * match the response object.
+ *
+ * @author Nacos
+ */
+public interface PreEncodedResponse {
+    
+    /**
+     * Payload type of the encoded body, usually the simple class name of the original response type.
+     *
+     * @return payload type registered in {@link PayloadRegistry}
+     */
+    String encodedType();
+    
+    /**
+     * Serialized body of the response.
+     *
+     * @return encoded bytes, must not be modified by callers
+     */
+    byte[] encodedBody();
+}
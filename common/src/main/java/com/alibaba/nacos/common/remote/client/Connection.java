@@ -58,6 +58,16 @@ public abstract class Connection implements Requester {
         return  abilityTable.get(abilityKey.getName()) ? AbilityStatus.SUPPORTED : AbilityStatus.NOT_SUPPORTED;
     }
 
+    /**
+     * Whether the server of this connection can decode binary payload, see
+     * {@link com.alibaba.nacos.common.remote.codec.BinaryPayloadCodec}.
+     *
+     * @return true if binary payload is supported by the server
+     */
+    public boolean isBinaryPayloadSupported() {
+        return getConnectionAbility(AbilityKey.SERVER_BINARY_PAYLOAD) == AbilityStatus.SUPPORTED;
+    }
+    
     public boolean isAbilitiesSet() {
         return abilityTable != null;
     }
@@ -47,13 +47,19 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -102,6 +108,10 @@ public abstract class RpcClient implements Closeable {
     
     protected RpcClientConfig rpcClientConfig;
     
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    
+    private final Queue<PendingRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+    
     protected final ResourceLoader resourceLoader = new DefaultResourceLoader();
     
     static {
@@ -430,6 +440,11 @@ public abstract class RpcClient implements Closeable {
             clientEventExecutor.shutdownNow();
         }
         closeConnection(currentConnection);
+        PendingRequest pendingRequest;
+        while ((pendingRequest = pendingRequests.poll()) != null) {
+            pendingRequest.future.completeExceptionally(
+                    new NacosException(NacosException.CLIENT_DISCONNECT, "Client is shutdown."));
+        }
     }
     
     private boolean healthCheck() {
@@ -652,16 +667,8 @@ public abstract class RpcClient implements Closeable {
                 }
                 if (response instanceof ErrorResponse) {
                     if (response.getErrorCode() == NacosException.UN_REGISTER) {
-                        synchronized (this) {
-                            waitReconnect = true;
-                            if (rpcClientStatus.compareAndSet(RpcClientStatus.RUNNING, RpcClientStatus.UNHEALTHY)) {
-                                LoggerUtils.printIfErrorEnabled(LOGGER,
-                                        "Connection is unregistered, switch server, connectionId = {}, request = {}",
-                                        currentConnection.getConnectionId(), request.getClass().getSimpleName());
-                                switchServerAsync();
-                            }
-                        }
-                        
+                        waitReconnect = true;
+                        switchServerOnUnregistered(request);
                     }
                     throw new NacosException(response.getErrorCode(), response.getMessage());
                 }
@@ -751,6 +758,159 @@ public abstract class RpcClient implements Closeable {
         }
     }
     
+    /**
+     * send pipelined request, see {@link #requestAsync(Request, long)}.
+     *
+     * @param request request.
+     * @return future of response from server.
+     */
+    public CompletableFuture<Response> requestAsync(Request request) {
+        return requestAsync(request, rpcClientConfig.timeOutMills());
+    }
+    
+    /**
+     * send pipelined request without blocking the caller.
+     *
+     * <p>Requests are written to the current connection in submit order and share it with other requests, at most
+     * {@link RpcClientConfig#maxInFlightRequests()} of them wait for response at the same time and the rest queue in
+     * client until an earlier one completes. The time spent in queue counts towards the timeout. Unlike
+     * {@link #request(Request, long)} a failed request is not retried, the future completes exceptionally with a
+     * {@link NacosException} or a {@link TimeoutException} and the caller decides whether to resend.
+     *
+     * @param request      request.
+     * @param timeoutMills timeout mills, not positive means the default timeout of client.
+     * @return future of response from server.
+     */
+    public CompletableFuture<Response> requestAsync(Request request, long timeoutMills) {
+        long timeout = timeoutMills > 0 ? timeoutMills : rpcClientConfig.timeOutMills();
+        PendingRequest pendingRequest = new PendingRequest(request, System.currentTimeMillis() + timeout);
+        if (isShutdown()) {
+            pendingRequest.future.completeExceptionally(
+                    new NacosException(NacosException.CLIENT_DISCONNECT, "Client is shutdown."));
+            return pendingRequest.future;
+        }
+        pendingRequests.offer(pendingRequest);
+        drainPendingRequests();
+        return pendingRequest.future;
+    }
+    
+    /**
+     * get count of requests sent by {@link #requestAsync(Request, long)} and waiting for response.
+     *
+     * @return in flight request count.
+     */
+    public int getInFlightRequestCount() {
+        return inFlightRequests.get();
+    }
+    
+    /**
+     * get count of requests sent by {@link #requestAsync(Request, long)} and waiting for the in flight window.
+     *
+     * @return pending request count.
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+    
+    private void drainPendingRequests() {
+        while (!pendingRequests.isEmpty() && tryAcquireInFlight()) {
+            PendingRequest pendingRequest = pendingRequests.poll();
+            if (pendingRequest == null || !sendPendingRequest(pendingRequest)) {
+                inFlightRequests.decrementAndGet();
+            }
+        }
+    }
+    
+    private boolean tryAcquireInFlight() {
+        int maxInFlightRequests = rpcClientConfig.maxInFlightRequests();
+        while (true) {
+            int current = inFlightRequests.get();
+            if (maxInFlightRequests > 0 && current >= maxInFlightRequests) {
+                return false;
+            }
+            if (inFlightRequests.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    private void releaseInFlight() {
+        inFlightRequests.decrementAndGet();
+        drainPendingRequests();
+    }
+    
+    /**
+     * send request of the pending request to current connection.
+     *
+     * @return true if the request is written and the in flight permit will be released by the callback.
+     */
+    private boolean sendPendingRequest(final PendingRequest pendingRequest) {
+        final CompletableFuture<Response> future = pendingRequest.future;
+        if (future.isDone()) {
+            // cancelled by caller when waiting in queue.
+            return false;
+        }
+        final long remainTimeout = pendingRequest.deadline - System.currentTimeMillis();
+        if (remainTimeout <= 0) {
+            future.completeExceptionally(new TimeoutException(
+                    "Timeout when waiting for in flight window, request = " + pendingRequest.request.getClass()
+                            .getSimpleName()));
+            return false;
+        }
+        final Connection connection = this.currentConnection;
+        if (connection == null || !isRunning()) {
+            future.completeExceptionally(new NacosException(NacosException.CLIENT_DISCONNECT,
+                    "Client not connected, current status:" + rpcClientStatus.get()));
+            return false;
+        }
+        try {
+            connection.asyncRequest(pendingRequest.request, new RequestCallBack<Response>() {
+                
+                @Override
+                public Executor getExecutor() {
+                    return null;
+                }
+                
+                @Override
+                public long getTimeout() {
+                    return remainTimeout;
+                }
+                
+                @Override
+                public void onResponse(Response response) {
+                    lastActiveTimeStamp = System.currentTimeMillis();
+                    releaseInFlight();
+                    future.complete(response);
+                }
+                
+                @Override
+                public void onException(Throwable e) {
+                    if (e instanceof NacosException && ((NacosException) e).getErrCode() == NacosException.UN_REGISTER) {
+                        switchServerOnUnregistered(pendingRequest.request);
+                    }
+                    releaseInFlight();
+                    future.completeExceptionally(e);
+                }
+            });
+            return true;
+        } catch (Throwable e) {
+            LoggerUtils.printIfErrorEnabled(LOGGER, "[{}] Send pipelined request fail, request = {}, errorMessage = {}",
+                    rpcClientConfig.name(), pendingRequest.request, e.getMessage());
+            future.completeExceptionally(
+                    e instanceof NacosException ? e : new NacosException(SERVER_ERROR, e));
+            return false;
+        }
+    }
+    
+    private synchronized void switchServerOnUnregistered(Request request) {
+        if (rpcClientStatus.compareAndSet(RpcClientStatus.RUNNING, RpcClientStatus.UNHEALTHY)) {
+            LoggerUtils.printIfErrorEnabled(LOGGER,
+                    "Connection is unregistered, switch server, connectionId = {}, request = {}",
+                    currentConnection.getConnectionId(), request.getClass().getSimpleName());
+            switchServerAsync();
+        }
+    }
+    
     /**
      * send async request.
      *
@@ -1022,6 +1182,20 @@ public abstract class RpcClient implements Closeable {
         ServerInfo serverInfo;
     }
     
+    private static class PendingRequest {
+        
+        private final Request request;
+        
+        private final long deadline;
+        
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        
+        PendingRequest(Request request, long deadline) {
+            this.request = request;
+            this.deadline = deadline;
+        }
+    }
+    
     public String getTenant() {
         return tenant;
     }
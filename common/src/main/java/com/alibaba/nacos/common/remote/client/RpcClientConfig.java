@@ -74,4 +74,14 @@ public interface RpcClientConfig {
      */
     Map<String, String> labels();
     
+    /**
+     * get max number of in flight requests sent by {@link RpcClient#requestAsync}, requests beyond the window wait in
+     * client until an earlier one completes, zero or negative means no limit.
+     *
+     * @return maxInFlightRequests.
+     */
+    default int maxInFlightRequests() {
+        return 0;
+    }
+    
 }
@@ -64,6 +64,8 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
     
     private final long capabilityNegotiationTimeout;
     
+    private final int maxInFlightRequests;
+    
     private final Map<String, String> labels;
     
     private RpcClientTlsConfig tlsConfig = new RpcClientTlsConfig();
@@ -89,6 +91,7 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         this.healthCheckTimeOut = builder.healthCheckTimeOut;
         this.channelKeepAliveTimeout = builder.channelKeepAliveTimeout;
         this.capabilityNegotiationTimeout = builder.capabilityNegotiationTimeout;
+        this.maxInFlightRequests = builder.maxInFlightRequests;
         this.labels = builder.labels;
         this.labels.put("tls.enable", "false");
         if (Objects.nonNull(builder.tlsConfig)) {
@@ -187,6 +190,11 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         return healthCheckTimeOut;
     }
     
+    @Override
+    public int maxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+    
     @Override
     public Map<String, String> labels() {
         return this.labels;
@@ -228,6 +236,8 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         
         private long capabilityNegotiationTimeout = 5000L;
         
+        private int maxInFlightRequests = 1024;
+        
         private final Map<String, String> labels = new HashMap<>();
         
         private RpcClientTlsConfig tlsConfig = new RpcClientTlsConfig();
@@ -308,6 +318,10 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
                 this.channelKeepAliveTimeout = Integer.parseInt(
                         properties.getProperty(GrpcConstants.GRPC_CHANNEL_KEEP_ALIVE_TIMEOUT));
             }
+            if (properties.containsKey(GrpcConstants.GRPC_MAX_IN_FLIGHT_REQUESTS)) {
+                this.maxInFlightRequests = Integer.parseInt(
+                        properties.getProperty(GrpcConstants.GRPC_MAX_IN_FLIGHT_REQUESTS));
+            }
             this.tlsConfig = tlsConfig;
             return this;
         }
@@ -436,6 +450,14 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
             return this;
         }
         
+        /**
+         * set maxInFlightRequests, zero or negative means no limit.
+         */
+        public Builder setMaxInFlightRequests(int maxInFlightRequests) {
+            this.maxInFlightRequests = maxInFlightRequests;
+            return this;
+        }
+        
         /**
          * set labels.
          */
@@ -81,6 +81,9 @@ public class GrpcConstants {
 
     @GRpcConfigLabel
     public static final String GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT = NACOS_CLIENT_GRPC + ".channel.capability.negotiation.timeout";
+    
+    @GRpcConfigLabel
+    public static final String GRPC_MAX_IN_FLIGHT_REQUESTS = NACOS_CLIENT_GRPC + ".max.in.flight.requests";
 
     private static final Set<String> CONFIG_NAMES = new HashSet<>();
     
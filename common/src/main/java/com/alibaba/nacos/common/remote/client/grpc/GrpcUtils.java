@@ -24,6 +24,9 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.PreEncodedRequest;
+import com.alibaba.nacos.common.remote.PreEncodedResponse;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
@@ -32,6 +35,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,6 +47,10 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    private static final String REQUEST_ID_FIELD_PREFIX = "\"requestId\":";
+    
+    private static final int EMPTY_JSON_OBJECT_LENGTH = 2;
+    
     /**
      * convert request to payload.
      *
@@ -55,7 +63,7 @@ public class GrpcUtils {
         Payload.Builder payloadBuilder = Payload.newBuilder();
         Metadata.Builder metaBuilder = Metadata.newBuilder();
         if (meta != null) {
-            metaBuilder.putAllHeaders(request.getHeaders()).setType(request.getClass().getSimpleName());
+            metaBuilder.putAllHeaders(request.getHeaders()).setType(getRequestType(request));
         }
         metaBuilder.setClientIp(NetUtils.localIp());
         payloadBuilder.setMetadata(metaBuilder.build());
@@ -63,7 +71,7 @@ public class GrpcUtils {
         // request body .
         byte[] jsonBytes = convertRequestToByte(request);
         return payloadBuilder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes))).build();
-        
+    
     }
     
     /**
@@ -73,17 +81,36 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, false);
+    }
+    
+    /**
+     * convert request to payload, encode the body by binary codec if the peer supports it and the request type has one.
+     *
+     * @param request       request.
+     * @param binaryPayload whether the peer supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binaryPayload) {
+        String type = getRequestType(request);
+        Metadata.Builder metaBuilder = Metadata.newBuilder().setType(type).setClientIp(NetUtils.localIp())
+                .putAllHeaders(request.getHeaders());
         
-        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
-                .setClientIp(NetUtils.localIp()).putAllHeaders(request.getHeaders()).build();
-        
-        byte[] jsonBytes = convertRequestToByte(request);
+        byte[] bodyBytes;
+        if (binaryPayload && BinaryPayloadCodecRegistry.isSupported(type)) {
+            bodyBytes = request instanceof PreEncodedRequest ? BinaryPayloadCodecRegistry.prependRequestId(
+                    ((PreEncodedRequest) request).encodedBinaryBodyWithoutRequestId(), request.getRequestId())
+                    : BinaryPayloadCodecRegistry.encode(type, request);
+            metaBuilder.putHeaders(BinaryPayloadCodecRegistry.CODEC_HEADER, BinaryPayloadCodecRegistry.PROTOBUF_CODEC);
+        } else {
+            bodyBytes = convertRequestToByte(request);
+        }
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
-        
+        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bodyBytes)))
+                .setMetadata(metaBuilder.build()).build();
+    
     }
     
     /**
@@ -93,6 +120,36 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
+        return convert(response, false);
+    }
+    
+    /**
+     * convert response to payload, encode the body by binary codec if the peer supports it and the response type has
+     * one.
+     *
+     * @param response      response.
+     * @param binaryPayload whether the peer supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Response response, boolean binaryPayload) {
+        if (binaryPayload) {
+            String type = response instanceof PreEncodedResponse ? ((PreEncodedResponse) response).encodedType()
+                    : response.getClass().getSimpleName();
+            if (BinaryPayloadCodecRegistry.isSupported(type)) {
+                byte[] bodyBytes = BinaryPayloadCodecRegistry.encode(type, response);
+                Metadata.Builder metaBuilder = Metadata.newBuilder().setType(type)
+                        .putHeaders(BinaryPayloadCodecRegistry.CODEC_HEADER, BinaryPayloadCodecRegistry.PROTOBUF_CODEC);
+                return Payload.newBuilder()
+                        .setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bodyBytes)))
+                        .setMetadata(metaBuilder.build()).build();
+            }
+        }
+        if (response instanceof PreEncodedResponse) {
+            PreEncodedResponse preEncoded = (PreEncodedResponse) response;
+            return Payload.newBuilder()
+                    .setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(preEncoded.encodedBody())))
+                    .setMetadata(Metadata.newBuilder().setType(preEncoded.encodedType()).build()).build();
+        }
         byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
         
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
@@ -100,7 +157,17 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    private static String getRequestType(Request request) {
+        if (request instanceof PreEncodedRequest) {
+            return ((PreEncodedRequest) request).encodedType();
+        }
+        return request.getClass().getSimpleName();
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
+        if (request instanceof PreEncodedRequest) {
+            return spliceRequestId(((PreEncodedRequest) request).encodedBodyWithoutRequestId(), request.getRequestId());
+        }
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
         byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
@@ -108,6 +175,31 @@ public class GrpcUtils {
         return jsonBytes;
     }
     
+    /**
+     * Splice the request id into a json object body which is encoded without request id.
+     *
+     * @param body      json object body without request id
+     * @param requestId request id
+     * @return json object body with request id
+     */
+    static byte[] spliceRequestId(byte[] body, String requestId) {
+        if (requestId == null) {
+            return body;
+        }
+        byte[] requestIdField = (REQUEST_ID_FIELD_PREFIX + JacksonUtils.toJson(requestId)).getBytes(
+                StandardCharsets.UTF_8);
+        boolean emptyBody = body.length <= EMPTY_JSON_OBJECT_LENGTH;
+        byte[] result = new byte[body.length + requestIdField.length + (emptyBody ? 0 : 1)];
+        result[0] = '{';
+        System.arraycopy(requestIdField, 0, result, 1, requestIdField.length);
+        int offset = 1 + requestIdField.length;
+        if (!emptyBody) {
+            result[offset++] = ',';
+        }
+        System.arraycopy(body, 1, result, offset, body.length - 1);
+        return result;
+    }
+    
     /**
      * parse payload to request/response model.
      *
@@ -118,10 +210,18 @@ public class GrpcUtils {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Map<String, String> headers = payload.getMetadata().getHeadersMap();
+            Object obj;
+            if (BinaryPayloadCodecRegistry.PROTOBUF_CODEC.equals(headers.get(BinaryPayloadCodecRegistry.CODEC_HEADER))) {
+                obj = BinaryPayloadCodecRegistry.decode(payload.getMetadata().getType(), byteString);
+                headers = new HashMap<>(headers);
+                headers.remove(BinaryPayloadCodecRegistry.CODEC_HEADER);
+            } else {
+                ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
+                obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            }
             if (obj instanceof Request) {
-                ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
+                ((Request) obj).putAllHeader(headers);
             }
             return obj;
         } else {
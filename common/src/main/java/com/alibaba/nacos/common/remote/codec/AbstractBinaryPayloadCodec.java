@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Base binary payload codec with helpers to write the protobuf wire format by hand.
+ *
+ * <p>Field number 1 is reserved for the request id in both requests and responses, so request id can be handled in
+ * the same way for every payload type.
+ *
+ * @param <T> payload type
+ * @author Nacos
+ */
+public abstract class AbstractBinaryPayloadCodec<T> implements BinaryPayloadCodec<T> {
+    
+    protected static final int REQUEST_ID_FIELD = 1;
+    
+    private static final int MAP_KEY_FIELD = 1;
+    
+    private static final int MAP_VALUE_FIELD = 2;
+    
+    protected static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+    
+    protected static int computeStringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+    
+    /**
+     * Write the tag and length of an embedded message, the message fields should be written right after.
+     *
+     * @param output output stream
+     * @param field  field number
+     * @param size   serialized size of the embedded message
+     * @throws IOException io exception
+     */
+    protected static void writeMessageHeader(CodedOutputStream output, int field, int size) throws IOException {
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size);
+    }
+    
+    protected static int computeMessageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+    
+    /**
+     * Start to read an embedded message, the tags read after this method belong to the embedded message until
+     * {@link #endMessage(CodedInputStream, int)} is called.
+     *
+     * @param input input stream
+     * @return old limit, which should be passed to {@link #endMessage(CodedInputStream, int)}
+     * @throws IOException io exception
+     */
+    protected static int beginMessage(CodedInputStream input) throws IOException {
+        int length = input.readRawVarint32();
+        return input.pushLimit(length);
+    }
+    
+    protected static void endMessage(CodedInputStream input, int oldLimit) throws IOException {
+        input.checkLastTagWas(0);
+        input.popLimit(oldLimit);
+    }
+    
+    protected static void writeStringMap(CodedOutputStream output, int field, Map<String, String> map)
+            throws IOException {
+        if (map == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeMessageHeader(output, field, computeEntrySize(entry));
+            writeString(output, MAP_KEY_FIELD, entry.getKey());
+            writeString(output, MAP_VALUE_FIELD, entry.getValue());
+        }
+    }
+    
+    protected static int computeStringMapSize(int field, Map<String, String> map) {
+        if (map == null) {
+            return 0;
+        }
+        int size = 0;
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            size += computeMessageSize(field, computeEntrySize(entry));
+        }
+        return size;
+    }
+    
+    /**
+     * Read one entry of a string map written by {@link #writeStringMap(CodedOutputStream, int, Map)} into the map.
+     *
+     * @param input input stream
+     * @param map   map to put the entry into
+     * @throws IOException io exception
+     */
+    protected static void readStringMapEntry(CodedInputStream input, Map<String, String> map) throws IOException {
+        int oldLimit = beginMessage(input);
+        String key = null;
+        String value = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case MAP_KEY_FIELD:
+                    key = input.readString();
+                    break;
+                case MAP_VALUE_FIELD:
+                    value = input.readString();
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        endMessage(input, oldLimit);
+        map.put(key, value);
+    }
+    
+    private static int computeEntrySize(Map.Entry<String, String> entry) {
+        return computeStringSize(MAP_KEY_FIELD, entry.getKey()) + computeStringSize(MAP_VALUE_FIELD, entry.getValue());
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base binary codec of naming payloads, which knows how to encode {@link Instance} and {@link ServiceInfo} as
+ * embedded messages.
+ *
+ * @param <T> payload type
+ * @author Nacos
+ */
+public abstract class AbstractNamingPayloadCodec<T> extends AbstractBinaryPayloadCodec<T> {
+    
+    private static final int INSTANCE_ID_FIELD = 1;
+    
+    private static final int INSTANCE_IP_FIELD = 2;
+    
+    private static final int INSTANCE_PORT_FIELD = 3;
+    
+    private static final int INSTANCE_WEIGHT_FIELD = 4;
+    
+    private static final int INSTANCE_HEALTHY_FIELD = 5;
+    
+    private static final int INSTANCE_ENABLED_FIELD = 6;
+    
+    private static final int INSTANCE_EPHEMERAL_FIELD = 7;
+    
+    private static final int INSTANCE_CLUSTER_NAME_FIELD = 8;
+    
+    private static final int INSTANCE_SERVICE_NAME_FIELD = 9;
+    
+    private static final int INSTANCE_METADATA_FIELD = 10;
+    
+    private static final int SERVICE_NAME_FIELD = 1;
+    
+    private static final int SERVICE_GROUP_NAME_FIELD = 2;
+    
+    private static final int SERVICE_CLUSTERS_FIELD = 3;
+    
+    private static final int SERVICE_CACHE_MILLIS_FIELD = 4;
+    
+    private static final int SERVICE_HOSTS_FIELD = 5;
+    
+    private static final int SERVICE_LAST_REF_TIME_FIELD = 6;
+    
+    private static final int SERVICE_CHECKSUM_FIELD = 7;
+    
+    private static final int SERVICE_ALL_IPS_FIELD = 8;
+    
+    private static final int SERVICE_REACH_PROTECTION_THRESHOLD_FIELD = 9;
+    
+    protected static void writeInstance(CodedOutputStream output, int field, Instance instance) throws IOException {
+        if (instance == null) {
+            return;
+        }
+        writeMessageHeader(output, field, computeInstanceSize(instance));
+        writeString(output, INSTANCE_ID_FIELD, instance.getInstanceId());
+        writeString(output, INSTANCE_IP_FIELD, instance.getIp());
+        output.writeInt32(INSTANCE_PORT_FIELD, instance.getPort());
+        output.writeDouble(INSTANCE_WEIGHT_FIELD, instance.getWeight());
+        output.writeBool(INSTANCE_HEALTHY_FIELD, instance.isHealthy());
+        output.writeBool(INSTANCE_ENABLED_FIELD, instance.isEnabled());
+        output.writeBool(INSTANCE_EPHEMERAL_FIELD, instance.isEphemeral());
+        writeString(output, INSTANCE_CLUSTER_NAME_FIELD, instance.getClusterName());
+        writeString(output, INSTANCE_SERVICE_NAME_FIELD, instance.getServiceName());
+        writeStringMap(output, INSTANCE_METADATA_FIELD, instance.getMetadata());
+    }
+    
+    private static int computeInstanceSize(Instance instance) {
+        return computeStringSize(INSTANCE_ID_FIELD, instance.getInstanceId())
+                + computeStringSize(INSTANCE_IP_FIELD, instance.getIp())
+                + CodedOutputStream.computeInt32Size(INSTANCE_PORT_FIELD, instance.getPort())
+                + CodedOutputStream.computeDoubleSize(INSTANCE_WEIGHT_FIELD, instance.getWeight())
+                + CodedOutputStream.computeBoolSize(INSTANCE_HEALTHY_FIELD, instance.isHealthy())
+                + CodedOutputStream.computeBoolSize(INSTANCE_ENABLED_FIELD, instance.isEnabled())
+                + CodedOutputStream.computeBoolSize(INSTANCE_EPHEMERAL_FIELD, instance.isEphemeral())
+                + computeStringSize(INSTANCE_CLUSTER_NAME_FIELD, instance.getClusterName())
+                + computeStringSize(INSTANCE_SERVICE_NAME_FIELD, instance.getServiceName())
+                + computeStringMapSize(INSTANCE_METADATA_FIELD, instance.getMetadata());
+    }
+    
+    protected static Instance readInstance(CodedInputStream input) throws IOException {
+        int oldLimit = beginMessage(input);
+        Instance instance = new Instance();
+        Map<String, String> metadata = new HashMap<>(4);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case INSTANCE_ID_FIELD:
+                    instance.setInstanceId(input.readString());
+                    break;
+                case INSTANCE_IP_FIELD:
+                    instance.setIp(input.readString());
+                    break;
+                case INSTANCE_PORT_FIELD:
+                    instance.setPort(input.readInt32());
+                    break;
+                case INSTANCE_WEIGHT_FIELD:
+                    instance.setWeight(input.readDouble());
+                    break;
+                case INSTANCE_HEALTHY_FIELD:
+                    instance.setHealthy(input.readBool());
+                    break;
+                case INSTANCE_ENABLED_FIELD:
+                    instance.setEnabled(input.readBool());
+                    break;
+                case INSTANCE_EPHEMERAL_FIELD:
+                    instance.setEphemeral(input.readBool());
+                    break;
+                case INSTANCE_CLUSTER_NAME_FIELD:
+                    instance.setClusterName(input.readString());
+                    break;
+                case INSTANCE_SERVICE_NAME_FIELD:
+                    instance.setServiceName(input.readString());
+                    break;
+                case INSTANCE_METADATA_FIELD:
+                    readStringMapEntry(input, metadata);
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        endMessage(input, oldLimit);
+        instance.setMetadata(metadata);
+        return instance;
+    }
+    
+    protected static void writeServiceInfo(CodedOutputStream output, int field, ServiceInfo serviceInfo)
+            throws IOException {
+        if (serviceInfo == null) {
+            return;
+        }
+        writeMessageHeader(output, field, computeServiceInfoSize(serviceInfo));
+        writeString(output, SERVICE_NAME_FIELD, serviceInfo.getName());
+        writeString(output, SERVICE_GROUP_NAME_FIELD, serviceInfo.getGroupName());
+        writeString(output, SERVICE_CLUSTERS_FIELD, serviceInfo.getClusters());
+        output.writeInt64(SERVICE_CACHE_MILLIS_FIELD, serviceInfo.getCacheMillis());
+        if (serviceInfo.getHosts() != null) {
+            for (Instance each : serviceInfo.getHosts()) {
+                writeInstance(output, SERVICE_HOSTS_FIELD, each);
+            }
+        }
+        output.writeInt64(SERVICE_LAST_REF_TIME_FIELD, serviceInfo.getLastRefTime());
+        writeString(output, SERVICE_CHECKSUM_FIELD, serviceInfo.getChecksum());
+        output.writeBool(SERVICE_ALL_IPS_FIELD, serviceInfo.isAllIps());
+        output.writeBool(SERVICE_REACH_PROTECTION_THRESHOLD_FIELD, serviceInfo.isReachProtectionThreshold());
+    }
+    
+    private static int computeServiceInfoSize(ServiceInfo serviceInfo) {
+        int size = computeStringSize(SERVICE_NAME_FIELD, serviceInfo.getName())
+                + computeStringSize(SERVICE_GROUP_NAME_FIELD, serviceInfo.getGroupName())
+                + computeStringSize(SERVICE_CLUSTERS_FIELD, serviceInfo.getClusters())
+                + CodedOutputStream.computeInt64Size(SERVICE_CACHE_MILLIS_FIELD, serviceInfo.getCacheMillis())
+                + CodedOutputStream.computeInt64Size(SERVICE_LAST_REF_TIME_FIELD, serviceInfo.getLastRefTime())
+                + computeStringSize(SERVICE_CHECKSUM_FIELD, serviceInfo.getChecksum())
+                + CodedOutputStream.computeBoolSize(SERVICE_ALL_IPS_FIELD, serviceInfo.isAllIps())
+                + CodedOutputStream.computeBoolSize(SERVICE_REACH_PROTECTION_THRESHOLD_FIELD,
+                serviceInfo.isReachProtectionThreshold());
+        if (serviceInfo.getHosts() != null) {
+            for (Instance each : serviceInfo.getHosts()) {
+                if (each != null) {
+                    size += computeMessageSize(SERVICE_HOSTS_FIELD, computeInstanceSize(each));
+                }
+            }
+        }
+        return size;
+    }
+    
+    protected static ServiceInfo readServiceInfo(CodedInputStream input) throws IOException {
+        int oldLimit = beginMessage(input);
+        ServiceInfo serviceInfo = new ServiceInfo();
+        List<Instance> hosts = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case SERVICE_NAME_FIELD:
+                    serviceInfo.setName(input.readString());
+                    break;
+                case SERVICE_GROUP_NAME_FIELD:
+                    serviceInfo.setGroupName(input.readString());
+                    break;
+                case SERVICE_CLUSTERS_FIELD:
+                    serviceInfo.setClusters(input.readString());
+                    break;
+                case SERVICE_CACHE_MILLIS_FIELD:
+                    serviceInfo.setCacheMillis(input.readInt64());
+                    break;
+                case SERVICE_HOSTS_FIELD:
+                    hosts.add(readInstance(input));
+                    break;
+                case SERVICE_LAST_REF_TIME_FIELD:
+                    serviceInfo.setLastRefTime(input.readInt64());
+                    break;
+                case SERVICE_CHECKSUM_FIELD:
+                    serviceInfo.setChecksum(input.readString());
+                    break;
+                case SERVICE_ALL_IPS_FIELD:
+                    serviceInfo.setAllIps(input.readBool());
+                    break;
+                case SERVICE_REACH_PROTECTION_THRESHOLD_FIELD:
+                    serviceInfo.setReachProtectionThreshold(input.readBool());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        endMessage(input, oldLimit);
+        serviceInfo.setHosts(hosts);
+        return serviceInfo;
+    }
+}
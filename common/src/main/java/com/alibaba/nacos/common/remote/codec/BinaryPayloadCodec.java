@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of one payload type, writing the payload in protobuf wire format instead of json.
+ *
+ * <p>Codecs are loaded by SPI and selected by the simple class name of {@link #payloadClass()}, which is the same
+ * type name used by {@link com.alibaba.nacos.common.remote.PayloadRegistry}. Decoders must skip unknown fields, so new
+ * fields can be appended without breaking the other side.
+ *
+ * @param <T> payload type
+ * @author Nacos
+ */
+public interface BinaryPayloadCodec<T> {
+    
+    /**
+     * Payload class this codec encodes and decodes.
+     *
+     * @return payload class
+     */
+    Class<T> payloadClass();
+    
+    /**
+     * Encode the payload into the output.
+     *
+     * @param payload payload to encode
+     * @param output  output stream
+     * @throws IOException io exception
+     */
+    void encode(T payload, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Decode a new payload from the input.
+     *
+     * @param input input stream
+     * @return decoded payload
+     * @throws IOException io exception
+     */
+    T decode(CodedInputStream input) throws IOException;
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of {@link BinaryPayloadCodec}s, keyed by payload type which is the simple class name of the payload.
+ *
+ * @author Nacos
+ */
+public class BinaryPayloadCodecRegistry {
+    
+    /**
+     * Metadata header marking that the payload body is encoded by binary codec rather than json.
+     */
+    public static final String CODEC_HEADER = "payloadCodec";
+    
+    /**
+     * Value of {@link #CODEC_HEADER} for protobuf wire format body.
+     */
+    public static final String PROTOBUF_CODEC = "protobuf";
+    
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    
+    private static final Map<String, BinaryPayloadCodec<?>> CODECS = new HashMap<>();
+    
+    static {
+        for (BinaryPayloadCodec<?> codec : NacosServiceLoader.load(BinaryPayloadCodec.class)) {
+            CODECS.put(codec.payloadClass().getSimpleName(), codec);
+        }
+    }
+    
+    /**
+     * Whether the payload type can be encoded by binary codec.
+     *
+     * @param type payload type
+     * @return true if there is a binary codec for the type
+     */
+    public static boolean isSupported(String type) {
+        return CODECS.containsKey(type);
+    }
+    
+    /**
+     * Encode the payload by the binary codec of the type.
+     *
+     * @param type    payload type, the payload must be instance of the registered class of the type
+     * @param payload payload
+     * @return encoded bytes
+     */
+    @SuppressWarnings("unchecked")
+    public static byte[] encode(String type, Object payload) {
+        BinaryPayloadCodec<Object> codec = (BinaryPayloadCodec<Object>) getCodec(type);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+            codec.encode(payload, output);
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Encode binary payload failed, type: " + type, e);
+        }
+    }
+    
+    /**
+     * Prepend the request id field to a body which is encoded by binary codec without request id. Fields of protobuf
+     * wire format can be in any order, so the result is decoded the same as the body encoded with request id.
+     *
+     * @param body      encoded body without request id
+     * @param requestId request id
+     * @return encoded body with request id
+     */
+    public static byte[] prependRequestId(byte[] body, String requestId) {
+        if (requestId == null) {
+            return body;
+        }
+        int requestIdSize = CodedOutputStream.computeStringSize(AbstractBinaryPayloadCodec.REQUEST_ID_FIELD, requestId);
+        byte[] result = new byte[requestIdSize + body.length];
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(result);
+            output.writeString(AbstractBinaryPayloadCodec.REQUEST_ID_FIELD, requestId);
+            output.flush();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Encode binary payload request id failed", e);
+        }
+        System.arraycopy(body, 0, result, requestIdSize, body.length);
+        return result;
+    }
+    
+    /**
+     * Decode the body by the binary codec of the type.
+     *
+     * @param type payload type
+     * @param body encoded body
+     * @return decoded payload
+     */
+    public static Object decode(String type, ByteString body) {
+        BinaryPayloadCodec<?> codec = getCodec(type);
+        try {
+            return codec.decode(CodedInputStream.newInstance(body.asReadOnlyByteBuffer()));
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Decode binary payload failed, type: " + type, e);
+        }
+    }
+    
+    private static BinaryPayloadCodec<?> getCodec(String type) {
+        BinaryPayloadCodec<?> codec = CODECS.get(type);
+        if (codec == null) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown binary payload type:" + type);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest.ConfigListenContext;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec of {@link ConfigBatchListenRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchListenRequestCodec extends AbstractBinaryPayloadCodec<ConfigBatchListenRequest> {
+    
+    private static final int DATA_ID_FIELD = 2;
+    
+    private static final int GROUP_FIELD = 3;
+    
+    private static final int TENANT_FIELD = 4;
+    
+    private static final int LISTEN_FIELD = 5;
+    
+    private static final int CONTEXT_FIELD = 6;
+    
+    private static final int CONTEXT_GROUP_FIELD = 1;
+    
+    private static final int CONTEXT_MD5_FIELD = 2;
+    
+    private static final int CONTEXT_DATA_ID_FIELD = 3;
+    
+    private static final int CONTEXT_TENANT_FIELD = 4;
+    
+    @Override
+    public Class<ConfigBatchListenRequest> payloadClass() {
+        return ConfigBatchListenRequest.class;
+    }
+    
+    @Override
+    public void encode(ConfigBatchListenRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, REQUEST_ID_FIELD, payload.getRequestId());
+        writeString(output, DATA_ID_FIELD, payload.getDataId());
+        writeString(output, GROUP_FIELD, payload.getGroup());
+        writeString(output, TENANT_FIELD, payload.getTenant());
+        output.writeBool(LISTEN_FIELD, payload.isListen());
+        if (payload.getConfigListenContexts() == null) {
+            return;
+        }
+        for (ConfigListenContext context : payload.getConfigListenContexts()) {
+            int size = computeStringSize(CONTEXT_GROUP_FIELD, context.getGroup())
+                    + computeStringSize(CONTEXT_MD5_FIELD, context.getMd5())
+                    + computeStringSize(CONTEXT_DATA_ID_FIELD, context.getDataId())
+                    + computeStringSize(CONTEXT_TENANT_FIELD, context.getTenant());
+            writeMessageHeader(output, CONTEXT_FIELD, size);
+            writeString(output, CONTEXT_GROUP_FIELD, context.getGroup());
+            writeString(output, CONTEXT_MD5_FIELD, context.getMd5());
+            writeString(output, CONTEXT_DATA_ID_FIELD, context.getDataId());
+            writeString(output, CONTEXT_TENANT_FIELD, context.getTenant());
+        }
+    }
+    
+    @Override
+    public ConfigBatchListenRequest decode(CodedInputStream input) throws IOException {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        List<ConfigListenContext> contexts = new ArrayList<>();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case REQUEST_ID_FIELD:
+                    request.setRequestId(input.readString());
+                    break;
+                case DATA_ID_FIELD:
+                    request.setDataId(input.readString());
+                    break;
+                case GROUP_FIELD:
+                    request.setGroup(input.readString());
+                    break;
+                case TENANT_FIELD:
+                    request.setTenant(input.readString());
+                    break;
+                case LISTEN_FIELD:
+                    request.setListen(input.readBool());
+                    break;
+                case CONTEXT_FIELD:
+                    contexts.add(decodeContext(input));
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        request.setConfigListenContexts(contexts);
+        return request;
+    }
+    
+    private ConfigListenContext decodeContext(CodedInputStream input) throws IOException {
+        int oldLimit = beginMessage(input);
+        ConfigListenContext context = new ConfigListenContext();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CONTEXT_GROUP_FIELD:
+                    context.setGroup(input.readString());
+                    break;
+                case CONTEXT_MD5_FIELD:
+                    context.setMd5(input.readString());
+                    break;
+                case CONTEXT_DATA_ID_FIELD:
+                    context.setDataId(input.readString());
+                    break;
+                case CONTEXT_TENANT_FIELD:
+                    context.setTenant(input.readString());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        endMessage(input, oldLimit);
+        return context;
+    }
+}
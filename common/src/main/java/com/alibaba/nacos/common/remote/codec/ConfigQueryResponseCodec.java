@@ -0,0 +1,119 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link ConfigQueryResponse}.
+ *
+ * @author Nacos
+ */
+public class ConfigQueryResponseCodec extends AbstractBinaryPayloadCodec<ConfigQueryResponse> {
+    
+    private static final int RESULT_CODE_FIELD = 2;
+    
+    private static final int ERROR_CODE_FIELD = 3;
+    
+    private static final int MESSAGE_FIELD = 4;
+    
+    private static final int CONTENT_FIELD = 5;
+    
+    private static final int ENCRYPTED_DATA_KEY_FIELD = 6;
+    
+    private static final int CONTENT_TYPE_FIELD = 7;
+    
+    private static final int MD5_FIELD = 8;
+    
+    private static final int LAST_MODIFIED_FIELD = 9;
+    
+    private static final int BETA_FIELD = 10;
+    
+    private static final int TAG_FIELD = 11;
+    
+    @Override
+    public Class<ConfigQueryResponse> payloadClass() {
+        return ConfigQueryResponse.class;
+    }
+    
+    @Override
+    public void encode(ConfigQueryResponse payload, CodedOutputStream output) throws IOException {
+        writeString(output, REQUEST_ID_FIELD, payload.getRequestId());
+        output.writeInt32(RESULT_CODE_FIELD, payload.getResultCode());
+        output.writeInt32(ERROR_CODE_FIELD, payload.getErrorCode());
+        writeString(output, MESSAGE_FIELD, payload.getMessage());
+        writeString(output, CONTENT_FIELD, payload.getContent());
+        writeString(output, ENCRYPTED_DATA_KEY_FIELD, payload.getEncryptedDataKey());
+        writeString(output, CONTENT_TYPE_FIELD, payload.getContentType());
+        writeString(output, MD5_FIELD, payload.getMd5());
+        output.writeInt64(LAST_MODIFIED_FIELD, payload.getLastModified());
+        output.writeBool(BETA_FIELD, payload.isBeta());
+        writeString(output, TAG_FIELD, payload.getTag());
+    }
+    
+    @Override
+    public ConfigQueryResponse decode(CodedInputStream input) throws IOException {
+        ConfigQueryResponse response = new ConfigQueryResponse();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case REQUEST_ID_FIELD:
+                    response.setRequestId(input.readString());
+                    break;
+                case RESULT_CODE_FIELD:
+                    response.setResultCode(input.readInt32());
+                    break;
+                case ERROR_CODE_FIELD:
+                    response.setErrorCode(input.readInt32());
+                    break;
+                case MESSAGE_FIELD:
+                    response.setMessage(input.readString());
+                    break;
+                case CONTENT_FIELD:
+                    response.setContent(input.readString());
+                    break;
+                case ENCRYPTED_DATA_KEY_FIELD:
+                    response.setEncryptedDataKey(input.readString());
+                    break;
+                case CONTENT_TYPE_FIELD:
+                    response.setContentType(input.readString());
+                    break;
+                case MD5_FIELD:
+                    response.setMd5(input.readString());
+                    break;
+                case LAST_MODIFIED_FIELD:
+                    response.setLastModified(input.readInt64());
+                    break;
+                case BETA_FIELD:
+                    response.setBeta(input.readBool());
+                    break;
+                case TAG_FIELD:
+                    response.setTag(input.readString());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        return response;
+    }
+}
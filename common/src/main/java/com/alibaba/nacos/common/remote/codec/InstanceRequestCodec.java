@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link InstanceRequest}.
+ *
+ * @author Nacos
+ */
+public class InstanceRequestCodec extends AbstractNamingPayloadCodec<InstanceRequest> {
+    
+    private static final int NAMESPACE_FIELD = 2;
+    
+    private static final int SERVICE_NAME_FIELD = 3;
+    
+    private static final int GROUP_NAME_FIELD = 4;
+    
+    private static final int TYPE_FIELD = 5;
+    
+    private static final int INSTANCE_FIELD = 6;
+    
+    @Override
+    public Class<InstanceRequest> payloadClass() {
+        return InstanceRequest.class;
+    }
+    
+    @Override
+    public void encode(InstanceRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, REQUEST_ID_FIELD, payload.getRequestId());
+        writeString(output, NAMESPACE_FIELD, payload.getNamespace());
+        writeString(output, SERVICE_NAME_FIELD, payload.getServiceName());
+        writeString(output, GROUP_NAME_FIELD, payload.getGroupName());
+        writeString(output, TYPE_FIELD, payload.getType());
+        writeInstance(output, INSTANCE_FIELD, payload.getInstance());
+    }
+    
+    @Override
+    public InstanceRequest decode(CodedInputStream input) throws IOException {
+        InstanceRequest request = new InstanceRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case REQUEST_ID_FIELD:
+                    request.setRequestId(input.readString());
+                    break;
+                case NAMESPACE_FIELD:
+                    request.setNamespace(input.readString());
+                    break;
+                case SERVICE_NAME_FIELD:
+                    request.setServiceName(input.readString());
+                    break;
+                case GROUP_NAME_FIELD:
+                    request.setGroupName(input.readString());
+                    break;
+                case TYPE_FIELD:
+                    request.setType(input.readString());
+                    break;
+                case INSTANCE_FIELD:
+                    request.setInstance(readInstance(input));
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        return request;
+    }
+}
@@ -37,4 +37,8 @@ public class RemoteException extends NacosRuntimeException {
     public RemoteException(int errorCode, Throwable throwable) {
         super(errorCode, throwable);
     }
+    
+    public RemoteException(int errorCode, String msg, Throwable throwable) {
+        super(errorCode, msg, throwable);
+    }
 }
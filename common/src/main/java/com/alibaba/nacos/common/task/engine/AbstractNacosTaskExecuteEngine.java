@@ -66,6 +66,10 @@ public abstract class AbstractNacosTaskExecuteEngine<T extends NacosTask> implem
         this.defaultTaskProcessor = defaultTaskProcessor;
     }
     
+    protected NacosTaskProcessor getDefaultTaskProcessor() {
+        return defaultTaskProcessor;
+    }
+    
     protected Logger getEngineLog() {
         return log;
     }
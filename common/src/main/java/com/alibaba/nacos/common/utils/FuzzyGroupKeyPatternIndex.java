@@ -0,0 +1,345 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.alibaba.nacos.api.common.Constants.ALL_PATTERN;
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+import static com.alibaba.nacos.api.common.Constants.FUZZY_WATCH_PATTERN_SPLITTER;
+
+/**
+ * Index of fuzzy group key patterns generated by {@link FuzzyGroupKeyPattern}, to find the patterns matching a
+ * resource without testing every pattern.
+ *
+ * <p>Patterns are indexed by namespace, then by group pattern, then by resource pattern. For the group and resource
+ * levels, exact items are kept in a hash map, prefix items ({@code abc*}) in a trie, postfix items ({@code *abc}) in
+ * a trie of reversed strings, and only the rare contains items ({@code *abc*} and {@code *}) are tested one by one.
+ * So matching a change costs the length of its group and resource name plus the number of contains patterns, instead
+ * of the number of all patterns. The semantics are the same as {@link FuzzyGroupKeyPattern#matchPattern}.
+ *
+ * <p>Reads are lock free, updates are serialized on the index.
+ *
+ * @author Nacos
+ */
+public class FuzzyGroupKeyPatternIndex {
+    
+    private static final int PATTERN_ITEM_COUNT = 3;
+    
+    private final Map<String, ItemIndex<ItemIndex<Set<String>>>> namespaces = new ConcurrentHashMap<>();
+    
+    private final Set<String> patterns = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Add pattern to index.
+     *
+     * @param groupKeyPattern group key pattern
+     * @return true if the pattern is not in the index before
+     */
+    public synchronized boolean add(String groupKeyPattern) {
+        if (!patterns.add(groupKeyPattern)) {
+            return false;
+        }
+        String[] items = splitPattern(groupKeyPattern);
+        if (items != null) {
+            namespaces.computeIfAbsent(items[0], key -> new ItemIndex<>())
+                    .computeIfAbsent(items[1], ItemIndex::new)
+                    .computeIfAbsent(items[2], ConcurrentHashMap::newKeySet).add(groupKeyPattern);
+        }
+        return true;
+    }
+    
+    /**
+     * Remove pattern from index.
+     *
+     * @param groupKeyPattern group key pattern
+     * @return true if the pattern is in the index before
+     */
+    public synchronized boolean remove(String groupKeyPattern) {
+        if (!patterns.remove(groupKeyPattern)) {
+            return false;
+        }
+        String[] items = splitPattern(groupKeyPattern);
+        if (items == null) {
+            return true;
+        }
+        ItemIndex<ItemIndex<Set<String>>> groups = namespaces.get(items[0]);
+        ItemIndex<Set<String>> resources = groups.get(items[1]);
+        Set<String> matched = resources.get(items[2]);
+        matched.remove(groupKeyPattern);
+        if (matched.isEmpty()) {
+            resources.remove(items[2]);
+        }
+        if (resources.isEmpty()) {
+            groups.remove(items[1]);
+        }
+        if (groups.isEmpty()) {
+            namespaces.remove(items[0]);
+        }
+        return true;
+    }
+    
+    /**
+     * Get the patterns matching the resource.
+     *
+     * @param resourceName dataId or service name
+     * @param group        group
+     * @param namespace    namespace, default namespace if blank
+     * @return matched patterns
+     */
+    public Set<String> matchedPatterns(String resourceName, String group, String namespace) {
+        Set<String> result = new HashSet<>();
+        if (StringUtils.isBlank(namespace)) {
+            namespace = DEFAULT_NAMESPACE_ID;
+        }
+        ItemIndex<ItemIndex<Set<String>>> groups = namespaces.get(namespace);
+        if (groups == null || group == null || resourceName == null) {
+            return result;
+        }
+        groups.forEachMatched(group, resources -> resources.forEachMatched(resourceName, result::addAll));
+        return result;
+    }
+    
+    public boolean contains(String groupKeyPattern) {
+        return patterns.contains(groupKeyPattern);
+    }
+    
+    public int size() {
+        return patterns.size();
+    }
+    
+    private static String[] splitPattern(String groupKeyPattern) {
+        String[] items = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+        return items.length < PATTERN_ITEM_COUNT ? null : items;
+    }
+    
+    /**
+     * Index of one item of pattern, group pattern or resource pattern, to the value of the item.
+     *
+     * <p>Items are keyed by what they match rather than their text, as {@link FuzzyGroupKeyPattern} ignores all
+     * {@code *} but the leading and trailing ones, so items like {@code *a*b} and {@code *ab} share one value.
+     */
+    private static class ItemIndex<V> {
+        
+        private final Map<String, V> exactItems = new ConcurrentHashMap<>();
+        
+        private final Map<String, V> containsItems = new ConcurrentHashMap<>();
+        
+        private final TrieNode<V> prefixItems = new TrieNode<>();
+        
+        private final TrieNode<V> postfixItems = new TrieNode<>();
+        
+        /**
+         * Items with {@code *} only in the middle, which never match, kept to be removable.
+         */
+        private final Map<String, V> unmatchableItems = new ConcurrentHashMap<>();
+        
+        V get(String item) {
+            String pure = item.replace(ALL_PATTERN, "");
+            switch (typeOf(item)) {
+                case EXACT:
+                    return exactItems.get(item);
+                case CONTAINS:
+                    return containsItems.get(pure);
+                case PREFIX:
+                    return prefixItems.get(pure, false);
+                case POSTFIX:
+                    return postfixItems.get(pure, true);
+                default:
+                    return unmatchableItems.get(item);
+            }
+        }
+        
+        V computeIfAbsent(String item, Supplier<V> supplier) {
+            String pure = item.replace(ALL_PATTERN, "");
+            switch (typeOf(item)) {
+                case EXACT:
+                    return exactItems.computeIfAbsent(item, key -> supplier.get());
+                case CONTAINS:
+                    return containsItems.computeIfAbsent(pure, key -> supplier.get());
+                case PREFIX:
+                    return prefixItems.computeIfAbsent(pure, false, supplier);
+                case POSTFIX:
+                    return postfixItems.computeIfAbsent(pure, true, supplier);
+                default:
+                    return unmatchableItems.computeIfAbsent(item, key -> supplier.get());
+            }
+        }
+        
+        void remove(String item) {
+            String pure = item.replace(ALL_PATTERN, "");
+            switch (typeOf(item)) {
+                case EXACT:
+                    exactItems.remove(item);
+                    break;
+                case CONTAINS:
+                    containsItems.remove(pure);
+                    break;
+                case PREFIX:
+                    prefixItems.remove(pure, false, 0);
+                    break;
+                case POSTFIX:
+                    postfixItems.remove(pure, true, 0);
+                    break;
+                default:
+                    unmatchableItems.remove(item);
+                    break;
+            }
+        }
+        
+        boolean isEmpty() {
+            return exactItems.isEmpty() && containsItems.isEmpty() && prefixItems.isEmpty() && postfixItems.isEmpty()
+                    && unmatchableItems.isEmpty();
+        }
+        
+        void forEachMatched(String resource, Consumer<V> consumer) {
+            V exact = exactItems.get(resource);
+            if (exact != null) {
+                consumer.accept(exact);
+            }
+            if (!containsItems.isEmpty()) {
+                for (Map.Entry<String, V> entry : containsItems.entrySet()) {
+                    if (resource.contains(entry.getKey())) {
+                        consumer.accept(entry.getValue());
+                    }
+                }
+            }
+            prefixItems.forEachOnPath(resource, false, consumer);
+            postfixItems.forEachOnPath(resource, true, consumer);
+        }
+        
+        private static ItemType typeOf(String item) {
+            if (!item.contains(ALL_PATTERN)) {
+                return ItemType.EXACT;
+            }
+            boolean leading = item.startsWith(ALL_PATTERN);
+            boolean trailing = item.endsWith(ALL_PATTERN);
+            if (leading && trailing) {
+                return ItemType.CONTAINS;
+            }
+            if (leading) {
+                return ItemType.POSTFIX;
+            }
+            return trailing ? ItemType.PREFIX : ItemType.UNMATCHABLE;
+        }
+    }
+    
+    private enum ItemType {
+        
+        /**
+         * Item without {@code *}.
+         */
+        EXACT,
+        
+        /**
+         * Item with leading and trailing {@code *}, or only {@code *}.
+         */
+        CONTAINS,
+        
+        /**
+         * Item with trailing {@code *}.
+         */
+        PREFIX,
+        
+        /**
+         * Item with leading {@code *}.
+         */
+        POSTFIX,
+        
+        /**
+         * Item with {@code *} only in the middle.
+         */
+        UNMATCHABLE
+    }
+    
+    /**
+     * Trie node of chars, walked from the end of the key when {@code reversed}.
+     */
+    private static class TrieNode<V> {
+        
+        private final Map<Character, TrieNode<V>> children = new ConcurrentHashMap<>();
+        
+        private volatile V value;
+        
+        V get(String key, boolean reversed) {
+            TrieNode<V> node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(charAt(key, i, reversed));
+            }
+            return node == null ? null : node.value;
+        }
+        
+        V computeIfAbsent(String key, boolean reversed, Supplier<V> supplier) {
+            TrieNode<V> node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(charAt(key, i, reversed), c -> new TrieNode<>());
+            }
+            if (node.value == null) {
+                node.value = supplier.get();
+            }
+            return node.value;
+        }
+        
+        /**
+         * Remove value of key and prune nodes left empty.
+         *
+         * @return true if this node is empty after removal
+         */
+        boolean remove(String key, boolean reversed, int depth) {
+            if (depth == key.length()) {
+                value = null;
+            } else {
+                Character c = charAt(key, depth, reversed);
+                TrieNode<V> child = children.get(c);
+                if (child != null && child.remove(key, reversed, depth + 1)) {
+                    children.remove(c);
+                }
+            }
+            return isEmpty();
+        }
+        
+        boolean isEmpty() {
+            return value == null && children.isEmpty();
+        }
+        
+        void forEachOnPath(String resource, boolean reversed, Consumer<V> consumer) {
+            TrieNode<V> node = this;
+            for (int i = 0; ; i++) {
+                V current = node.value;
+                if (current != null) {
+                    consumer.accept(current);
+                }
+                if (i == resource.length()) {
+                    return;
+                }
+                node = node.children.get(charAt(resource, i, reversed));
+                if (node == null) {
+                    return;
+                }
+            }
+        }
+        
+        private static char charAt(String key, int index, boolean reversed) {
+            return reversed ? key.charAt(key.length() - 1 - index) : key.charAt(index);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify.ringbuffer;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        publisher = new RingBufferPublisher();
+        assertThrows(IllegalStateException.class, () -> publisher.publish(new MockEvent(0)));
+    }
+    
+    @Test
+    void testCreateByFactory() throws InterruptedException {
+        publisher = (RingBufferPublisher) RingBufferPublisherFactory.getInstance().apply(MockEvent.class, 64);
+        RecordSubscriber subscriber = new RecordSubscriber(1);
+        publisher.addSubscriber(subscriber);
+        assertTrue(publisher.publish(new MockEvent(0)));
+        assertTrue(subscriber.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, subscriber.received.size());
+    }
+    
+    @Test
+    void testPublishInOrderFromMultipleProducers() throws InterruptedException {
+        for (String each : new String[] {WaitStrategy.BLOCKING, WaitStrategy.SLEEPING, WaitStrategy.YIELDING,
+                WaitStrategy.BUSY_SPIN}) {
+            publisher = new RingBufferPublisher(WaitStrategy.of(each), 16, 0);
+            publisher.init(MockEvent.class, 64);
+            RecordSubscriber subscriber = new RecordSubscriber(4000);
+            publisher.addSubscriber(subscriber);
+            ExecutorService producers = Executors.newFixedThreadPool(4);
+            for (int i = 0; i < 4; i++) {
+                int producer = i;
+                producers.execute(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        publisher.publish(new MockEvent(producer * 1000 + j));
+                    }
+                });
+            }
+            assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS), each);
+            producers.shutdown();
+            assertEquals(4000, subscriber.received.size());
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testPublishWhenBufferFull() throws InterruptedException {
+        publisher = new RingBufferPublisher(new BlockingWaitStrategy(), 16, 0);
+        publisher.init(MockEvent.class, 2);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordSubscriber subscriber = new RecordSubscriber(3) {
+            @Override
+            public void onEvent(MockEvent event) {
+                if (event.id == 0) {
+                    blocked.countDown();
+                    await(release);
+                }
+                super.onEvent(event);
+            }
+        };
+        publisher.addSubscriber(subscriber);
+        publisher.publish(new MockEvent(0));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        publisher.publish(new MockEvent(1));
+        // the event in handling holds its slot until the batch is done, so the buffer is full and handled in caller.
+        publisher.publish(new MockEvent(2));
+        assertEquals(Thread.currentThread().getName(), subscriber.threads.get(0));
+        assertEquals(2, subscriber.received.get(0).id);
+        release.countDown();
+        assertTrue(subscriber.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, publisher.currentEventSize());
+    }
+    
+    @Test
+    void testSubscriberShards() throws InterruptedException {
+        publisher = new RingBufferPublisher(new BlockingWaitStrategy(), 16, 2);
+        publisher.init(MockEvent.class, 16);
+        RecordSubscriber subscriber = new RecordSubscriber(10);
+        publisher.addSubscriber(subscriber);
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(new MockEvent(i));
+        }
+        assertTrue(subscriber.latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, subscriber.received.get(i).id);
+            assertTrue(subscriber.threads.get(i).contains(".shard-"));
+        }
+    }
+    
+    @Test
+    void testRemoveSubscriber() throws InterruptedException {
+        publisher = new RingBufferPublisher(new BlockingWaitStrategy(), 16, 0);
+        publisher.init(MockEvent.class, 16);
+        RecordSubscriber removed = new RecordSubscriber(1);
+        RecordSubscriber subscriber = new RecordSubscriber(1);
+        publisher.addSubscriber(removed, MockEvent.class);
+        publisher.addSubscriber(subscriber, MockEvent.class);
+        publisher.removeSubscriber(removed, MockEvent.class);
+        publisher.publish(new MockEvent(0));
+        assertTrue(subscriber.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, removed.received.size());
+    }
+    
+    @Test
+    void testReceiveExpiredEvent() {
+        publisher = new RingBufferPublisher(new BlockingWaitStrategy(), 16, 0);
+        RecordSubscriber subscriber = new ExpireIgnoredSubscriber();
+        publisher.addSubscriber(subscriber);
+        MockEvent expired = new MockEvent(0);
+        MockEvent latest = new MockEvent(1);
+        publisher.receiveEvent(latest);
+        publisher.receiveEvent(expired);
+        assertEquals(1, subscriber.received.size());
+        assertEquals(1, subscriber.received.get(0).id);
+    }
+    
+    @Test
+    void testShardedReceiveEventWithoutFilter() {
+        publisher = new RingBufferPublisher(new BlockingWaitStrategy(), 16, 0, true);
+        RecordSubscriber subscriber = new ExpireIgnoredSubscriber();
+        publisher.addSubscriber(subscriber);
+        MockEvent expired = new MockEvent(0);
+        MockEvent latest = new MockEvent(1);
+        publisher.receiveEvent(latest);
+        publisher.receiveEvent(expired);
+        assertEquals(2, subscriber.received.size());
+        assertEquals(0, subscriber.received.get(1).id);
+    }
+    
+    @Test
+    void testWaitStrategyOf() {
+        assertInstanceOf(BlockingWaitStrategy.class, WaitStrategy.of(null));
+        assertInstanceOf(BlockingWaitStrategy.class, WaitStrategy.of("unknown"));
+        assertInstanceOf(SleepingWaitStrategy.class, WaitStrategy.of("sleeping"));
+        assertInstanceOf(YieldingWaitStrategy.class, WaitStrategy.of("yielding"));
+        assertInstanceOf(BusySpinWaitStrategy.class, WaitStrategy.of("BUSY-SPIN"));
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = 6163575400420471519L;
+        
+        private final int id;
+        
+        private MockEvent(int id) {
+            this.id = id;
+        }
+    }
+    
+    private static class ExpireIgnoredSubscriber extends RecordSubscriber {
+        
+        private ExpireIgnoredSubscriber() {
+            super(2);
+        }
+        
+        @Override
+        public boolean ignoreExpireEvent() {
+            return true;
+        }
+    }
+    
+    private static class RecordSubscriber extends Subscriber<MockEvent> {
+        
+        private final List<MockEvent> received = new CopyOnWriteArrayList<>();
+        
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        
+        private final CountDownLatch latch;
+        
+        private RecordSubscriber(int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+        
+        @Override
+        public void onEvent(MockEvent event) {
+            received.add(event);
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return MockEvent.class;
+        }
+    }
+}
@@ -52,6 +52,8 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -65,6 +67,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -488,6 +491,67 @@ class RpcClientTest {
         assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
     }
     
+    @Test
+    void testRequestAsyncSuccess() throws Exception {
+        rpcClient.currentConnection = connection;
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        Response response = new HealthCheckResponse();
+        doAnswer(invocation -> {
+            ((RequestCallBack<Response>) invocation.getArgument(1)).onResponse(response);
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest());
+        assertEquals(response, future.get(1, TimeUnit.SECONDS));
+        assertEquals(0, rpcClient.getInFlightRequestCount());
+    }
+    
+    @Test
+    void testRequestAsyncWhenClientNotConnected() {
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertEquals(NacosException.CLIENT_DISCONNECT, ((NacosException) exception.getCause()).getErrCode());
+        assertEquals(0, rpcClient.getInFlightRequestCount());
+    }
+    
+    @Test
+    void testRequestAsyncLimitedByInFlightWindow() throws Exception {
+        when(rpcClientConfig.maxInFlightRequests()).thenReturn(2);
+        rpcClient.currentConnection = connection;
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        List<RequestCallBack<Response>> callBacks = new LinkedList<>();
+        doAnswer(invocation -> callBacks.add(invocation.getArgument(1))).when(connection).asyncRequest(any(), any());
+        CompletableFuture<Response> first = rpcClient.requestAsync(new HealthCheckRequest());
+        rpcClient.requestAsync(new HealthCheckRequest());
+        CompletableFuture<Response> third = rpcClient.requestAsync(new HealthCheckRequest());
+        assertEquals(2, callBacks.size());
+        assertEquals(2, rpcClient.getInFlightRequestCount());
+        assertEquals(1, rpcClient.getPendingRequestCount());
+        
+        Response response = new HealthCheckResponse();
+        callBacks.get(0).onResponse(response);
+        assertEquals(response, first.get(1, TimeUnit.SECONDS));
+        assertEquals(3, callBacks.size());
+        assertEquals(0, rpcClient.getPendingRequestCount());
+        callBacks.get(2).onException(new NacosException(NacosException.SERVER_ERROR, "test"));
+        assertThrows(ExecutionException.class, () -> third.get(1, TimeUnit.SECONDS));
+        assertEquals(1, rpcClient.getInFlightRequestCount());
+    }
+    
+    @Test
+    void testRequestAsyncWhenUnregisteredThenSwitchServer() throws Exception {
+        rpcClient.currentConnection = connection;
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        doAnswer(invocation -> {
+            ((RequestCallBack<Response>) invocation.getArgument(1)).onException(
+                    new NacosException(NacosException.UN_REGISTER, "unregister"));
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest());
+        assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
+        verify(rpcClient).switchServerAsync();
+    }
+    
     @Test
     void testRequestFutureWithoutAnyTry() throws NacosException {
         assertThrows(NacosException.class, () -> {
@@ -60,6 +60,7 @@ class DefaultGrpcClientConfigTest {
         assertEquals(3, config.healthCheckRetryTimes());
         assertEquals(3000L, config.healthCheckTimeOut());
         assertEquals(5000L, config.capabilityNegotiationTimeout());
+        assertEquals(1024, config.maxInFlightRequests());
         assertEquals(1, config.labels().size());
         assertNotNull(config.tlsConfig());
     }
@@ -82,6 +83,7 @@ class DefaultGrpcClientConfigTest {
         properties.setProperty(GrpcConstants.GRPC_HEALTHCHECK_RETRY_TIMES, "3");
         properties.setProperty(GrpcConstants.GRPC_HEALTHCHECK_TIMEOUT, "3000");
         properties.setProperty(GrpcConstants.GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT, "5000");
+        properties.setProperty(GrpcConstants.GRPC_MAX_IN_FLIGHT_REQUESTS, "64");
         
         DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) DefaultGrpcClientConfig.newBuilder()
                 .fromProperties(properties, null).build();
@@ -101,6 +103,7 @@ class DefaultGrpcClientConfigTest {
         assertEquals(3, config.healthCheckRetryTimes());
         assertEquals(3000, config.healthCheckTimeOut());
         assertEquals(5000, config.capabilityNegotiationTimeout());
+        assertEquals(64, config.maxInFlightRequests());
         assertEquals(1, config.labels().size());
         assertNotNull(config.tlsConfig());
     }
@@ -240,6 +243,14 @@ class DefaultGrpcClientConfigTest {
         assertEquals(healthCheckTimeOut, config.healthCheckTimeOut());
     }
     
+    @Test
+    void testSetMaxInFlightRequests() {
+        DefaultGrpcClientConfig.Builder builder = DefaultGrpcClientConfig.newBuilder();
+        builder.setMaxInFlightRequests(16);
+        DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) builder.build();
+        assertEquals(16, config.maxInFlightRequests());
+    }
+    
     @Test
     void testSetLabels() {
         Map<String, String> labels = new HashMap<>();
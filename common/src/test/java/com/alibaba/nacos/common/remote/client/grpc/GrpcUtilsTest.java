@@ -18,19 +18,30 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.PreEncodedRequest;
+import com.alibaba.nacos.common.remote.PreEncodedResponse;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -98,6 +109,26 @@ class GrpcUtilsTest {
         assertEquals(response.getClass().getSimpleName(), convert.getMetadata().getType());
     }
     
+    @Test
+    void testConvertPreEncodedResponse() {
+        byte[] body = JacksonUtils.toJsonBytes(response);
+        PreEncodedClientConfigMetricResponse preEncodedResponse = new PreEncodedClientConfigMetricResponse(body);
+        Payload convert = GrpcUtils.convert(preEncodedResponse);
+        assertEquals(ClientConfigMetricResponse.class.getSimpleName(), convert.getMetadata().getType());
+        assertArrayEquals(body, convert.getBody().getValue().toByteArray());
+        assertEquals(ClientConfigMetricResponse.class, GrpcUtils.parse(convert).getClass());
+    }
+    
+    @Test
+    void testSpliceRequestId() {
+        assertEquals("{\"requestId\":\"1\",\"a\":1}",
+                new String(GrpcUtils.spliceRequestId("{\"a\":1}".getBytes(StandardCharsets.UTF_8), "1"),
+                        StandardCharsets.UTF_8));
+        assertEquals("{\"requestId\":\"1\"}",
+                new String(GrpcUtils.spliceRequestId("{}".getBytes(StandardCharsets.UTF_8), "1"),
+                        StandardCharsets.UTF_8));
+    }
+    
     @Test
     void testParse() {
         Payload requestPayload = GrpcUtils.convert(request);
@@ -111,7 +142,63 @@ class GrpcUtilsTest {
         Payload responsePayload = GrpcUtils.convert(response);
         ClientConfigMetricResponse response = (ClientConfigMetricResponse) GrpcUtils.parse(responsePayload);
         assertEquals(this.response.getMetrics(), response.getMetrics());
+    
+    }
+    
+    @Test
+    void testConvertAndParseBinaryPayload() {
+        ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+        listenRequest.setRequestId("1");
+        listenRequest.putHeader("h1", "v1");
+        listenRequest.addConfigListenContext("group", "dataId", "tenant", "md5");
+        Payload requestPayload = GrpcUtils.convert(listenRequest, true);
+        assertEquals(BinaryPayloadCodecRegistry.PROTOBUF_CODEC,
+                requestPayload.getMetadata().getHeadersMap().get(BinaryPayloadCodecRegistry.CODEC_HEADER));
+        ConfigBatchListenRequest actualRequest = (ConfigBatchListenRequest) GrpcUtils.parse(requestPayload);
+        assertEquals("1", actualRequest.getRequestId());
+        assertEquals("v1", actualRequest.getHeader("h1"));
+        assertNull(actualRequest.getHeader(BinaryPayloadCodecRegistry.CODEC_HEADER));
+        assertEquals("md5", actualRequest.getConfigListenContexts().get(0).getMd5());
         
+        ConfigQueryResponse queryResponse = ConfigQueryResponse.buildSuccessResponse("content");
+        Payload responsePayload = GrpcUtils.convert(queryResponse, true);
+        assertEquals(BinaryPayloadCodecRegistry.PROTOBUF_CODEC,
+                responsePayload.getMetadata().getHeadersMap().get(BinaryPayloadCodecRegistry.CODEC_HEADER));
+        assertEquals("content", ((ConfigQueryResponse) GrpcUtils.parse(responsePayload)).getContent());
+    }
+    
+    @Test
+    void testConvertPreEncodedRequestToBinaryPayload() {
+        NotifySubscriberRequest original = new NotifySubscriberRequest();
+        original.setNamespace("ns");
+        original.setServiceName("service");
+        original.setGroupName("group");
+        original.setRevision(10L);
+        PreEncodedNotifySubscriberRequest preEncoded = new PreEncodedNotifySubscriberRequest(
+                JacksonUtils.toJsonBytes(original),
+                BinaryPayloadCodecRegistry.encode(NotifySubscriberRequest.class.getSimpleName(), original));
+        preEncoded.setRequestId("1");
+        Payload payload = GrpcUtils.convert(preEncoded, true);
+        assertEquals(BinaryPayloadCodecRegistry.PROTOBUF_CODEC,
+                payload.getMetadata().getHeadersMap().get(BinaryPayloadCodecRegistry.CODEC_HEADER));
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(payload);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("ns", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals(10L, actual.getRevision());
+    }
+    
+    @Test
+    void testConvertBinaryPayloadFallbackToJson() {
+        Payload requestPayload = GrpcUtils.convert(request, true);
+        assertFalse(requestPayload.getMetadata().getHeadersMap().containsKey(BinaryPayloadCodecRegistry.CODEC_HEADER));
+        assertEquals(this.request.getCluster(), ((ServiceQueryRequest) GrpcUtils.parse(requestPayload)).getCluster());
+        
+        Payload responsePayload = GrpcUtils.convert(response, true);
+        assertFalse(responsePayload.getMetadata().getHeadersMap().containsKey(BinaryPayloadCodecRegistry.CODEC_HEADER));
+        assertEquals(this.response.getMetrics(),
+                ((ClientConfigMetricResponse) GrpcUtils.parse(responsePayload)).getMetrics());
     }
     
     @Test
@@ -123,4 +210,52 @@ class GrpcUtilsTest {
             GrpcUtils.parse(mockPayload);
         });
     }
+    
+    private static class PreEncodedNotifySubscriberRequest extends NotifySubscriberRequest
+            implements PreEncodedRequest {
+        
+        private final byte[] body;
+        
+        private final byte[] binaryBody;
+        
+        PreEncodedNotifySubscriberRequest(byte[] body, byte[] binaryBody) {
+            this.body = body;
+            this.binaryBody = binaryBody;
+        }
+        
+        @Override
+        public String encodedType() {
+            return NotifySubscriberRequest.class.getSimpleName();
+        }
+        
+        @Override
+        public byte[] encodedBodyWithoutRequestId() {
+            return body;
+        }
+        
+        @Override
+        public byte[] encodedBinaryBodyWithoutRequestId() {
+            return binaryBody;
+        }
+    }
+    
+    private static class PreEncodedClientConfigMetricResponse extends ClientConfigMetricResponse
+            implements PreEncodedResponse {
+        
+        private final byte[] body;
+        
+        PreEncodedClientConfigMetricResponse(byte[] body) {
+            this.body = body;
+        }
+        
+        @Override
+        public String encodedType() {
+            return ClientConfigMetricResponse.class.getSimpleName();
+        }
+        
+        @Override
+        public byte[] encodedBody() {
+            return body;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest.ConfigListenContext;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBatchListenRequestCodecTest {
+    
+    @Test
+    void testEncodeAndDecode() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setRequestId("1");
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId", "tenant", "md5");
+        request.addConfigListenContext("group2", "dataId2", null, "md52");
+        String type = ConfigBatchListenRequest.class.getSimpleName();
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(type));
+        
+        byte[] bytes = BinaryPayloadCodecRegistry.encode(type, request);
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) BinaryPayloadCodecRegistry.decode(type,
+                ByteString.copyFrom(bytes));
+        assertEquals("1", actual.getRequestId());
+        assertFalse(actual.isListen());
+        assertEquals(2, actual.getConfigListenContexts().size());
+        ConfigListenContext context = actual.getConfigListenContexts().get(0);
+        assertEquals("group", context.getGroup());
+        assertEquals("dataId", context.getDataId());
+        assertEquals("tenant", context.getTenant());
+        assertEquals("md5", context.getMd5());
+        assertNull(actual.getConfigListenContexts().get(1).getTenant());
+        assertEquals("md52", actual.getConfigListenContexts().get(1).getMd5());
+    }
+    
+    @Test
+    void testDecodeSkipUnknownField() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.addConfigListenContext("group", "dataId", "tenant", "md5");
+        String type = ConfigBatchListenRequest.class.getSimpleName();
+        byte[] bytes = BinaryPayloadCodecRegistry.encode(type, request);
+        // field 100 is unknown for current version, which may be added by newer version.
+        ByteString withUnknownField = ByteString.copyFrom(bytes)
+                .concat(ByteString.copyFrom(new byte[] {(byte) 0xa2, 0x06, 0x01, 'x'}));
+        
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) BinaryPayloadCodecRegistry.decode(type,
+                withUnknownField);
+        assertTrue(actual.isListen());
+        assertEquals(1, actual.getConfigListenContexts().size());
+        assertEquals("dataId", actual.getConfigListenContexts().get(0).getDataId());
+    }
+}
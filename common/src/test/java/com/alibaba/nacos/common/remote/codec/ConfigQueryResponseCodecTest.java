@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigQueryResponseCodecTest {
+    
+    private static final String TYPE = ConfigQueryResponse.class.getSimpleName();
+    
+    @Test
+    void testEncodeAndDecodeSuccessResponse() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse("content中文");
+        response.setMd5("md5");
+        response.setLastModified(1700000000000L);
+        response.setContentType("yaml");
+        response.setBeta(true);
+        response.setTag("tag");
+        
+        ConfigQueryResponse actual = (ConfigQueryResponse) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, response)));
+        assertTrue(actual.isSuccess());
+        assertEquals("content中文", actual.getContent());
+        assertEquals("md5", actual.getMd5());
+        assertEquals(1700000000000L, actual.getLastModified());
+        assertEquals("yaml", actual.getContentType());
+        assertTrue(actual.isBeta());
+        assertEquals("tag", actual.getTag());
+        assertNull(actual.getEncryptedDataKey());
+        assertNull(actual.getRequestId());
+    }
+    
+    @Test
+    void testEncodeAndDecodeFailResponse() {
+        ConfigQueryResponse response = ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND,
+                "config data not exist");
+        
+        ConfigQueryResponse actual = (ConfigQueryResponse) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, response)));
+        assertFalse(actual.isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, actual.getErrorCode());
+        assertEquals("config data not exist", actual.getMessage());
+        assertNull(actual.getContent());
+    }
+}
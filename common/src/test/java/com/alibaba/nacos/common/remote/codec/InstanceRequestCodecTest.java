@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceRequestCodecTest {
+    
+    private static final String TYPE = InstanceRequest.class.getSimpleName();
+    
+    @Test
+    void testEncodeAndDecode() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(0.5D);
+        instance.setEphemeral(false);
+        instance.setClusterName("cluster");
+        instance.addMetadata("key", "value");
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group", "registerInstance", instance);
+        request.setRequestId("1");
+        
+        InstanceRequest actual = (InstanceRequest) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, request)));
+        assertEquals("1", actual.getRequestId());
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals("registerInstance", actual.getType());
+        Instance actualInstance = actual.getInstance();
+        assertEquals("1.1.1.1", actualInstance.getIp());
+        assertEquals(8848, actualInstance.getPort());
+        assertEquals(0.5D, actualInstance.getWeight());
+        assertTrue(actualInstance.isHealthy());
+        assertTrue(actualInstance.isEnabled());
+        assertFalse(actualInstance.isEphemeral());
+        assertEquals("cluster", actualInstance.getClusterName());
+        assertNull(actualInstance.getInstanceId());
+        assertEquals(1, actualInstance.getMetadata().size());
+        assertEquals("value", actualInstance.getMetadata().get("key"));
+    }
+    
+    @Test
+    void testEncodeAndDecodeWithoutInstance() {
+        InstanceRequest request = new InstanceRequest("namespace", "service", "group", "deregisterInstance", null);
+        
+        InstanceRequest actual = (InstanceRequest) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, request)));
+        assertEquals("deregisterInstance", actual.getType());
+        assertNull(actual.getInstance());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotifySubscriberRequestCodecTest {
+    
+    private static final String TYPE = NotifySubscriberRequest.class.getSimpleName();
+    
+    @Test
+    void testEncodeAndDecode() {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service", "cluster");
+        serviceInfo.setLastRefTime(1700000000000L);
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setReachProtectionThreshold(true);
+        for (int i = 0; i < 3; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1." + i);
+            instance.setPort(8080 + i);
+            instance.setHealthy(i != 1);
+            instance.addMetadata("index", String.valueOf(i));
+            serviceInfo.addHost(instance);
+        }
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRequestId("1");
+        request.setNamespace("namespace");
+        request.setRevision(10L);
+        
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, request)));
+        assertEquals("1", actual.getRequestId());
+        assertEquals("namespace", actual.getNamespace());
+        assertEquals(10L, actual.getRevision());
+        ServiceInfo actualServiceInfo = actual.getServiceInfo();
+        assertEquals(serviceInfo.getName(), actualServiceInfo.getName());
+        assertEquals(serviceInfo.getGroupName(), actualServiceInfo.getGroupName());
+        assertEquals("cluster", actualServiceInfo.getClusters());
+        assertEquals(serviceInfo.getCacheMillis(), actualServiceInfo.getCacheMillis());
+        assertEquals(1700000000000L, actualServiceInfo.getLastRefTime());
+        assertEquals("checksum", actualServiceInfo.getChecksum());
+        assertFalse(actualServiceInfo.isAllIps());
+        assertTrue(actualServiceInfo.isReachProtectionThreshold());
+        assertEquals(3, actualServiceInfo.getHosts().size());
+        for (int i = 0; i < 3; i++) {
+            Instance instance = actualServiceInfo.getHosts().get(i);
+            assertEquals("1.1.1." + i, instance.getIp());
+            assertEquals(8080 + i, instance.getPort());
+            assertEquals(i != 1, instance.isHealthy());
+            assertEquals(String.valueOf(i), instance.getMetadata().get("index"));
+        }
+    }
+}
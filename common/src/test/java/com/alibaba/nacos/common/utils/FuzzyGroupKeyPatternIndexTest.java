@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyGroupKeyPatternIndexTest {
+    
+    @Test
+    void testMatchedPatterns() {
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        String exact = FuzzyGroupKeyPattern.generatePattern("dataId", "group", "namespace");
+        String prefix = FuzzyGroupKeyPattern.generatePattern("data*", "group", "namespace");
+        String postfix = FuzzyGroupKeyPattern.generatePattern("*Id", "gr*", "namespace");
+        String contains = FuzzyGroupKeyPattern.generatePattern("*ta*", "*", "namespace");
+        String other = FuzzyGroupKeyPattern.generatePattern("dataId", "group", "other");
+        for (String pattern : Arrays.asList(exact, prefix, postfix, contains, other)) {
+            assertTrue(index.add(pattern));
+        }
+        assertFalse(index.add(exact));
+        assertEquals(5, index.size());
+        
+        assertEquals(new HashSet<>(Arrays.asList(exact, prefix, postfix, contains)),
+                index.matchedPatterns("dataId", "group", "namespace"));
+        assertEquals(Collections.singleton(contains), index.matchedPatterns("metadata", "other", "namespace"));
+        assertEquals(Collections.emptySet(), index.matchedPatterns("dataId", "group", "unknown"));
+    }
+    
+    @Test
+    void testMatchedPatternsWithBlankNamespace() {
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        String pattern = FuzzyGroupKeyPattern.generatePattern("*", "group", "");
+        index.add(pattern);
+        assertEquals(Collections.singleton(pattern), index.matchedPatterns("dataId", "group", null));
+    }
+    
+    @Test
+    void testRemove() {
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        String prefix = FuzzyGroupKeyPattern.generatePattern("data*", "group", "namespace");
+        String samePrefix = FuzzyGroupKeyPattern.generatePattern("da*ta*", "group", "namespace");
+        index.add(prefix);
+        index.add(samePrefix);
+        assertEquals(new HashSet<>(Arrays.asList(prefix, samePrefix)),
+                index.matchedPatterns("dataId", "group", "namespace"));
+        
+        assertTrue(index.remove(prefix));
+        assertFalse(index.remove(prefix));
+        assertFalse(index.contains(prefix));
+        assertEquals(Collections.singleton(samePrefix), index.matchedPatterns("dataId", "group", "namespace"));
+        
+        assertTrue(index.remove(samePrefix));
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptySet(), index.matchedPatterns("dataId", "group", "namespace"));
+        index.add(prefix);
+        assertEquals(Collections.singleton(prefix), index.matchedPatterns("data", "group", "namespace"));
+    }
+    
+    @Test
+    void testConsistentWithMatchPattern() {
+        List<String> items = Arrays.asList("a", "ab", "abc", "*", "**", "a*", "ab*", "*c", "*bc", "*b*", "a*c", "*a*c*");
+        List<String> resources = Arrays.asList("a", "ab", "abc", "bc", "c", "cab", "");
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        Set<String> patterns = new HashSet<>();
+        for (String group : items) {
+            for (String resource : items) {
+                String pattern = FuzzyGroupKeyPattern.generatePattern(resource, group, "namespace");
+                patterns.add(pattern);
+                index.add(pattern);
+            }
+        }
+        for (String group : resources) {
+            for (String resource : resources) {
+                Set<String> expected = patterns.stream()
+                        .filter(pattern -> FuzzyGroupKeyPattern.matchPattern(pattern, resource, group, "namespace"))
+                        .collect(Collectors.toSet());
+                assertEquals(expected, index.matchedPatterns(resource, group, "namespace"), group + "/" + resource);
+            }
+        }
+        for (String pattern : patterns) {
+            assertTrue(index.remove(pattern));
+        }
+        assertEquals(Collections.emptySet(), index.matchedPatterns("abc", "abc", "namespace"));
+    }
+}
@@ -63,6 +63,8 @@ public class PropertiesConstant {
     
     public static final String DUMP_CHANGE_WORKER_INTERVAL = "dumpChangeWorkerInterval";
 
+    public static final String DUMP_ALL_PARALLELISM = "dumpAllParallelism";
+    
     public static final String CONFIG_RENTENTION_DAYS = "nacos.config.retention.days";
     
     public static final String GRAY_CAPATIBEL_MODEL = "nacos.config.gray.compatible.model";
@@ -60,6 +60,16 @@ public class MetricsMonitor {
     
     private static AtomicInteger dumpTask = new AtomicInteger();
     
+    /**
+     * configs to be dumped by the running startup dump all.
+     */
+    private static AtomicInteger dumpAllTotal = new AtomicInteger();
+    
+    /**
+     * configs already dumped by the running startup dump all.
+     */
+    private static AtomicInteger dumpAllFinished = new AtomicInteger();
+    
     /**
      * config fuzzy search count.
      */
@@ -113,6 +123,16 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "dumpTask"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpTask);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllTotal"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllTotal);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllFinished"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllFinished);
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "fuzzySearch"));
@@ -158,6 +178,14 @@ public class MetricsMonitor {
         return dumpTask;
     }
     
+    public static AtomicInteger getDumpAllTotalMonitor() {
+        return dumpAllTotal;
+    }
+    
+    public static AtomicInteger getDumpAllFinishedMonitor() {
+        return dumpAllFinished;
+    }
+    
     public static AtomicInteger getFuzzySearchMonitor() {
         return fuzzySearch;
     }
@@ -188,6 +216,21 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpRt");
     }
     
+    public static Counter getContentCacheHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getContentCacheMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getContentCacheEvictionCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "eviction");
+    }
+    
     public static Counter getIllegalArgumentException() {
         return NacosMeterRegistryCenter
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "illegalArgument");
@@ -20,10 +20,9 @@ import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.model.ConfigListenState;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +30,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>Both indexes are concurrent maps of concurrent collections, so listens of different group keys and connections
+ * never contend on a shared monitor. Connection ids are added to and removed from a group key entry inside its map bin,
+ * so an entry emptied by one connection is never dropped while another connection is added to it. A connection
+ * cleared concurrently with a new listen is double-checked so that no stale connection id is left.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -40,12 +44,12 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, ConfigListenState>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, ConfigListenState>> connectionIdContext = new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -53,13 +57,23 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
-        // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
-        // 2.add connectionIdContext
+    public void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
+        // 1.add connectionIdContext
         ConfigListenState listenState = new ConfigListenState(md5);
         listenState.setNamespaceTransfer(isNamespaceTransfer);
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, listenState);
+        ConcurrentHashMap<String, ConfigListenState> groupKeys = connectionIdContext.computeIfAbsent(connectionId,
+                k -> new ConcurrentHashMap<>(16));
+        groupKeys.put(groupKey, listenState);
+        // 2.add groupKeyContext in the map bin, so a concurrent remove of the last other connection can't drop the set.
+        groupKeyContext.compute(groupKey, (key, connectionIds) -> {
+            Set<String> result = connectionIds == null ? ConcurrentHashMap.newKeySet() : connectionIds;
+            result.add(connectionId);
+            return result;
+        });
+        // 3.the connection may be cleared before the group key was added, remove the stale connection id.
+        if (connectionIdContext.get(connectionId) != groupKeys) {
+            removeConnectionFromGroupKey(groupKey, connectionId);
+        }
     }
     
     /**
@@ -68,52 +82,52 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
         //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+        removeConnectionFromGroupKey(groupKey, connectionId);
         
         //2.remove connectionIdContext
-        HashMap<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
+        Map<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
         if (groupKeys != null) {
             groupKeys.remove(groupKey);
         }
     }
     
+    private void removeConnectionFromGroupKey(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
+    }
+    
     /**
      * get listeners of the group key.
      *
      * @param groupKey groupKey.
      * @return the copy of listeners, may be return null.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+    public Set<String> getListeners(String groupKey) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (CollectionUtils.isNotEmpty(connectionIds)) {
+            Set<String> listenConnections = new HashSet<>(connectionIds);
+            return listenConnections.isEmpty() ? null : listenConnections;
         }
         return null;
     }
     
     /**
-     * copy collections.
+     * get listeners of the group key without copy.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * <p>The returned view is weakly consistent: it never throws {@link java.util.ConcurrentModificationException} and
+     * may or may not reflect listens changed during iteration.
+     *
+     * @param groupKey groupKey.
+     * @return unmodifiable view of listeners, empty if no listener.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
-        }
+    public Set<String> getListenersView(String groupKey) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        return connectionIds == null ? Collections.emptySet() : Collections.unmodifiableSet(connectionIds);
     }
     
     /**
@@ -121,28 +135,14 @@ public class ConfigChangeListenContext {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
+    public void clearContextForConnectionId(final String connectionId) {
+        Map<String, ConfigListenState> groupKeys = connectionIdContext.remove(connectionId);
+        if (groupKeys == null) {
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
-            }
-
+        for (String groupKey : groupKeys.keySet()) {
+            removeConnectionFromGroupKey(groupKey, connectionId);
         }
-        connectionIdContext.remove(connectionId);
     }
     
     /**
@@ -151,11 +151,11 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, ConfigListenState> stringStringHashMap = connectionIdContext.get(connectionId);
-        if (stringStringHashMap != null) {
-            HashMap<String, String> md5Map = new HashMap<>(stringStringHashMap.size());
-            for (Map.Entry<String, ConfigListenState> entry : stringStringHashMap.entrySet()) {
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, ConfigListenState> configListenStates = connectionIdContext.get(connectionId);
+        if (configListenStates != null) {
+            HashMap<String, String> md5Map = new HashMap<>(configListenStates.size());
+            for (Map.Entry<String, ConfigListenState> entry : configListenStates.entrySet()) {
                 md5Map.put(entry.getKey(), entry.getValue().getMd5());
             }
             return md5Map;
@@ -171,8 +171,8 @@ public class ConfigChangeListenContext {
      * @return md5 of the listen group key.
      */
     public String getListenKeyMd5(String connectionId, String groupKey) {
-        Map<String, ConfigListenState> groupKeyContexts = connectionIdContext.get(connectionId);
-        return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey).getMd5();
+        ConfigListenState listenState = getConfigListenState(connectionId, groupKey);
+        return listenState == null ? null : listenState.getMd5();
     }
     
     public ConfigListenState getConfigListenState(String connectionId, String groupKey) {
@@ -180,9 +180,9 @@ public class ConfigChangeListenContext {
         return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey);
     }
     
-    public synchronized HashMap<String, ConfigListenState> getConfigListenStates(String connectionId) {
-        HashMap<String, ConfigListenState> configListenStateHashMap = connectionIdContext.get(connectionId);
-        return configListenStateHashMap == null ? null : new HashMap<>(configListenStateHashMap);
+    public HashMap<String, ConfigListenState> getConfigListenStates(String connectionId) {
+        Map<String, ConfigListenState> configListenStates = connectionIdContext.get(connectionId);
+        return configListenStates == null ? null : new HashMap<>(configListenStates);
     }
     
     /**
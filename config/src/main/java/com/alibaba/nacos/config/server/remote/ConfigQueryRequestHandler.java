@@ -130,6 +130,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                 response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
             } else {
                 response.setResultCode(ResponseCode.SUCCESS.getCode());
+                response = encodeIfCacheable(groupKey, chainResponse, response);
             }
             
             String pullEvent = resolvePullEventType(chainResponse, request.getTag());
@@ -170,6 +171,20 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         
     }
     
+    private ConfigQueryResponse encodeIfCacheable(String groupKey, ConfigQueryChainResponse chainResponse,
+            ConfigQueryResponse response) {
+        switch (chainResponse.getStatus()) {
+            case CONFIG_FOUND_FORMAL:
+                return ConfigQueryResponseCache.getInstance().encode(groupKey, null, response);
+            case CONFIG_FOUND_GRAY:
+                ConfigCacheGray matchedGray = chainResponse.getMatchedGray();
+                return matchedGray == null ? response
+                        : ConfigQueryResponseCache.getInstance().encode(groupKey, matchedGray.getGrayName(), response);
+            default:
+                return response;
+        }
+    }
+    
     private String resolvePullEventType(ConfigQueryChainResponse chainResponse, String tag) {
         switch (chainResponse.getStatus()) {
             case CONFIG_FOUND_GRAY:
@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of serialized {@link ConfigQueryResponse} for hot configs, keyed by groupKey and gray name.
+ *
+ * <p>A cached response is only reused when it is equivalent to the response built for the current query (same md5,
+ * last modified time, gray rule result and so on), so entries never need to be invalidated for correctness; dump
+ * invalidation only releases memory early.
+ *
+ * <p>The byte budget is set by system property {@code config_query_response_cache_max_bytes}, 32MB by default and 0
+ * to disable the cache.
+ *
+ * @author Nacos
+ */
+public class ConfigQueryResponseCache {
+    
+    private static final String MAX_BYTES_PROPERTY = "config_query_response_cache_max_bytes";
+    
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+    
+    private static final int CONCURRENCY_LEVEL = 4;
+    
+    private static final String GRAY_SEPARATOR = "+gray+";
+    
+    private static volatile ConfigQueryResponseCache instance;
+    
+    private final long maxBytes;
+    
+    private final Cache<String, EncodedConfigQueryResponse> cache;
+    
+    ConfigQueryResponseCache(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+        this.cache = CacheBuilder.newBuilder().concurrencyLevel(CONCURRENCY_LEVEL).maximumWeight(this.maxBytes)
+                .weigher((String key, EncodedConfigQueryResponse value) -> value.encodedBody().length).build();
+    }
+    
+    /**
+     * Get the singleton response cache.
+     *
+     * @return response cache
+     */
+    public static ConfigQueryResponseCache getInstance() {
+        if (instance == null) {
+            synchronized (ConfigQueryResponseCache.class) {
+                if (instance == null) {
+                    instance = new ConfigQueryResponseCache(Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Get the encoded form of a successful query response, reusing the cached one when it is equivalent.
+     *
+     * @param groupKey groupKey of the config
+     * @param grayName matched gray name, null for formal config
+     * @param response response built for the current query
+     * @return encoded response, or the origin response if it can't be cached
+     */
+    public ConfigQueryResponse encode(String groupKey, String grayName, ConfigQueryResponse response) {
+        if (maxBytes <= 0 || !response.isSuccess() || response.getContent() == null || StringUtils.isBlank(
+                response.getMd5())) {
+            return response;
+        }
+        String key = cacheKey(groupKey, grayName);
+        EncodedConfigQueryResponse cached = cache.getIfPresent(key);
+        if (cached != null && cached.isEquivalent(response)) {
+            return cached;
+        }
+        EncodedConfigQueryResponse encoded = new EncodedConfigQueryResponse(response);
+        cache.put(key, encoded);
+        return encoded;
+    }
+    
+    /**
+     * Invalidate cached formal response of the groupKey.
+     *
+     * @param groupKey groupKey
+     */
+    public void invalidate(String groupKey) {
+        cache.invalidate(cacheKey(groupKey, null));
+    }
+    
+    /**
+     * Invalidate cached gray response of the groupKey.
+     *
+     * @param groupKey groupKey
+     * @param grayName gray name
+     */
+    public void invalidateGray(String groupKey, String grayName) {
+        cache.invalidate(cacheKey(groupKey, grayName));
+    }
+    
+    public long size() {
+        return cache.size();
+    }
+    
+    private static String cacheKey(String groupKey, String grayName) {
+        return StringUtils.isBlank(grayName) ? groupKey : groupKey + GRAY_SEPARATOR + grayName;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.common.remote.PreEncodedResponse;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+/**
+ * Config query response which is serialized once and then shared by every query of the same config version.
+ *
+ * <p>The instance is immutable by contract: it is cached by {@link ConfigQueryResponseCache} and returned to many
+ * requests concurrently, so it must not be modified after construction.
+ *
+ * @author Nacos
+ */
+public class EncodedConfigQueryResponse extends ConfigQueryResponse implements PreEncodedResponse {
+    
+    private static final String ENCODED_TYPE = ConfigQueryResponse.class.getSimpleName();
+    
+    private final byte[] body;
+    
+    EncodedConfigQueryResponse(ConfigQueryResponse source) {
+        setResultCode(source.getResultCode());
+        setErrorCode(source.getErrorCode());
+        setMessage(source.getMessage());
+        setContent(source.getContent());
+        setEncryptedDataKey(source.getEncryptedDataKey());
+        setContentType(source.getContentType());
+        setMd5(source.getMd5());
+        setLastModified(source.getLastModified());
+        setBeta(source.isBeta());
+        setTag(source.getTag());
+        this.body = JacksonUtils.toJsonBytes(source);
+    }
+    
+    /**
+     * Whether this encoded response is equivalent to the response, comparing every field except the content, which is
+     * covered by md5.
+     *
+     * @param response response to compare
+     * @return true if the encoded body can be sent for the response
+     */
+    boolean isEquivalent(ConfigQueryResponse response) {
+        return getResultCode() == response.getResultCode() && getErrorCode() == response.getErrorCode()
+                && getLastModified() == response.getLastModified() && isBeta() == response.isBeta()
+                && StringUtils.equals(getMd5(), response.getMd5())
+                && StringUtils.equals(getMessage(), response.getMessage())
+                && StringUtils.equals(getEncryptedDataKey(), response.getEncryptedDataKey())
+                && StringUtils.equals(getContentType(), response.getContentType())
+                && StringUtils.equals(getTag(), response.getTag());
+    }
+    
+    @Override
+    public String encodedType() {
+        return ENCODED_TYPE;
+    }
+    
+    @Override
+    public byte[] encodedBody() {
+        return body;
+    }
+}
@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.ConfigListenState;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey;
@@ -86,7 +87,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
      */
     public void configDataChanged(String groupKey, String dataId, String group, String tenant) {
         
-        Set<String> listeners = configChangeListenContext.getListeners(groupKey);
+        Set<String> listeners = configChangeListenContext.getListenersView(groupKey);
         if (CollectionUtils.isEmpty(listeners)) {
             return;
         }
@@ -96,8 +97,12 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             if (connection == null) {
                 continue;
             }
-            boolean ifNamespaceTransfer = configChangeListenContext.getConfigListenState(client, groupKey).isNamespaceTransfer();
-            if (ifNamespaceTransfer) {
+            ConfigListenState listenState = configChangeListenContext.getConfigListenState(client, groupKey);
+            // the listen may be removed concurrently since the listeners are not copied.
+            if (listenState == null) {
+                continue;
+            }
+            if (listenState.isNamespaceTransfer()) {
                 tenant = null;
             }
             ConnectionMeta metaInfo = connection.getMetaInfo();
@@ -23,16 +23,21 @@ import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.ConfigCachePostProcessorDelegate;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.GrayRule;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
+import com.alibaba.nacos.config.server.remote.ConfigQueryResponseCache;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -115,6 +120,8 @@ public class ConfigCacheService {
                 DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
                         localContentMd5);
                 ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+                ConfigContentCache.getInstance().invalidate(groupKey);
+                ConfigQueryResponseCache.getInstance().invalidate(groupKey);
             } else {
                 DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}",
                         groupKey, md5);
@@ -140,15 +147,7 @@ public class ConfigCacheService {
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-exception] save disk error. " + groupKey + ", " + ioe);
-            if (ioe.getMessage() != null) {
-                String errMsg = ioe.getMessage();
-                if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
-                        || errMsg.contains(DISK_QUOTA_EN)) {
-                    // Protect from disk full.
-                    FATAL_LOG.error("Local Disk Full,Exit", ioe);
-                    EnvUtil.systemExit();
-                }
-            }
+            exitIfDiskFull(ioe);
             return false;
         } finally {
             releaseWriteLock(groupKey);
@@ -156,6 +155,103 @@ public class ConfigCacheService {
         
     }
     
+    /**
+     * Save a batch of formal configs and update md5 values in cache, used by dump all on startup.
+     *
+     * <p>The write locks of the whole batch are held together so the changed contents are written to disk in one
+     * {@link com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService#batchSaveToDisk(List)} call, and the
+     * jvm cache is updated afterward in one pass. Configs whose lock is held by a concurrent dump fall back to
+     * {@link #dumpWithMd5}.
+     *
+     * @param configs configs with content.
+     * @return count of configs dumped successfully.
+     */
+    public static int batchDumpWithMd5(List<ConfigInfoWrapper> configs) {
+        List<ConfigInfoWrapper> locked = new ArrayList<>(configs.size());
+        List<ConfigInfoWrapper> fallback = new ArrayList<>();
+        for (ConfigInfoWrapper config : configs) {
+            String groupKey = GroupKey2.getKey(config.getDataId(), config.getGroup(), config.getTenant());
+            makeSure(groupKey, config.getEncryptedDataKey()).setType(config.getType());
+            if (tryWriteLock(groupKey) < 0) {
+                fallback.add(config);
+            } else {
+                locked.add(config);
+            }
+        }
+        int dumped = 0;
+        try {
+            dumped += batchDumpLocked(locked);
+        } finally {
+            for (ConfigInfoWrapper config : locked) {
+                releaseWriteLock(GroupKey2.getKey(config.getDataId(), config.getGroup(), config.getTenant()));
+            }
+        }
+        for (ConfigInfoWrapper config : fallback) {
+            if (dumpWithMd5(config.getDataId(), config.getGroup(), config.getTenant(), config.getContent(), null,
+                    config.getLastModified(), config.getType(), config.getEncryptedDataKey())) {
+                dumped++;
+            }
+        }
+        return dumped;
+    }
+    
+    private static int batchDumpLocked(List<ConfigInfoWrapper> configs) {
+        int unchanged = 0;
+        List<ConfigInfoWrapper> changed = new ArrayList<>(configs.size());
+        List<String> changedMd5s = new ArrayList<>(configs.size());
+        for (ConfigInfoWrapper config : configs) {
+            String groupKey = GroupKey2.getKey(config.getDataId(), config.getGroup(), config.getTenant());
+            long localLastModifiedTs = getLastModifiedTs(groupKey);
+            if (config.getLastModified() < localLastModifiedTs) {
+                DUMP_LOG.warn("[dump-ignore] timestamp is outdated,groupKey={}", groupKey);
+                unchanged++;
+                continue;
+            }
+            String md5 = MD5Utils.md5Hex(config.getContent(), PERSIST_ENCODE);
+            if (md5.equals(getContentMd5(groupKey))) {
+                if (config.getLastModified() > localLastModifiedTs) {
+                    updateTimeStamp(groupKey, config.getLastModified(), config.getEncryptedDataKey());
+                }
+                unchanged++;
+                continue;
+            }
+            changed.add(config);
+            changedMd5s.add(md5);
+        }
+        if (changed.isEmpty()) {
+            return unchanged;
+        }
+        try {
+            ConfigDiskServiceFactory.getInstance().batchSaveToDisk(changed);
+        } catch (IOException ioe) {
+            DUMP_LOG.error("[dump-exception] batch save disk error, size=" + changed.size() + ", " + ioe);
+            exitIfDiskFull(ioe);
+            return unchanged;
+        }
+        for (int i = 0; i < changed.size(); i++) {
+            ConfigInfoWrapper config = changed.get(i);
+            String groupKey = GroupKey2.getKey(config.getDataId(), config.getGroup(), config.getTenant());
+            ConfigContentCache.getInstance().invalidate(groupKey);
+            ConfigQueryResponseCache.getInstance().invalidate(groupKey);
+            updateMd5(groupKey, changedMd5s.get(i), config.getContent(), config.getLastModified(),
+                    config.getEncryptedDataKey());
+        }
+        DUMP_LOG.info("[dump] batch dump finished, size={}, changed={}", configs.size(), changed.size());
+        return unchanged + changed.size();
+    }
+    
+    private static void exitIfDiskFull(IOException ioe) {
+        if (ioe.getMessage() != null) {
+            String errMsg = ioe.getMessage();
+            if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
+                    || errMsg.contains(DISK_QUOTA_EN)) {
+                // Protect from disk full.
+                FATAL_LOG.error("Local Disk Full,Exit", ioe);
+                EnvUtil.systemExit();
+            }
+        }
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -232,6 +328,8 @@ public class ConfigCacheService {
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
                 updateGrayMd5(groupKey, grayName, grayRule, md5, content, lastModifiedTs, encryptedDataKey);
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                ConfigContentCache.getInstance().invalidateGray(groupKey, grayName);
+                ConfigQueryResponseCache.getInstance().invalidateGray(groupKey, grayName);
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -287,6 +385,8 @@ public class ConfigCacheService {
             DUMP_LOG.info("[remove-gray-ok] remove gray in local disk cache,grayName={},groupKey={} ", grayName,
                     groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo4Gray(dataId, group, tenant, grayName);
+            ConfigContentCache.getInstance().invalidateGray(groupKey, grayName);
+            ConfigQueryResponseCache.getInstance().invalidateGray(groupKey, grayName);
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
@@ -335,6 +435,8 @@ public class ConfigCacheService {
         try {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
+            ConfigContentCache.getInstance().invalidate(groupKey);
+            ConfigQueryResponseCache.getInstance().invalidate(groupKey);
             
             CACHE.remove(groupKey);
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPatternIndex;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -56,6 +57,16 @@ public class ConfigFuzzyWatchContextService {
      */
     private final Map<String, Set<String>> matchedGroupKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of the groupKeyPatterns in watchedClientsMap, to find the patterns matching a groupKey.
+     */
+    private final FuzzyGroupKeyPatternIndex watchedPatternIndex = new FuzzyGroupKeyPatternIndex();
+    
+    /**
+     * index of the groupKeyPatterns in matchedGroupKeysMap, to find the patterns matching a groupKey.
+     */
+    private final FuzzyGroupKeyPatternIndex matchedPatternIndex = new FuzzyGroupKeyPatternIndex();
+    
     public ConfigFuzzyWatchContextService() {
     }
     
@@ -69,7 +80,7 @@ public class ConfigFuzzyWatchContextService {
      * if watchedClients is null. pattern matchedServiceKeys will be removed in second period to avoid frequently
      * matchedServiceKeys init.
      */
-    void trimFuzzyWatchContext() {
+    synchronized void trimFuzzyWatchContext() {
         try {
             Iterator<Map.Entry<String, Set<String>>> iterator = matchedGroupKeysMap.entrySet().iterator();
             while (iterator.hasNext()) {
@@ -77,6 +88,7 @@ public class ConfigFuzzyWatchContextService {
                 Set<String> watchedClients = this.watchedClientsMap.get(matchedGroupKeys.getKey());
                 
                 if (watchedClients == null) {
+                    matchedPatternIndex.remove(matchedGroupKeys.getKey());
                     iterator.remove();
                     LogUtil.DEFAULT_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
@@ -84,6 +96,7 @@ public class ConfigFuzzyWatchContextService {
                 } else if (watchedClients.isEmpty()) {
                     LogUtil.DEFAULT_LOG.info("[fuzzy-watch] no client watched pattern {},remove watchedClients context",
                             matchedGroupKeys.getKey());
+                    watchedPatternIndex.remove(matchedGroupKeys.getKey());
                     this.watchedClientsMap.remove(matchedGroupKeys.getKey());
                 } else if (reachToUpLimit(matchedGroupKeys.getValue().size())) {
                     LogUtil.DEFAULT_LOG.warn(
@@ -130,27 +143,27 @@ public class ConfigFuzzyWatchContextService {
         boolean tryAdd = changedType.equals(ADD_CONFIG) || changedType.equals(CONFIG_CHANGED);
         boolean tryRemove = changedType.equals(DELETE_CONFIG);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedGroupKeysMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), dataId, group, namespace)) {
-                boolean containsAlready = entry.getValue().contains(groupKey);
-                boolean reachToUpLimit = reachToUpLimit(entry.getValue().size());
-                if (tryAdd && !containsAlready && reachToUpLimit) {
-                    LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
-                                    + "current config will be ignored for pattern {} ,current count is {}", entry.getKey(),
-                            entry.getValue().size());
-                    continue;
-                }
-                
-                if (tryAdd && !containsAlready && entry.getValue().add(groupKey)) {
-                    needNotify = true;
-                }
-                if (tryRemove && containsAlready && entry.getValue().remove(groupKey)) {
-                    needNotify = true;
-                    if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(entry.getKey());
-                    }
+        for (String groupKeyPattern : matchedPatternIndex.matchedPatterns(dataId, group, namespace)) {
+            Set<String> matchedGroupKeys = matchedGroupKeysMap.get(groupKeyPattern);
+            if (matchedGroupKeys == null) {
+                continue;
+            }
+            boolean containsAlready = matchedGroupKeys.contains(groupKey);
+            boolean reachToUpLimit = reachToUpLimit(matchedGroupKeys.size());
+            if (tryAdd && !containsAlready && reachToUpLimit) {
+                LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
+                                + "current config will be ignored for pattern {} ,current count is {}", groupKeyPattern,
+                        matchedGroupKeys.size());
+                continue;
+            }
+            
+            if (tryAdd && !containsAlready && matchedGroupKeys.add(groupKey)) {
+                needNotify = true;
+            }
+            if (tryRemove && containsAlready && matchedGroupKeys.remove(groupKey)) {
+                needNotify = true;
+                if (reachToUpLimit) {
+                    makeupMatchedGroupKeys(groupKeyPattern);
                 }
             }
         }
@@ -212,6 +225,7 @@ public class ConfigFuzzyWatchContextService {
         }
         
         matchedGroupKeysMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
+        matchedPatternIndex.add(groupKeyPattern);
         Set<String> matchedGroupKeys = this.matchedGroupKeysMap.get(groupKeyPattern);
         long matchBeginTime = System.currentTimeMillis();
         boolean overMatchCount = false;
@@ -246,6 +260,7 @@ public class ConfigFuzzyWatchContextService {
      */
     public synchronized void addFuzzyWatch(String groupKeyPattern, String connectId) throws NacosException {
         watchedClientsMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
+        watchedPatternIndex.add(groupKeyPattern);
         initMatchGroupKeys(groupKeyPattern);
         // Add the connection ID to the set associated with the key pattern in keyPatternContext
         watchedClientsMap.get(groupKeyPattern).add(connectId);
@@ -292,19 +307,13 @@ public class ConfigFuzzyWatchContextService {
     public Set<String> getMatchedClients(String groupKey) {
         // Initialize a set to store the matched connection IDs
         Set<String> connectIds = new HashSet<>();
-        // Iterate over each key pattern in the context
-        Iterator<Map.Entry<String, Set<String>>> watchClientIterator = watchedClientsMap.entrySet().iterator();
-        
         String[] groupItems = GroupKey2.parseKey(groupKey);
-        
-        while (watchClientIterator.hasNext()) {
-            Map.Entry<String, Set<String>> watchClientEntry = watchClientIterator.next();
-            
-            String keyPattern = watchClientEntry.getKey();
-            if (FuzzyGroupKeyPattern.matchPattern(keyPattern, groupItems[0], groupItems[1], groupItems[2])) {
-                if (CollectionUtils.isNotEmpty(watchClientEntry.getValue())) {
-                    connectIds.addAll(watchClientEntry.getValue());
-                }
+        Set<String> keyPatterns = watchedPatternIndex.matchedPatterns(groupItems[0], groupItems[1], groupItems[2]);
+        // Iterate over the key patterns matching the group key
+        for (String keyPattern : keyPatterns) {
+            Set<String> watchedClients = watchedClientsMap.get(keyPattern);
+            if (CollectionUtils.isNotEmpty(watchedClients)) {
+                connectIds.addAll(watchedClients);
             }
         }
         return connectIds;
@@ -31,6 +31,7 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -109,6 +110,7 @@ public class DumpChangeConfigWorker implements Runnable {
                 LogUtil.DEFAULT_LOG.info("Check changed configs from  time {},lastMaxId={}", startTime, changeCursorId);
                 List<ConfigInfoStateWrapper> changeConfigs = configInfoPersistService.findChangeConfig(startTime,
                         changeCursorId, pageSize);
+                List<ConfigInfoWrapper> changedConfigInfos = new ArrayList<>();
                 for (ConfigInfoStateWrapper cf : changeConfigs) {
                     configMigrateService.checkChangedConfigMigrateState(cf);
                     if (StringUtils.isBlank(cf.getTenant())) {
@@ -126,16 +128,25 @@ public class DumpChangeConfigWorker implements Runnable {
                                 cf.getGroup(), cf.getTenant());
                         LogUtil.DUMP_LOG.info("[dump-change] find change config  {}, {}, md5={}", groupKey, cf.getLastModified(),
                                 cf.getMd5());
-                        ConfigCacheService.dump(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
-                                configInfoWrapper.getTenant(), configInfoWrapper.getContent(),
-                                configInfoWrapper.getLastModified(), configInfoWrapper.getType(),
-                                configInfoWrapper.getEncryptedDataKey());
+                        if (configInfoWrapper != null) {
+                            changedConfigInfos.add(configInfoWrapper);
+                        }
+                    }
+                }
+                if (!changedConfigInfos.isEmpty()) {
+                    //dump the changed configs of the page in one disk write batch.
+                    int dumped = ConfigCacheService.batchDumpWithMd5(changedConfigInfos);
+                    for (ConfigInfoWrapper configInfoWrapper : changedConfigInfos) {
                         final String content = configInfoWrapper.getContent();
                         final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
                         final String md5Utf8 = MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
-                        LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}", groupKey,
-                                configInfoWrapper.getLastModified(), content.length(), md5, md5Utf8);
+                        LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
+                                GroupKey2.getKey(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
+                                        configInfoWrapper.getTenant()), configInfoWrapper.getLastModified(),
+                                content.length(), md5, md5Utf8);
                     }
+                    LogUtil.DEFAULT_LOG.info("[dump-change] dump {} of {} changed configs", dumped,
+                            changedConfigInfos.size());
                 }
                 if (changeConfigs.size() < pageSize) {
                     break;
@@ -0,0 +1,245 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hot config content cache in front of {@link ConfigDiskService}.
+ *
+ * <p>Entries are keyed by groupKey (and gray name) and only served when the cached md5 equals the md5 the caller
+ * expects, so a stale entry can never be returned. The cache is bounded by bytes rather than entries; new entries are
+ * admitted freely while there is room, and once full only keys that a {@link FrequencySketch} estimates as
+ * frequently read are admitted, which keeps one-off reads from flushing the hot set.
+ *
+ * <p>The byte budget is set by system property {@code config_content_cache_max_bytes}, 64MB by default and 0 to
+ * disable the cache.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    private static final String MAX_BYTES_PROPERTY = "config_content_cache_max_bytes";
+    
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    
+    private static final int ADMISSION_FREQUENCY = 2;
+    
+    private static final int CONCURRENCY_LEVEL = 4;
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    
+    private static final int SKETCH_EXPECTED_ENTRIES = 8192;
+    
+    private static final String GRAY_SEPARATOR = "+gray+";
+    
+    private static volatile ConfigContentCache instance;
+    
+    private final long maxBytes;
+    
+    private final long maxEntryBytes;
+    
+    private final AtomicLong weightedBytes = new AtomicLong();
+    
+    private final FrequencySketch sketch = new FrequencySketch(SKETCH_EXPECTED_ENTRIES);
+    
+    private final Cache<String, CachedContent> cache;
+    
+    ConfigContentCache(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+        // guava splits the weight budget by segment, so an entry larger than one segment can never stay resident.
+        this.maxEntryBytes = this.maxBytes / CONCURRENCY_LEVEL;
+        this.cache = CacheBuilder.newBuilder().concurrencyLevel(CONCURRENCY_LEVEL).maximumWeight(this.maxBytes)
+                .weigher((String key, CachedContent value) -> value.weight).removalListener(this::onRemoval).build();
+    }
+    
+    /**
+     * Get the singleton content cache.
+     *
+     * @return content cache
+     */
+    public static ConfigContentCache getInstance() {
+        if (instance == null) {
+            synchronized (ConfigContentCache.class) {
+                if (instance == null) {
+                    instance = new ConfigContentCache(Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES));
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Get formal content for the expected md5, loading it from the disk service on miss.
+     *
+     * @param dataId   dataId
+     * @param group    group
+     * @param tenant   tenant
+     * @param groupKey groupKey of dataId, group and tenant
+     * @param md5      md5 currently recorded in the jvm cache
+     * @return content, null if not exist
+     * @throws IOException io exception
+     */
+    public String getContent(String dataId, String group, String tenant, String groupKey, String md5)
+            throws IOException {
+        String cached = get(groupKey, md5);
+        if (cached != null) {
+            return cached;
+        }
+        String content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+        put(groupKey, md5, content);
+        return content;
+    }
+    
+    /**
+     * Get gray content for the expected md5, loading it from the disk service on miss.
+     *
+     * @param dataId   dataId
+     * @param group    group
+     * @param tenant   tenant
+     * @param groupKey groupKey of dataId, group and tenant
+     * @param grayName gray name
+     * @param md5      gray md5 currently recorded in the jvm cache
+     * @return gray content, null if not exist
+     * @throws IOException io exception
+     */
+    public String getGrayContent(String dataId, String group, String tenant, String groupKey, String grayName,
+            String md5) throws IOException {
+        String key = groupKey == null ? null : grayKey(groupKey, grayName);
+        String cached = get(key, md5);
+        if (cached != null) {
+            return cached;
+        }
+        String content = ConfigDiskServiceFactory.getInstance().getGrayContent(dataId, group, tenant, grayName);
+        put(key, md5, content);
+        return content;
+    }
+    
+    /**
+     * Invalidate cached formal content of the groupKey.
+     *
+     * @param groupKey groupKey
+     */
+    public void invalidate(String groupKey) {
+        if (isEnabled()) {
+            cache.invalidate(groupKey);
+        }
+    }
+    
+    /**
+     * Invalidate cached gray content of the groupKey.
+     *
+     * @param groupKey groupKey
+     * @param grayName gray name
+     */
+    public void invalidateGray(String groupKey, String grayName) {
+        if (isEnabled()) {
+            cache.invalidate(grayKey(groupKey, grayName));
+        }
+    }
+    
+    /**
+     * Remove all cached contents.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    public long getWeightedBytes() {
+        return weightedBytes.get();
+    }
+    
+    public long size() {
+        return cache.size();
+    }
+    
+    private boolean isEnabled() {
+        return maxBytes > 0;
+    }
+    
+    String get(String key, String md5) {
+        if (!isEnabled() || key == null || StringUtils.isBlank(md5)) {
+            return null;
+        }
+        sketch.increment(key);
+        CachedContent cached = cache.getIfPresent(key);
+        if (cached != null && md5.equals(cached.md5)) {
+            MetricsMonitor.getContentCacheHitCounter().increment();
+            return cached.content;
+        }
+        MetricsMonitor.getContentCacheMissCounter().increment();
+        return null;
+    }
+    
+    void put(String key, String md5, String content) {
+        if (!isEnabled() || key == null || StringUtils.isBlank(md5) || StringUtils.isBlank(content)) {
+            return;
+        }
+        int weight = weigh(content);
+        if (weight > maxEntryBytes) {
+            return;
+        }
+        boolean hasRoom = weightedBytes.get() + weight <= maxBytes;
+        if (hasRoom || sketch.frequency(key) >= ADMISSION_FREQUENCY) {
+            weightedBytes.addAndGet(weight);
+            cache.put(key, new CachedContent(md5, content, weight));
+        }
+    }
+    
+    private void onRemoval(RemovalNotification<String, CachedContent> notification) {
+        CachedContent value = notification.getValue();
+        if (value != null) {
+            weightedBytes.addAndGet(-value.weight);
+        }
+        if (notification.getCause() == RemovalCause.SIZE) {
+            MetricsMonitor.getContentCacheEvictionCounter().increment();
+        }
+    }
+    
+    private static String grayKey(String groupKey, String grayName) {
+        return groupKey + GRAY_SEPARATOR + grayName;
+    }
+    
+    private static int weigh(String content) {
+        // strings are stored as at most two bytes per char.
+        long bytes = ((long) content.length() << 1) + ENTRY_OVERHEAD_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+    
+    private static class CachedContent {
+        
+        private final String md5;
+        
+        private final String content;
+        
+        private final int weight;
+        
+        CachedContent(String md5, String content, int weight) {
+            this.md5 = md5;
+            this.content = content;
+            this.weight = weight;
+        }
+    }
+}
@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+
 import java.io.IOException;
+import java.util.List;
 
 /**
  * config disk service.
@@ -36,6 +39,18 @@ public interface ConfigDiskService {
      */
     void saveToDisk(String dataId, String group, String tenant, String content) throws IOException;
 
+    /**
+     * Save a batch of configuration information to disk, implementations may override it to write in one batch.
+     *
+     * @param configs configs with dataId, group, tenant and content.
+     * @throws IOException io exception.
+     */
+    default void batchSaveToDisk(List<ConfigInfoWrapper> configs) throws IOException {
+        for (ConfigInfoWrapper config : configs) {
+            saveToDisk(config.getDataId(), config.getGroup(), config.getTenant(), config.getContent());
+        }
+    }
+    
     /**
      * Save gray information to disk.
      *
@@ -18,19 +18,31 @@ package com.alibaba.nacos.config.server.service.dump.disk;
 
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.DiskUtils;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
-import org.rocksdb.Options;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.constant.Constants.NULL;
@@ -38,6 +50,12 @@ import static com.alibaba.nacos.config.server.constant.Constants.NULL;
 /**
  * config rocks db disk service.
  *
+ * <p>Formal and gray contents are kept in separate column families of one rocksdb instance, which share the WAL,
+ * background jobs and one LRU block cache. Column families use bloom filters, so lookups of missing keys rarely read
+ * sst files. The block cache size and bloom filter bits are set by system properties
+ * {@code config_rocksdb_block_cache_mb} (64 by default) and {@code config_rocksdb_bloom_bits_per_key} (10 by default,
+ * 0 to disable).
+ *
  * @author shiyiyue
  */
 @SuppressWarnings({"PMD.ServiceOrDaoClassShouldEndWithImplRule", "PMD.LowerCamelCaseVariableNamingRule"})
@@ -45,13 +63,49 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final String ROCKSDB_DATA = File.separator + "rocksdata" + File.separator;
     
-    private static final String BASE_DIR = ROCKSDB_DATA + "config-data";
+    private static final String DB_DIR = ROCKSDB_DATA + "config-db";
+    
+    /**
+     * directories of the separate formal and gray instances used before column families.
+     */
+    private static final String[] LEGACY_DIRS = {ROCKSDB_DATA + "config-data", ROCKSDB_DATA + "gray-data"};
+    
+    static final String BASE_DIR = "config-data";
     
-    private static final String GRAY_DIR = ROCKSDB_DATA + "gray-data";
+    static final String GRAY_DIR = "gray-data";
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    private static final String BLOCK_CACHE_MB_PROPERTY = "config_rocksdb_block_cache_mb";
+    
+    private static final long DEFAULT_BLOCK_CACHE_MB = 64;
+    
+    private static final String BLOOM_BITS_PROPERTY = "config_rocksdb_bloom_bits_per_key";
+    
+    private static final int DEFAULT_BLOOM_BITS_PER_KEY = 10;
+    
+    static {
+        RocksDB.loadLibrary();
+    }
+    
+    /**
+     * a rocksdb directory can only be opened once in a process, so services of the same nacos home share it.
+     */
+    private static final Map<String, ConfigRocksDbDiskService> OPENED_SERVICES = new ConcurrentHashMap<>();
+    
+    /**
+     * read lock is held while a column family handle is used, write lock while a column family is dropped and
+     * recreated, so no handle is used after it is closed.
+     */
+    private static final ReadWriteLock COLUMN_FAMILY_LOCK = new ReentrantReadWriteLock();
+    
+    private Map<String, ColumnFamilyHandle> columnFamilies;
+    
+    private WriteOptions writeOptions;
+    
+    private volatile RocksDB rocksDb;
+    
+    private LRUCache blockCache;
     
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
@@ -64,21 +118,24 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
-    private void deleteDirIfExist(String dir) {
-        File rockskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
-        if (!rockskDataDir.exists()) {
-            return;
-        }
-        File baseDir = new File(EnvUtil.getNacosHome(), dir);
-        if (baseDir.exists()) {
-            baseDir.delete();
+    private void deleteLegacyDirs() {
+        for (String dir : LEGACY_DIRS) {
+            File legacyDir = new File(EnvUtil.getNacosHome(), dir);
+            if (!legacyDir.exists()) {
+                continue;
+            }
+            try {
+                DiskUtils.deleteDirectory(legacyDir.getAbsolutePath());
+                LogUtil.DEFAULT_LOG.info("delete legacy rocksdb dir {} success.", dir);
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("delete legacy rocksdb dir {} failed.", dir, e);
+            }
         }
     }
     
     public ConfigRocksDbDiskService() {
-        createDirIfNotExist(BASE_DIR);
-        createDirIfNotExist(GRAY_DIR);
-        
+        createDirIfNotExist(DB_DIR);
+        deleteLegacyDirs();
     }
     
     private byte[] getKeyByte(String dataId, String group, String tenant, String tag) throws IOException {
@@ -122,10 +179,14 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
+        COLUMN_FAMILY_LOCK.readLock().lock();
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            initAndGetDB().put(getColumnFamily(type), writeOptions, getKeyByte(dataId, group, tenant, tag),
+                    content.getBytes(ENCODE_UTF8));
         } catch (RocksDBException e) {
             throw new IOException(e);
+        } finally {
+            COLUMN_FAMILY_LOCK.readLock().unlock();
         }
     }
     
@@ -142,11 +203,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
-        try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
+        saveToDiskInner(type, dataId, group, tenant, grayName, content);
     }
     
     /**
@@ -156,13 +213,37 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         saveToDiskInner(BASE_DIR, dataId, group, tenant, content);
     }
     
+    /**
+     * Save a batch of configuration information to disk in one write batch.
+     */
+    @Override
+    public void batchSaveToDisk(List<ConfigInfoWrapper> configs) throws IOException {
+        if (configs.isEmpty()) {
+            return;
+        }
+        COLUMN_FAMILY_LOCK.readLock().lock();
+        try (WriteBatch writeBatch = new WriteBatch()) {
+            ColumnFamilyHandle columnFamily = getColumnFamily(BASE_DIR);
+            for (ConfigInfoWrapper config : configs) {
+                writeBatch.put(columnFamily,
+                        getKeyByte(config.getDataId(), config.getGroup(), config.getTenant(), null),
+                        config.getContent().getBytes(ENCODE_UTF8));
+            }
+            initAndGetDB().write(writeOptions, writeBatch);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        } finally {
+            COLUMN_FAMILY_LOCK.readLock().unlock();
+        }
+    }
+    
     /**
      * Save tag information to disk.
      */
     public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
             throws IOException {
         saveGrayToDiskInner(GRAY_DIR, dataId, group, tenant, grayName, content);
-        
+    
     }
     
     /**
@@ -176,8 +257,8 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Deletes gray configuration files on disk.
      */
     public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
-        removeGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
-        
+        removeContentInner(GRAY_DIR, dataId, group, tenant, grayName);
+    
     }
     
     private String byte2String(byte[] bytes) throws IOException {
@@ -187,66 +268,68 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return new String(bytes, ENCODE_UTF8);
     }
     
-    RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
-        } else {
-            synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
-                }
-                createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
-            }
-            
+    RocksDB initAndGetDB() throws RocksDBException {
+        if (rocksDb != null) {
+            return rocksDb;
         }
-    }
-    
-    private void createDirIfEmpty(String filePath) {
-        File file = new File(filePath);
-        if (!file.exists()) {
-            file.mkdirs();
+        synchronized (OPENED_SERVICES) {
+            if (rocksDb != null) {
+                return rocksDb;
+            }
+            String path = EnvUtil.getNacosHome() + DB_DIR;
+            ConfigRocksDbDiskService opened = OPENED_SERVICES.get(path);
+            if (opened != null) {
+                columnFamilies = opened.columnFamilies;
+                writeOptions = opened.writeOptions;
+                blockCache = opened.blockCache;
+                rocksDb = opened.rocksDb;
+                return rocksDb;
+            }
+            createDirIfNotExist(DB_DIR);
+            columnFamilies = new ConcurrentHashMap<>(4);
+            writeOptions = new WriteOptions();
+            blockCache = new LRUCache(Long.getLong(BLOCK_CACHE_MB_PROPERTY, DEFAULT_BLOCK_CACHE_MB) * 1024 * 1024);
+            List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+            descriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY));
+            descriptors.add(createColumnFamilyDescriptor(BASE_DIR));
+            descriptors.add(createColumnFamilyDescriptor(GRAY_DIR));
+            List<ColumnFamilyHandle> handles = new ArrayList<>();
+            RocksDB db = RocksDB.open(createOptions(), path, descriptors, handles);
+            columnFamilies.put(BASE_DIR, handles.get(1));
+            columnFamilies.put(GRAY_DIR, handles.get(2));
+            rocksDb = db;
+            OPENED_SERVICES.put(path, this);
+            return rocksDb;
         }
     }
     
-    private String getContentInner(String type, String dataId, String group, String tenant) throws IOException {
-        byte[] bytes = null;
-        try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
-            String string = byte2String(bytes);
-            return string;
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
+    private ColumnFamilyHandle getColumnFamily(String type) throws RocksDBException {
+        initAndGetDB();
+        return columnFamilies.get(type);
     }
     
-    private String getGrayInner(String type, String dataId, String group, String tenant, String grayName)
+    private String getContentInner(String type, String dataId, String group, String tenant, String tag)
             throws IOException {
-        byte[] bytes = null;
+        COLUMN_FAMILY_LOCK.readLock().lock();
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, grayName));
+            byte[] bytes = initAndGetDB().get(getColumnFamily(type), getKeyByte(dataId, group, tenant, tag));
             return byte2String(bytes);
         } catch (RocksDBException e) {
             throw new IOException(e);
+        } finally {
+            COLUMN_FAMILY_LOCK.readLock().unlock();
         }
     }
     
     private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
+        COLUMN_FAMILY_LOCK.readLock().lock();
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
-        } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
-                    group, tenant, e.getCause());
-        }
-    }
-    
-    private void removeGrayInner(String type, String dataId, String group, String tenant, String grayName) {
-        try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, grayName));
+            initAndGetDB().delete(getColumnFamily(type), writeOptions, getKeyByte(dataId, group, tenant, tag));
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
+        } finally {
+            COLUMN_FAMILY_LOCK.readLock().unlock();
         }
     }
     
@@ -254,31 +337,44 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Returns the path of the gray content cache file in server.
      */
     public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
-        return getGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
+        return getContentInner(GRAY_DIR, dataId, group, tenant, grayName);
     }
     
     public String getContent(String dataId, String group, String tenant) throws IOException {
-        return getContentInner(BASE_DIR, dataId, group, tenant);
+        return getContentInner(BASE_DIR, dataId, group, tenant, null);
     }
     
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
-        return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
+        return MD5Utils.md5Hex(getContent(dataId, group, tenant), encode);
     }
     
-    Options createOptions(String dir) {
+    DBOptions createOptions() {
         DBOptions dbOptions = new DBOptions();
         dbOptions.setMaxBackgroundJobs(Runtime.getRuntime().availableProcessors());
-        Options options = new Options(dbOptions, createColumnFamilyOptions(dir));
-        options.setCreateIfMissing(true);
-        return options;
+        dbOptions.setCreateIfMissing(true);
+        dbOptions.setCreateMissingColumnFamilies(true);
+        return dbOptions;
+    }
+    
+    private ColumnFamilyDescriptor createColumnFamilyDescriptor(String type) {
+        return new ColumnFamilyDescriptor(type.getBytes(StandardCharsets.UTF_8),
+                createColumnFamilyOptions(type));
     }
     
-    ColumnFamilyOptions createColumnFamilyOptions(String dir) {
+    ColumnFamilyOptions createColumnFamilyOptions(String type) {
         ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions();
         BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
+        tableFormatConfig.setBlockCache(blockCache);
+        int bloomBitsPerKey = Integer.getInteger(BLOOM_BITS_PROPERTY, DEFAULT_BLOOM_BITS_PER_KEY);
+        if (bloomBitsPerKey > 0) {
+            tableFormatConfig.setFilterPolicy(new BloomFilter(bloomBitsPerKey, false));
+            //keep filter and index blocks of level 0 in the block cache, they are read by every lookup.
+            tableFormatConfig.setCacheIndexAndFilterBlocks(true);
+            tableFormatConfig.setPinL0FilterAndIndexBlocksInCache(true);
+        }
         columnFamilyOptions.setTableFormatConfig(tableFormatConfig);
         //set more write buffer size to formal config-data, reduce flush to sst file frequency.
-        columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(dir) * 1024 * 1024);
+        columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(type) * 1024 * 1024);
         //once a stt file is flushed, compact it immediately to avoid too many sst file which will result in read latency.
         columnFamilyOptions.setLevel0FileNumCompactionTrigger(1);
         return columnFamilyOptions;
@@ -313,7 +409,24 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
                     DEFAULT_WRITE_BUFFER_MB, dir, maxHeapSizeMB);
             return DEFAULT_WRITE_BUFFER_MB;
         }
-        
+    
+    }
+    
+    /**
+     * Drop and recreate the column family, then close the old handle. Readers are blocked meanwhile by the column
+     * family lock, so none of them can still use the old handle.
+     */
+    private void clearColumnFamily(String type) throws RocksDBException {
+        RocksDB db = initAndGetDB();
+        COLUMN_FAMILY_LOCK.writeLock().lock();
+        try {
+            ColumnFamilyHandle dropped = columnFamilies.get(type);
+            db.dropColumnFamily(dropped);
+            columnFamilies.put(type, db.createColumnFamily(createColumnFamilyDescriptor(type)));
+            dropped.close();
+        } finally {
+            COLUMN_FAMILY_LOCK.writeLock().unlock();
+        }
     }
     
     /**
@@ -321,11 +434,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void clearAll() {
         try {
-            if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
-            }
-            deleteDirIfExist(BASE_DIR);
+            clearColumnFamily(BASE_DIR);
             LogUtil.DEFAULT_LOG.info("clear all config-info success.");
         } catch (RocksDBException e) {
             LogUtil.DEFAULT_LOG.warn("clear all config-info failed.", e);
@@ -338,15 +447,11 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllGray() {
         
         try {
-            if (rocksDbMap.containsKey(GRAY_DIR)) {
-                rocksDbMap.get(GRAY_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + GRAY_DIR, new Options());
-            }
-            deleteDirIfExist(GRAY_DIR);
+            clearColumnFamily(GRAY_DIR);
             LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
         } catch (RocksDBException e) {
             LogUtil.DEFAULT_LOG.warn("clear all config-info-gray failed.", e);
         }
     }
-    
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A memory mapped segment file of {@link ConfigSegmentStore}, contents are appended one after another.
+ *
+ * <p>Appending is guarded by the store, reads go through a duplicate of the mapped buffer so they need no lock. A
+ * dropped segment is unmapped and deleted by the last reader still in it, later reads get {@code null} and look up the
+ * index again. If the jvm does not allow to unmap explicitly, the mapping is released by gc.
+ *
+ * @author Nacos
+ */
+class ConfigSegment {
+    
+    private static final String NO_SPACE_MESSAGE = "No space left on device";
+    
+    private static final Object UNSAFE;
+    
+    private static final Method INVOKE_CLEANER;
+    
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Exception e) {
+            LogUtil.DEFAULT_LOG.warn("config segments can not be unmapped explicitly, released by gc instead.", e);
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+    
+    private final int id;
+    
+    private final File file;
+    
+    private final MappedByteBuffer buffer;
+    
+    private final int capacity;
+    
+    private final AtomicLong liveBytes = new AtomicLong();
+    
+    private final AtomicInteger readers = new AtomicInteger();
+    
+    private final AtomicBoolean unmapped = new AtomicBoolean();
+    
+    private volatile boolean dropped;
+    
+    private int writePosition;
+    
+    private ConfigSegment(int id, File file, MappedByteBuffer buffer, int capacity) {
+        this.id = id;
+        this.file = file;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+    
+    static ConfigSegment create(int id, File file, int capacity) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+                FileChannel channel = randomAccessFile.getChannel()) {
+            randomAccessFile.setLength(capacity);
+            return new ConfigSegment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+        }
+    }
+    
+    int getId() {
+        return id;
+    }
+    
+    int getCapacity() {
+        return capacity;
+    }
+    
+    int remaining() {
+        return capacity - writePosition;
+    }
+    
+    long getLiveBytes() {
+        return liveBytes.get();
+    }
+    
+    /**
+     * Append content to the end of the segment, caller makes sure the remaining space is enough.
+     *
+     * @param content content bytes
+     * @return offset of the content
+     * @throws IOException if the file can not be extended on disk
+     */
+    int append(byte[] content) throws IOException {
+        int offset = writePosition;
+        ByteBuffer target = buffer.duplicate();
+        target.position(offset);
+        try {
+            target.put(content);
+        } catch (InternalError e) {
+            // writing to a mapped page of a full disk raises SIGBUS, which the jvm reports as an internal error.
+            throw new IOException(NO_SPACE_MESSAGE + ", " + file, e);
+        }
+        writePosition += content.length;
+        liveBytes.addAndGet(content.length);
+        return offset;
+    }
+    
+    /**
+     * Read content from the segment.
+     *
+     * @param offset offset of the content
+     * @param length length of the content
+     * @return content bytes, null if the segment is dropped
+     */
+    byte[] read(int offset, int length) {
+        readers.incrementAndGet();
+        try {
+            if (dropped) {
+                return null;
+            }
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset);
+            byte[] content = new byte[length];
+            source.get(content);
+            return content;
+        } finally {
+            if (readers.decrementAndGet() == 0 && dropped) {
+                unmapAndDelete();
+            }
+        }
+    }
+    
+    void release(int length) {
+        liveBytes.addAndGet(-length);
+    }
+    
+    /**
+     * Drop the segment, it is unmapped and deleted once no reader is in it.
+     */
+    void drop() {
+        dropped = true;
+        if (readers.get() == 0) {
+            unmapAndDelete();
+        }
+    }
+    
+    boolean isUnmapped() {
+        return unmapped.get();
+    }
+    
+    private void unmapAndDelete() {
+        if (!unmapped.compareAndSet(false, true)) {
+            return;
+        }
+        if (null != INVOKE_CLEANER) {
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (Exception e) {
+                LogUtil.DEFAULT_LOG.warn("unmap config segment {} failed.", file, e);
+            }
+        }
+        if (!file.delete()) {
+            // a mapped file can not be deleted on some platforms until it is unmapped.
+            file.deleteOnExit();
+        }
+    }
+}
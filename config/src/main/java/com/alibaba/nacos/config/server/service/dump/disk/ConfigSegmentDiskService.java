@@ -0,0 +1,153 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config disk service on memory mapped segment files.
+ *
+ * <p>Formal and gray contents are appended to a few large segment files under {@code data/segment-data} instead of
+ * one file per config, so clearing on startup deletes a handful of files and reads are served from the page cache
+ * through the mapping. Segments with more garbage than live contents are compacted in background.
+ *
+ * <p>The segment size is set by system property {@code config_segment_size_mb}, 64MB by default and 2047MB at most
+ * because a segment is mapped by one buffer.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigSegmentDiskService implements ConfigDiskService {
+    
+    private static final String SEGMENT_DATA = "data" + File.separator + "segment-data";
+    
+    private static final String SEGMENT_SIZE_MB_PROPERTY = "config_segment_size_mb";
+    
+    private static final int DEFAULT_SEGMENT_SIZE_MB = 64;
+    
+    private static final double COMPACT_LIVE_RATIO = 0.5D;
+    
+    private static final long COMPACT_INTERVAL_SECONDS = 60L;
+    
+    private final ConfigSegmentStore formalStore;
+    
+    private final ConfigSegmentStore grayStore;
+    
+    public ConfigSegmentDiskService() {
+        this(new File(EnvUtil.getNacosHome(), SEGMENT_DATA),
+                segmentSize(Integer.getInteger(SEGMENT_SIZE_MB_PROPERTY, DEFAULT_SEGMENT_SIZE_MB)));
+        ConfigExecutor.scheduleConfigTask(this::compact, COMPACT_INTERVAL_SECONDS, COMPACT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+    
+    ConfigSegmentDiskService(File baseDir, int segmentSize) {
+        this.formalStore = new ConfigSegmentStore(new File(baseDir, "config"), segmentSize);
+        this.grayStore = new ConfigSegmentStore(new File(baseDir, "gray"), segmentSize);
+    }
+    
+    static int segmentSize(int segmentSizeMb) {
+        long segmentSize = segmentSizeMb * 1024L * 1024L;
+        if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+            LogUtil.DEFAULT_LOG.warn("invalid {} {}, use default {}MB.", SEGMENT_SIZE_MB_PROPERTY, segmentSizeMb,
+                    DEFAULT_SEGMENT_SIZE_MB);
+            return DEFAULT_SEGMENT_SIZE_MB * 1024 * 1024;
+        }
+        return (int) segmentSize;
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        formalStore.put(GroupKey2.getKey(dataId, group, tenant), content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void batchSaveToDisk(List<ConfigInfoWrapper> configs) throws IOException {
+        Map<String, byte[]> contents = new LinkedHashMap<>(configs.size() * 2);
+        for (ConfigInfoWrapper config : configs) {
+            contents.put(GroupKey2.getKey(config.getDataId(), config.getGroup(), config.getTenant()),
+                    config.getContent().getBytes(StandardCharsets.UTF_8));
+        }
+        formalStore.putAll(contents);
+    }
+    
+    @Override
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        grayStore.put(grayKey(dataId, group, tenant, grayName), content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        grayStore.remove(grayKey(dataId, group, tenant, grayName));
+    }
+    
+    @Override
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) {
+        return toString(grayStore.get(grayKey(dataId, group, tenant, grayName)));
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        formalStore.remove(GroupKey2.getKey(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) {
+        return toString(formalStore.get(GroupKey2.getKey(dataId, group, tenant)));
+    }
+    
+    @Override
+    public void clearAll() {
+        formalStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+    }
+    
+    @Override
+    public void clearAllGray() {
+        grayStore.clear();
+        LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
+    }
+    
+    void compact() {
+        try {
+            formalStore.compact(COMPACT_LIVE_RATIO);
+            grayStore.compact(COMPACT_LIVE_RATIO);
+        } catch (Throwable e) {
+            LogUtil.DEFAULT_LOG.warn("compact config segments failed.", e);
+        }
+    }
+    
+    private static String grayKey(String dataId, String group, String tenant, String grayName) {
+        return GroupKey2.getKey(GroupKey2.getKey(dataId, group, tenant), grayName);
+    }
+    
+    private static String toString(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.utils.DiskUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Log structured content store on memory mapped segment files.
+ *
+ * <p>Every save appends the content to the active segment and points the in-memory index at it, the space of the
+ * replaced content becomes garbage. {@link #compact(double)} copies the live contents of sealed segments with too much
+ * garbage to the active segment and deletes them. Writes are serialized by the store, reads are lock free.
+ *
+ * <p>The contents are a cache rebuilt by dump all on startup, so segments left by the last run are deleted on open
+ * instead of being replayed.
+ *
+ * @author Nacos
+ */
+class ConfigSegmentStore {
+    
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    private final List<ConfigSegment> segments = new ArrayList<>();
+    
+    private ConfigSegment active;
+    
+    private int nextSegmentId;
+    
+    ConfigSegmentStore(File dir, int segmentSize) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        clear();
+    }
+    
+    /**
+     * Get content of the key.
+     *
+     * @param key key
+     * @return content bytes, null if not exist
+     */
+    byte[] get(String key) {
+        while (true) {
+            Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            byte[] content = location.segment.read(location.offset, location.length);
+            // the segment is dropped by compaction or clear after the location was got, look up again.
+            if (content != null) {
+                return content;
+            }
+        }
+    }
+    
+    /**
+     * Save content of the key.
+     *
+     * @param key     key
+     * @param content content bytes
+     * @throws IOException io exception
+     */
+    synchronized void put(String key, byte[] content) throws IOException {
+        ConfigSegment segment = segmentFor(content.length);
+        int offset = segment.append(content);
+        releaseLocation(index.put(key, new Location(segment, offset, content.length)));
+    }
+    
+    /**
+     * Save contents of the keys while holding the write lock once.
+     *
+     * @param contents key to content bytes
+     * @throws IOException io exception
+     */
+    synchronized void putAll(Map<String, byte[]> contents) throws IOException {
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+    
+    synchronized void remove(String key) {
+        releaseLocation(index.remove(key));
+    }
+    
+    /**
+     * Remove all contents and delete all segment files.
+     */
+    synchronized void clear() {
+        index.clear();
+        for (ConfigSegment segment : segments) {
+            segment.drop();
+        }
+        segments.clear();
+        active = null;
+        try {
+            if (dir.exists()) {
+                DiskUtils.deleteDirectory(dir.getAbsolutePath());
+            }
+            DiskUtils.forceMkdir(dir);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("clear config segment dir {} failed.", dir, e);
+        }
+    }
+    
+    /**
+     * Copy live contents out of the sealed segments whose live ratio is below the threshold, then delete them.
+     *
+     * @param liveRatioThreshold live bytes ratio under which a sealed segment is compacted
+     * @return count of compacted segments
+     * @throws IOException io exception
+     */
+    synchronized int compact(double liveRatioThreshold) throws IOException {
+        Set<ConfigSegment> candidates = new HashSet<>();
+        for (ConfigSegment segment : segments) {
+            if (segment != active && segment.getLiveBytes() < segment.getCapacity() * liveRatioThreshold) {
+                candidates.add(segment);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            if (candidates.contains(location.segment)) {
+                put(entry.getKey(), location.segment.read(location.offset, location.length));
+            }
+        }
+        for (ConfigSegment segment : candidates) {
+            segments.remove(segment);
+            segment.drop();
+        }
+        LogUtil.DEFAULT_LOG.info("compact {} config segments in dir {}, remain {} segments.", candidates.size(), dir,
+                segments.size());
+        return candidates.size();
+    }
+    
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    private ConfigSegment segmentFor(int length) throws IOException {
+        if (active != null && active.remaining() >= length) {
+            return active;
+        }
+        // a content larger than a segment gets a segment of its own.
+        ConfigSegment segment = ConfigSegment.create(nextSegmentId,
+                new File(dir, SEGMENT_FILE_PREFIX + nextSegmentId), Math.max(segmentSize, length));
+        nextSegmentId++;
+        segments.add(segment);
+        if (length <= segmentSize || active == null) {
+            active = segment;
+        }
+        return segment;
+    }
+    
+    private void releaseLocation(Location location) {
+        if (location != null) {
+            location.segment.release(location.length);
+        }
+    }
+    
+    private static class Location {
+        
+        private final ConfigSegment segment;
+        
+        private final int offset;
+        
+        private final int length;
+        
+        Location(ConfigSegment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
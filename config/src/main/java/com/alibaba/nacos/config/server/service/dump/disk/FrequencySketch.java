@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+/**
+ * A count-min sketch with 4-bit counters used to estimate recent access frequency, in the spirit of TinyLFU.
+ *
+ * <p>After {@code sampleSize} increments all counters are halved, so the estimate tracks recent popularity instead
+ * of all-time popularity. Updates are intentionally not synchronized: a lost increment only lowers accuracy.
+ *
+ * @author Nacos
+ */
+class FrequencySketch {
+    
+    private static final long RESET_MASK = 0x7777777777777777L;
+    
+    private static final int MAX_COUNT = 15;
+    
+    private static final int[] SEEDS = {0x97cb3127, 0x8e6a9f5b, 0xc2b2ae35, 0x27d4eb2f};
+    
+    private final long[] table;
+    
+    private final int tableMask;
+    
+    private final int sampleSize;
+    
+    private int size;
+    
+    FrequencySketch(int expectedEntries) {
+        int capacity = Integer.highestOneBit(Math.max(64, expectedEntries - 1) << 1);
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = capacity * 10;
+    }
+    
+    /**
+     * Returns the estimated number of occurrences of the key, in the range of 0 to 15.
+     *
+     * @param key key
+     * @return estimated frequency
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int offset = counterOffset(hash, i);
+            int count = (int) ((table[index] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+    
+    /**
+     * Increments the popularity of the key if it does not exceed the maximum of 15.
+     *
+     * @param key key
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), counterOffset(hash, i));
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+    
+    private boolean incrementAt(int index, int offset) {
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+    
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = size >>> 1;
+    }
+    
+    private int indexOf(int hash, int i) {
+        long h = (long) (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+    
+    private int counterOffset(int hash, int i) {
+        return (((hash >>> (i << 3)) & 3) << 2) + (i << 4);
+    }
+    
+    private static int spread(int hash) {
+        int h = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        return (h >>> 16) ^ h;
+    }
+}
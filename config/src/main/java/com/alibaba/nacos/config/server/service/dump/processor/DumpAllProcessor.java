@@ -16,11 +16,16 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.SwitchService;
@@ -31,7 +36,11 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.api.model.Page;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -42,11 +51,17 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>On startup the id range of config_info is split into partitions which are read and dumped concurrently, each page
+ * is dumped by {@link ConfigCacheService#batchDumpWithMd5(List)}. The partitions are several times more than the
+ * threads, so sparse id ranges do not leave threads idle.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
 public class DumpAllProcessor implements NacosTaskProcessor {
     
+    private static final int PARTITIONS_PER_THREAD = 4;
+    
     public DumpAllProcessor(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
     }
@@ -61,19 +76,15 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             return false;
         }
         DumpAllTask dumpAllTask = (DumpAllTask) task;
+        if (dumpAllTask.isStartUp()) {
+            return dumpAllOnStartup();
+        }
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
         long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        }
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> new Thread(r, "dump all executor"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
         
         DEFAULT_LOG.info("start dump all config-info...");
         
@@ -81,7 +92,7 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             long start = System.currentTimeMillis();
             
             Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
+                    PropertyUtil.getAllDumpPageSize(), false);
             long dbTimeStamp = System.currentTimeMillis();
             if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
                 break;
@@ -92,33 +103,25 @@ public class DumpAllProcessor implements NacosTaskProcessor {
                 if (StringUtils.isBlank(cf.getTenant())) {
                     continue;
                 }
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
+                //page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+                final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+                boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+                //check md5 & update local disk cache.
+                String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+                boolean md5Update = !localContentMd5.equals(cf.getMd5());
+                if (newLastModified || md5Update) {
+                    LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
+                            cf.getLastModified(), cf.getMd5());
+                    cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+                } else {
+                    continue;
                 }
                 
                 if (cf == null) {
                     continue;
                 }
                 
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
+                loadSwitchConfig(cf);
                 
                 final String content = cf.getContent();
                 final String dataId = cf.getDataId();
@@ -164,5 +167,121 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         return true;
     }
     
+    private boolean dumpAllOnStartup() {
+        final long currentMaxId = configInfoPersistService.findConfigMaxId();
+        final int parallelism = Math.max(1, PropertyUtil.getDumpAllParallelism());
+        final int pageSize = PropertyUtil.getAllDumpPageSize();
+        final List<long[]> partitions = splitIdRange(currentMaxId, parallelism * PARTITIONS_PER_THREAD, pageSize);
+        
+        MetricsMonitor.getDumpAllTotalMonitor().set(configInfoPersistService.configInfoCount());
+        MetricsMonitor.getDumpAllFinishedMonitor().set(0);
+        DEFAULT_LOG.info("start dump all config-info, maxId={}, parallelism={}, partitions={}", currentMaxId,
+                parallelism, partitions.size());
+        long start = System.currentTimeMillis();
+        
+        ExecutorService executorService = ExecutorFactory.newFixedExecutorService(parallelism,
+                new NameThreadFactory("com.alibaba.nacos.config.dump.all"));
+        List<Future<Integer>> futures = new ArrayList<>(partitions.size());
+        for (long[] each : partitions) {
+            futures.add(executorService.submit(() -> dumpPartition(each[0], each[1], pageSize)));
+        }
+        
+        int dumped = 0;
+        Throwable failure = null;
+        try {
+            for (Future<Integer> future : futures) {
+                try {
+                    dumped += future.get();
+                } catch (ExecutionException e) {
+                    DEFAULT_LOG.error("[all-dump] dump partition error", e.getCause());
+                    failure = null == failure ? e.getCause() : failure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.error("[all-dump] interrupted while waiting dump partitions to be finished", e);
+            failure = e;
+        } finally {
+            executorService.shutdownNow();
+        }
+        if (null != failure) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all config-info on startup failed",
+                    failure);
+        }
+        DEFAULT_LOG.info("success to dump all config-info, partitions={}, dumped={}, cost={}ms", futures.size(),
+                dumped, System.currentTimeMillis() - start);
+        return true;
+    }
+    
+    /**
+     * Split id range (0, maxId] into partitions of at least one page, the last partition ends at maxId.
+     *
+     * @param maxId          max id of config_info
+     * @param partitionCount expected count of partitions
+     * @param pageSize       page size of query
+     * @return ranges of {@code (fromId, toId]}, empty if maxId is not positive
+     */
+    static List<long[]> splitIdRange(long maxId, int partitionCount, int pageSize) {
+        final long partitionSize = Math.max(Math.max(1, pageSize), (maxId + partitionCount - 1) / partitionCount);
+        List<long[]> result = new ArrayList<>();
+        for (long startId = 0; startId < maxId; startId += partitionSize) {
+            result.add(new long[] {startId, Math.min(startId + partitionSize, maxId)});
+        }
+        return result;
+    }
+    
+    /**
+     * Dump configs whose id is in range (fromId, toId], configs added after startup are left to the dump change worker.
+     */
+    private int dumpPartition(long fromId, long toId, int pageSize) {
+        long lastMaxId = fromId;
+        int dumped = 0;
+        while (lastMaxId < toId) {
+            long start = System.currentTimeMillis();
+            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, pageSize,
+                    true);
+            long dbTimeStamp = System.currentTimeMillis();
+            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                break;
+            }
+            List<ConfigInfoWrapper> batch = new ArrayList<>(page.getPageItems().size());
+            for (ConfigInfoWrapper cf : page.getPageItems()) {
+                if (cf.getId() > toId) {
+                    lastMaxId = toId;
+                    break;
+                }
+                lastMaxId = Math.max(cf.getId(), lastMaxId);
+                if (StringUtils.isBlank(cf.getTenant())) {
+                    continue;
+                }
+                loadSwitchConfig(cf);
+                batch.add(cf);
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            int succeed = ConfigCacheService.batchDumpWithMd5(batch);
+            dumped += succeed;
+            MetricsMonitor.getDumpAllFinishedMonitor().addAndGet(succeed);
+            if (succeed < batch.size()) {
+                LogUtil.DUMP_LOG.info("[dump-all-error] {} of {} configs failed to dump before id {}",
+                        batch.size() - succeed, batch.size(), lastMaxId);
+            }
+            DEFAULT_LOG.info("[all-dump] dump partition ({}, {}] to {}, dbTime={},diskTime={}", fromId, toId,
+                    lastMaxId, (dbTimeStamp - start), (System.currentTimeMillis() - dbTimeStamp));
+        }
+        return dumped;
+    }
+    
+    private void loadSwitchConfig(ConfigInfoWrapper cf) {
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+    }
+    
     final ConfigInfoPersistService configInfoPersistService;
 }
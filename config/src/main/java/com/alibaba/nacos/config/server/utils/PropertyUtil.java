@@ -122,6 +122,11 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * number of id range partitions dumped concurrently on startup, default the number of processors.
+     */
+    private static int dumpAllParallelism = Runtime.getRuntime().availableProcessors();
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -138,6 +143,14 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static int getDumpAllParallelism() {
+        return dumpAllParallelism;
+    }
+    
+    public static void setDumpAllParallelism(int dumpAllParallelism) {
+        PropertyUtil.dumpAllParallelism = Math.max(1, dumpAllParallelism);
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -327,6 +340,7 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
+            setDumpAllParallelism(getInt(PropertiesConstant.DUMP_ALL_PARALLELISM, dumpAllParallelism));
             setGrayCompatibleModel(getBoolean(PropertiesConstant.GRAY_CAPATIBEL_MODEL, grayCompatibleModel));
             
         } catch (Exception e) {
@@ -24,11 +24,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -62,6 +70,16 @@ class ConfigChangeListenContextTest {
         assertEquals(1, groupKey.size());
     }
     
+    @Test
+    void testGetListenersView() {
+        assertTrue(configChangeListenContext.getListenersView("groupKey").isEmpty());
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId", false);
+        Set<String> listeners = configChangeListenContext.getListenersView("groupKey");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2", false);
+        assertEquals(2, listeners.size());
+        assertThrows(UnsupportedOperationException.class, () -> listeners.remove("connectionId"));
+    }
+    
     @Test
     void testClearContextForConnectionId() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId", false);
@@ -70,6 +88,62 @@ class ConfigChangeListenContextTest {
         configChangeListenContext.clearContextForConnectionId("connectionId");
         Map<String, String> connectionIdAfter = configChangeListenContext.getListenKeys("connectionId");
         assertNull(connectionIdAfter);
+        assertNull(configChangeListenContext.getListeners("groupKey"));
+    }
+    
+    @Test
+    void testConcurrentListenAndClear() throws InterruptedException {
+        int connectionCount = 32;
+        int groupKeyCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(connectionCount * 2);
+        for (int i = 0; i < connectionCount; i++) {
+            String connectionId = "connectionId" + i;
+            executorService.execute(() -> {
+                for (int j = 0; j < groupKeyCount; j++) {
+                    configChangeListenContext.addListen("groupKey" + j, "md5", connectionId, false);
+                }
+                latch.countDown();
+            });
+            executorService.execute(() -> {
+                configChangeListenContext.clearContextForConnectionId(connectionId);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        // no connection id is left in the group key index without its connection context.
+        for (int j = 0; j < groupKeyCount; j++) {
+            for (String each : configChangeListenContext.getListenersView("groupKey" + j)) {
+                assertNotNull(configChangeListenContext.getConfigListenState(each, "groupKey" + j));
+            }
+        }
+    }
+    
+    @Test
+    void testConcurrentListenAndUnlistenOtherConnection() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 20000; i++) {
+                String groupKey = "groupKey" + i;
+                configChangeListenContext.addListen(groupKey, "md5", "leaving", false);
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> unlisten = executorService.submit(() -> {
+                    await(barrier);
+                    configChangeListenContext.removeListen(groupKey, "leaving");
+                });
+                Future<?> listen = executorService.submit(() -> {
+                    await(barrier);
+                    configChangeListenContext.addListen(groupKey, "md5", "joining", false);
+                });
+                unlisten.get(5, TimeUnit.SECONDS);
+                listen.get(5, TimeUnit.SECONDS);
+                // the joining connection must not be left in a group key set dropped from the index.
+                assertTrue(configChangeListenContext.getListenersView(groupKey).contains("joining"), groupKey);
+            }
+        } finally {
+            executorService.shutdown();
+        }
     }
     
     @Test
@@ -105,4 +179,11 @@ class ConfigChangeListenContextTest {
         assertFalse(configListenStates.get("groupKey").isNamespaceTransfer());
     }
     
-}
\ No newline at end of file
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigQueryResponseCacheTest {
+    
+    @Test
+    void testEncodeReuseEquivalentResponse() {
+        ConfigQueryResponseCache cache = new ConfigQueryResponseCache(1024 * 1024);
+        ConfigQueryResponse first = cache.encode("groupKey", null, buildResponse("md5", 1L));
+        ConfigQueryResponse second = cache.encode("groupKey", null, buildResponse("md5", 1L));
+        assertTrue(first instanceof EncodedConfigQueryResponse);
+        assertSame(first, second);
+        assertArrayEquals(JacksonUtils.toJsonBytes(buildResponse("md5", 1L)),
+                ((EncodedConfigQueryResponse) first).encodedBody());
+        assertEquals("ConfigQueryResponse", ((EncodedConfigQueryResponse) first).encodedType());
+    }
+    
+    @Test
+    void testEncodeWhenVersionChanged() {
+        ConfigQueryResponseCache cache = new ConfigQueryResponseCache(1024 * 1024);
+        ConfigQueryResponse first = cache.encode("groupKey", null, buildResponse("md5", 1L));
+        ConfigQueryResponse newMd5 = cache.encode("groupKey", null, buildResponse("newMd5", 1L));
+        ConfigQueryResponse newTimestamp = cache.encode("groupKey", null, buildResponse("newMd5", 2L));
+        assertNotSame(first, newMd5);
+        assertNotSame(newMd5, newTimestamp);
+        assertEquals("newMd5", newTimestamp.getMd5());
+        assertEquals(2L, newTimestamp.getLastModified());
+    }
+    
+    @Test
+    void testGrayIsolatedFromFormal() {
+        ConfigQueryResponseCache cache = new ConfigQueryResponseCache(1024 * 1024);
+        ConfigQueryResponse formal = cache.encode("groupKey", null, buildResponse("md5", 1L));
+        ConfigQueryResponse gray = cache.encode("groupKey", "gray", buildResponse("md5", 1L));
+        assertNotSame(formal, gray);
+        assertEquals(2, cache.size());
+        cache.invalidate("groupKey");
+        cache.invalidateGray("groupKey", "gray");
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testNotCacheFailResponse() {
+        ConfigQueryResponseCache cache = new ConfigQueryResponseCache(1024 * 1024);
+        ConfigQueryResponse response = ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND,
+                "config data not exist");
+        assertSame(response, cache.encode("groupKey", null, response));
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testDisabledCache() {
+        ConfigQueryResponseCache cache = new ConfigQueryResponseCache(0);
+        ConfigQueryResponse response = buildResponse("md5", 1L);
+        assertSame(response, cache.encode("groupKey", null, response));
+    }
+    
+    private ConfigQueryResponse buildResponse(String md5, long lastModified) {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse("content");
+        response.setMd5(md5);
+        response.setLastModified(lastModified);
+        response.setContentType("text");
+        return response;
+    }
+}
@@ -129,7 +129,7 @@ class RpcConfigChangeNotifierTest {
         Mockito.when(connectionManager.getConnection(eq("con3"))).thenReturn(mockConn3);
         Mockito.when(mockConn3.getMetaInfo())
                 .thenReturn(new ConnectionMeta("con3", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.2.0", null, new HashMap<>()));
-        Mockito.when(configChangeListenContext.getListeners(eq(groupKey))).thenReturn(mockConnectionIds);
+        Mockito.when(configChangeListenContext.getListenersView(eq(groupKey))).thenReturn(mockConnectionIds);
         Mockito.when(configChangeListenContext.getConfigListenState(anyString(), anyString())).thenReturn(new ConfigListenState("111"));
         //mock push tps passed
         Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
@@ -38,11 +39,14 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -147,7 +151,57 @@ class ConfigCacheServiceTest {
         Mockito.verify(configDiskService, times(1)).removeConfigInfo(dataId, group, tenant);
         CacheItem contentCacheAfterRemove = ConfigCacheService.getContentCache(groupKey);
         assertNull(contentCacheAfterRemove);
+    
+    }
+    
+    @Test
+    void testBatchDumpFormal() throws Exception {
+        String group = "groupBatch";
+        String tenant = "tenantBatch";
+        long ts = System.currentTimeMillis();
+        ConfigInfoWrapper unchanged = createConfig("dataIdBatchUnchanged", group, tenant, "unchanged", ts + 10L);
+        ConfigCacheService.dump(unchanged.getDataId(), group, tenant, unchanged.getContent(), ts, "text", null);
+        ConfigInfoWrapper outdated = createConfig("dataIdBatchOutdated", group, tenant, "outdatedNew", ts - 10L);
+        ConfigCacheService.dump(outdated.getDataId(), group, tenant, "outdatedOld", ts, "text", null);
+        ConfigInfoWrapper added = createConfig("dataIdBatchAdded", group, tenant, "added", ts);
+        
+        int dumped = ConfigCacheService.batchDumpWithMd5(Arrays.asList(unchanged, outdated, added));
+        assertEquals(3, dumped);
+        Mockito.verify(configDiskService, times(1)).batchSaveToDisk(eq(Collections.singletonList(added)));
         
+        CacheItem unchangedCache = ConfigCacheService.getContentCache(
+                GroupKey2.getKey(unchanged.getDataId(), group, tenant));
+        assertEquals(ts + 10L, unchangedCache.getConfigCache().getLastModifiedTs());
+        CacheItem outdatedCache = ConfigCacheService.getContentCache(
+                GroupKey2.getKey(outdated.getDataId(), group, tenant));
+        assertEquals(MD5Utils.md5Hex("outdatedOld", "UTF-8"), outdatedCache.getConfigCache().getMd5());
+        CacheItem addedCache = ConfigCacheService.getContentCache(GroupKey2.getKey(added.getDataId(), group, tenant));
+        assertEquals(MD5Utils.md5Hex("added", "UTF-8"), addedCache.getConfigCache().getMd5());
+        assertEquals(ts, addedCache.getConfigCache().getLastModifiedTs());
+        assertEquals("json", addedCache.getType());
+        
+        // save to disk error keeps jvm cache unchanged.
+        ConfigInfoWrapper failed = createConfig("dataIdBatchFailed", group, tenant, "failed", ts);
+        doThrow(new IOException("mock io error")).when(configDiskService).batchSaveToDisk(Mockito.anyList());
+        assertEquals(0, ConfigCacheService.batchDumpWithMd5(Collections.singletonList(failed)));
+        assertNotEquals(MD5Utils.md5Hex("failed", "UTF-8"),
+                ConfigCacheService.getContentMd5(GroupKey2.getKey(failed.getDataId(), group, tenant)));
+        
+        for (ConfigInfoWrapper each : Arrays.asList(unchanged, outdated, added, failed)) {
+            ConfigCacheService.remove(each.getDataId(), group, tenant);
+        }
+    }
+    
+    private ConfigInfoWrapper createConfig(String dataId, String group, String tenant, String content,
+            long lastModified) {
+        ConfigInfoWrapper config = new ConfigInfoWrapper();
+        config.setDataId(dataId);
+        config.setGroup(group);
+        config.setTenant(tenant);
+        config.setContent(content);
+        config.setLastModified(lastModified);
+        config.setType("json");
+        return config;
     }
     
     @Test
@@ -0,0 +1,125 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigContentCacheTest {
+    
+    private MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    @Mock
+    private ConfigDiskService configDiskService;
+    
+    @BeforeEach
+    void setUp() {
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configDiskServiceFactoryMockedStatic.close();
+    }
+    
+    @Test
+    void testGetContentHitAfterFirstLoad() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "md5"));
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "md5"));
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void testGetContentReloadWhenMd5Changed() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content", "newContent");
+        
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "md5"));
+        assertEquals("newContent", cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "newMd5"));
+        assertEquals("newContent", cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "newMd5"));
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testInvalidate() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        when(configDiskService.getGrayContent("dataId", "group", "tenant", "gray")).thenReturn("grayContent");
+        
+        cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "md5");
+        cache.getGrayContent("dataId", "group", "tenant", "dataId+group+tenant", "gray", "grayMd5");
+        assertEquals(2, cache.size());
+        
+        cache.invalidate("dataId+group+tenant");
+        cache.invalidateGray("dataId+group+tenant", "gray");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeightedBytes());
+    }
+    
+    @Test
+    void testDisabledCacheAlwaysReadsDisk() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(0);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        
+        cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "md5");
+        cache.getContent("dataId", "group", "tenant", "dataId+group+tenant", "md5");
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testAdmissionWhenFull() {
+        ConfigContentCache cache = new ConfigContentCache(4000);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append('c');
+        }
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, "md5", content.toString());
+        }
+        assertTrue(cache.getWeightedBytes() <= 4000);
+        // a cold key is rejected when there is no room.
+        cache.put("cold", "md5", content.toString());
+        assertNull(cache.get("cold", "md5"));
+        // a key read repeatedly is admitted even when there is no room.
+        cache.get("hot", "md5");
+        cache.get("hot", "md5");
+        cache.put("hot", "md5", content.toString());
+        assertEquals(content.toString(), cache.get("hot", "md5"));
+    }
+}
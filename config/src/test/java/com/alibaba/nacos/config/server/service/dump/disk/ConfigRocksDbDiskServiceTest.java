@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    private MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    private File nacosHome;
+    
+    private ConfigRocksDbDiskService diskService;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        nacosHome = Files.createTempDirectory("nacos-rocksdb").toFile();
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        envUtilMockedStatic.when(EnvUtil::getNacosHome).thenReturn(nacosHome.getAbsolutePath());
+        diskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        envUtilMockedStatic.close();
+        IoUtils.delete(nacosHome);
+    }
+    
+    @Test
+    void testSaveAndRemove() throws Exception {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.removeConfigInfo4Gray("dataId", "group", "tenant", "gray");
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testBatchSaveToDisk() throws Exception {
+        List<ConfigInfoWrapper> configs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ConfigInfoWrapper config = new ConfigInfoWrapper();
+            config.setDataId("dataId" + i);
+            config.setGroup("group+" + i);
+            config.setTenant("tenant%" + i);
+            config.setContent("content" + i);
+            configs.add(config);
+        }
+        diskService.batchSaveToDisk(configs);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("content" + i, diskService.getContent("dataId" + i, "group+" + i, "tenant%" + i));
+        }
+    }
+    
+    @Test
+    void testClearAllKeepsGray() throws Exception {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.saveToDisk("dataId", "group", "tenant", "newContent");
+        assertEquals("newContent", diskService.getContent("dataId", "group", "tenant"));
+        
+        diskService.clearAllGray();
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        assertEquals("newContent", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    void testClearAllWhileReadAndWrite() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> readAndWrite = executor.submit(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    diskService.saveToDisk("dataId" + i, "group", "tenant", "content" + i);
+                    diskService.getContent("dataId" + i, "group", "tenant");
+                }
+                return null;
+            });
+            for (int i = 0; i < 20; i++) {
+                diskService.clearAll();
+            }
+            readAndWrite.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId0", "group", "tenant"));
+    }
+    
+    @Test
+    void testDeleteLegacyDirs() throws Exception {
+        File legacyDir = new File(nacosHome, "rocksdata" + File.separator + "config-data");
+        legacyDir.mkdirs();
+        new File(legacyDir, "000001.sst").createNewFile();
+        new ConfigRocksDbDiskService();
+        assertFalse(legacyDir.exists());
+    }
+}
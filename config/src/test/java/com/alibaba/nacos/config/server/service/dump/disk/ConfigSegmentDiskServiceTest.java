@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigSegmentDiskServiceTest {
+    
+    private File baseDir;
+    
+    private ConfigSegmentDiskService diskService;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        baseDir = Files.createTempDirectory("nacos-segment").toFile();
+        diskService = new ConfigSegmentDiskService(baseDir, 1024);
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        IoUtils.delete(baseDir);
+    }
+    
+    @Test
+    void testSegmentSize() {
+        assertEquals(64 * 1024 * 1024, ConfigSegmentDiskService.segmentSize(64));
+        assertEquals(2047 * 1024 * 1024, ConfigSegmentDiskService.segmentSize(2047));
+        assertEquals(64 * 1024 * 1024, ConfigSegmentDiskService.segmentSize(4096));
+        assertEquals(64 * 1024 * 1024, ConfigSegmentDiskService.segmentSize(0));
+    }
+    
+    @Test
+    void testSaveAndRemove() throws Exception {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        assertNull(diskService.getContent("dataId", "group", ""));
+        
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.removeConfigInfo4Gray("dataId", "group", "tenant", "gray");
+        assertNull(diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testGrayKeyNotAmbiguous() throws Exception {
+        diskService.saveGrayToDisk("dataId", "group", "", "tenant+gray", "emptyTenant");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "tenant");
+        assertEquals("emptyTenant", diskService.getGrayContent("dataId", "group", "", "tenant+gray"));
+        assertEquals("tenant", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testBatchSaveAndClearAll() throws Exception {
+        List<ConfigInfoWrapper> configs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ConfigInfoWrapper config = new ConfigInfoWrapper();
+            config.setDataId("dataId" + i);
+            config.setGroup("group");
+            config.setTenant("tenant");
+            config.setContent("content" + i);
+            configs.add(config);
+        }
+        diskService.batchSaveToDisk(configs);
+        diskService.saveGrayToDisk("dataId0", "group", "tenant", "gray", "grayContent");
+        for (int i = 0; i < 100; i++) {
+            assertEquals("content" + i, diskService.getContent("dataId" + i, "group", "tenant"));
+        }
+        
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId0", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId0", "group", "tenant", "gray"));
+        diskService.clearAllGray();
+        assertNull(diskService.getGrayContent("dataId0", "group", "tenant", "gray"));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSegmentStoreTest {
+    
+    private static final int SEGMENT_SIZE = 64;
+    
+    private File dir;
+    
+    private ConfigSegmentStore store;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        dir = Files.createTempDirectory("nacos-segment").toFile();
+        store = new ConfigSegmentStore(dir, SEGMENT_SIZE);
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        IoUtils.delete(dir);
+    }
+    
+    @Test
+    void testPutGetAndRemove() throws Exception {
+        store.put("key", bytes("content"));
+        assertArrayEquals(bytes("content"), store.get("key"));
+        store.put("key", bytes("newContent"));
+        assertArrayEquals(bytes("newContent"), store.get("key"));
+        store.put("empty", new byte[0]);
+        assertArrayEquals(new byte[0], store.get("empty"));
+        store.remove("key");
+        assertNull(store.get("key"));
+        assertNull(store.get("notExist"));
+    }
+    
+    @Test
+    void testRollAndLargeContent() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            store.put("key" + i, bytes("content-of-key-" + i));
+        }
+        // 16 bytes per content, 4 contents per segment.
+        assertEquals(3, store.segmentCount());
+        byte[] large = new byte[SEGMENT_SIZE * 3];
+        large[large.length - 1] = 1;
+        store.put("large", large);
+        store.put("afterLarge", bytes("afterLarge"));
+        assertArrayEquals(large, store.get("large"));
+        assertArrayEquals(bytes("afterLarge"), store.get("afterLarge"));
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(bytes("content-of-key-" + i), store.get("key" + i));
+        }
+    }
+    
+    @Test
+    void testCompact() throws Exception {
+        Map<String, byte[]> contents = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            contents.put("key" + i, bytes("content-of-key-" + i));
+        }
+        store.putAll(contents);
+        for (int i = 0; i < 9; i++) {
+            store.remove("key" + i);
+        }
+        int before = store.segmentCount();
+        assertEquals(before - 1, store.compact(0.5D));
+        assertEquals(1, store.segmentCount());
+        assertEquals(1, store.size());
+        assertArrayEquals(bytes("content-of-key-9"), store.get("key9"));
+        assertEquals(1, dir.listFiles().length);
+    }
+    
+    @Test
+    void testClear() throws Exception {
+        store.put("key", bytes("content"));
+        store.clear();
+        assertNull(store.get("key"));
+        assertEquals(0, store.segmentCount());
+        assertEquals(0, dir.listFiles().length);
+        store.put("key", bytes("content"));
+        assertArrayEquals(bytes("content"), store.get("key"));
+    }
+    
+    @Test
+    void testDropSegment() throws Exception {
+        File file = new File(dir, "segment");
+        ConfigSegment segment = ConfigSegment.create(0, file, SEGMENT_SIZE);
+        int offset = segment.append(bytes("content"));
+        assertArrayEquals(bytes("content"), segment.read(offset, 7));
+        segment.drop();
+        assertTrue(segment.isUnmapped());
+        assertFalse(file.exists());
+        assertNull(segment.read(offset, 7));
+    }
+    
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
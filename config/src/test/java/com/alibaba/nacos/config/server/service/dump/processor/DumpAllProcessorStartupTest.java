@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.api.model.Page;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DumpAllProcessorStartupTest {
+    
+    private static final int PAGE_SIZE = 100;
+    
+    @Mock
+    private ConfigInfoPersistService configInfoPersistService;
+    
+    private MockedStatic<PropertyUtil> propertyUtilMockedStatic;
+    
+    private DumpAllProcessor dumpAllProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        propertyUtilMockedStatic.when(PropertyUtil::getAllDumpPageSize).thenReturn(PAGE_SIZE);
+        propertyUtilMockedStatic.when(PropertyUtil::getDumpAllParallelism).thenReturn(2);
+        dumpAllProcessor = new DumpAllProcessor(configInfoPersistService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        propertyUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testSplitIdRange() {
+        List<long[]> partitions = DumpAllProcessor.splitIdRange(1000L, 8, PAGE_SIZE);
+        assertEquals(8, partitions.size());
+        assertArrayEquals(new long[] {0L, 125L}, partitions.get(0));
+        assertArrayEquals(new long[] {875L, 1000L}, partitions.get(7));
+        for (int i = 1; i < partitions.size(); i++) {
+            assertEquals(partitions.get(i - 1)[1], partitions.get(i)[0]);
+        }
+    }
+    
+    @Test
+    void testSplitIdRangeNotDivisible() {
+        List<long[]> partitions = DumpAllProcessor.splitIdRange(1001L, 8, PAGE_SIZE);
+        assertEquals(8, partitions.size());
+        assertArrayEquals(new long[] {0L, 126L}, partitions.get(0));
+        assertArrayEquals(new long[] {882L, 1001L}, partitions.get(7));
+    }
+    
+    @Test
+    void testSplitIdRangeSmallerThanPage() {
+        List<long[]> partitions = DumpAllProcessor.splitIdRange(150L, 8, PAGE_SIZE);
+        assertEquals(2, partitions.size());
+        assertArrayEquals(new long[] {0L, 100L}, partitions.get(0));
+        assertArrayEquals(new long[] {100L, 150L}, partitions.get(1));
+        assertEquals(1, DumpAllProcessor.splitIdRange(1L, 8, PAGE_SIZE).size());
+    }
+    
+    @Test
+    void testSplitIdRangeWithoutConfig() {
+        assertTrue(DumpAllProcessor.splitIdRange(0L, 8, PAGE_SIZE).isEmpty());
+        assertTrue(DumpAllProcessor.splitIdRange(-1L, 8, PAGE_SIZE).isEmpty());
+    }
+    
+    @Test
+    void testDumpAllOnStartupWithoutConfig() {
+        when(configInfoPersistService.findConfigMaxId()).thenReturn(0L);
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+    }
+    
+    @Test
+    void testDumpAllOnStartupWithPartitionFailed() {
+        when(configInfoPersistService.findConfigMaxId()).thenReturn(1000L);
+        when(configInfoPersistService.findAllConfigInfoFragment(anyLong(), eq(PAGE_SIZE), eq(true))).thenAnswer(
+                invocation -> {
+                    if (invocation.<Long>getArgument(0) == 250L) {
+                        throw new IllegalStateException("mock query failed");
+                    }
+                    return new Page<ConfigInfoWrapper>();
+                });
+        NacosRuntimeException exception = assertThrows(NacosRuntimeException.class,
+                () -> dumpAllProcessor.process(new DumpAllTask(true)));
+        assertEquals("mock query failed", exception.getCause().getMessage());
+        // every partition is waited for before the failure is thrown.
+        verify(configInfoPersistService, times(8)).findAllConfigInfoFragment(anyLong(), eq(PAGE_SIZE), eq(true));
+    }
+}
@@ -91,6 +91,7 @@ class DumpAllProcessorTest {
         envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
         propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
         propertyUtilMockedStatic.when(PropertyUtil::getAllDumpPageSize).thenReturn(100);
+        propertyUtilMockedStatic.when(PropertyUtil::getDumpAllParallelism).thenReturn(2);
         dumpAllProcessor = new DumpAllProcessor(configInfoPersistService);
         when(EnvUtil.getNacosHome()).thenReturn(System.getProperty("user.home"));
         when(EnvUtil.getProperty(eq(CommonConstant.NACOS_PLUGIN_DATASOURCE_LOG), eq(Boolean.class),
@@ -105,7 +106,7 @@ class DumpAllProcessorTest {
         dumpAllProcessor = new DumpAllProcessor(configInfoPersistService);
         envUtilMockedStatic.when(() -> EnvUtil.getProperty(eq("memory_limit_file_path"),
                 eq("/sys/fs/cgroup/memory/memory.limit_in_bytes"))).thenReturn(mockMem);
-        
+    
     }
     
     @AfterEach
@@ -276,5 +277,5 @@ class DumpAllProcessorTest {
                         configInfoWrapper2.getTenant());
         assertEquals(configInfoWrapperSingle2.getContent(), contentFromDisk2);
     }
-    
+
 }
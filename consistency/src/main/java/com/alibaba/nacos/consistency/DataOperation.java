@@ -45,5 +45,9 @@ public enum DataOperation {
     /**
      * Data query.
      */
-    QUERY;
+    QUERY,
+    /**
+     * Data verify by bucketed digest.
+     */
+    VERIFY_DIGEST;
 }
@@ -319,6 +319,7 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.core.distributed.distro.entity.DistroData.class,
             com.alibaba.nacos.core.distributed.distro.entity.DistroKey.class,
             com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest.class,
+            com.alibaba.nacos.naming.cluster.remote.request.DistroDataBatchRequest.class,
             com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse.class,
             com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot.class,
             com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo.class,
@@ -362,11 +363,13 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.api.config.remote.response.ConfigRemoveResponse.class,
             com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse.class,
             com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest.class,
+            com.alibaba.nacos.api.naming.remote.request.BatchRedoRequest.class,
             com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest.class,
             com.alibaba.nacos.api.naming.remote.request.ServiceListRequest.class,
             com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest.class,
             com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest.class,
             com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse.class,
+            com.alibaba.nacos.api.naming.remote.response.BatchRedoResponse.class,
             com.alibaba.nacos.api.naming.remote.response.InstanceResponse.class,
             com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse.class,
             com.alibaba.nacos.api.naming.remote.response.QueryServiceResponse.class,
@@ -396,10 +399,12 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.core.remote.grpc.BaseGrpcServer.class, com.alibaba.nacos.core.remote.BaseRpcServer.class,
             com.alibaba.nacos.core.remote.grpc.GrpcBiStreamRequestAcceptor.class,
             com.alibaba.nacos.core.remote.grpc.GrpcClusterServer.class,
+            com.alibaba.nacos.core.remote.grpc.GrpcRequestScheduler.class,
             com.alibaba.nacos.core.remote.grpc.GrpcSdkServer.class,
             com.alibaba.nacos.core.cluster.remote.request.MemberReportRequest.class,
             com.alibaba.nacos.core.cluster.remote.response.MemberReportResponse.class,
             com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest.class,
+            com.alibaba.nacos.naming.cluster.remote.request.DistroDataBatchRequest.class,
             com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse.class,
             // serializer
             com.alibaba.nacos.consistency.serialize.HessianSerializer.class,
@@ -36,14 +36,20 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
     
+    private int syncBatchSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE;
+    
     private long verifyIntervalMillis = DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS;
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private int verifyDigestBuckets = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataChunkSize = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -57,14 +63,20 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS);
+        syncBatchSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
         verifyIntervalMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyDigestBuckets = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_BUCKETS, Integer.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkSize = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
     }
     
     public static DistroConfig getInstance() {
@@ -95,6 +107,23 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncRetryDelayMillis = syncRetryDelayMillis;
     }
     
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+    
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+    
+    /**
+     * Whether sync changed data to the same target in batch, set sync batch size to 1 or less to sync one by one.
+     *
+     * @return {@code true} if sync in batch
+     */
+    public boolean isSyncBatchEnabled() {
+        return syncBatchSize > 1;
+    }
+    
     public long getVerifyIntervalMillis() {
         return verifyIntervalMillis;
     }
@@ -111,6 +140,23 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public int getVerifyDigestBuckets() {
+        return verifyDigestBuckets;
+    }
+    
+    public void setVerifyDigestBuckets(int verifyDigestBuckets) {
+        this.verifyDigestBuckets = verifyDigestBuckets;
+    }
+    
+    /**
+     * Whether verify data by bucketed digest, set digest buckets to 0 to verify every data one by one.
+     *
+     * @return {@code true} if verify by digest
+     */
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestBuckets > 0;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +173,21 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataChunkSize() {
+        return loadDataChunkSize;
+    }
+    
+    public void setLoadDataChunkSize(int loadDataChunkSize) {
+        this.loadDataChunkSize = loadDataChunkSize;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", syncBatchSize=" + syncBatchSize
+                + ", verifyIntervalMillis=" + verifyIntervalMillis
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyDigestBuckets=" + verifyDigestBuckets
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis + ", loadDataTimeoutMillis="
+                + loadDataTimeoutMillis + ", loadDataChunkSize=" + loadDataChunkSize + '}';
     }
 }
@@ -43,6 +43,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS = 3000L;
     
+    public static final String DATA_SYNC_BATCH_SIZE = "nacos.core.protocol.distro.data.sync.batchSize";
+    
+    public static final String DATA_SYNC_BATCH_SIZE_STATE = "data_sync_batchSize";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_SIZE = 100;
+    
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS = "nacos.core.protocol.distro.data.verify.intervalMs";
     
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS_STATE = "data_verify_intervalMs";
@@ -55,12 +61,24 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_BUCKETS = "nacos.core.protocol.distro.data.verify.digestBuckets";
+    
+    public static final String DATA_VERIFY_DIGEST_BUCKETS_STATE = "data_verify_digestBuckets";
+    
+    public static final int DEFAULT_DATA_VERIFY_DIGEST_BUCKETS = 1024;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
     
     public static final long DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_SIZE = "nacos.core.protocol.distro.data.load.chunkSize";
+    
+    public static final String DATA_LOAD_CHUNK_SIZE_STATE = "data_load_chunkSize";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_SIZE = 1000;
+    
     public static final String DATA_LOAD_TIMEOUT_MILLISECONDS = "nacos.core.protocol.distro.data.load.timeoutMs";
     
     public static final String DATA_LOAD_TIMEOUT_MILLISECONDS_STATE = "data_load_timeoutMs";
@@ -26,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
@@ -35,6 +36,8 @@ import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -194,6 +197,32 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Receive verify digest, verify datum of matched buckets and return mismatched buckets.
+     *
+     * @param distroData    verify digest data
+     * @param sourceAddress source server address
+     * @return data with mismatched buckets, {@code null} if can't verify by digest
+     */
+    public DistroData onVerifyDigest(DistroData distroData, String sourceAddress) {
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find verify digest process for received data {}", resourceType);
+            return null;
+        }
+        DistroVerifyDigest digest = DistroVerifyDigest.fromBytes(distroData.getContent());
+        List<Integer> mismatchedBuckets = dataProcessor.processVerifyDigest(digest, sourceAddress);
+        if (Loggers.DISTRO.isDebugEnabled()) {
+            Loggers.DISTRO.debug("[DISTRO] Receive verify digest {} from {}, mismatched buckets: {}", digest,
+                    sourceAddress, mismatchedBuckets.size());
+        }
+        DistroData result = new DistroData(distroData.getDistroKey(),
+                DistroVerifyDigest.bucketsToBytes(mismatchedBuckets));
+        result.setType(DataOperation.VERIFY_DIGEST);
+        return result;
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +253,20 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of all datum snapshot.
+     *
+     * @param type   datum type
+     * @param cursor cursor of chunk, empty for the first chunk
+     * @return chunk of datum snapshot
+     */
+    public DistroData onSnapshot(String type, String cursor) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey("snapshot", type), new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshot(cursor);
+    }
 }
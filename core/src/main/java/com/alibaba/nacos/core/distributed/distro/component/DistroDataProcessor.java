@@ -17,6 +17,9 @@
 package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
+
+import java.util.List;
 
 /**
  * Distro data processor.
@@ -49,6 +52,20 @@ public interface DistroDataProcessor {
      */
     boolean processVerifyData(DistroData distroData, String sourceAddress);
     
+    /**
+     * Process received verify digest.
+     *
+     * <p>Datum in matched buckets should be treated as verified, datum in mismatched buckets will be verified one by one
+     * by source server later. Default regard all buckets as mismatched.
+     *
+     * @param digest        verify digest
+     * @param sourceAddress source server address
+     * @return index of mismatched buckets
+     */
+    default List<Integer> processVerifyDigest(DistroVerifyDigest digest, String sourceAddress) {
+        return digest.mismatchedBuckets(null);
+    }
+    
     /**
      * Process snapshot data.
      *
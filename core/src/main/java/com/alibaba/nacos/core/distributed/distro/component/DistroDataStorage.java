@@ -18,8 +18,13 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Distro data storage.
@@ -57,10 +62,60 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one chunk of distro datum snapshot.
+     *
+     * <p>A chunk should be returned with type {@link com.alibaba.nacos.consistency.DataOperation#SNAPSHOT} and the
+     * cursor of next chunk as resource key, {@code null} resource key means the last chunk. Default return all datum
+     * snapshot without type, which means snapshot is not chunked.
+     *
+     * @param cursor cursor of chunk, empty for the first chunk
+     * @return chunk of datum snapshot
+     */
+    default DistroData getDatumSnapshot(String cursor) {
+        return getDatumSnapshot();
+    }
+    
     /**
      * Get verify datum.
      *
      * @return verify datum
      */
     List<DistroData> getVerifyData();
+    
+    /**
+     * Get verify datum whose resource keys are in the input buckets.
+     *
+     * @param buckets     bucket indexes
+     * @param bucketCount bucket count of digest
+     * @return verify datum
+     */
+    default List<DistroData> getVerifyData(Collection<Integer> buckets, int bucketCount) {
+        List<DistroData> verifyData = getVerifyData();
+        if (null == verifyData || verifyData.isEmpty()) {
+            return verifyData;
+        }
+        Set<Integer> bucketSet = new HashSet<>(buckets);
+        List<DistroData> result = new LinkedList<>();
+        for (DistroData each : verifyData) {
+            if (bucketSet.contains(DistroVerifyDigest.bucketOf(each.getDistroKey().getResourceKey(), bucketCount))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get bucketed digest of verify datum.
+     *
+     * <p>The digest should be built from the resource keys and revisions of the datum returned by {@link
+     * #getVerifyData()}. Default return {@code null} means digest verify is not supported, then all verify datum will be
+     * sent.
+     *
+     * @param bucketCount bucket count of digest
+     * @return verify digest, {@code null} if not supported
+     */
+    default DistroVerifyDigest getVerifyDigest(int bucketCount) {
+        return null;
+    }
 }
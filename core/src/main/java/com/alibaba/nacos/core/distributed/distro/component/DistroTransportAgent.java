@@ -19,6 +19,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
+import java.util.List;
+
 /**
  * Distro transport agent.
  *
@@ -53,6 +55,33 @@ public interface DistroTransportAgent {
      */
     void syncData(DistroData data, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether support sync a batch of data in one request.
+     *
+     * @return true if support, otherwise false
+     */
+    default boolean supportBatchSync() {
+        return false;
+    }
+    
+    /**
+     * Sync a batch of data to the same target server with callback, the callback is called once for the whole batch.
+     * Sync data one by one by default.
+     *
+     * @param data         batch of data
+     * @param targetServer target server
+     * @param callback     callback
+     */
+    default void syncBatchData(List<DistroData> data, String targetServer, DistroCallback callback) {
+        for (DistroData each : data) {
+            if (!syncData(each, targetServer)) {
+                callback.onFailed(null);
+                return;
+            }
+        }
+        callback.onSuccess();
+    }
+    
     /**
      * Sync verify data.
      *
@@ -73,6 +102,17 @@ public interface DistroTransportAgent {
      */
     void syncVerifyData(DistroData verifyData, String targetServer, DistroCallback callback);
     
+    /**
+     * Sync verify digest and get mismatched buckets from target server.
+     *
+     * @param digestData   verify digest data
+     * @param targetServer target server
+     * @return data with mismatched buckets, {@code null} if target server can't verify by digest
+     */
+    default DistroData syncVerifyDigest(DistroData digestData, String targetServer) {
+        return null;
+    }
+    
     /**
      * get Data from target server.
      *
@@ -89,4 +129,15 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one chunk of datum snapshot from target server.
+     *
+     * @param targetServer target server.
+     * @param cursor       cursor of chunk, empty for the first chunk
+     * @return distro data, see {@link DistroDataStorage#getDatumSnapshot(String)}
+     */
+    default DistroData getDatumSnapshot(String targetServer, String cursor) {
+        return getDatumSnapshot(targetServer);
+    }
 }
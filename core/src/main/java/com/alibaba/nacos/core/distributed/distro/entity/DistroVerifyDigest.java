@@ -0,0 +1,169 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bucketed digest of distro verify data.
+ *
+ * <p>Every resource key is hashed into one of the buckets and the bucket keeps an order-independent sum of the mixed
+ * hashes of its keys and revisions, so two nodes holding the same keys with the same revisions build the same digest.
+ * Nodes exchange the digest and only verify the keys of mismatched buckets one by one.
+ *
+ * @author Nacos
+ */
+public class DistroVerifyDigest {
+    
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    
+    private final long[] bucketHashes;
+    
+    private final int[] bucketSizes;
+    
+    public DistroVerifyDigest(int bucketCount) {
+        this.bucketHashes = new long[bucketCount];
+        this.bucketSizes = new int[bucketCount];
+    }
+    
+    /**
+     * Add a resource key and its revision into the digest.
+     *
+     * @param resourceKey resource key
+     * @param revision    revision of the resource
+     */
+    public void add(String resourceKey, long revision) {
+        int bucket = bucketOf(resourceKey, bucketHashes.length);
+        bucketHashes[bucket] += mix(resourceKey.hashCode() * GOLDEN_GAMMA + revision);
+        bucketSizes[bucket]++;
+    }
+    
+    public int getBucketCount() {
+        return bucketHashes.length;
+    }
+    
+    /**
+     * Get the buckets which are different from other digest.
+     *
+     * <p>If the bucket count of two digests are different, all buckets are regarded as mismatched.
+     *
+     * @param other other digest
+     * @return index of mismatched buckets
+     */
+    public List<Integer> mismatchedBuckets(DistroVerifyDigest other) {
+        List<Integer> result = new ArrayList<>();
+        boolean comparable = null != other && other.getBucketCount() == getBucketCount();
+        for (int i = 0; i < bucketHashes.length; i++) {
+            if (!comparable || bucketHashes[i] != other.bucketHashes[i] || bucketSizes[i] != other.bucketSizes[i]) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Serialize digest to bytes.
+     *
+     * @return bytes of digest
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bucketHashes.length * (Long.BYTES + Integer.BYTES));
+        buffer.putInt(bucketHashes.length);
+        for (int i = 0; i < bucketHashes.length; i++) {
+            buffer.putLong(bucketHashes[i]);
+            buffer.putInt(bucketSizes[i]);
+        }
+        return buffer.array();
+    }
+    
+    /**
+     * Deserialize digest from bytes.
+     *
+     * @param bytes bytes of digest
+     * @return digest
+     */
+    public static DistroVerifyDigest fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        DistroVerifyDigest result = new DistroVerifyDigest(buffer.getInt());
+        for (int i = 0; i < result.bucketHashes.length; i++) {
+            result.bucketHashes[i] = buffer.getLong();
+            result.bucketSizes[i] = buffer.getInt();
+        }
+        return result;
+    }
+    
+    /**
+     * Serialize bucket indexes to bytes.
+     *
+     * @param buckets bucket indexes
+     * @return bytes of bucket indexes
+     */
+    public static byte[] bucketsToBytes(Collection<Integer> buckets) {
+        ByteBuffer buffer = ByteBuffer.allocate(buckets.size() * Integer.BYTES);
+        for (int each : buckets) {
+            buffer.putInt(each);
+        }
+        return buffer.array();
+    }
+    
+    /**
+     * Deserialize bucket indexes from bytes.
+     *
+     * @param bytes bytes of bucket indexes
+     * @return bucket indexes
+     */
+    public static List<Integer> bucketsFromBytes(byte[] bytes) {
+        if (null == bytes) {
+            return new ArrayList<>();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        List<Integer> result = new ArrayList<>(bytes.length / Integer.BYTES);
+        while (buffer.remaining() >= Integer.BYTES) {
+            result.add(buffer.getInt());
+        }
+        return result;
+    }
+    
+    /**
+     * Get the bucket index of resource key.
+     *
+     * @param resourceKey resource key
+     * @param bucketCount bucket count
+     * @return bucket index
+     */
+    public static int bucketOf(String resourceKey, int bucketCount) {
+        int hash = resourceKey.hashCode();
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, bucketCount);
+    }
+    
+    private static long mix(long value) {
+        long result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return result ^ (result >>> 33);
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroVerifyDigest{" + "bucketCount=" + bucketHashes.length + ", size=" + Arrays.stream(bucketSizes)
+                .sum() + '}';
+    }
+}
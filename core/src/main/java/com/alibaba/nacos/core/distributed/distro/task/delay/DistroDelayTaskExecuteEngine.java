@@ -32,6 +32,16 @@ public class DistroDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         super(DistroDelayTaskExecuteEngine.class.getName(), Loggers.DISTRO);
     }
     
+    @Override
+    protected void processTasks() {
+        super.processTasks();
+        // changes coalesced into batches during this round are sent at the end of the round.
+        NacosTaskProcessor defaultTaskProcessor = getDefaultTaskProcessor();
+        if (defaultTaskProcessor instanceof DistroDelayTaskProcessor) {
+            ((DistroDelayTaskProcessor) defaultTaskProcessor).flushBatches();
+        }
+    }
+    
     @Override
     public void addProcessor(Object key, NacosTaskProcessor taskProcessor) {
         Object actualKey = getActualKey(key);
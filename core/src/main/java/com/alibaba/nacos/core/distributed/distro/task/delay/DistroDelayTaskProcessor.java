@@ -18,12 +18,20 @@ package com.alibaba.nacos.core.distributed.distro.task.delay;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchChangeTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncChangeTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTask;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Distro delay task processor.
  *
@@ -35,6 +43,12 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
     
     private final DistroComponentHolder distroComponentHolder;
     
+    /**
+     * Changed keys waiting to be synced in batch, grouped by resource type and target server. Only accessed by the
+     * processing thread of delay task engine.
+     */
+    private final Map<String, List<DistroKey>> pendingBatches = new HashMap<>();
+    
     public DistroDelayTaskProcessor(DistroTaskEngineHolder distroTaskEngineHolder,
             DistroComponentHolder distroComponentHolder) {
         this.distroTaskEngineHolder = distroTaskEngineHolder;
@@ -51,10 +65,21 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
         switch (distroDelayTask.getAction()) {
             case DELETE:
                 DistroSyncDeleteTask syncDeleteTask = new DistroSyncDeleteTask(distroKey, distroComponentHolder);
+                if (isBatchSync(distroKey)) {
+                    // keep the delete after the changes of same target, both run in the worker of batch key.
+                    String batchKey = DistroSyncBatchChangeTask.getBatchKey(distroKey);
+                    flushBatch(batchKey);
+                    distroTaskEngineHolder.getExecuteWorkersManager().addTask(batchKey, syncDeleteTask);
+                    return true;
+                }
                 distroTaskEngineHolder.getExecuteWorkersManager().addTask(distroKey, syncDeleteTask);
                 return true;
             case CHANGE:
             case ADD:
+                if (isBatchSync(distroKey)) {
+                    addToBatch(distroKey);
+                    return true;
+                }
                 DistroSyncChangeTask syncChangeTask = new DistroSyncChangeTask(distroKey, distroComponentHolder);
                 distroTaskEngineHolder.getExecuteWorkersManager().addTask(distroKey, syncChangeTask);
                 return true;
@@ -62,4 +87,50 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
                 return false;
         }
     }
+    
+    private boolean isBatchSync(DistroKey distroKey) {
+        if (!DistroConfig.getInstance().isSyncBatchEnabled()) {
+            return false;
+        }
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(distroKey.getResourceType());
+        return null != transportAgent && transportAgent.supportBatchSync();
+    }
+    
+    private void addToBatch(DistroKey distroKey) {
+        String batchKey = DistroSyncBatchChangeTask.getBatchKey(distroKey);
+        List<DistroKey> batch = pendingBatches.computeIfAbsent(batchKey, key -> new ArrayList<>());
+        batch.add(distroKey);
+        if (batch.size() >= DistroConfig.getInstance().getSyncBatchSize()) {
+            pendingBatches.remove(batchKey);
+            submitBatch(batchKey, batch);
+        }
+    }
+    
+    /**
+     * Submit all pending batches, called after each round of delay task processing so that a batch waits no longer
+     * than one processing interval.
+     */
+    public void flushBatches() {
+        if (pendingBatches.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, List<DistroKey>> entry : pendingBatches.entrySet()) {
+            submitBatch(entry.getKey(), entry.getValue());
+        }
+        pendingBatches.clear();
+    }
+    
+    private void flushBatch(String batchKey) {
+        List<DistroKey> batch = pendingBatches.remove(batchKey);
+        if (null != batch) {
+            submitBatch(batchKey, batch);
+        }
+    }
+    
+    private void submitBatch(String batchKey, List<DistroKey> batch) {
+        DistroKey first = batch.get(0);
+        DistroSyncBatchChangeTask batchTask = new DistroSyncBatchChangeTask(first.getResourceType(),
+                first.getTargetServer(), batch, distroComponentHolder, distroTaskEngineHolder.getExecuteWorkersManager());
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(batchKey, batchTask);
+    }
 }
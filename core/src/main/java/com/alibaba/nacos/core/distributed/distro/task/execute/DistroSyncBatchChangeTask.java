@@ -0,0 +1,146 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Distro sync change task for a batch of keys with the same resource type and target server.
+ *
+ * <p>If the batch fails, such as target server of old version can't handle batch request, every key will be synced by
+ * {@link DistroSyncChangeTask} one by one.
+ *
+ * @author Nacos
+ */
+public class DistroSyncBatchChangeTask extends AbstractExecuteTask {
+    
+    private static final DataOperation OPERATION = DataOperation.CHANGE;
+    
+    private static final String BATCH_KEY_SEPARATOR = "@@";
+    
+    private final String resourceType;
+    
+    private final String targetServer;
+    
+    private final List<DistroKey> distroKeys;
+    
+    private final DistroComponentHolder distroComponentHolder;
+    
+    private final DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    public DistroSyncBatchChangeTask(String resourceType, String targetServer, List<DistroKey> distroKeys,
+            DistroComponentHolder distroComponentHolder, DistroExecuteTaskExecuteEngine executeTaskExecuteEngine) {
+        this.resourceType = resourceType;
+        this.targetServer = targetServer;
+        this.distroKeys = distroKeys;
+        this.distroComponentHolder = distroComponentHolder;
+        this.executeTaskExecuteEngine = executeTaskExecuteEngine;
+    }
+    
+    @Override
+    public void run() {
+        DistroDataStorage dataStorage = distroComponentHolder.findDataStorage(resourceType);
+        List<DistroData> batch = new ArrayList<>(distroKeys.size());
+        for (DistroKey each : distroKeys) {
+            DistroData distroData = dataStorage.getDistroData(each);
+            if (null == distroData) {
+                Loggers.DISTRO.warn("[DISTRO] {} with null data to sync, skip", each);
+                continue;
+            }
+            distroData.setType(OPERATION);
+            batch.add(distroData);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Loggers.DISTRO.info("[DISTRO-START] {}", toString());
+        try {
+            distroComponentHolder.findTransportAgent(resourceType)
+                    .syncBatchData(batch, targetServer, new DistroBatchCallback(batch.size()));
+        } catch (Exception e) {
+            Loggers.DISTRO.warn("[DISTRO] Sync batch data change failed.", e);
+            syncOneByOne();
+        }
+    }
+    
+    private void syncOneByOne() {
+        // run in the worker of batch key, so the changes are still ordered with the deletes of the same target.
+        String batchKey = getBatchKey(distroKeys.get(0));
+        for (DistroKey each : distroKeys) {
+            executeTaskExecuteEngine.addTask(batchKey, new DistroSyncChangeTask(each, distroComponentHolder));
+        }
+    }
+    
+    /**
+     * Get the key of batch which the distro key belongs to, the batch and the deletes of the same resource type and
+     * target server are executed by the worker of this key.
+     *
+     * @param distroKey distro key
+     * @return batch key
+     */
+    public static String getBatchKey(DistroKey distroKey) {
+        return distroKey.getResourceType() + BATCH_KEY_SEPARATOR + distroKey.getTargetServer();
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchChangeTask for " + resourceType + " to " + targetServer + " with " + distroKeys.size()
+                + " keys";
+    }
+    
+    private class DistroBatchCallback implements DistroCallback {
+        
+        private final int size;
+        
+        private DistroBatchCallback(int size) {
+            this.size = size;
+        }
+        
+        @Override
+        public void onSuccess() {
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+            for (int i = 0; i < size; i++) {
+                distroRecord.syncSuccess();
+            }
+            Loggers.DISTRO.info("[DISTRO-END] {} result: true", DistroSyncBatchChangeTask.this.toString());
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            if (null == throwable) {
+                Loggers.DISTRO.info("[DISTRO-END] {} result: false, sync one by one",
+                        DistroSyncBatchChangeTask.this.toString());
+            } else {
+                Loggers.DISTRO.warn("[DISTRO] {} failed, sync one by one", DistroSyncBatchChangeTask.this.toString(),
+                        throwable);
+            }
+            syncOneByOne();
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -101,14 +103,9 @@ public class DistroLoadDataTask implements Runnable {
             long startTime = System.currentTimeMillis();
             try {
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
-                DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
-                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
-                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(),
-                        getDistroDataLength(distroData));
-                boolean result = dataProcessor.processSnapshot(distroData);
-                Loggers.DISTRO
-                        .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
-                                result);
+                boolean result = loadSnapshotChunks(resourceType, each.getAddress(), transportAgent, dataProcessor);
+                Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {} result: {}, it took {} ms", resourceType,
+                        each.getAddress(), result, System.currentTimeMillis() - startTime);
                 if (result) {
                     distroComponentHolder.findDataStorage(resourceType).finishInitial();
                     return true;
@@ -120,6 +117,34 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot chunk by chunk and apply each chunk once received, so that the snapshot is never held as a whole.
+     * If target server returns snapshot without chunk, such as server of old version, it will be loaded at once.
+     */
+    private boolean loadSnapshotChunks(String resourceType, String targetServer, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        String cursor = StringUtils.EMPTY;
+        int chunks = 0;
+        long totalSize = 0;
+        while (null != cursor) {
+            DistroData distroData = transportAgent.getDatumSnapshot(targetServer, cursor);
+            chunks++;
+            totalSize += getDistroDataLength(distroData);
+            if (!dataProcessor.processSnapshot(distroData)) {
+                return false;
+            }
+            cursor = isSnapshotChunk(distroData) ? distroData.getDistroKey().getResourceKey() : null;
+        }
+        Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {} with {} chunks and snapshot size is {}.",
+                resourceType, targetServer, chunks, totalSize);
+        return true;
+    }
+    
+    private static boolean isSnapshotChunk(DistroData distroData) {
+        return null != distroData && DataOperation.SNAPSHOT == distroData.getType()
+                && null != distroData.getDistroKey();
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
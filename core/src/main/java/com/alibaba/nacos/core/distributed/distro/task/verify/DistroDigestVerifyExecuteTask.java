@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.verify;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.List;
+
+/**
+ * Execute distro verify task by bucketed digest.
+ *
+ * <p>Send the digest to target server first, and only verify the datum of mismatched buckets one by one. If target
+ * server can't verify by digest, such as server of old version, all verify datum will be sent as before.
+ *
+ * @author Nacos
+ */
+public class DistroDigestVerifyExecuteTask extends AbstractExecuteTask {
+    
+    private final DistroTransportAgent transportAgent;
+    
+    private final DistroDataStorage dataStorage;
+    
+    private final DistroVerifyDigest digest;
+    
+    private final String targetServer;
+    
+    private final String resourceType;
+    
+    public DistroDigestVerifyExecuteTask(DistroTransportAgent transportAgent, DistroDataStorage dataStorage,
+            DistroVerifyDigest digest, String targetServer, String resourceType) {
+        this.transportAgent = transportAgent;
+        this.dataStorage = dataStorage;
+        this.digest = digest;
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+    }
+    
+    @Override
+    public void run() {
+        List<DistroData> verifyData;
+        try {
+            verifyData = getMismatchedVerifyData();
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] verify digest for type {} to {} failed.", resourceType, targetServer,
+                    e);
+            return;
+        }
+        if (null == verifyData || verifyData.isEmpty()) {
+            return;
+        }
+        new DistroVerifyExecuteTask(transportAgent, verifyData, targetServer, resourceType).run();
+    }
+    
+    private List<DistroData> getMismatchedVerifyData() {
+        DistroData digestData = new DistroData(new DistroKey(DataOperation.VERIFY_DIGEST.name(), resourceType),
+                digest.toBytes());
+        digestData.setType(DataOperation.VERIFY_DIGEST);
+        DistroData result = transportAgent.syncVerifyDigest(digestData, targetServer);
+        if (null == result) {
+            Loggers.DISTRO.warn("[DISTRO] {} can't verify type {} by digest, verify all data.", targetServer,
+                    resourceType);
+            return dataStorage.getVerifyData();
+        }
+        List<Integer> mismatchedBuckets = DistroVerifyDigest.bucketsFromBytes(result.getContent());
+        if (mismatchedBuckets.isEmpty()) {
+            if (Loggers.DISTRO.isDebugEnabled()) {
+                Loggers.DISTRO.debug("[DISTRO] verify digest for type {} to {} matched", resourceType, targetServer);
+            }
+            return null;
+        }
+        Loggers.DISTRO.info("[DISTRO] verify digest for type {} to {} mismatched {} of {} buckets", resourceType,
+                targetServer, mismatchedBuckets.size(), digest.getBucketCount());
+        return dataStorage.getVerifyData(mismatchedBuckets, digest.getBucketCount());
+    }
+}
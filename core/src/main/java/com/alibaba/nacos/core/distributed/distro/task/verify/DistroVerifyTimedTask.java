@@ -18,10 +18,12 @@ package com.alibaba.nacos.core.distributed.distro.task.verify;
 
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
 import com.alibaba.nacos.core.utils.Loggers;
 
@@ -69,6 +71,9 @@ public class DistroVerifyTimedTask implements Runnable {
                     dataStorage.getClass().getSimpleName());
             return;
         }
+        if (DistroConfig.getInstance().isVerifyDigestEnabled() && verifyByDigest(dataStorage, type, targetServer)) {
+            return;
+        }
         List<DistroData> verifyData = dataStorage.getVerifyData();
         if (null == verifyData || verifyData.isEmpty()) {
             return;
@@ -82,4 +87,20 @@ public class DistroVerifyTimedTask implements Runnable {
                     new DistroVerifyExecuteTask(agent, verifyData, member.getAddress(), type));
         }
     }
+    
+    private boolean verifyByDigest(DistroDataStorage dataStorage, String type, List<Member> targetServer) {
+        DistroVerifyDigest digest = dataStorage.getVerifyDigest(DistroConfig.getInstance().getVerifyDigestBuckets());
+        if (null == digest) {
+            return false;
+        }
+        for (Member member : targetServer) {
+            DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
+            if (null == agent) {
+                continue;
+            }
+            executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                    new DistroDigestVerifyExecuteTask(agent, dataStorage, digest, member.getAddress(), type));
+        }
+        return true;
+    }
 }
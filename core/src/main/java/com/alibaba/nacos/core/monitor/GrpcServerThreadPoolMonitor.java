@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.monitor;
 
 import com.alibaba.nacos.core.remote.grpc.GrpcClusterServer;
+import com.alibaba.nacos.core.remote.grpc.GrpcRequestScheduler;
 import com.alibaba.nacos.core.remote.grpc.GrpcSdkServer;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
@@ -42,6 +43,9 @@ public class GrpcServerThreadPoolMonitor implements SchedulingConfigurer {
     @Resource
     private GrpcClusterServer clusterServer;
 
+    @Resource
+    private GrpcRequestScheduler requestScheduler;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         Boolean enabled = EnvUtil.getProperty("nacos.metric.grpc.server.executor.enabled", Boolean.class, true);
@@ -68,6 +72,18 @@ public class GrpcServerThreadPoolMonitor implements SchedulingConfigurer {
             MetricsMonitor.getClusterServerExecutorMetric().getCorePoolSize().set(clusterServerRpcExecutor.getCorePoolSize());
             MetricsMonitor.getClusterServerExecutorMetric().getMaximumPoolSize().set(clusterServerRpcExecutor.getMaximumPoolSize());
             MetricsMonitor.getClusterServerExecutorMetric().getPoolSize().set(clusterServerRpcExecutor.getPoolSize());
+
+            // sdk request scheduler
+            if (requestScheduler.isEnabled()) {
+                for (GrpcRequestScheduler.Priority each : GrpcRequestScheduler.Priority.values()) {
+                    GrpcRequestScheduler.Lane lane = requestScheduler.getLane(each);
+                    MetricsMonitor.GrpcSchedulerLaneMetric metric = MetricsMonitor.getGrpcSchedulerLaneMetric(lane.getName());
+                    metric.getInQueueTaskCount().set(lane.getSize());
+                    metric.getRejectedTaskCount().set(lane.getRejectedCount());
+                    metric.getExpiredTaskCount().set(lane.getExpiredCount());
+                    metric.getCompletedTaskCount().set(lane.getCompletedCount());
+                }
+            }
         }, Duration.ofMillis(Integer.parseInt(
                 EnvUtil.getProperty("nacos.metric.grpc.server.executor.interval", "15000"))),
                 Duration.ofMillis(1000L)));
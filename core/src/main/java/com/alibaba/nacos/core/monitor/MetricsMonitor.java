@@ -55,6 +55,8 @@ public final class MetricsMonitor {
     private static GrpcServerExecutorMetric clusterServerExecutorMetric = new GrpcServerExecutorMetric("grpcClusterServer");
 
     private static Map<String, AtomicInteger> moduleConnectionCnt = new ConcurrentHashMap<>();
+    
+    private static Map<String, GrpcSchedulerLaneMetric> grpcSchedulerLaneMetrics = new ConcurrentHashMap<>();
 
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "core");
@@ -163,6 +165,31 @@ public final class MetricsMonitor {
         return sdkServerExecutorMetric;
     }
 
+    /**
+     * Get metric of grpc request scheduler lane, registered on first use.
+     *
+     * @param lane lane name
+     * @return lane metric
+     */
+    public static GrpcSchedulerLaneMetric getGrpcSchedulerLaneMetric(String lane) {
+        return grpcSchedulerLaneMetrics.computeIfAbsent(lane, name -> {
+            GrpcSchedulerLaneMetric metric = new GrpcSchedulerLaneMetric();
+            registerGrpcSchedulerGauge(name, "inQueueTaskCount", metric.getInQueueTaskCount());
+            registerGrpcSchedulerGauge(name, "rejectedTaskCount", metric.getRejectedTaskCount());
+            registerGrpcSchedulerGauge(name, "expiredTaskCount", metric.getExpiredTaskCount());
+            registerGrpcSchedulerGauge(name, "completedTaskCount", metric.getCompletedTaskCount());
+            return metric;
+        });
+    }
+    
+    private static void registerGrpcSchedulerGauge(String lane, String name, Number value) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "core"));
+        tags.add(new ImmutableTag("lane", lane));
+        tags.add(new ImmutableTag("name", name));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "grpc_server_scheduler", tags, value);
+    }
+    
     public static GrpcServerExecutorMetric getClusterServerExecutorMetric() {
         return clusterServerExecutorMetric;
     }
@@ -243,6 +270,48 @@ public final class MetricsMonitor {
         }
     }
 
+    public static class GrpcSchedulerLaneMetric {
+
+        /**
+         * task count in lane.
+         */
+        private AtomicInteger inQueueTaskCount = new AtomicInteger();
+
+        /**
+         * task count rejected because lane is full.
+         */
+        private AtomicLong rejectedTaskCount = new AtomicLong();
+
+        /**
+         * task count rejected because of waiting too long in lane.
+         */
+        private AtomicLong expiredTaskCount = new AtomicLong();
+
+        /**
+         * completed task count.
+         */
+        private AtomicLong completedTaskCount = new AtomicLong();
+
+        private GrpcSchedulerLaneMetric() {
+        }
+
+        public AtomicInteger getInQueueTaskCount() {
+            return inQueueTaskCount;
+        }
+
+        public AtomicLong getRejectedTaskCount() {
+            return rejectedTaskCount;
+        }
+
+        public AtomicLong getExpiredTaskCount() {
+            return expiredTaskCount;
+        }
+
+        public AtomicLong getCompletedTaskCount() {
+            return completedTaskCount;
+        }
+    }
+
     /**
      * refresh all module connection count.
      *
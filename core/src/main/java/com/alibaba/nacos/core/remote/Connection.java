@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.Requester;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -65,6 +66,17 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * Whether the client of this connection can decode binary payload. The sdk client and the cluster client share the
+     * same ability name.
+     *
+     * @return true if binary payload is supported by the client
+     */
+    public boolean isBinaryPayloadSupported() {
+        Map<String, Boolean> abilities = this.abilityTable;
+        return abilities != null && Boolean.TRUE.equals(abilities.get(AbilityKey.SDK_CLIENT_BINARY_PAYLOAD.getName()));
+    }
+    
     /**
      * check is connected.
      *
@@ -39,6 +39,7 @@ import org.springframework.stereotype.Service;
 import javax.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * connect manager.
@@ -60,8 +62,15 @@ public class ConnectionManager {
     
     private Map<String, AtomicInteger> connectionForClientIp = new ConcurrentHashMap<>(16);
     
+    /**
+     * Connection count of label key and label value, such as source=sdk.
+     */
+    private final Map<String, Map<String, AtomicInteger>> connectionForLabel = new ConcurrentHashMap<>(16);
+    
     Map<String, Connection> connections = new ConcurrentHashMap<>();
     
+    private final Object admissionLock = new Object();
+    
     private RuntimeConnectionEjector runtimeConnectionEjector;
     
     private ClientConnectionEventListenerRegistry clientConnectionEventListenerRegistry;
@@ -96,26 +105,38 @@ public class ConnectionManager {
     /**
      * register a new connect.
      *
+     * <p>Only the admission of new connections is serialized, so that the connection limit is checked against a stable
+     * count. The registry entry, the per ip and per label counters and the connected event of one connection id are
+     * handled together in its map bin, and so is the unregister of the id, so a disconnected event never comes before
+     * the connected event. A connection with an existing id is ignored and the existing one is kept.
+     *
      * @param connectionId connectionId
      * @param connection   connection
      */
-    public synchronized boolean register(String connectionId, Connection connection) {
+    public boolean register(String connectionId, Connection connection) {
         
         if (connection.isConnected()) {
             String clientIp = connection.getMetaInfo().clientIp;
             if (connections.containsKey(connectionId)) {
                 return true;
             }
-            if (checkLimit(connection)) {
-                return false;
-            }
             if (traced(clientIp)) {
                 connection.setTraced(true);
             }
-            connections.put(connectionId, connection);
-            connectionForClientIp.computeIfAbsent(clientIp, k -> new AtomicInteger(0)).getAndIncrement();
-            
-            clientConnectionEventListenerRegistry.notifyClientConnected(connection);
+            synchronized (admissionLock) {
+                if (connections.containsKey(connectionId)) {
+                    return true;
+                }
+                if (checkLimit(connection)) {
+                    return false;
+                }
+                connections.computeIfAbsent(connectionId, id -> {
+                    increase(connectionForClientIp, clientIp);
+                    changeLabelCount(connection, true);
+                    clientConnectionEventListenerRegistry.notifyClientConnected(connection);
+                    return connection;
+                });
+            }
             
             LOGGER.info("new connection registered successfully, connectionId = {},connection={} ", connectionId,
                     connection);
@@ -144,23 +165,63 @@ public class ConnectionManager {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void unregister(String connectionId) {
-        Connection remove = this.connections.remove(connectionId);
+    public void unregister(String connectionId) {
+        AtomicReference<Connection> removed = new AtomicReference<>();
+        this.connections.computeIfPresent(connectionId, (id, existing) -> {
+            decreaseCount(existing);
+            clientConnectionEventListenerRegistry.notifyClientDisConnected(existing);
+            removed.set(existing);
+            return null;
+        });
+        Connection remove = removed.get();
         if (remove != null) {
-            String clientIp = remove.getMetaInfo().clientIp;
-            AtomicInteger atomicInteger = connectionForClientIp.get(clientIp);
-            if (atomicInteger != null) {
-                int count = atomicInteger.decrementAndGet();
-                if (count <= 0) {
-                    connectionForClientIp.remove(clientIp);
-                }
-            }
             remove.close();
             LOGGER.info("[{}]Connection unregistered successfully. ", connectionId);
-            clientConnectionEventListenerRegistry.notifyClientDisConnected(remove);
         }
     }
     
+    private void decreaseCount(Connection connection) {
+        decrease(connectionForClientIp, connection.getMetaInfo().clientIp);
+        changeLabelCount(connection, false);
+    }
+    
+    private void changeLabelCount(Connection connection, boolean increase) {
+        Map<String, String> labels = connection.getMetaInfo().labels;
+        if (labels == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : labels.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            Map<String, AtomicInteger> valueCounts = connectionForLabel.computeIfAbsent(entry.getKey(),
+                    key -> new ConcurrentHashMap<>(4));
+            if (increase) {
+                increase(valueCounts, entry.getValue());
+            } else {
+                decrease(valueCounts, entry.getValue());
+            }
+        }
+    }
+    
+    private static void increase(Map<String, AtomicInteger> counts, String key) {
+        if (key == null) {
+            return;
+        }
+        counts.compute(key, (k, count) -> {
+            AtomicInteger result = count == null ? new AtomicInteger(0) : count;
+            result.incrementAndGet();
+            return result;
+        });
+    }
+    
+    private static void decrease(Map<String, AtomicInteger> counts, String key) {
+        if (key == null) {
+            return;
+        }
+        counts.computeIfPresent(key, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+    
     /**
      * get by connection id.
      *
@@ -254,16 +315,27 @@ public class ConnectionManager {
         Boolean enabled = EnvUtil.getProperty("nacos.metric.grpc.server.connection.enabled", Boolean.class, true);
         if (enabled) {
             RpcScheduledExecutor.COMMON_SERVER_EXECUTOR.scheduleWithFixedDelay(() -> {
-                Map<String, Integer> count = new HashMap<>(16);
-                connections.forEach((id, connection) -> {
-                    String module = connection.getLabels().getOrDefault(RemoteConstants.LABEL_MODULE, "unknown");
-                    count.put(module, count.getOrDefault(module, 0) + 1);
-                });
-                MetricsMonitor.refreshModuleConnectionCount(count);
+                MetricsMonitor.refreshModuleConnectionCount(getModuleConnectionCount());
             }, 1L, EnvUtil.getProperty("nacos.metric.grpc.server.connection.interval", Long.class, 15L), TimeUnit.SECONDS);
         }
     }
     
+    private Map<String, Integer> getModuleConnectionCount() {
+        Map<String, Integer> count = new HashMap<>(16);
+        int unknown = connections.size();
+        Map<String, AtomicInteger> moduleCounts = connectionForLabel.getOrDefault(RemoteConstants.LABEL_MODULE,
+                Collections.emptyMap());
+        for (Map.Entry<String, AtomicInteger> entry : moduleCounts.entrySet()) {
+            int moduleCount = entry.getValue().get();
+            count.put(entry.getKey(), moduleCount);
+            unknown -= moduleCount;
+        }
+        if (unknown > 0) {
+            count.merge("unknown", unknown, Integer::sum);
+        }
+        return count;
+    }
+    
     public void loadCount(int loadClient, String redirectAddress) {
         runtimeConnectionEjector.setLoadClient(loadClient);
         runtimeConnectionEjector.setRedirectAddress(redirectAddress);
@@ -318,6 +390,13 @@ public class ConnectionManager {
      * @return count with the specific filter labels.
      */
     public int currentClientsCount(Map<String, String> filterLabels) {
+        if (filterLabels.isEmpty()) {
+            return connections.size();
+        }
+        if (filterLabels.size() == 1) {
+            Map.Entry<String, String> filter = filterLabels.entrySet().iterator().next();
+            return getLabelCount(filter.getKey(), filter.getValue());
+        }
         int count = 0;
         for (Connection connection : connections.values()) {
             Map<String, String> labels = connection.getMetaInfo().labels;
@@ -335,6 +414,33 @@ public class ConnectionManager {
         return count;
     }
     
+    /**
+     * get client count with the label.
+     *
+     * @param labelKey   label key.
+     * @param labelValue label value.
+     * @return count of connections with the label.
+     */
+    public int getLabelCount(String labelKey, String labelValue) {
+        Map<String, AtomicInteger> valueCounts = connectionForLabel.get(labelKey);
+        if (valueCounts == null || labelValue == null) {
+            return 0;
+        }
+        AtomicInteger count = valueCounts.get(labelValue);
+        return count == null ? 0 : count.get();
+    }
+    
+    /**
+     * get client count for client ip.
+     *
+     * @param clientIp client ip.
+     * @return count of connections from the client ip.
+     */
+    public int getCountForIp(String clientIp) {
+        AtomicInteger count = clientIp == null ? null : connectionForClientIp.get(clientIp);
+        return count == null ? 0 : count.get();
+    }
+    
     /**
      * get client count from sdk.
      *
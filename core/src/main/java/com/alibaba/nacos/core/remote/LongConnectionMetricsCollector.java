@@ -40,11 +40,6 @@ public class LongConnectionMetricsCollector implements ConnectionMetricsCollecto
     
     @Override
     public int getCountForIp(String ip) {
-        ConnectionManager connectionManager = ApplicationUtils.getBean(ConnectionManager.class);
-        if (connectionManager.getConnectionForClientIp().containsKey(ip)) {
-            return connectionManager.getConnectionForClientIp().get(ip).intValue();
-        } else {
-            return 0;
-        }
+        return ApplicationUtils.getBean(ConnectionManager.class).getCountForIp(ip);
     }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.alibaba.nacos.core.control.TpsControlConfig;
 import com.alibaba.nacos.core.remote.grpc.InvokeSource;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.google.common.collect.Sets;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.stereotype.Service;
@@ -48,6 +49,9 @@ public class RequestHandlerRegistry implements ApplicationListener<ContextRefres
     
     Map<String, Set<String>> sourceRegistry = new HashMap<>();
     
+    @Autowired(required = false)
+    private VirtualThreadRequestExecutor virtualThreadExecutor;
+    
     /**
      * Get Request Handler By request Type.
      *
@@ -58,6 +62,26 @@ public class RequestHandlerRegistry implements ApplicationListener<ContextRefres
         return registryHandlers.get(requestType);
     }
     
+    /**
+     * Whether the handler of request type should be dispatched onto virtual thread.
+     *
+     * @param requestType request type
+     * @return true if dispatched onto virtual thread
+     */
+    public boolean isVirtualThreadDispatched(String requestType) {
+        return virtualThreadExecutor != null && virtualThreadExecutor.isDesignated(requestType);
+    }
+    
+    /**
+     * Dispatch handling of request onto virtual thread, only for request types
+     * {@link #isVirtualThreadDispatched(String)}.
+     *
+     * @param task task to handle request
+     */
+    public void dispatchOnVirtualThread(Runnable task) {
+        virtualThreadExecutor.execute(task);
+    }
+    
     /**
      * check source invoke allowed.
      *
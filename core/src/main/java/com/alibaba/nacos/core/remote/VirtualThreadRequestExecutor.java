@@ -0,0 +1,164 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Executor which runs designated blocking request handlers on virtual threads.
+ *
+ * <p>Handlers blocking on jdbc or disk io hold a platform thread of the rpc executor for the whole io, so the rpc
+ * executor has to be oversized. With this mode enabled, requests of the designated types are handled on virtual
+ * threads and their concurrency is bounded by a semaphore instead of the pool size. It requires a jdk supporting
+ * virtual threads, and falls back to the rpc executor otherwise.
+ *
+ * <p>Enabled by {@code nacos.remote.server.handler.virtual-thread.enabled=true}, request types are set by
+ * {@code nacos.remote.server.handler.virtual-thread.request-types}, and
+ * {@code nacos.remote.server.handler.virtual-thread.trace-pinned=true} reports handlers pinning their carrier
+ * thread.
+ *
+ * @author Nacos
+ */
+@Component
+public class VirtualThreadRequestExecutor {
+    
+    private static final String PREFIX = "nacos.remote.server.handler.virtual-thread.";
+    
+    static final String ENABLED = PREFIX + "enabled";
+    
+    static final String REQUEST_TYPES = PREFIX + "request-types";
+    
+    static final String MAX_CONCURRENCY = PREFIX + "max-concurrency";
+    
+    static final String TRACE_PINNED = PREFIX + "trace-pinned";
+    
+    private static final String DEFAULT_REQUEST_TYPES =
+            "ConfigPublishRequest,ConfigQueryRequest,ConfigRemoveRequest,PersistentInstanceRequest";
+    
+    private static final String TYPE_SEPARATOR = ",";
+    
+    private static final int DEFAULT_MAX_CONCURRENCY = 1024;
+    
+    private static final String TRACE_PINNED_PROPERTY = "jdk.tracePinnedThreads";
+    
+    private static final String THREAD_NAME_PREFIX = "com.alibaba.nacos.core.remote.handler.virtual-";
+    
+    private final Set<String> requestTypes;
+    
+    private final Semaphore permits;
+    
+    private final ExecutorService executor;
+    
+    public VirtualThreadRequestExecutor() {
+        boolean enabled = EnvUtil.getProperty(ENABLED, Boolean.class, false);
+        this.permits = new Semaphore(EnvUtil.getProperty(MAX_CONCURRENCY, Integer.class, DEFAULT_MAX_CONCURRENCY));
+        this.executor = enabled ? createExecutor() : null;
+        if (executor == null) {
+            this.requestTypes = Collections.emptySet();
+            return;
+        }
+        Set<String> types = new HashSet<>();
+        for (String each : EnvUtil.getProperty(REQUEST_TYPES, DEFAULT_REQUEST_TYPES).split(TYPE_SEPARATOR)) {
+            if (StringUtils.isNotBlank(each)) {
+                types.add(each.trim());
+            }
+        }
+        this.requestTypes = Collections.unmodifiableSet(types);
+        Loggers.REMOTE.info("Virtual thread request executor enabled for {}, max concurrency {}.", requestTypes,
+                permits.availablePermits());
+    }
+    
+    private static ExecutorService createExecutor() {
+        if (EnvUtil.getProperty(TRACE_PINNED, Boolean.class, false)
+                && System.getProperty(TRACE_PINNED_PROPERTY) == null) {
+            // read by the jdk when the first virtual thread is created.
+            System.setProperty(TRACE_PINNED_PROPERTY, "short");
+        }
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = ofVirtual.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, threadFactory);
+        } catch (Throwable e) {
+            Loggers.REMOTE.warn("Virtual thread is not supported by current jdk {}, handle requests by rpc executor.",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+    
+    /**
+     * Whether requests of the type should be handled on virtual thread.
+     *
+     * @param requestType request type
+     * @return true if handled on virtual thread
+     */
+    public boolean isDesignated(String requestType) {
+        return requestTypes.contains(requestType);
+    }
+    
+    /**
+     * Run the task on a virtual thread, the task waits for a permit on the virtual thread if the concurrency limit is
+     * reached, and runs in caller thread if the executor has been shutdown.
+     *
+     * @param task task
+     */
+    public void execute(Runnable task) {
+        try {
+            executor.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+    
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+    
+    /**
+     * Shutdown executor.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
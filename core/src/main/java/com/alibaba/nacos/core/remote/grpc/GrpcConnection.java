@@ -74,7 +74,7 @@ public class GrpcConnection extends Connection {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = GrpcUtils.convert(request, isBinaryPayloadSupported());
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
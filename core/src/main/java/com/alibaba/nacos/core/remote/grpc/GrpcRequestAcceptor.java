@@ -40,6 +40,7 @@ import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -63,6 +64,9 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
     @Autowired
     private ConnectionManager connectionManager;
     
+    @Autowired
+    private GrpcRequestScheduler requestScheduler;
+    
     private void traceIfNecessary(Payload grpcRequest, boolean receive) {
         String clientIp = grpcRequest.getMetadata().getClientIp();
         String connectionId = GrpcServerConstants.CONTEXT_KEY_CONN_ID.get();
@@ -141,6 +145,45 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             return;
         }
         
+        if (requestScheduler.isEnabled() && isSdkConnection(connectionId)) {
+            Context context = Context.current();
+            requestScheduler.execute(type, context.wrap(
+                    () -> dispatchRequest(grpcRequest, responseObserver, requestHandler, connectionId, type, startTime)),
+                    () -> rejectRequest(responseObserver, type, startTime));
+            return;
+        }
+        dispatchRequest(grpcRequest, responseObserver, requestHandler, connectionId, type, startTime);
+    }
+    
+    private void dispatchRequest(Payload grpcRequest, StreamObserver<Payload> responseObserver,
+            RequestHandler requestHandler, String connectionId, String type, long startTime) {
+        if (requestHandlerRegistry.isVirtualThreadDispatched(type)) {
+            Context context = Context.current();
+            requestHandlerRegistry.dispatchOnVirtualThread(context.wrap(
+                    () -> handleRequest(grpcRequest, responseObserver, requestHandler, connectionId, type, startTime)));
+            return;
+        }
+        handleRequest(grpcRequest, responseObserver, requestHandler, connectionId, type, startTime);
+    }
+    
+    private boolean isSdkConnection(String connectionId) {
+        Connection connection = connectionManager.getConnection(connectionId);
+        return connection != null && connection.getMetaInfo().isSdkSource();
+    }
+    
+    private void rejectRequest(StreamObserver<Payload> responseObserver, String type, long startTime) {
+        Payload payloadResponse = GrpcUtils
+                .convert(ErrorResponse.build(NacosException.OVER_THRESHOLD, "Server is busy, please try later."));
+        traceIfNecessary(payloadResponse, false);
+        responseObserver.onNext(payloadResponse);
+        responseObserver.onCompleted();
+        MetricsMonitor.recordGrpcRequestEvent(type, false,
+                NacosException.OVER_THRESHOLD, null, null, System.nanoTime() - startTime);
+    }
+    
+    @SuppressWarnings("PMD.MethodTooLongRule")
+    private void handleRequest(Payload grpcRequest, StreamObserver<Payload> responseObserver,
+            RequestHandler requestHandler, String connectionId, String type, long startTime) {
         Object parseObj = null;
         try {
             parseObj = GrpcUtils.parse(grpcRequest);
@@ -196,7 +239,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
             Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
+            Payload payloadResponse = GrpcUtils.convert(response, connection.isBinaryPayloadSupported());
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
                 RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(() -> {
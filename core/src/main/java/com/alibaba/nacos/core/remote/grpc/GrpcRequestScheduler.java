@@ -0,0 +1,323 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.core.utils.ClassUtils;
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.core.utils.RemoteUtils;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduler of sdk grpc requests, which routes requests to bounded lanes of different priority by request type.
+ *
+ * <p>Lanes are drained by a shared worker pool with weighted round-robin, so floods of low priority requests such
+ * as {@code ConfigBatchListenRequest} can't starve instance registration and heartbeats. A request is shed when its
+ * lane is full or when it has waited in the lane longer than the max wait of the lane, since the client has most
+ * likely given up on it.
+ *
+ * <p>Disabled by default, enable by {@code nacos.remote.server.grpc.sdk.scheduler.enabled=true}. Priority of request
+ * type can be set by {@code nacos.remote.server.grpc.sdk.scheduler.priority.{requestType}=high|normal|low}, and
+ * lanes by {@code nacos.remote.server.grpc.sdk.scheduler.{lane}.capacity|weight|max-wait-ms}.
+ *
+ * @author Nacos
+ */
+@Component
+public class GrpcRequestScheduler {
+    
+    private static final Map<String, Priority> DEFAULT_PRIORITIES = new HashMap<>(16);
+    
+    private final boolean enabled;
+    
+    private final Lane[] lanes;
+    
+    private final int totalWeight;
+    
+    private final AtomicLong ticket = new AtomicLong();
+    
+    private final Map<String, Priority> priorities = new ConcurrentHashMap<>(16);
+    
+    private final ExecutorService workers;
+    
+    static {
+        DEFAULT_PRIORITIES.put("InstanceRequest", Priority.HIGH);
+        DEFAULT_PRIORITIES.put("BatchInstanceRequest", Priority.HIGH);
+        DEFAULT_PRIORITIES.put("PersistentInstanceRequest", Priority.HIGH);
+        DEFAULT_PRIORITIES.put("HealthCheckRequest", Priority.HIGH);
+        DEFAULT_PRIORITIES.put("ConfigBatchListenRequest", Priority.LOW);
+        DEFAULT_PRIORITIES.put("ConfigFuzzyWatchRequest", Priority.LOW);
+        DEFAULT_PRIORITIES.put("ServiceListRequest", Priority.LOW);
+        DEFAULT_PRIORITIES.put("NamingFuzzyWatchRequest", Priority.LOW);
+    }
+    
+    public GrpcRequestScheduler() {
+        this.enabled = EnvUtil.getProperty(GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_ENABLED, Boolean.class, false);
+        Priority[] values = Priority.values();
+        this.lanes = new Lane[values.length];
+        int weight = 0;
+        for (Priority each : values) {
+            lanes[each.ordinal()] = new Lane(each);
+            weight += lanes[each.ordinal()].weight;
+        }
+        this.totalWeight = weight;
+        if (enabled) {
+            int threads = EnvUtil.getProperty(GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_THREADS, Integer.class,
+                    EnvUtil.getAvailableProcessors(RemoteUtils.getRemoteExecutorTimesOfProcessors()));
+            this.workers = ExecutorFactory.Managed.newFixedExecutorService(
+                    ClassUtils.getCanonicalName(GrpcRequestScheduler.class), threads,
+                    new NameThreadFactory("com.alibaba.nacos.core.remote.grpc.scheduler"));
+            Loggers.REMOTE.info("Grpc request scheduler enabled with {} threads, lanes: {}", threads, lanes);
+        } else {
+            this.workers = null;
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get the priority of request type.
+     *
+     * @param requestType request type
+     * @return priority
+     */
+    public Priority getPriority(String requestType) {
+        return priorities.computeIfAbsent(requestType, type -> {
+            String value = EnvUtil.getProperty(GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_PRIORITY_PREFIX + type);
+            if (value == null) {
+                return DEFAULT_PRIORITIES.getOrDefault(type, Priority.NORMAL);
+            }
+            try {
+                return Priority.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                Loggers.REMOTE.warn("Unknown grpc request priority {} for {}, use normal.", value, type);
+                return Priority.NORMAL;
+            }
+        });
+    }
+    
+    /**
+     * Execute request in the lane of its priority.
+     *
+     * @param requestType request type
+     * @param task        task to handle the request
+     * @param rejection   task to respond the request when it is shed, run in caller thread if the lane is full
+     */
+    public void execute(String requestType, Runnable task, Runnable rejection) {
+        Lane lane = lanes[getPriority(requestType).ordinal()];
+        if (!lane.offer(new Task(task, rejection))) {
+            lane.rejectedCount.incrementAndGet();
+            rejection.run();
+            return;
+        }
+        workers.execute(this::runNext);
+    }
+    
+    /**
+     * Run the next task chosen by weighted round-robin, each submitted task schedules exactly one call, so there is
+     * always a task available in some lane.
+     */
+    private void runNext() {
+        Task task = pollNext();
+        if (task == null) {
+            return;
+        }
+        if (System.nanoTime() - task.enqueueNanos > task.lane.maxWaitNanos) {
+            task.lane.expiredCount.incrementAndGet();
+            task.rejection.run();
+            return;
+        }
+        task.task.run();
+        task.lane.completedCount.incrementAndGet();
+    }
+    
+    private Task pollNext() {
+        int position = (int) (ticket.getAndIncrement() % totalWeight);
+        int preferred = 0;
+        for (Lane each : lanes) {
+            position -= each.weight;
+            if (position < 0) {
+                break;
+            }
+            preferred++;
+        }
+        Task result = lanes[preferred].poll();
+        // fall back to other lanes by priority if the chosen lane is empty.
+        for (int i = 0; result == null && i < lanes.length; i++) {
+            result = lanes[i].poll();
+        }
+        return result;
+    }
+    
+    public Lane getLane(Priority priority) {
+        return lanes[priority.ordinal()];
+    }
+    
+    /**
+     * Shutdown worker pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+    
+    /**
+     * Priority of request.
+     */
+    public enum Priority {
+        
+        /**
+         * Latency sensitive requests, such as instance registration and heartbeat.
+         */
+        HIGH(4096, 8),
+        
+        /**
+         * Default priority.
+         */
+        NORMAL(4096, 4),
+        
+        /**
+         * Expensive or bulk requests, such as batch listen and service list.
+         */
+        LOW(1024, 1);
+        
+        private final int defaultCapacity;
+        
+        private final int defaultWeight;
+        
+        Priority(int defaultCapacity, int defaultWeight) {
+            this.defaultCapacity = defaultCapacity;
+            this.defaultWeight = defaultWeight;
+        }
+    }
+    
+    /**
+     * Bounded queue of requests with the same priority.
+     */
+    public static class Lane {
+        
+        private static final long DEFAULT_MAX_WAIT_MILLIS = 3000L;
+        
+        private final Priority priority;
+        
+        private final int capacity;
+        
+        private final int weight;
+        
+        private final long maxWaitNanos;
+        
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger size = new AtomicInteger();
+        
+        private final AtomicLong rejectedCount = new AtomicLong();
+        
+        private final AtomicLong expiredCount = new AtomicLong();
+        
+        private final AtomicLong completedCount = new AtomicLong();
+        
+        Lane(Priority priority) {
+            this.priority = priority;
+            String prefix = GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_PREFIX + getName();
+            this.capacity = EnvUtil.getProperty(prefix + GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_CAPACITY_SUFFIX,
+                    Integer.class, priority.defaultCapacity);
+            this.weight = Math.max(1,
+                    EnvUtil.getProperty(prefix + GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_WEIGHT_SUFFIX,
+                            Integer.class, priority.defaultWeight));
+            this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(
+                    EnvUtil.getProperty(prefix + GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_MAX_WAIT_SUFFIX,
+                            Long.class, DEFAULT_MAX_WAIT_MILLIS));
+        }
+        
+        private boolean offer(Task task) {
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            task.lane = this;
+            queue.offer(task);
+            return true;
+        }
+        
+        private Task poll() {
+            Task result = queue.poll();
+            if (result != null) {
+                size.decrementAndGet();
+            }
+            return result;
+        }
+        
+        public String getName() {
+            return priority.name().toLowerCase(Locale.ROOT);
+        }
+        
+        public int getSize() {
+            return size.get();
+        }
+        
+        public long getRejectedCount() {
+            return rejectedCount.get();
+        }
+        
+        public long getExpiredCount() {
+            return expiredCount.get();
+        }
+        
+        public long getCompletedCount() {
+            return completedCount.get();
+        }
+        
+        @Override
+        public String toString() {
+            return getName() + "{capacity=" + capacity + ", weight=" + weight + ", maxWaitMs="
+                    + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + '}';
+        }
+    }
+    
+    private static class Task {
+        
+        private final Runnable task;
+        
+        private final Runnable rejection;
+        
+        private final long enqueueNanos = System.nanoTime();
+        
+        private Lane lane;
+        
+        private Task(Runnable task, Runnable rejection) {
+            this.task = task;
+            this.rejection = rejection;
+        }
+    }
+}
@@ -79,6 +79,20 @@ final class GrpcServerConstants {
         
         static final String SDK_PERMIT_KEEP_ALIVE_TIME = NACOS_REMOTE_SERVER_GRPC_SDK_PREFIX + "permit-keep-alive-time";
         
+        static final String SDK_SCHEDULER_PREFIX = NACOS_REMOTE_SERVER_GRPC_SDK_PREFIX + "scheduler.";
+        
+        static final String SDK_SCHEDULER_ENABLED = SDK_SCHEDULER_PREFIX + "enabled";
+        
+        static final String SDK_SCHEDULER_THREADS = SDK_SCHEDULER_PREFIX + "threads";
+        
+        static final String SDK_SCHEDULER_PRIORITY_PREFIX = SDK_SCHEDULER_PREFIX + "priority.";
+        
+        static final String SDK_SCHEDULER_CAPACITY_SUFFIX = ".capacity";
+        
+        static final String SDK_SCHEDULER_WEIGHT_SUFFIX = ".weight";
+        
+        static final String SDK_SCHEDULER_MAX_WAIT_SUFFIX = ".max-wait-ms";
+        
         static final String CLUSTER_MAX_INBOUND_MSG_SIZE_PROPERTY =
                 NACOS_REMOTE_SERVER_GRPC_CLUSTER_PREFIX + "max-inbound-message-size";
         
@@ -27,6 +27,8 @@ import java.lang.reflect.Constructor;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DistroConfigTest {
     
@@ -68,6 +70,24 @@ class DistroConfigTest {
         assertEquals(verifyIntervalMillis, distroConfig.getVerifyIntervalMillis());
     }
     
+    @Test
+    void testSetVerifyDigestBuckets() {
+        distroConfig.setVerifyDigestBuckets(0);
+        assertEquals(0, distroConfig.getVerifyDigestBuckets());
+        assertFalse(distroConfig.isVerifyDigestEnabled());
+        distroConfig.setVerifyDigestBuckets(DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS);
+        assertTrue(distroConfig.isVerifyDigestEnabled());
+    }
+    
+    @Test
+    void testSetSyncBatchSize() {
+        distroConfig.setSyncBatchSize(1);
+        assertEquals(1, distroConfig.getSyncBatchSize());
+        assertFalse(distroConfig.isSyncBatchEnabled());
+        distroConfig.setSyncBatchSize(DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
+        assertTrue(distroConfig.isSyncBatchEnabled());
+    }
+    
     @Test
     void testSetLoadDataRetryDelayMillis() {
         distroConfig.setLoadDataRetryDelayMillis(loadDataRetryDelayMillis);
@@ -106,6 +126,6 @@ class DistroConfigTest {
         assertEquals(distroConfig.getVerifyIntervalMillis(), verifyIntervalMillis);
         assertEquals(distroConfig.getVerifyTimeoutMillis(), verifyTimeoutMillis);
         assertEquals(distroConfig.getLoadDataRetryDelayMillis(), loadDataRetryDelayMillis);
-        
+    
     }
 }
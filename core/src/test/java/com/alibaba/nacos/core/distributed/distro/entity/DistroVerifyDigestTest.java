@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroVerifyDigestTest {
+    
+    @Test
+    void testSameDataInDifferentOrder() {
+        DistroVerifyDigest digest = new DistroVerifyDigest(8);
+        digest.add("a", 1L);
+        digest.add("b", 2L);
+        DistroVerifyDigest other = new DistroVerifyDigest(8);
+        other.add("b", 2L);
+        other.add("a", 1L);
+        assertTrue(digest.mismatchedBuckets(other).isEmpty());
+    }
+    
+    @Test
+    void testMismatchedBuckets() {
+        DistroVerifyDigest digest = new DistroVerifyDigest(8);
+        digest.add("a", 1L);
+        digest.add("b", 2L);
+        DistroVerifyDigest other = new DistroVerifyDigest(8);
+        other.add("a", 2L);
+        Set<Integer> expected = new TreeSet<>(
+                Arrays.asList(DistroVerifyDigest.bucketOf("a", 8), DistroVerifyDigest.bucketOf("b", 8)));
+        assertEquals(new ArrayList<>(expected), digest.mismatchedBuckets(other));
+        assertEquals(8, digest.mismatchedBuckets(new DistroVerifyDigest(4)).size());
+        assertEquals(8, digest.mismatchedBuckets(null).size());
+    }
+    
+    @Test
+    void testSerialize() {
+        DistroVerifyDigest digest = new DistroVerifyDigest(1024);
+        for (int i = 0; i < 100; i++) {
+            digest.add("client" + i, i);
+        }
+        DistroVerifyDigest actual = DistroVerifyDigest.fromBytes(digest.toBytes());
+        assertEquals(1024, actual.getBucketCount());
+        assertTrue(digest.mismatchedBuckets(actual).isEmpty());
+        List<Integer> buckets = Arrays.asList(1, 5, 1023);
+        assertEquals(buckets, DistroVerifyDigest.bucketsFromBytes(DistroVerifyDigest.bucketsToBytes(buckets)));
+        assertEquals(Collections.emptyList(), DistroVerifyDigest.bucketsFromBytes(null));
+    }
+}
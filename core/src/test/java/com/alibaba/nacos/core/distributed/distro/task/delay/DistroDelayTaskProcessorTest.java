@@ -0,0 +1,110 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchChangeTask;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroDelayTaskProcessorTest {
+    
+    private static final String TYPE = "testType";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroTaskEngineHolder engineHolder;
+    
+    @Mock
+    private DistroExecuteTaskExecuteEngine executeEngine;
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    private DistroDelayTaskProcessor processor;
+    
+    private int originalBatchSize;
+    
+    @BeforeEach
+    void setUp() {
+        originalBatchSize = DistroConfig.getInstance().getSyncBatchSize();
+        DistroConfig.getInstance().setSyncBatchSize(100);
+        DistroComponentHolder componentHolder = new DistroComponentHolder();
+        componentHolder.registerTransportAgent(TYPE, transportAgent);
+        when(transportAgent.supportBatchSync()).thenReturn(true);
+        when(engineHolder.getExecuteWorkersManager()).thenReturn(executeEngine);
+        processor = new DistroDelayTaskProcessor(engineHolder, componentHolder);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncBatchSize(originalBatchSize);
+    }
+    
+    @Test
+    void testChangeCoalescedUntilFlush() {
+        processor.process(new DistroDelayTask(new DistroKey("key1", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        processor.process(new DistroDelayTask(new DistroKey("key2", TYPE, TARGET), DataOperation.ADD, 0L));
+        verify(executeEngine, never()).addTask(any(), any());
+        processor.flushBatches();
+        verify(executeEngine).addTask(any(), any(DistroSyncBatchChangeTask.class));
+    }
+    
+    @Test
+    void testDeleteAfterPendingChangesInSameWorker() {
+        DistroKey changeKey = new DistroKey("key1", TYPE, TARGET);
+        DistroKey deleteKey = new DistroKey("key2", TYPE, TARGET);
+        processor.process(new DistroDelayTask(changeKey, DataOperation.CHANGE, 0L));
+        processor.process(new DistroDelayTask(deleteKey, DataOperation.DELETE, 0L));
+        ArgumentCaptor<Object> tagCaptor = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<AbstractExecuteTask> taskCaptor = ArgumentCaptor.forClass(AbstractExecuteTask.class);
+        verify(executeEngine, times(2)).addTask(tagCaptor.capture(), taskCaptor.capture());
+        List<Object> tags = tagCaptor.getAllValues();
+        List<AbstractExecuteTask> tasks = taskCaptor.getAllValues();
+        assertInstanceOf(DistroSyncBatchChangeTask.class, tasks.get(0));
+        assertInstanceOf(DistroSyncDeleteTask.class, tasks.get(1));
+        assertEquals(DistroSyncBatchChangeTask.getBatchKey(changeKey), tags.get(0));
+        assertEquals(tags.get(0), tags.get(1));
+        processor.flushBatches();
+        verify(executeEngine, times(2)).addTask(any(), any());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroSyncBatchChangeTaskTest {
+    
+    private static final String TYPE = "testType";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroDataStorage dataStorage;
+    
+    @Mock
+    private DistroTransportAgent transportAgent;
+    
+    @Mock
+    private DistroExecuteTaskExecuteEngine executeEngine;
+    
+    private DistroComponentHolder componentHolder;
+    
+    private DistroKey key1;
+    
+    private DistroKey key2;
+    
+    @BeforeEach
+    void setUp() {
+        componentHolder = new DistroComponentHolder();
+        componentHolder.registerDataStorage(TYPE, dataStorage);
+        componentHolder.registerTransportAgent(TYPE, transportAgent);
+        key1 = new DistroKey("key1", TYPE, TARGET);
+        key2 = new DistroKey("key2", TYPE, TARGET);
+    }
+    
+    @Test
+    void testRunSuccess() {
+        when(dataStorage.getDistroData(key1)).thenReturn(new DistroData(key1, new byte[0]));
+        when(dataStorage.getDistroData(key2)).thenReturn(null);
+        doAnswer(invocation -> {
+            invocation.<DistroCallback>getArgument(2).onSuccess();
+            return null;
+        }).when(transportAgent).syncBatchData(anyList(), eq(TARGET), any(DistroCallback.class));
+        new DistroSyncBatchChangeTask(TYPE, TARGET, Arrays.asList(key1, key2), componentHolder, executeEngine).run();
+        ArgumentCaptor<List<DistroData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transportAgent).syncBatchData(captor.capture(), eq(TARGET), any(DistroCallback.class));
+        assertEquals(1, captor.getValue().size());
+        assertEquals(DataOperation.CHANGE, captor.getValue().get(0).getType());
+        verify(executeEngine, never()).addTask(any(), any());
+    }
+    
+    @Test
+    void testRunFailedFallbackOneByOne() {
+        when(dataStorage.getDistroData(any(DistroKey.class))).thenAnswer(
+                invocation -> new DistroData(invocation.getArgument(0), new byte[0]));
+        doAnswer(invocation -> {
+            invocation.<DistroCallback>getArgument(2).onFailed(null);
+            return null;
+        }).when(transportAgent).syncBatchData(anyList(), eq(TARGET), any(DistroCallback.class));
+        new DistroSyncBatchChangeTask(TYPE, TARGET, Arrays.asList(key1, key2), componentHolder, executeEngine).run();
+        verify(executeEngine, times(2)).addTask(eq(DistroSyncBatchChangeTask.getBatchKey(key1)),
+                any(DistroSyncChangeTask.class));
+    }
+    
+    @Test
+    void testRunWithoutData() {
+        when(dataStorage.getDistroData(any(DistroKey.class))).thenReturn(null);
+        new DistroSyncBatchChangeTask(TYPE, TARGET, Arrays.asList(key1, key2), componentHolder, executeEngine).run();
+        verify(transportAgent, never()).syncBatchData(anyList(), any(), any());
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -26,6 +27,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +45,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +99,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class), any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -107,6 +110,21 @@ class DistroLoadDataTaskTest {
         Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask, "loadCompletedMap");
         assertNotNull(loadCompletedMap);
         assertTrue(loadCompletedMap.containsKey(type));
-        verify(distroTransportAgent).getDatumSnapshot(any(String.class));
+        verify(distroTransportAgent).getDatumSnapshot(any(String.class), any(String.class));
+    }
+    
+    @Test
+    void testRunWithChunks() {
+        DistroData firstChunk = new DistroData(new DistroKey("1/2", type), new byte[0]);
+        firstChunk.setType(DataOperation.SNAPSHOT);
+        DistroData lastChunk = new DistroData(new DistroKey(null, type), new byte[0]);
+        lastChunk.setType(DataOperation.SNAPSHOT);
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", "")).thenReturn(firstChunk);
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", "1/2")).thenReturn(lastChunk);
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor).processSnapshot(firstChunk);
+        verify(distroDataProcessor).processSnapshot(lastChunk);
+        verify(distroDataStorage).finishInitial();
     }
 }
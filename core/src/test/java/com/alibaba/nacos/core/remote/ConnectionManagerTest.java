@@ -40,6 +40,13 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -172,5 +179,115 @@ class ConnectionManagerTest {
         assertEquals(1, connectionManager.currentSdkClientCount());
     }
     
+    @Test
+    void testCurrentClientsCountWithMultiLabels() {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("key", "value");
+        labels.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK);
+        assertEquals(1, connectionManager.currentClientsCount(labels));
+        labels.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_CLUSTER);
+        assertEquals(0, connectionManager.currentClientsCount(labels));
+        assertEquals(1, connectionManager.currentClientsCount(new HashMap<>()));
+    }
+    
+    @Test
+    void testCountAfterUnregister() {
+        assertEquals(1, connectionManager.getCountForIp(clientIp));
+        assertEquals(1, connectionManager.getLabelCount("key", "value"));
+        connectionManager.unregister(connectId);
+        connectionManager.unregister(connectId);
+        assertEquals(0, connectionManager.getCountForIp(clientIp));
+        assertEquals(0, connectionManager.getLabelCount("key", "value"));
+        assertEquals(0, connectionManager.currentSdkClientCount());
+        assertFalse(connectionManager.getConnectionForClientIp().containsKey(clientIp));
+    }
+    
+    @Test
+    void testRegisterDuplicated() {
+        assertTrue(connectionManager.register(connectId, connection));
+        assertEquals(1, connectionManager.getCountForIp(clientIp));
+        assertEquals(1, connectionManager.currentSdkClientCount());
+    }
+    
+    @Test
+    void testConcurrentRegisterAndUnregister() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(400);
+        for (int i = 0; i < 200; i++) {
+            String id = "concurrent-" + i;
+            executor.execute(() -> {
+                connectionManager.register(id, connection);
+                latch.countDown();
+            });
+            executor.execute(() -> {
+                connectionManager.unregister(id);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        for (int i = 0; i < 200; i++) {
+            connectionManager.unregister("concurrent-" + i);
+        }
+        assertEquals(1, connectionManager.getCountForIp(clientIp));
+        assertEquals(1, connectionManager.getLabelCount("key", "value"));
+    }
+    
+    @Test
+    void testRegisterDuplicatedKeepsExistingConnection() {
+        Connection duplicated = Mockito.mock(Connection.class);
+        Mockito.when(duplicated.isConnected()).thenReturn(true);
+        Mockito.when(duplicated.getMetaInfo()).thenReturn(connectionMeta);
+        assertTrue(connectionManager.register(connectId, duplicated));
+        assertEquals(connection, connectionManager.getConnection(connectId));
+        assertEquals(1, connectionManager.getCountForIp(clientIp));
+        Mockito.verify(clientConnectionEventListenerRegistry, Mockito.never()).notifyClientConnected(duplicated);
+    }
+    
+    @Test
+    void testConcurrentRegisterAndUnregisterEventOrder() throws Exception {
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger disorders = new AtomicInteger();
+        Mockito.doAnswer(invocation -> registered.incrementAndGet()).when(clientConnectionEventListenerRegistry)
+                .notifyClientConnected(connection);
+        Mockito.doAnswer(invocation -> {
+            if (registered.decrementAndGet() < 0) {
+                disorders.incrementAndGet();
+            }
+            return null;
+        }).when(clientConnectionEventListenerRegistry).notifyClientDisConnected(connection);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        try {
+            for (int i = 0; i < 5000; i++) {
+                String id = "race-" + i;
+                Future<?> register = executor.submit(() -> {
+                    await(barrier);
+                    connectionManager.register(id, connection);
+                });
+                Future<?> unregister = executor.submit(() -> {
+                    await(barrier);
+                    connectionManager.unregister(id);
+                });
+                register.get(10, TimeUnit.SECONDS);
+                unregister.get(10, TimeUnit.SECONDS);
+                connectionManager.unregister(id);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, disorders.get());
+        assertEquals(0, registered.get());
+        assertEquals(1, connectionManager.getCountForIp(clientIp));
+    }
+    
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
 }
 
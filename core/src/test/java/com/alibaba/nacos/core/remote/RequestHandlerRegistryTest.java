@@ -40,6 +40,8 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -68,6 +70,9 @@ class RequestHandlerRegistryTest {
     @Mock
     private TpsControlManager tpsControlManager;
     
+    @Mock
+    private VirtualThreadRequestExecutor virtualThreadExecutor;
+    
     @BeforeEach
     void setUp() {
         controlManagerCenterMockedStatic = Mockito.mockStatic(ControlManagerCenter.class);
@@ -80,7 +85,7 @@ class RequestHandlerRegistryTest {
         Mockito.when(applicationContext.getBeansOfType(Mockito.any())).thenReturn(handlerMap);
         
         registry.onApplicationEvent(contextRefreshedEvent);
-        
+    
     }
     
     @AfterEach
@@ -105,6 +110,17 @@ class RequestHandlerRegistryTest {
         
         assertFalse(registry.checkSourceInvokeAllowed(ServerReloadRequest.class.getSimpleName(),
                 RemoteConstants.LABEL_SOURCE_SDK));
+    
+    }
+    
+    @Test
+    void testDispatchOnVirtualThread() {
+        when(virtualThreadExecutor.isDesignated("ConfigQueryRequest")).thenReturn(true);
+        assertTrue(registry.isVirtualThreadDispatched("ConfigQueryRequest"));
+        assertFalse(registry.isVirtualThreadDispatched(HealthCheckRequest.class.getSimpleName()));
         
+        Runnable task = () -> { };
+        registry.dispatchOnVirtualThread(task);
+        verify(virtualThreadExecutor).execute(task);
     }
 }
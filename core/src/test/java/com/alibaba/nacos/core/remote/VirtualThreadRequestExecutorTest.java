@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadRequestExecutorTest {
+    
+    private static final int VIRTUAL_THREAD_JDK_VERSION = 21;
+    
+    private MockEnvironment environment;
+    
+    private VirtualThreadRequestExecutor executor;
+    
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        EnvUtil.setEnvironment(environment);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (null != executor) {
+            executor.shutdown();
+        }
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @Test
+    void testDisabledByDefault() {
+        executor = new VirtualThreadRequestExecutor();
+        assertFalse(executor.isDesignated("ConfigQueryRequest"));
+    }
+    
+    @Test
+    void testEnabled() throws InterruptedException {
+        environment.setProperty(VirtualThreadRequestExecutor.ENABLED, "true");
+        environment.setProperty(VirtualThreadRequestExecutor.REQUEST_TYPES, "ConfigQueryRequest, InstanceRequest");
+        environment.setProperty(VirtualThreadRequestExecutor.MAX_CONCURRENCY, "2");
+        executor = new VirtualThreadRequestExecutor();
+        if (Runtime.version().feature() < VIRTUAL_THREAD_JDK_VERSION) {
+            // fall back to rpc executor when virtual thread is not supported.
+            assertFalse(executor.isDesignated("ConfigQueryRequest"));
+            return;
+        }
+        assertTrue(executor.isDesignated("ConfigQueryRequest"));
+        assertTrue(executor.isDesignated("InstanceRequest"));
+        assertFalse(executor.isDesignated("ConfigPublishRequest"));
+        
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("com.alibaba.nacos.core.remote.handler.virtual-"));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(2, executor.getAvailablePermits());
+    }
+}
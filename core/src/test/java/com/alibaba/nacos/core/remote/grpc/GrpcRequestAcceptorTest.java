@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
 import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.remote.RemoteConstants;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.request.ServerCheckRequest;
@@ -62,7 +63,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -83,6 +86,9 @@ public class GrpcRequestAcceptorTest {
     @Mock
     private RequestHandlerRegistry requestHandlerRegistry;
     
+    @Mock
+    private GrpcRequestScheduler requestScheduler;
+    
     @InjectMocks
     private GrpcRequestAcceptor acceptor;
     
@@ -454,6 +460,94 @@ public class GrpcRequestAcceptorTest {
         ApplicationUtils.setStarted(false);
     }
     
+    @Test
+    void testHandleRequestByScheduler() {
+        ApplicationUtils.setStarted(true);
+        Mockito.when(requestHandlerRegistry.getByRequestType(Mockito.anyString())).thenReturn(mockHandler);
+        Mockito.when(connectionManager.checkValid(Mockito.any())).thenReturn(true);
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(sdkConnection());
+        Mockito.when(requestScheduler.isEnabled()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(requestScheduler).execute(Mockito.eq(HealthCheckRequest.class.getSimpleName()), Mockito.any(), Mockito.any());
+        
+        AtomicReference<Object> response = new AtomicReference<>();
+        streamStub.request(GrpcUtils.convert(new HealthCheckRequest(), new RequestMeta()), new ResponseCollector(response));
+        assertTrue(response.get() instanceof HealthCheckResponse);
+        ApplicationUtils.setStarted(false);
+    }
+    
+    @Test
+    void testHandleRequestRejectedByScheduler() {
+        ApplicationUtils.setStarted(true);
+        Mockito.when(requestHandlerRegistry.getByRequestType(Mockito.anyString())).thenReturn(mockHandler);
+        Mockito.when(connectionManager.checkValid(Mockito.any())).thenReturn(true);
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(sdkConnection());
+        Mockito.when(requestScheduler.isEnabled()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return null;
+        }).when(requestScheduler).execute(Mockito.anyString(), Mockito.any(), Mockito.any());
+        
+        AtomicReference<Object> response = new AtomicReference<>();
+        streamStub.request(GrpcUtils.convert(new HealthCheckRequest(), new RequestMeta()), new ResponseCollector(response));
+        assertTrue(response.get() instanceof ErrorResponse);
+        assertEquals(NacosException.OVER_THRESHOLD, ((ErrorResponse) response.get()).getErrorCode());
+        ApplicationUtils.setStarted(false);
+    }
+    
+    @Test
+    void testHandleRequestOnVirtualThread() {
+        ApplicationUtils.setStarted(true);
+        Mockito.when(requestHandlerRegistry.getByRequestType(Mockito.anyString())).thenReturn(mockHandler);
+        Mockito.when(connectionManager.checkValid(Mockito.any())).thenReturn(true);
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(sdkConnection());
+        Mockito.when(requestHandlerRegistry.isVirtualThreadDispatched(HealthCheckRequest.class.getSimpleName()))
+                .thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(requestHandlerRegistry).dispatchOnVirtualThread(Mockito.any());
+        
+        AtomicReference<Object> response = new AtomicReference<>();
+        streamStub.request(GrpcUtils.convert(new HealthCheckRequest(), new RequestMeta()), new ResponseCollector(response));
+        assertTrue(response.get() instanceof HealthCheckResponse);
+        Mockito.verify(requestHandlerRegistry).dispatchOnVirtualThread(Mockito.any());
+        ApplicationUtils.setStarted(false);
+    }
+    
+    private Connection sdkConnection() {
+        String ip = "1.1.1.1";
+        Map<String, String> labels = new HashMap<>();
+        labels.put(RemoteConstants.LABEL_SOURCE, RemoteConstants.LABEL_SOURCE_SDK);
+        ConnectionMeta connectionMeta = new ConnectionMeta(connectId, ip, ip, 8888, 9848, "GRPC", "", "", labels);
+        return new GrpcConnection(connectionMeta, null, null);
+    }
+    
+    private static class ResponseCollector implements StreamObserver<Payload> {
+        
+        private final AtomicReference<Object> response;
+        
+        private ResponseCollector(AtomicReference<Object> response) {
+            this.response = response;
+        }
+        
+        @Override
+        public void onNext(Payload payload) {
+            response.set(GrpcUtils.parse(payload));
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable.getMessage());
+        }
+        
+        @Override
+        public void onCompleted() {
+        }
+    }
+    
     /**
      * add this Handler just for test.
      */
@@ -0,0 +1,156 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GrpcRequestSchedulerTest {
+    
+    private static final String PREFIX = GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_PREFIX;
+    
+    private MockEnvironment environment;
+    
+    private GrpcRequestScheduler scheduler;
+    
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    
+    private final CountDownLatch blocking = new CountDownLatch(1);
+    
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        environment.setProperty(GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_ENABLED, "true");
+        environment.setProperty(GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_THREADS, "1");
+        environment.setProperty(GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_PRIORITY_PREFIX + "InstanceRequest", "low");
+        environment.setProperty(PREFIX + "low" + GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_CAPACITY_SUFFIX, "1");
+        EnvUtil.setEnvironment(environment);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        blocker.countDown();
+        if (null != scheduler) {
+            scheduler.shutdown();
+        }
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @Test
+    void testDisabledByDefault() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        assertFalse(new GrpcRequestScheduler().isEnabled());
+    }
+    
+    @Test
+    void testGetPriority() {
+        scheduler = new GrpcRequestScheduler();
+        assertTrue(scheduler.isEnabled());
+        assertEquals(GrpcRequestScheduler.Priority.HIGH, scheduler.getPriority("HealthCheckRequest"));
+        assertEquals(GrpcRequestScheduler.Priority.LOW, scheduler.getPriority("ConfigBatchListenRequest"));
+        assertEquals(GrpcRequestScheduler.Priority.NORMAL, scheduler.getPriority("ConfigQueryRequest"));
+        // overridden by configuration.
+        assertEquals(GrpcRequestScheduler.Priority.LOW, scheduler.getPriority("InstanceRequest"));
+    }
+    
+    @Test
+    void testRejectWhenLaneFull() throws InterruptedException {
+        scheduler = new GrpcRequestScheduler();
+        blockWorker();
+        List<String> results = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.execute("ServiceListRequest", () -> {
+            results.add("first");
+            done.countDown();
+        }, () -> results.add("first rejected"));
+        scheduler.execute("ServiceListRequest", () -> results.add("second"), () -> results.add("second rejected"));
+        assertEquals(1, scheduler.getLane(GrpcRequestScheduler.Priority.LOW).getSize());
+        assertEquals(1, scheduler.getLane(GrpcRequestScheduler.Priority.LOW).getRejectedCount());
+        
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("second rejected", results.get(0));
+        assertEquals("first", results.get(1));
+    }
+    
+    @Test
+    void testHighPriorityFirst() throws InterruptedException {
+        scheduler = new GrpcRequestScheduler();
+        blockWorker();
+        List<String> results = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        scheduler.execute("ServiceListRequest", () -> {
+            results.add("low");
+            done.countDown();
+        }, done::countDown);
+        scheduler.execute("HealthCheckRequest", () -> {
+            results.add("high");
+            done.countDown();
+        }, done::countDown);
+        
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("high", results.get(0));
+        assertEquals("low", results.get(1));
+    }
+    
+    @Test
+    void testRejectExpiredTask() throws InterruptedException {
+        environment.setProperty(PREFIX + "normal" + GrpcServerConstants.GrpcConfig.SDK_SCHEDULER_MAX_WAIT_SUFFIX, "10");
+        scheduler = new GrpcRequestScheduler();
+        blockWorker();
+        List<String> results = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.execute("ConfigQueryRequest", () -> {
+            results.add("executed");
+            done.countDown();
+        }, () -> {
+            results.add("expired");
+            done.countDown();
+        });
+        
+        TimeUnit.MILLISECONDS.sleep(50);
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals("expired", results.get(0));
+        assertEquals(1, scheduler.getLane(GrpcRequestScheduler.Priority.NORMAL).getExpiredCount());
+    }
+    
+    private void blockWorker() throws InterruptedException {
+        scheduler.execute("HealthCheckRequest", () -> {
+            blocking.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }, blocking::countDown);
+        assertTrue(blocking.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.remote.codec;
+
+import com.alibaba.nacos.common.remote.codec.AbstractBinaryPayloadCodec;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link DistroDataRequest}. The distro content is written as raw bytes instead of base64 json string.
+ *
+ * @author Nacos
+ */
+public class DistroDataRequestCodec extends AbstractBinaryPayloadCodec<DistroDataRequest> {
+    
+    private static final int DISTRO_DATA_FIELD = 2;
+    
+    private static final int DATA_OPERATION_FIELD = 3;
+    
+    private static final int DATA_KEY_FIELD = 1;
+    
+    private static final int DATA_TYPE_FIELD = 2;
+    
+    private static final int DATA_CONTENT_FIELD = 3;
+    
+    private static final int KEY_RESOURCE_KEY_FIELD = 1;
+    
+    private static final int KEY_RESOURCE_TYPE_FIELD = 2;
+    
+    private static final int KEY_TARGET_SERVER_FIELD = 3;
+    
+    @Override
+    public Class<DistroDataRequest> payloadClass() {
+        return DistroDataRequest.class;
+    }
+    
+    @Override
+    public void encode(DistroDataRequest payload, CodedOutputStream output) throws IOException {
+        writeString(output, REQUEST_ID_FIELD, payload.getRequestId());
+        DistroData distroData = payload.getDistroData();
+        if (distroData != null) {
+            writeMessageHeader(output, DISTRO_DATA_FIELD, computeDistroDataSize(distroData));
+            DistroKey distroKey = distroData.getDistroKey();
+            if (distroKey != null) {
+                writeMessageHeader(output, DATA_KEY_FIELD, computeDistroKeySize(distroKey));
+                writeString(output, KEY_RESOURCE_KEY_FIELD, distroKey.getResourceKey());
+                writeString(output, KEY_RESOURCE_TYPE_FIELD, distroKey.getResourceType());
+                writeString(output, KEY_TARGET_SERVER_FIELD, distroKey.getTargetServer());
+            }
+            writeString(output, DATA_TYPE_FIELD, nameOf(distroData.getType()));
+            if (distroData.getContent() != null) {
+                output.writeByteArray(DATA_CONTENT_FIELD, distroData.getContent());
+            }
+        }
+        writeString(output, DATA_OPERATION_FIELD, nameOf(payload.getDataOperation()));
+    }
+    
+    private static int computeDistroDataSize(DistroData distroData) {
+        int size = computeStringSize(DATA_TYPE_FIELD, nameOf(distroData.getType()));
+        if (distroData.getDistroKey() != null) {
+            size += computeMessageSize(DATA_KEY_FIELD, computeDistroKeySize(distroData.getDistroKey()));
+        }
+        if (distroData.getContent() != null) {
+            size += CodedOutputStream.computeByteArraySize(DATA_CONTENT_FIELD, distroData.getContent());
+        }
+        return size;
+    }
+    
+    private static int computeDistroKeySize(DistroKey distroKey) {
+        return computeStringSize(KEY_RESOURCE_KEY_FIELD, distroKey.getResourceKey())
+                + computeStringSize(KEY_RESOURCE_TYPE_FIELD, distroKey.getResourceType())
+                + computeStringSize(KEY_TARGET_SERVER_FIELD, distroKey.getTargetServer());
+    }
+    
+    private static String nameOf(DataOperation operation) {
+        return operation == null ? null : operation.name();
+    }
+    
+    @Override
+    public DistroDataRequest decode(CodedInputStream input) throws IOException {
+        DistroDataRequest request = new DistroDataRequest();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case REQUEST_ID_FIELD:
+                    request.setRequestId(input.readString());
+                    break;
+                case DISTRO_DATA_FIELD:
+                    request.setDistroData(readDistroData(input));
+                    break;
+                case DATA_OPERATION_FIELD:
+                    request.setDataOperation(DataOperation.valueOf(input.readString()));
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        return request;
+    }
+    
+    private static DistroData readDistroData(CodedInputStream input) throws IOException {
+        int oldLimit = beginMessage(input);
+        DistroData distroData = new DistroData();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case DATA_KEY_FIELD:
+                    distroData.setDistroKey(readDistroKey(input));
+                    break;
+                case DATA_TYPE_FIELD:
+                    distroData.setType(DataOperation.valueOf(input.readString()));
+                    break;
+                case DATA_CONTENT_FIELD:
+                    distroData.setContent(input.readByteArray());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        endMessage(input, oldLimit);
+        return distroData;
+    }
+    
+    private static DistroKey readDistroKey(CodedInputStream input) throws IOException {
+        int oldLimit = beginMessage(input);
+        DistroKey distroKey = new DistroKey();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case KEY_RESOURCE_KEY_FIELD:
+                    distroKey.setResourceKey(input.readString());
+                    break;
+                case KEY_RESOURCE_TYPE_FIELD:
+                    distroKey.setResourceType(input.readString());
+                    break;
+                case KEY_TARGET_SERVER_FIELD:
+                    distroKey.setTargetServer(input.readString());
+                    break;
+                default:
+                    input.skipField(tag);
+                    break;
+            }
+        }
+        endMessage(input, oldLimit);
+        return distroKey;
+    }
+}
@@ -19,12 +19,18 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,10 +51,15 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Distro processor for v2.
@@ -59,16 +70,39 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    private static final String SNAPSHOT_CURSOR_SEPARATOR = "/";
+    
+    /**
+     * A snapshot walk not read for this long is dropped, such as the loading server is down during loading.
+     */
+    private static final long SNAPSHOT_WALK_EXPIRE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
+    /**
+     * Source server of synced clients, learned from verify data and used to verify digest from the source server.
+     * Removed when the client disconnects or the source server leaves the cluster.
+     */
+    private final Map<String, String> clientSources = new ConcurrentHashMap<>();
+    
+    private final Map<String, Set<String>> sourceClients = new ConcurrentHashMap<>();
+    
+    /**
+     * Snapshot walks being loaded by other servers, walk id -> client ids taken by the first chunk.
+     */
+    private final Map<String, SnapshotWalk> snapshotWalks = new ConcurrentHashMap<>();
+    
+    private final AtomicLong snapshotWalkIdGenerator = new AtomicLong();
+    
     private volatile boolean isFinishInitial;
     
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
+        NotifyCenter.registerSubscriber(new MembersChangeSubscriber());
     }
     
     @Override
@@ -92,6 +126,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public void onEvent(Event event) {
+        if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            removeClientSource(((ClientEvent.ClientDisconnectEvent) event).getClient());
+        }
         if (EnvUtil.getStandaloneMode()) {
             return;
         }
@@ -227,6 +264,7 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     public boolean processVerifyData(DistroData distroData, String sourceAddress) {
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
+        recordClientSource(verifyData.getClientId(), getSourceServer(distroData.getDistroKey(), sourceAddress));
         if (clientManager.verifyClient(verifyData)) {
             return true;
         }
@@ -234,6 +272,76 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return false;
     }
     
+    private String getSourceServer(DistroKey distroKey, String sourceAddress) {
+        return StringUtils.isNotBlank(distroKey.getTargetServer()) ? distroKey.getTargetServer() : sourceAddress;
+    }
+    
+    private void recordClientSource(String clientId, String sourceServer) {
+        String previous = clientSources.put(clientId, sourceServer);
+        if (null != previous && !previous.equals(sourceServer)) {
+            Set<String> previousClients = sourceClients.get(previous);
+            if (null != previousClients) {
+                previousClients.remove(clientId);
+            }
+        }
+        sourceClients.computeIfAbsent(sourceServer, key -> ConcurrentHashMap.newKeySet()).add(clientId);
+    }
+    
+    private void removeClientSource(Client client) {
+        if (null == client) {
+            return;
+        }
+        String source = clientSources.remove(client.getClientId());
+        if (null != source) {
+            Set<String> clientIds = sourceClients.get(source);
+            if (null != clientIds) {
+                clientIds.remove(client.getClientId());
+            }
+        }
+    }
+    
+    void removeLeftSourceServers(Collection<Member> members) {
+        Set<String> memberAddresses = new HashSet<>();
+        for (Member each : members) {
+            memberAddresses.add(each.getAddress());
+        }
+        for (String each : sourceClients.keySet()) {
+            if (!memberAddresses.contains(each)) {
+                Set<String> clientIds = sourceClients.remove(each);
+                Loggers.DISTRO.info("[DISTRO] source server {} left, forget source of {} clients", each,
+                        clientIds.size());
+                for (String clientId : clientIds) {
+                    clientSources.remove(clientId, each);
+                }
+            }
+        }
+    }
+    
+    @Override
+    public List<Integer> processVerifyDigest(DistroVerifyDigest digest, String sourceAddress) {
+        Set<String> clientIds = sourceClients.getOrDefault(sourceAddress, new HashSet<>());
+        DistroVerifyDigest localDigest = new DistroVerifyDigest(digest.getBucketCount());
+        List<Client> clients = new LinkedList<>();
+        for (String each : clientIds) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral() || clientManager.isResponsibleClient(client)) {
+                clientIds.remove(each);
+                clientSources.remove(each, sourceAddress);
+                continue;
+            }
+            localDigest.add(each, client.getRevision());
+            clients.add(client);
+        }
+        List<Integer> result = digest.mismatchedBuckets(localDigest);
+        Set<Integer> mismatched = new HashSet<>(result);
+        for (Client each : clients) {
+            if (!mismatched.contains(DistroVerifyDigest.bucketOf(each.getClientId(), digest.getBucketCount()))) {
+                clientManager.verifyClient(new DistroClientVerifyInfo(each.getClientId(), each.getRevision()));
+            }
+        }
+        return result;
+    }
+    
     @Override
     public boolean processSnapshot(DistroData distroData) {
         ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
@@ -264,10 +372,78 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
             }
             datum.add(client.generateSyncData());
         }
+        return buildSnapshot(datum, DataOperation.SNAPSHOT.name());
+    }
+    
+    /**
+     * Get one chunk of snapshot.
+     *
+     * <p>The first chunk takes the client ids once as a snapshot walk, and the following chunks read their part of the
+     * ids from the walk, so each chunk only visits its own clients. Cursor is {@code walkId/offset}. Clients added
+     * during loading will be synced by distro sync task.
+     *
+     * @param cursor cursor of chunk, empty for the first chunk
+     * @return chunk of snapshot, or {@code null} if the cursor is invalid or its walk is expired
+     */
+    @Override
+    public DistroData getDatumSnapshot(String cursor) {
+        SnapshotWalk walk;
+        int offset;
+        if (StringUtils.isBlank(cursor)) {
+            removeExpiredSnapshotWalks();
+            walk = new SnapshotWalk(String.valueOf(snapshotWalkIdGenerator.incrementAndGet()),
+                    clientManager.allClientId().toArray(new String[0]),
+                    Math.max(1, DistroConfig.getInstance().getLoadDataChunkSize()));
+            offset = 0;
+        } else {
+            String[] split = cursor.split(SNAPSHOT_CURSOR_SEPARATOR);
+            walk = split.length == 2 ? snapshotWalks.get(split[0]) : null;
+            offset = walk == null ? -1 : parseOffset(split[1]);
+            if (offset < 0 || offset >= walk.clientIds.length) {
+                Loggers.DISTRO.warn("[DISTRO] snapshot cursor {} is invalid or expired.", cursor);
+                return null;
+            }
+        }
+        int end = Math.min(offset + walk.chunkSize, walk.clientIds.length);
+        List<ClientSyncData> datum = new LinkedList<>();
+        for (int i = offset; i < end; i++) {
+            Client client = clientManager.getClient(walk.clientIds[i]);
+            if (null == client || !client.isEphemeral()) {
+                continue;
+            }
+            datum.add(client.generateSyncData());
+        }
+        String nextCursor = null;
+        if (end < walk.clientIds.length) {
+            walk.lastReadTime = System.currentTimeMillis();
+            snapshotWalks.put(walk.walkId, walk);
+            nextCursor = walk.walkId + SNAPSHOT_CURSOR_SEPARATOR + end;
+        } else {
+            snapshotWalks.remove(walk.walkId);
+        }
+        DistroData result = buildSnapshot(datum, nextCursor);
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
+    
+    private static int parseOffset(String offset) {
+        try {
+            return Integer.parseInt(offset);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    private void removeExpiredSnapshotWalks() {
+        long expireTime = System.currentTimeMillis() - SNAPSHOT_WALK_EXPIRE_MILLIS;
+        snapshotWalks.values().removeIf(each -> each.lastReadTime < expireTime);
+    }
+    
+    private DistroData buildSnapshot(List<ClientSyncData> datum, String resourceKey) {
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
         snapshot.setClientSyncDataList(datum);
         byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
-        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+        return new DistroData(new DistroKey(resourceKey, TYPE), data);
     }
     
     @Override
@@ -279,18 +455,80 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
                 continue;
             }
             if (clientManager.isResponsibleClient(client)) {
-                DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(),
-                        client.getRevision());
-                DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
-                DistroData data = new DistroData(distroKey,
-                        ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
-                data.setType(DataOperation.VERIFY);
                 if (result == null) {
                     result = new LinkedList<>();
                 }
-                result.add(data);
+                result.add(buildVerifyData(client));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public List<DistroData> getVerifyData(Collection<Integer> buckets, int bucketCount) {
+        Set<Integer> bucketSet = new HashSet<>(buckets);
+        List<DistroData> result = new LinkedList<>();
+        for (String each : clientManager.allClientId()) {
+            if (!bucketSet.contains(DistroVerifyDigest.bucketOf(each, bucketCount))) {
+                continue;
+            }
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral() || !clientManager.isResponsibleClient(client)) {
+                continue;
+            }
+            result.add(buildVerifyData(client));
+        }
+        return result;
+    }
+    
+    @Override
+    public DistroVerifyDigest getVerifyDigest(int bucketCount) {
+        DistroVerifyDigest result = new DistroVerifyDigest(bucketCount);
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral() || !clientManager.isResponsibleClient(client)) {
+                continue;
             }
+            result.add(client.getClientId(), client.getRevision());
         }
         return result;
     }
+    
+    private DistroData buildVerifyData(Client client) {
+        DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(), client.getRevision());
+        DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
+        DistroData data = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
+        data.setType(DataOperation.VERIFY);
+        return data;
+    }
+    
+    private class MembersChangeSubscriber extends Subscriber<MembersChangeEvent> {
+        
+        @Override
+        public void onEvent(MembersChangeEvent event) {
+            removeLeftSourceServers(event.getMembers());
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return MembersChangeEvent.class;
+        }
+    }
+    
+    private static class SnapshotWalk {
+        
+        private final String walkId;
+        
+        private final String[] clientIds;
+        
+        private final int chunkSize;
+        
+        private volatile long lastReadTime;
+        
+        private SnapshotWalk(String walkId, String[] clientIds, int chunkSize) {
+            this.walkId = walkId;
+            this.clientIds = clientIds;
+            this.chunkSize = chunkSize;
+        }
+    }
 }
@@ -32,6 +32,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataBatchRequest;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
@@ -39,6 +40,7 @@ import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -107,6 +109,32 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportBatchSync() {
+        return true;
+    }
+    
+    @Override
+    public void syncBatchData(List<DistroData> data, String targetServer, DistroCallback callback) {
+        if (isNoExistTarget(targetServer)) {
+            callback.onSuccess();
+            return;
+        }
+        DistroDataBatchRequest request = new DistroDataBatchRequest(data);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro batch sync caused by target server {} unhealthy, size: {}",
+                    targetServer, data.size());
+            callback.onFailed(null);
+            return;
+        }
+        try {
+            clusterRpcClientProxy.asyncRequest(member, request, new DistroRpcCallbackWrapper(callback, member));
+        } catch (NacosException nacosException) {
+            callback.onFailed(nacosException);
+        }
+    }
+    
     @Override
     public boolean syncVerifyData(DistroData verifyData, String targetServer) {
         if (isNoExistTarget(targetServer)) {
@@ -137,6 +165,8 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             callback.onSuccess();
             return;
         }
+        // replace target server as self server so that target server can know the source of verify data.
+        verifyData.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
         DistroDataRequest request = new DistroDataRequest(verifyData, DataOperation.VERIFY);
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
@@ -155,6 +185,33 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData syncVerifyDigest(DistroData digestData, String targetServer) {
+        if (isNoExistTarget(targetServer)) {
+            return new DistroData(digestData.getDistroKey(), new byte[0]);
+        }
+        digestData.getDistroKey().setTargetServer(memberManager.getSelf().getAddress());
+        DistroDataRequest request = new DistroDataRequest(digestData, DataOperation.VERIFY_DIGEST);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro verify digest caused by target server {} unhealthy",
+                    targetServer);
+            return new DistroData(digestData.getDistroKey(), new byte[0]);
+        }
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getVerifyTimeoutMillis());
+            if (checkResponse(response)) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                return ((DistroDataResponse) response).getDistroData();
+            }
+            NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+        } catch (NacosException e) {
+            Loggers.DISTRO.error("[DISTRO-FAILED] Verify distro digest to {} failed!", targetServer, e);
+        }
+        return null;
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -184,6 +241,11 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     @Override
     public DistroData getDatumSnapshot(String targetServer) {
+        return getDatumSnapshot(targetServer, null);
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(String targetServer, String cursor) {
         Member member = memberManager.find(targetServer);
         if (checkTargetServerStatusUnhealthy(member)) {
             throw new DistroException(
@@ -191,6 +253,11 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
         DistroDataRequest request = new DistroDataRequest();
         request.setDataOperation(DataOperation.SNAPSHOT);
+        if (null != cursor) {
+            DistroData distroData = new DistroData(new DistroKey(cursor, DistroClientDataProcessor.TYPE), null);
+            distroData.setType(DataOperation.SNAPSHOT);
+            request.setDistroData(distroData);
+        }
         try {
             Response response = clusterRpcClientProxy
                     .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
@@ -65,6 +65,11 @@ public final class Constants {
      */
     public static final String EXPIRE_INSTANCE = "nacos.naming.expireInstance";
     
+    /**
+     * default : false.
+     */
+    public static final String COMPACT_SERVICE_STORAGE = "nacos.naming.service.storage.compact";
+    
     /**
      * UDP max retry times.
      */
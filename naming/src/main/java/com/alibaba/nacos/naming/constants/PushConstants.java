@@ -43,4 +43,18 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push the changed instances only to clients which support delta push.
+     */
+    public static final String DELTA_PUSH_ENABLED = "nacos.naming.push.deltaPushEnabled";
+    
+    public static final boolean DEFAULT_DELTA_PUSH_ENABLED = true;
+    
+    /**
+     * Min instances count of the pushed service info to use delta push, smaller service info is always full pushed.
+     */
+    public static final String DELTA_PUSH_MIN_INSTANCES = "nacos.naming.push.deltaPushMinInstances";
+    
+    public static final int DEFAULT_DELTA_PUSH_MIN_INSTANCES = 100;
 }
@@ -19,6 +19,9 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.common.notify.ringbuffer.RingBufferPublisher;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,13 +33,18 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * If {@code nacos.core.notify.publisher-type} is {@code ring-buffer}, {@link RingBufferPublisher} is used instead of
+ * {@link NamingEventPublisher}, which keeps the order of events by its single consumer thread.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
@@ -52,7 +60,8 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
-            NamingEventPublisher result = new NamingEventPublisher();
+            ShardedEventPublisher result = NotifyCenter.isRingBufferPublisherType() ? new RingBufferPublisher(true)
+                    : new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
@@ -60,8 +69,10 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            String status = each instanceof RingBufferPublisher ? ((RingBufferPublisher) each).getStatus()
+                    : ((NamingEventPublisher) each).getStatus();
+            result.append('\t').append(status).append('\n');
         }
         return result.toString();
     }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact form of {@link ServiceInfo} kept in {@link ServiceStorage}.
+ *
+ * <p>Instances are stored column by column: IPv4 addresses as packed ints, cluster names, service names and metadata
+ * as values shared through {@link CompactValuePool}, and health, enabled and ephemeral as bit flags. {@link Instance}
+ * objects are only materialized when the data is queried or pushed.
+ *
+ * @author Nacos
+ */
+final class CompactServiceInfo {
+    
+    private static final byte HEALTHY = 1;
+    
+    private static final byte ENABLED = 1 << 1;
+    
+    private static final byte EPHEMERAL = 1 << 2;
+    
+    private static final int IPV4_SEGMENTS = 4;
+    
+    private static final int MAX_SEGMENT = 255;
+    
+    private static final int MAX_SEGMENT_LENGTH = 3;
+    
+    private static final int BYTE_MASK = 0xFF;
+    
+    private static final int BITS_PER_BYTE = 8;
+    
+    private static final int DECIMAL_RADIX = 10;
+    
+    private static final int MAX_IPV4_LENGTH = 15;
+    
+    private final String name;
+    
+    private final String groupName;
+    
+    private final String clusters;
+    
+    private final long cacheMillis;
+    
+    private final long lastRefTime;
+    
+    private final String checksum;
+    
+    private final boolean allIps;
+    
+    private final boolean reachProtectionThreshold;
+    
+    private final int[] packedIps;
+    
+    /**
+     * Addresses which can't be packed as IPv4, such as IPv6 or domain; null when all addresses are packed.
+     */
+    private String[] rawIps;
+    
+    private final int[] ports;
+    
+    private final double[] weights;
+    
+    private final byte[] flags;
+    
+    private final String[] instanceIds;
+    
+    private final String[] clusterNames;
+    
+    private final String[] serviceNames;
+    
+    private final Map<String, String>[] metadata;
+    
+    @SuppressWarnings("unchecked")
+    private CompactServiceInfo(ServiceInfo serviceInfo) {
+        this.name = serviceInfo.getName();
+        this.groupName = serviceInfo.getGroupName();
+        this.clusters = CompactValuePool.intern(serviceInfo.getClusters());
+        this.cacheMillis = serviceInfo.getCacheMillis();
+        this.lastRefTime = serviceInfo.getLastRefTime();
+        this.checksum = serviceInfo.getChecksum();
+        this.allIps = serviceInfo.isAllIps();
+        this.reachProtectionThreshold = serviceInfo.isReachProtectionThreshold();
+        List<Instance> hosts = serviceInfo.getHosts();
+        int size = hosts.size();
+        this.packedIps = new int[size];
+        this.ports = new int[size];
+        this.weights = new double[size];
+        this.flags = new byte[size];
+        this.instanceIds = new String[size];
+        this.clusterNames = new String[size];
+        this.serviceNames = new String[size];
+        this.metadata = new Map[size];
+        for (int i = 0; i < size; i++) {
+            store(i, hosts.get(i));
+        }
+    }
+    
+    static CompactServiceInfo of(ServiceInfo serviceInfo) {
+        return new CompactServiceInfo(serviceInfo);
+    }
+    
+    private void store(int index, Instance instance) {
+        storeIp(index, instance.getIp());
+        ports[index] = instance.getPort();
+        weights[index] = instance.getWeight();
+        byte flag = 0;
+        if (instance.isHealthy()) {
+            flag |= HEALTHY;
+        }
+        if (instance.isEnabled()) {
+            flag |= ENABLED;
+        }
+        if (instance.isEphemeral()) {
+            flag |= EPHEMERAL;
+        }
+        flags[index] = flag;
+        instanceIds[index] = instance.getInstanceId();
+        clusterNames[index] = CompactValuePool.intern(instance.getClusterName());
+        serviceNames[index] = CompactValuePool.intern(instance.getServiceName());
+        metadata[index] = CompactValuePool.intern(instance.getMetadata());
+    }
+    
+    private void storeIp(int index, String ip) {
+        int packed = packIpv4(ip);
+        if (null != ip && ip.equals(unpackIpv4(packed))) {
+            packedIps[index] = packed;
+            return;
+        }
+        if (null == rawIps) {
+            rawIps = new String[packedIps.length];
+        }
+        rawIps[index] = ip;
+    }
+    
+    /**
+     * Materialize a new {@link ServiceInfo} with new {@link Instance}s, callers can modify it freely.
+     *
+     * @return service info
+     */
+    ServiceInfo toServiceInfo() {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(name);
+        result.setGroupName(groupName);
+        result.setClusters(clusters);
+        result.setCacheMillis(cacheMillis);
+        result.setLastRefTime(lastRefTime);
+        result.setChecksum(checksum);
+        result.setAllIps(allIps);
+        result.setReachProtectionThreshold(reachProtectionThreshold);
+        List<Instance> hosts = new ArrayList<>(packedIps.length);
+        for (int i = 0; i < packedIps.length; i++) {
+            hosts.add(toInstance(i));
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private Instance toInstance(int index) {
+        Instance result = new Instance();
+        result.setInstanceId(instanceIds[index]);
+        result.setIp(null != rawIps && null != rawIps[index] ? rawIps[index] : unpackIpv4(packedIps[index]));
+        result.setPort(ports[index]);
+        result.setWeight(weights[index]);
+        result.setHealthy((flags[index] & HEALTHY) != 0);
+        result.setEnabled((flags[index] & ENABLED) != 0);
+        result.setEphemeral((flags[index] & EPHEMERAL) != 0);
+        result.setClusterName(clusterNames[index]);
+        result.setServiceName(serviceNames[index]);
+        result.setMetadata(null == metadata[index] ? new HashMap<>(1) : new HashMap<>(metadata[index]));
+        return result;
+    }
+    
+    int size() {
+        return packedIps.length;
+    }
+    
+    static int packIpv4(String ip) {
+        if (null == ip) {
+            return 0;
+        }
+        int result = 0;
+        int segments = 0;
+        int segment = 0;
+        int segmentLength = 0;
+        for (int i = 0; i <= ip.length(); i++) {
+            char c = i == ip.length() ? '.' : ip.charAt(i);
+            if (c == '.') {
+                if (0 == segmentLength || ++segments > IPV4_SEGMENTS) {
+                    return 0;
+                }
+                result = (result << BITS_PER_BYTE) | segment;
+                segment = 0;
+                segmentLength = 0;
+            } else if (c >= '0' && c <= '9' && segmentLength < MAX_SEGMENT_LENGTH) {
+                segment = segment * DECIMAL_RADIX + (c - '0');
+                segmentLength++;
+                if (segment > MAX_SEGMENT) {
+                    return 0;
+                }
+            } else {
+                return 0;
+            }
+        }
+        return segments == IPV4_SEGMENTS ? result : 0;
+    }
+    
+    static String unpackIpv4(int packed) {
+        StringBuilder result = new StringBuilder(MAX_IPV4_LENGTH);
+        for (int shift = (IPV4_SEGMENTS - 1) * BITS_PER_BYTE; shift >= 0; shift -= BITS_PER_BYTE) {
+            result.append((packed >>> shift) & BYTE_MASK);
+            if (shift > 0) {
+                result.append('.');
+            }
+        }
+        return result.toString();
+    }
+}
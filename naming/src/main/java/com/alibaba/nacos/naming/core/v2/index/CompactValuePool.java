@@ -0,0 +1,74 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of canonical values shared by compact service data, values no longer referenced are released by GC.
+ *
+ * @author Nacos
+ */
+final class CompactValuePool {
+    
+    private static final Map<Object, WeakReference<Object>> POOL = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private CompactValuePool() {
+    }
+    
+    static String intern(String value) {
+        return null == value ? null : canonical(value);
+    }
+    
+    /**
+     * Get the shared read-only copy of metadata.
+     *
+     * @param metadata metadata of instance
+     * @return shared read-only metadata, null if metadata is empty
+     */
+    static Map<String, String> intern(Map<String, String> metadata) {
+        if (null == metadata || metadata.isEmpty()) {
+            return null;
+        }
+        Map<String, String> copy = new HashMap<>(metadata.size());
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            copy.put(intern(entry.getKey()), intern(entry.getValue()));
+        }
+        return canonical(Collections.unmodifiableMap(copy));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T canonical(T value) {
+        synchronized (POOL) {
+            WeakReference<Object> reference = POOL.get(value);
+            Object existed = null == reference ? null : reference.get();
+            if (null != existed) {
+                return (T) existed;
+            }
+            POOL.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+    
+    static int size() {
+        return POOL.size();
+    }
+}
@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPatternIndex;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
@@ -66,6 +67,16 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     private final ConcurrentMap<String, Set<String>> matchedServiceKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of the patterns in watchedClientsMap, to find the patterns matching a service.
+     */
+    private final FuzzyGroupKeyPatternIndex watchedPatternIndex = new FuzzyGroupKeyPatternIndex();
+    
+    /**
+     * index of the patterns in matchedServiceKeysMap, to find the patterns matching a service.
+     */
+    private final FuzzyGroupKeyPatternIndex matchedPatternIndex = new FuzzyGroupKeyPatternIndex();
+    
     public NamingFuzzyWatchContextService() {
     }
     
@@ -80,7 +91,7 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      * if watchedClients is null. pattern matchedServiceKeys will be removed in second period to avoid frequently
      * matchedServiceKeys init.
      */
-    void trimFuzzyWatchContext() {
+    synchronized void trimFuzzyWatchContext() {
         try {
             Iterator<Map.Entry<String, Set<String>>> iterator = matchedServiceKeysMap.entrySet().iterator();
             while (iterator.hasNext()) {
@@ -92,10 +103,12 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
                     Loggers.SRV_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
                             next.getKey());
+                    matchedPatternIndex.remove(next.getKey());
                     iterator.remove();
                 } else if (watchedClients.isEmpty()) {
                     Loggers.SRV_LOG.info("[fuzzy-watch] no client watched pattern {},remove watchedClients context",
                             next.getKey());
+                    watchedPatternIndex.remove(next.getKey());
                     this.watchedClientsMap.remove(next.getKey());
                 } else if (reachToUpLimit(serviceKeysCount)) {
                     Loggers.SRV_LOG.warn(
@@ -135,12 +148,11 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     public Set<String> getFuzzyWatchedClients(Service service) {
         Set<String> matchedClients = new HashSet<>();
-        Iterator<Map.Entry<String, Set<String>>> iterator = watchedClientsMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), service.getName(), service.getGroup(),
-                    service.getNamespace())) {
-                matchedClients.addAll(entry.getValue());
+        for (String pattern : watchedPatternIndex.matchedPatterns(service.getName(), service.getGroup(),
+                service.getNamespace())) {
+            Set<String> watchedClients = watchedClientsMap.get(pattern);
+            if (watchedClients != null) {
+                matchedClients.addAll(watchedClients);
             }
         }
         return matchedClients;
@@ -165,37 +177,36 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
         Loggers.SRV_LOG.warn("[fuzzy-watch] service change matched,service key {},changed type {} ", serviceKey,
                 changedType);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedServiceKeysMap.entrySet().iterator();
         boolean tryAdd = changedType.equals(ADD_SERVICE);
         boolean tryRemove = changedType.equals(DELETE_SERVICE);
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> next = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(next.getKey(), changedService.getName(), changedService.getGroup(),
-                    changedService.getNamespace())) {
-                Set<String> matchedServiceKeys = next.getValue();
-                boolean reachToUpLimit = reachToUpLimit(matchedServiceKeys.size());
-                boolean containsAlready = matchedServiceKeys.contains(serviceKey);
-                
-                if (tryAdd && !containsAlready && reachToUpLimit) {
-                    Loggers.SRV_LOG.warn("[fuzzy-watch] pattern matched service count is over limit , "
-                                    + "current service will be ignore for pattern {} ,current count is {}", next.getKey(),
-                            matchedServiceKeys.size());
-                    continue;
-                }
-                
-                if (tryAdd && !containsAlready && matchedServiceKeys.add(serviceKey)) {
-                    Loggers.SRV_LOG.info("[fuzzy-watch] pattern {} matched service keys count changed to {}",
-                            next.getKey(), matchedServiceKeys.size());
-                    needNotify = true;
-                    
-                }
-                if (tryRemove && containsAlready && matchedServiceKeys.remove(serviceKey)) {
-                    Loggers.SRV_LOG.info("[fuzzy-watch]  pattern {} matched service keys count changed to {}",
-                            next.getKey(), matchedServiceKeys.size());
-                    needNotify = true;
-                    if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(next.getKey());
-                    }
+        for (String pattern : matchedPatternIndex.matchedPatterns(changedService.getName(), changedService.getGroup(),
+                changedService.getNamespace())) {
+            Set<String> matchedServiceKeys = matchedServiceKeysMap.get(pattern);
+            if (matchedServiceKeys == null) {
+                continue;
+            }
+            boolean reachToUpLimit = reachToUpLimit(matchedServiceKeys.size());
+            boolean containsAlready = matchedServiceKeys.contains(serviceKey);
+            
+            if (tryAdd && !containsAlready && reachToUpLimit) {
+                Loggers.SRV_LOG.warn("[fuzzy-watch] pattern matched service count is over limit , "
+                                + "current service will be ignore for pattern {} ,current count is {}", pattern,
+                        matchedServiceKeys.size());
+                continue;
+            }
+            
+            if (tryAdd && !containsAlready && matchedServiceKeys.add(serviceKey)) {
+                Loggers.SRV_LOG.info("[fuzzy-watch] pattern {} matched service keys count changed to {}", pattern,
+                        matchedServiceKeys.size());
+                needNotify = true;
+            
+            }
+            if (tryRemove && containsAlready && matchedServiceKeys.remove(serviceKey)) {
+                Loggers.SRV_LOG.info("[fuzzy-watch]  pattern {} matched service keys count changed to {}", pattern,
+                        matchedServiceKeys.size());
+                needNotify = true;
+                if (reachToUpLimit) {
+                    makeupMatchedGroupKeys(pattern);
                 }
             }
         }
@@ -250,9 +261,10 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      * @param clientId        client id.
      * @return
      */
-    public void syncFuzzyWatcherContext(String groupKeyPattern, String clientId) throws NacosException {
+    public synchronized void syncFuzzyWatcherContext(String groupKeyPattern, String clientId) throws NacosException {
         //init empty watchedClients first,when pattern is not over limit,then add clientId.
         watchedClientsMap.computeIfAbsent(groupKeyPattern, key -> new ConcurrentHashSet<>());
+        watchedPatternIndex.add(groupKeyPattern);
         initWatchMatchService(groupKeyPattern);
         watchedClientsMap.get(groupKeyPattern).add(clientId);
     }
@@ -309,6 +321,7 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
             Set<Service> namespaceServices = ServiceManager.getInstance()
                     .getSingletons(getNamespaceFromPattern(completedPattern));
             Set<String> matchedServices = matchedServiceKeysMap.computeIfAbsent(completedPattern, k -> new HashSet<>());
+            matchedPatternIndex.add(completedPattern);
             boolean overMatchCount = false;
             for (Service service : namespaceServices) {
                 if (FuzzyGroupKeyPattern.matchPattern(completedPattern, service.getName(), service.getGroup(),
@@ -27,6 +27,7 @@ import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.GlobalConfig;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
@@ -58,6 +59,14 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, ServiceInfo> serviceDataIndexes;
     
+    /**
+     * Used instead of {@link #serviceDataIndexes} when {@code nacos.naming.service.storage.compact} is true, trading
+     * the cost of materializing instances on each query for a much smaller heap with many instances.
+     */
+    private final ConcurrentMap<Service, CompactServiceInfo> compactDataIndexes;
+    
+    private final boolean compactStorage;
+    
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
@@ -68,13 +77,25 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.compactDataIndexes = new ConcurrentHashMap<>();
+        this.compactStorage = GlobalConfig.isCompactServiceStorage();
     }
     
     public Set<String> getClusters(Service service) {
         return serviceClusterIndex.getOrDefault(service, new HashSet<>());
     }
     
+    /**
+     * Get cached data of service, generate and cache it if absent.
+     *
+     * @param service service
+     * @return service info, a new copy for each call in compact storage mode
+     */
     public ServiceInfo getData(Service service) {
+        if (compactStorage) {
+            CompactServiceInfo compactData = compactDataIndexes.get(service);
+            return null != compactData ? compactData.toServiceInfo() : getPushData(service);
+        }
         return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
     }
     
@@ -85,12 +106,22 @@ public class ServiceStorage {
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
         result.setHosts(getAllInstancesFromIndex(singleton));
-        serviceDataIndexes.put(singleton, result);
+        if (compactStorage) {
+            compactDataIndexes.put(singleton, CompactServiceInfo.of(result));
+        } else {
+            serviceDataIndexes.put(singleton, result);
+        }
         return result;
     }
     
+    /**
+     * Remove cached data and clusters of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
+        compactDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
     }
     
@@ -35,7 +35,9 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_INTERVAL_MILLIS = 5000L;
+    
+    private static Map<String, HealthCheckTimingWheel.Timeout> futureMap = new ConcurrentHashMap<>();
     
     /**
      * Schedule health check task for v2.
@@ -45,7 +47,7 @@ public class HealthCheckReactor {
     public static void scheduleCheck(HealthCheckTaskV2 task) {
         task.setStartTime(System.currentTimeMillis());
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
-        GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
+        HealthCheckTimingWheel.getInstance().schedule(wrapperTask, task.getCheckRtNormalized());
     }
     
     /**
@@ -57,8 +59,8 @@ public class HealthCheckReactor {
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        futureMap.computeIfAbsent(task.taskKey(), k -> HealthCheckTimingWheel.getInstance()
+                .schedule(wrapperTask, BEAT_CHECK_INTERVAL_MILLIS, BEAT_CHECK_INTERVAL_MILLIS));
     }
     
     /**
@@ -67,12 +69,12 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
+        HealthCheckTimingWheel.Timeout timeout = futureMap.get(task.taskKey());
+        if (timeout == null) {
             return;
         }
         try {
-            scheduledFuture.cancel(true);
+            timeout.cancel();
             futureMap.remove(task.taskKey());
         } catch (Exception e) {
             Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
@@ -0,0 +1,267 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hashed timing wheel for health check tasks.
+ *
+ * <p>Instead of one entry in the scheduled executor per client, health check tasks are put into the buckets of a
+ * wheel, and a single ticker expires one bucket per tick. Expired tasks of a tick are coalesced into batches and each
+ * batch is executed as one task by the naming health executor, so the scheduler heap and wake-ups no longer grow with
+ * the count of clients. The delay of tasks is rounded up to the tick, which is 100ms by default and can be set by
+ * system property {@code com.alibaba.nacos.naming.health.tick.ms}.
+ *
+ * <p>The lag between the expected time of a tick and the time it is really processed is recorded into
+ * {@link MetricsMonitor#getHealthCheckTickLag()}.
+ *
+ * @author Nacos
+ */
+public class HealthCheckTimingWheel {
+    
+    private static final long TICK_MILLIS = Long.getLong("com.alibaba.nacos.naming.health.tick.ms", 100L);
+    
+    private static final int WHEEL_SIZE = 512;
+    
+    private static final int BATCH_SIZE = 128;
+    
+    private static final HealthCheckTimingWheel INSTANCE = new HealthCheckTimingWheel(TICK_MILLIS, WHEEL_SIZE,
+            BATCH_SIZE, GlobalExecutor::executeNamingHealth);
+    
+    private final long tickMillis;
+    
+    private final int mask;
+    
+    private final List<Timeout>[] buckets;
+    
+    private final int batchSize;
+    
+    private final Executor executor;
+    
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    
+    private final long startTime;
+    
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    HealthCheckTimingWheel(long tickMillis, int wheelSize, int batchSize, Executor executor) {
+        this.tickMillis = Math.max(1L, tickMillis);
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1) << 1);
+        this.mask = size - 1;
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = executor;
+        this.startTime = currentMillis();
+    }
+    
+    public static HealthCheckTimingWheel getInstance() {
+        INSTANCE.start();
+        return INSTANCE;
+    }
+    
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            GlobalExecutor.scheduleNamingHealth(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Schedule a task to run once after the delay.
+     *
+     * @param task        task
+     * @param delayMillis delay in milliseconds
+     * @return timeout of the task, which can be cancelled
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        return schedule(task, delayMillis, 0L);
+    }
+    
+    /**
+     * Schedule a task to run repeatedly with a fixed delay between the end of one execution and the next.
+     *
+     * @param task         task
+     * @param initialDelay delay in milliseconds of first execution
+     * @param delayMillis  delay in milliseconds between executions
+     * @return timeout of the task, which can be cancelled
+     */
+    public Timeout schedule(Runnable task, long initialDelay, long delayMillis) {
+        Timeout result = new Timeout(task, delayMillis);
+        addTimeout(result, initialDelay);
+        return result;
+    }
+    
+    private void addTimeout(Timeout timeout, long delayMillis) {
+        timeout.deadline = currentMillis() - startTime + Math.max(0L, delayMillis);
+        pendingTimeouts.add(timeout);
+    }
+    
+    private void tick() {
+        // an exception thrown out of the scheduled task would cancel it and stop all health checks.
+        try {
+            advance(currentMillis());
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[HEALTH-CHECK] advance health check timing wheel failed.", e);
+        }
+    }
+    
+    /**
+     * Expire all buckets whose tick is not later than input time.
+     *
+     * @param now current time in milliseconds
+     */
+    synchronized void advance(long now) {
+        long elapsed = now - startTime;
+        if (elapsed < (currentTick + 1) * tickMillis) {
+            return;
+        }
+        MetricsMonitor.getHealthCheckTickLag().set(elapsed - (currentTick + 1) * tickMillis);
+        List<Timeout> expired = new ArrayList<>();
+        while ((currentTick + 1) * tickMillis <= elapsed) {
+            transferPendingTimeouts();
+            expireBucket(buckets[(int) (currentTick & mask)], expired);
+            currentTick++;
+        }
+        dispatch(expired);
+    }
+    
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long ticks = Math.max(timeout.deadline / tickMillis, currentTick);
+            timeout.remainingRounds = (ticks - currentTick) / buckets.length;
+            buckets[(int) (ticks & mask)].add(timeout);
+        }
+    }
+    
+    private void expireBucket(List<Timeout> bucket, List<Timeout> expired) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                expired.add(timeout);
+            }
+        }
+    }
+    
+    private void dispatch(List<Timeout> expired) {
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Timeout> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                executor.execute(() -> runBatch(batch));
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] dispatch {} health check tasks failed, retry at next tick.",
+                        batch.size(), e);
+                for (Timeout each : batch) {
+                    addTimeout(each, 0L);
+                }
+            }
+        }
+    }
+    
+    private void runBatch(List<Timeout> batch) {
+        for (Timeout each : batch) {
+            if (each.cancelled) {
+                continue;
+            }
+            try {
+                each.task.run();
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[HEALTH-CHECK] run health check task failed.", e);
+            } finally {
+                if (each.period > 0 && !each.cancelled) {
+                    addTimeout(each, each.period);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Count of timeouts waiting to be put into wheel and in the wheel, only used for test.
+     *
+     * @return count of timeouts
+     */
+    synchronized int size() {
+        int result = pendingTimeouts.size();
+        for (List<Timeout> each : buckets) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    static long currentMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+    
+    /**
+     * Handle of a task scheduled in the timing wheel.
+     */
+    public static class Timeout {
+        
+        private final Runnable task;
+        
+        private final long period;
+        
+        private volatile boolean cancelled;
+        
+        private long deadline;
+        
+        private long remainingRounds;
+        
+        private Timeout(Runnable task, long period) {
+            this.task = task;
+            this.period = period;
+        }
+        
+        /**
+         * Cancel the task, the task will be removed from the wheel when its bucket expires.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.misc;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import static com.alibaba.nacos.naming.constants.Constants.COMPACT_SERVICE_STORAGE;
 import static com.alibaba.nacos.naming.constants.Constants.DATA_WARMUP;
 import static com.alibaba.nacos.naming.constants.Constants.EMPTY_SERVICE_CLEAN_INTERVAL;
 import static com.alibaba.nacos.naming.constants.Constants.EMPTY_SERVICE_EXPIRED_TIME;
@@ -43,6 +44,10 @@ public class GlobalConfig {
         return EnvUtil.getProperty(EXPIRE_INSTANCE, Boolean.class, true);
     }
     
+    public static boolean isCompactServiceStorage() {
+        return EnvUtil.getProperty(COMPACT_SERVICE_STORAGE, Boolean.class, false);
+    }
+    
     public static Long getEmptyServiceCleanInterval() {
         return EnvUtil.getProperty(EMPTY_SERVICE_CLEAN_INTERVAL, Long.class, 60000L);
     }
@@ -112,6 +112,10 @@ public class GlobalExecutor {
         TCP_SUPER_SENSE_EXECUTOR.schedule(runnable, delay, unit);
     }
     
+    public static void executeNamingHealth(Runnable command) {
+        NAMING_HEALTH_EXECUTOR.execute(command);
+    }
+    
     public static ScheduledFuture<?> scheduleNamingHealth(Runnable command, long delay, TimeUnit unit) {
         return NAMING_HEALTH_EXECUTOR.schedule(command, delay, unit);
     }
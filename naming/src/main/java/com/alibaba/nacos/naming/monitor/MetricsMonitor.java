@@ -77,6 +77,8 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong healthCheckTickLag = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -198,6 +200,10 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getHealthCheckTickLag() {
+        return INSTANCE.healthCheckTickLag;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -16,7 +16,9 @@
 
 package com.alibaba.nacos.naming.pojo;
 
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -46,6 +48,11 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * The latest push acknowledged by the subscriber, used as the base of delta push. Only held in memory.
+     */
+    private transient volatile AckedPush ackedPush;
+    
     public Subscriber() {
     }
     
@@ -130,6 +137,32 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public AckedPush getAckedPush() {
+        return ackedPush;
+    }
+    
+    /**
+     * Record the push acknowledged by the subscriber. Acknowledges may arrive out of order, so older revision is
+     * ignored.
+     *
+     * @param revision    revision of the acknowledged push
+     * @param serviceInfo full service info the subscriber holds after the acknowledged push
+     */
+    public synchronized void ackPush(long revision, ServiceInfo serviceInfo) {
+        AckedPush current = ackedPush;
+        if (null == current || current.getRevision() < revision) {
+            ackedPush = new AckedPush(revision, serviceInfo);
+        }
+    }
+    
+    /**
+     * Clear the acknowledged push so that next push to the subscriber is full push.
+     */
+    public synchronized void clearAckedPush() {
+        ackedPush = null;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -155,4 +188,27 @@ public class Subscriber implements Serializable {
                 + ", ip='" + ip + '\'' + ", namespaceId='" + namespaceId + '\'' + ", serviceName='" + serviceName + '\''
                 + '}';
     }
+    
+    /**
+     * Push acknowledged by subscriber.
+     */
+    public static class AckedPush {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        public AckedPush(long revision, ServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+        }
+        
+        public long getRevision() {
+            return revision;
+        }
+        
+        public ServiceInfo getServiceInfo() {
+            return serviceInfo;
+        }
+    }
 }
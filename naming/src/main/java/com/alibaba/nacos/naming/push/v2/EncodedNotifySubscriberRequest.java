@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PreEncodedRequest;
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecRegistry;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Notify subscriber request whose body is encoded once and shared by all subscribers receiving the same service info.
+ *
+ * <p>Each push still needs its own request instance because the request id is set per connection, so use
+ * {@link #duplicate()} to get a request for every target connection. The binary body for peers supporting binary
+ * payload is encoded at first use and shared by the duplicates as well.
+ *
+ * @author Nacos
+ */
+public class EncodedNotifySubscriberRequest extends NotifySubscriberRequest implements PreEncodedRequest {
+    
+    private static final String ENCODED_TYPE = NotifySubscriberRequest.class.getSimpleName();
+    
+    private final byte[] body;
+    
+    private final AtomicReference<byte[]> binaryBody;
+    
+    public EncodedNotifySubscriberRequest(ServiceInfo serviceInfo) {
+        this(serviceInfo, 0L);
+    }
+    
+    public EncodedNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        this(serviceInfo, revision, JacksonUtils.toJsonBytes(buildRequest(serviceInfo, revision)),
+                new AtomicReference<>());
+    }
+    
+    private EncodedNotifySubscriberRequest(ServiceInfo serviceInfo, long revision, byte[] body,
+            AtomicReference<byte[]> binaryBody) {
+        setServiceInfo(serviceInfo);
+        setRevision(revision);
+        this.body = body;
+        this.binaryBody = binaryBody;
+    }
+    
+    private static NotifySubscriberRequest buildRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRevision(revision);
+        return request;
+    }
+    
+    /**
+     * Create a new request sharing the service info and the encoded body of this request.
+     *
+     * @return new request without request id
+     */
+    public EncodedNotifySubscriberRequest duplicate() {
+        return new EncodedNotifySubscriberRequest(getServiceInfo(), getRevision(), body, binaryBody);
+    }
+    
+    @Override
+    public String encodedType() {
+        return ENCODED_TYPE;
+    }
+    
+    @Override
+    public byte[] encodedBodyWithoutRequestId() {
+        return body;
+    }
+    
+    @Override
+    public byte[] encodedBinaryBodyWithoutRequestId() {
+        byte[] result = binaryBody.get();
+        if (result == null) {
+            result = BinaryPayloadCodecRegistry.encode(ENCODED_TYPE, buildRequest(getServiceInfo(), getRevision()));
+            if (!binaryBody.compareAndSet(null, result)) {
+                result = binaryBody.get();
+            }
+        }
+        return result;
+    }
+}
@@ -22,6 +22,7 @@ import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Nacos push data wrapper.
@@ -30,22 +31,35 @@ import java.util.Optional;
  */
 public class PushDataWrapper {
     
+    private static final AtomicLong REVISION_GENERATOR = new AtomicLong();
+    
     private final ServiceMetadata serviceMetadata;
     
     private final ServiceInfo originalData;
     
     private final Map<String, Object> processedDatum;
     
+    /**
+     * Revision of this push data, increased for each generated push data in this server. Clients acknowledge the
+     * revision so that later pushes can only carry the changes from it.
+     */
+    private final long revision;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
         processedDatum = new HashMap<>(1);
+        revision = REVISION_GENERATOR.incrementAndGet();
     }
     
     public ServiceInfo getOriginalData() {
         return originalData;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
     public ServiceMetadata getServiceMetadata() {
         return serviceMetadata;
     }
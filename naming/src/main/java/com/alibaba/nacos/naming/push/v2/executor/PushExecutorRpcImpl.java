@@ -16,18 +16,35 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.AbstractFuzzyWatchNotifyRequest;
-import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.EncodedNotifySubscriberRequest;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Push execute service for rpc.
  *
@@ -36,25 +53,182 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String PROCESSED_DATA_KEY_PREFIX = "rpc:";
+    
+    private static final String DELTA_DATA_KEY_INFIX = "#delta:";
+    
+    private static final int DELTA_MAX_CHANGED_RATIO_DIVISOR = 2;
+    
+    /**
+     * Marks the delta from a base revision is not worth pushing, so that it is not computed again.
+     */
+    private static final Object NO_DELTA = new Object();
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        pushService.pushWithoutAck(clientId, getPushRequest(data, subscriber).duplicate());
     }
     
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        EncodedNotifySubscriberRequest fullRequest = getPushRequest(data, subscriber);
+        ServiceInfo serviceInfo = fullRequest.getServiceInfo();
+        callBack.setActualServiceInfo(serviceInfo);
+        if (!isDeltaPushSupported(clientId)) {
+            pushService.pushWithCallback(clientId, fullRequest.duplicate(), callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        NotifySubscriberDeltaRequest deltaRequest = getDeltaPushRequest(data, subscriber, serviceInfo);
+        ServerRequest request = null == deltaRequest ? fullRequest.duplicate() : copyDeltaRequest(deltaRequest);
+        pushService.pushWithCallback(clientId, request,
+                new AckTrackingPushCallback(subscriber, data.getRevision(), serviceInfo, callBack),
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    private boolean isDeltaPushSupported(String clientId) {
+        if (!PushConfig.getInstance().isDeltaPushEnabled()) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection || null == connection.getAbilityTable()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_DELTA_PUSH.getName()));
+    }
+    
+    /**
+     * Get the push request for subscriber. Subscribers with the same cluster filter, and the same ip if the selector
+     * depends on subscriber ip, receive the same service info, so the filtered service info is computed and encoded
+     * only once per push data.
+     */
+    private EncodedNotifySubscriberRequest getPushRequest(PushDataWrapper data, Subscriber subscriber) {
+        String key = buildProcessedDataKey(data, subscriber);
+        Optional<EncodedNotifySubscriberRequest> processed = data.getProcessedPushData(key);
+        if (processed.isPresent()) {
+            return processed.get();
+        }
+        EncodedNotifySubscriberRequest result = new EncodedNotifySubscriberRequest(getServiceInfo(data, subscriber),
+                data.getRevision());
+        data.addProcessedPushData(key, result);
+        return result;
+    }
+    
+    /**
+     * Get the delta push request from the push acknowledged by subscriber. Subscribers receiving the same service info
+     * and acknowledged the same revision receive the same delta, so the delta is computed only once per push data.
+     *
+     * @return delta push request, or {@code null} if full push should be used
+     */
+    private NotifySubscriberDeltaRequest getDeltaPushRequest(PushDataWrapper data, Subscriber subscriber,
+            ServiceInfo serviceInfo) {
+        Subscriber.AckedPush ackedPush = subscriber.getAckedPush();
+        if (null == ackedPush || ackedPush.getRevision() >= data.getRevision()) {
+            return null;
+        }
+        String key = buildProcessedDataKey(data, subscriber) + DELTA_DATA_KEY_INFIX + ackedPush.getRevision();
+        Optional<Object> processed = data.getProcessedPushData(key);
+        if (processed.isPresent()) {
+            return processed.get() == NO_DELTA ? null : (NotifySubscriberDeltaRequest) processed.get();
+        }
+        NotifySubscriberDeltaRequest result = buildDeltaRequest(ackedPush, data.getRevision(), serviceInfo);
+        data.addProcessedPushData(key, null == result ? NO_DELTA : result);
+        return result;
+    }
+    
+    private NotifySubscriberDeltaRequest buildDeltaRequest(Subscriber.AckedPush ackedPush, long revision,
+            ServiceInfo serviceInfo) {
+        List<Instance> hosts = serviceInfo.getHosts();
+        if (hosts.size() < PushConfig.getInstance().getDeltaPushMinInstances()) {
+            return null;
+        }
+        Map<String, Instance> baseHosts = indexHosts(ackedPush.getServiceInfo().getHosts());
+        Map<String, Instance> currentHosts = indexHosts(hosts);
+        if (null == baseHosts || null == currentHosts) {
+            return null;
+        }
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        for (Map.Entry<String, Instance> entry : currentHosts.entrySet()) {
+            Instance base = baseHosts.get(entry.getKey());
+            if (null == base) {
+                result.getAddedInstances().add(entry.getValue());
+            } else if (!base.equals(entry.getValue())) {
+                result.getModifiedInstances().add(entry.getValue());
+            }
+        }
+        for (Map.Entry<String, Instance> entry : baseHosts.entrySet()) {
+            if (!currentHosts.containsKey(entry.getKey())) {
+                result.getRemovedInstances().add(entry.getValue());
+            }
+        }
+        int changed = result.getAddedInstances().size() + result.getRemovedInstances().size() + result
+                .getModifiedInstances().size();
+        // full push is cheaper for client when most instances changed.
+        if (changed * DELTA_MAX_CHANGED_RATIO_DIVISOR >= hosts.size()) {
+            return null;
+        }
+        ServiceInfo header = new ServiceInfo();
+        header.setName(serviceInfo.getName());
+        header.setGroupName(serviceInfo.getGroupName());
+        header.setClusters(serviceInfo.getClusters());
+        header.setCacheMillis(serviceInfo.getCacheMillis());
+        header.setLastRefTime(serviceInfo.getLastRefTime());
+        header.setChecksum(serviceInfo.getChecksum());
+        header.setAllIps(serviceInfo.isAllIps());
+        header.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        result.setServiceInfo(header);
+        result.setServiceName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setBaseRevision(ackedPush.getRevision());
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Index hosts by ip and port, which is how the client identifies instances of delta push.
+     *
+     * @return indexed hosts, or {@code null} if some hosts have the same ip and port
+     */
+    private Map<String, Instance> indexHosts(List<Instance> hosts) {
+        Map<String, Instance> result = new HashMap<>(hosts.size() * 4 / 3 + 1);
+        for (Instance each : hosts) {
+            if (null != result.put(each.toInetAddr(), each)) {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    private NotifySubscriberDeltaRequest copyDeltaRequest(NotifySubscriberDeltaRequest deltaRequest) {
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setNamespace(deltaRequest.getNamespace());
+        result.setServiceName(deltaRequest.getServiceName());
+        result.setGroupName(deltaRequest.getGroupName());
+        result.setServiceInfo(deltaRequest.getServiceInfo());
+        result.setBaseRevision(deltaRequest.getBaseRevision());
+        result.setRevision(deltaRequest.getRevision());
+        result.setAddedInstances(deltaRequest.getAddedInstances());
+        result.setRemovedInstances(deltaRequest.getRemovedInstances());
+        result.setModifiedInstances(deltaRequest.getModifiedInstances());
+        return result;
+    }
+    
+    private String buildProcessedDataKey(PushDataWrapper data, Subscriber subscriber) {
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        boolean selectByIp = null != serviceMetadata && null != serviceMetadata.getSelector()
+                && !(serviceMetadata.getSelector() instanceof NoneSelector);
+        String key = PROCESSED_DATA_KEY_PREFIX + subscriber.getCluster();
+        return selectByIp ? key + Constants.COLON + subscriber.getIp() : key;
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -62,10 +236,57 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
-
+    
     @Override
     public void doFuzzyWatchNotifyPushWithCallBack(String clientId, AbstractFuzzyWatchNotifyRequest watchNotifyRequest, PushCallBack callBack) {
         pushService.pushWithCallback(clientId, watchNotifyRequest, callBack, GlobalExecutor.getCallbackExecutor());
     }
     
+    /**
+     * Records the push acknowledged by subscriber as the base of later delta push. If the subscriber does not hold the
+     * base revision of a delta push, the acknowledged push is cleared so that the retry is a full push.
+     */
+    private static class AckTrackingPushCallback implements NamingPushCallback {
+        
+        private final Subscriber subscriber;
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final NamingPushCallback delegate;
+        
+        private AckTrackingPushCallback(Subscriber subscriber, long revision, ServiceInfo serviceInfo,
+                NamingPushCallback delegate) {
+            this.subscriber = subscriber;
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            subscriber.ackPush(revision, serviceInfo);
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            if (e instanceof NacosException
+                    && NotifySubscriberResponse.BASE_REVISION_MISMATCH == ((NacosException) e).getErrCode()) {
+                subscriber.clearAckedPush();
+            }
+            delegate.onFail(e);
+        }
+        
+        @Override
+        public void setActualServiceInfo(ServiceInfo serviceInfo) {
+            delegate.setActualServiceInfo(serviceInfo);
+        }
+    }
 }
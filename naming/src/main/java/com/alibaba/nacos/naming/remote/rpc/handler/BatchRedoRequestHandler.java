@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.BatchRedoRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchRedoResponse;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.naming.misc.Loggers;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler to handle batch redo request.
+ *
+ * <p>Each inner request is handled by the handler of its own type through {@link RequestHandler#handleRequest}, so
+ * auth, tps control and param check are done for each inner request as if it is sent alone. The batch itself is not
+ * secured, as it can not be described by a single resource.
+ *
+ * @author Nacos
+ */
+@Component
+public class BatchRedoRequestHandler extends RequestHandler<BatchRedoRequest, BatchRedoResponse> {
+    
+    private final InstanceRequestHandler instanceRequestHandler;
+    
+    private final BatchInstanceRequestHandler batchInstanceRequestHandler;
+    
+    private final SubscribeServiceRequestHandler subscribeServiceRequestHandler;
+    
+    public BatchRedoRequestHandler(InstanceRequestHandler instanceRequestHandler,
+            BatchInstanceRequestHandler batchInstanceRequestHandler,
+            SubscribeServiceRequestHandler subscribeServiceRequestHandler) {
+        this.instanceRequestHandler = instanceRequestHandler;
+        this.batchInstanceRequestHandler = batchInstanceRequestHandler;
+        this.subscribeServiceRequestHandler = subscribeServiceRequestHandler;
+    }
+    
+    @Override
+    @TpsControl(pointName = "RemoteNamingBatchRedo", name = "RemoteNamingBatchRedo")
+    public BatchRedoResponse handle(BatchRedoRequest request, RequestMeta meta) throws NacosException {
+        BatchRedoResponse response = new BatchRedoResponse();
+        response.setInstanceResults(handleInnerRequests(request, request.getInstanceRequests(),
+                instanceRequestHandler, meta));
+        response.setBatchInstanceResults(handleInnerRequests(request, request.getBatchInstanceRequests(),
+                batchInstanceRequestHandler, meta));
+        response.setSubscribeResults(handleInnerRequests(request, request.getSubscribeRequests(),
+                subscribeServiceRequestHandler, meta));
+        return response;
+    }
+    
+    private <T extends Request> List<Boolean> handleInnerRequests(BatchRedoRequest request, List<T> innerRequests,
+            RequestHandler<T, ?> handler, RequestMeta meta) {
+        List<Boolean> result = new ArrayList<>(innerRequests.size());
+        for (T each : innerRequests) {
+            // identity of client such as access token is in the headers of the batch request.
+            each.putAllHeader(request.getHeaders());
+            try {
+                Response response = handler.handleRequest(each, meta);
+                result.add(null != response && response.isSuccess());
+            } catch (Exception e) {
+                Loggers.SRV_LOG.warn("[BATCH-REDO] handle {} failed, connectionId: {}", each.getClass().getSimpleName(),
+                        meta.getConnectionId(), e);
+                result.add(false);
+            }
+        }
+        return result;
+    }
+}
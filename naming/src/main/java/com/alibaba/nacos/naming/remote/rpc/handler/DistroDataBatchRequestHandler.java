@@ -0,0 +1,75 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataBatchRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.plugin.auth.constant.ApiType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Distro data batch request handler.
+ *
+ * @author Nacos
+ */
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+@Component
+public class DistroDataBatchRequestHandler extends RequestHandler<DistroDataBatchRequest, DistroDataResponse> {
+    
+    private final DistroProtocol distroProtocol;
+    
+    public DistroDataBatchRequestHandler(DistroProtocol distroProtocol) {
+        this.distroProtocol = distroProtocol;
+    }
+    
+    @Override
+    @Secured(apiType = ApiType.INNER_API)
+    public DistroDataResponse handle(DistroDataBatchRequest request, RequestMeta meta) throws NacosException {
+        DistroDataResponse result = new DistroDataResponse();
+        if (CollectionUtils.isEmpty(request.getDistroDataList())) {
+            return result;
+        }
+        int failed = 0;
+        for (DistroData each : request.getDistroDataList()) {
+            try {
+                if (!distroProtocol.onReceive(each)) {
+                    failed++;
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-FAILED] distro handle batch data {} with exception", each.getDistroKey(),
+                        e);
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(),
+                    "[DISTRO-FAILED] distro batch data handle failed, failed count " + failed);
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.remote.RemoteConstants;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
@@ -55,8 +56,10 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
             switch (request.getDataOperation()) {
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
+                case VERIFY_DIGEST:
+                    return handleVerifyDigest(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request.getDistroData());
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -84,9 +87,27 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleVerifyDigest(DistroData distroData, RequestMeta meta) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        String targetServer = distroData.getDistroKey().getTargetServer();
+        String sourceServer = StringUtils.isNotBlank(targetServer) ? targetServer : meta.getClientIp();
+        DistroData mismatchedData = distroProtocol.onVerifyDigest(distroData, sourceServer);
+        if (null == mismatchedData) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro digest verify unsupported");
+        }
+        result.setDistroData(mismatchedData);
+        return result;
+    }
+    
+    private DistroDataResponse handleSnapshot(DistroData chunkData) {
+        DistroDataResponse result = new DistroDataResponse();
+        // request without chunk data comes from server of old version, which loads the whole snapshot at once.
+        DistroData distroData = null == chunkData ? distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE)
+                : distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE, chunkData.getDistroKey().getResourceKey());
+        if (null == distroData) {
+            result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] snapshot cursor is invalid or expired");
+            return result;
+        }
         result.setDistroData(distroData);
         return result;
     }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.cluster.remote.codec;
+
+import com.alibaba.nacos.common.remote.codec.BinaryPayloadCodecRegistry;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroDataRequestCodecTest {
+    
+    private static final String TYPE = DistroDataRequest.class.getSimpleName();
+    
+    @Test
+    void testEncodeAndDecode() {
+        DistroData distroData = new DistroData(new DistroKey("key", "type", "1.1.1.1:8848"),
+                "content".getBytes(StandardCharsets.UTF_8));
+        distroData.setType(DataOperation.CHANGE);
+        DistroDataRequest request = new DistroDataRequest(distroData, DataOperation.CHANGE);
+        request.setRequestId("1");
+        assertTrue(BinaryPayloadCodecRegistry.isSupported(TYPE));
+        
+        DistroDataRequest actual = (DistroDataRequest) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, request)));
+        assertEquals("1", actual.getRequestId());
+        assertEquals(DataOperation.CHANGE, actual.getDataOperation());
+        assertEquals(DataOperation.CHANGE, actual.getDistroData().getType());
+        assertEquals("key", actual.getDistroData().getDistroKey().getResourceKey());
+        assertEquals("type", actual.getDistroData().getDistroKey().getResourceType());
+        assertEquals("1.1.1.1:8848", actual.getDistroData().getDistroKey().getTargetServer());
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), actual.getDistroData().getContent());
+    }
+    
+    @Test
+    void testEncodeAndDecodeVerifyWithoutContent() {
+        DistroData distroData = new DistroData();
+        distroData.setType(DataOperation.VERIFY);
+        DistroDataRequest request = new DistroDataRequest(distroData, DataOperation.VERIFY);
+        
+        DistroDataRequest actual = (DistroDataRequest) BinaryPayloadCodecRegistry.decode(TYPE,
+                ByteString.copyFrom(BinaryPayloadCodecRegistry.encode(TYPE, request)));
+        assertEquals(DataOperation.VERIFY, actual.getDataOperation());
+        assertNull(actual.getDistroData().getDistroKey());
+        assertNull(actual.getDistroData().getContent());
+    }
+}
@@ -18,9 +18,13 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroVerifyDigest;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -54,6 +58,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -61,6 +66,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -376,6 +382,47 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotByChunk() {
+        DistroConfig.getInstance().setLoadDataChunkSize(1);
+        try {
+            Client other = new ConnectionBasedClient("22222_2.2.2.2_3306", true, 0L);
+            when(clientManager.getClient(other.getClientId())).thenReturn(other);
+            when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, other.getClientId()));
+            DistroData first = distroClientDataProcessor.getDatumSnapshot("");
+            assertEquals(DataOperation.SNAPSHOT, first.getType());
+            String cursor = first.getDistroKey().getResourceKey();
+            assertTrue(cursor.endsWith("/1"));
+            DistroData last = distroClientDataProcessor.getDatumSnapshot(cursor);
+            assertEquals(DataOperation.SNAPSHOT, last.getType());
+            assertNull(last.getDistroKey().getResourceKey());
+            verify(serializer, times(2)).serialize(any(ClientSyncDatumSnapshot.class));
+            verify(clientManager).allClientId();
+            // the walk is finished and dropped after the last chunk.
+            assertNull(distroClientDataProcessor.getDatumSnapshot(cursor));
+        } finally {
+            DistroConfig.getInstance().setLoadDataChunkSize(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
+        }
+    }
+    
+    @Test
+    void testGetDatumSnapshotByInvalidCursor() {
+        DistroConfig.getInstance().setLoadDataChunkSize(1);
+        try {
+            when(clientManager.allClientId()).thenReturn(Arrays.asList(CLIENT_ID, "22222_2.2.2.2_3306"));
+            String cursor = distroClientDataProcessor.getDatumSnapshot("").getDistroKey().getResourceKey();
+            String walkId = cursor.substring(0, cursor.indexOf('/'));
+            assertNull(distroClientDataProcessor.getDatumSnapshot("0/0"));
+            assertNull(distroClientDataProcessor.getDatumSnapshot("abc"));
+            assertNull(distroClientDataProcessor.getDatumSnapshot(walkId + "/abc"));
+            assertNull(distroClientDataProcessor.getDatumSnapshot(walkId + "/2"));
+            assertNull(distroClientDataProcessor.getDatumSnapshot(walkId + "/-1"));
+            assertNull(distroClientDataProcessor.getDatumSnapshot(walkId + "/1/2"));
+        } finally {
+            DistroConfig.getInstance().setLoadDataChunkSize(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
+        }
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +433,75 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testGetVerifyDigest() {
+        client.setRevision(10L);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroVerifyDigest expected = new DistroVerifyDigest(16);
+        expected.add(CLIENT_ID, 10L);
+        DistroVerifyDigest actual = distroClientDataProcessor.getVerifyDigest(16);
+        assertTrue(expected.mismatchedBuckets(actual).isEmpty());
+        int bucket = DistroVerifyDigest.bucketOf(CLIENT_ID, 16);
+        assertEquals(1, distroClientDataProcessor.getVerifyData(Collections.singletonList(bucket), 16).size());
+        assertTrue(distroClientDataProcessor.getVerifyData(Collections.singletonList((bucket + 1) % 16), 16).isEmpty());
+    }
+    
+    @Test
+    void testProcessVerifyDigest() {
+        client.setRevision(10L);
+        when(clientManager.isResponsibleClient(client)).thenReturn(false);
+        DistroVerifyDigest digest = new DistroVerifyDigest(16);
+        digest.add(CLIENT_ID, 10L);
+        int bucket = DistroVerifyDigest.bucketOf(CLIENT_ID, 16);
+        // source of client is unknown before verified one by one.
+        assertEquals(Collections.singletonList(bucket),
+                distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER));
+        DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo(CLIENT_ID, 10L);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyInfo.class))).thenReturn(verifyInfo);
+        distroClientDataProcessor.processVerifyData(distroData, "1.1.1.1");
+        assertTrue(distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER).isEmpty());
+        verify(clientManager, times(2)).verifyClient(any(DistroClientVerifyInfo.class));
+        // digest from other source does not contain the client.
+        assertTrue(distroClientDataProcessor.processVerifyDigest(new DistroVerifyDigest(16), "3.3.3.3:8848").isEmpty());
+        client.setRevision(11L);
+        assertEquals(Collections.singletonList(bucket),
+                distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER));
+    }
+    
+    @Test
+    void testRemoveClientSourceWhenClientDisconnect() {
+        DistroVerifyDigest digest = mockVerifiedClientDigest();
+        assertTrue(distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER).isEmpty());
+        distroClientDataProcessor.onEvent(new ClientEvent.ClientDisconnectEvent(client, false));
+        assertEquals(Collections.singletonList(DistroVerifyDigest.bucketOf(CLIENT_ID, 16)),
+                distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER));
+    }
+    
+    @Test
+    void testRemoveClientSourceWhenSourceServerLeft() {
+        DistroVerifyDigest digest = mockVerifiedClientDigest();
+        distroClientDataProcessor.removeLeftSourceServers(Collections.singletonList(mockMember(MOCK_TARGET_SERVER)));
+        assertTrue(distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER).isEmpty());
+        distroClientDataProcessor.removeLeftSourceServers(Collections.singletonList(mockMember("3.3.3.3:8848")));
+        assertEquals(Collections.singletonList(DistroVerifyDigest.bucketOf(CLIENT_ID, 16)),
+                distroClientDataProcessor.processVerifyDigest(digest, MOCK_TARGET_SERVER));
+    }
+    
+    private Member mockMember(String address) {
+        Member member = mock(Member.class);
+        when(member.getAddress()).thenReturn(address);
+        return member;
+    }
+    
+    private DistroVerifyDigest mockVerifiedClientDigest() {
+        client.setRevision(10L);
+        when(clientManager.isResponsibleClient(client)).thenReturn(false);
+        DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo(CLIENT_ID, 10L);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyInfo.class))).thenReturn(verifyInfo);
+        distroClientDataProcessor.processVerifyData(distroData, "1.1.1.1");
+        DistroVerifyDigest digest = new DistroVerifyDigest(16);
+        digest.add(CLIENT_ID, 10L);
+        return digest;
+    }
+}
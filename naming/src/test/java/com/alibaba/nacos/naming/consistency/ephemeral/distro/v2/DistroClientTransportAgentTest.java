@@ -28,6 +28,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataBatchRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -43,6 +44,8 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -233,6 +236,34 @@ class DistroClientTransportAgentTest {
         verify(distroCallback).onSuccess();
     }
     
+    @Test
+    void testSyncBatchDataForMemberNonExist() throws NacosException {
+        assertTrue(transportAgent.supportBatchSync());
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    void testSyncBatchDataForMemberUnhealthy() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onFailed(null);
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    void testSyncBatchDataSuccess() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(clusterRpcClientProxy).asyncRequest(eq(member), any(DistroDataBatchRequest.class), any());
+        verify(distroCallback).onSuccess();
+    }
+    
     @Test
     void testSyncVerifyDataForMemberNonExist() throws NacosException {
         DistroData verifyData = new DistroData();
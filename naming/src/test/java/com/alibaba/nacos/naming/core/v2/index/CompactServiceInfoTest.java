@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactServiceInfoTest {
+    
+    @Test
+    void testPackIpv4() {
+        assertEquals("192.168.1.255", CompactServiceInfo.unpackIpv4(CompactServiceInfo.packIpv4("192.168.1.255")));
+        assertEquals("0.0.0.0", CompactServiceInfo.unpackIpv4(CompactServiceInfo.packIpv4("0.0.0.0")));
+        assertEquals(0, CompactServiceInfo.packIpv4("256.1.1.1"));
+        assertEquals(0, CompactServiceInfo.packIpv4("1.1.1"));
+        assertEquals(0, CompactServiceInfo.packIpv4("1.1.1.1.1"));
+        assertEquals(0, CompactServiceInfo.packIpv4("::1"));
+        assertEquals(0, CompactServiceInfo.packIpv4(null));
+    }
+    
+    @Test
+    void testToServiceInfo() {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName("service");
+        serviceInfo.setGroupName("group");
+        serviceInfo.setCacheMillis(3000L);
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setReachProtectionThreshold(true);
+        Instance ipv4 = newInstance("10.0.0.1", true);
+        Instance ipv6 = newInstance("2001:db8::1", false);
+        Instance leadingZero = newInstance("010.0.0.1", true);
+        serviceInfo.setHosts(Arrays.asList(ipv4, ipv6, leadingZero));
+        
+        ServiceInfo actual = CompactServiceInfo.of(serviceInfo).toServiceInfo();
+        assertEquals("service", actual.getName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals(3000L, actual.getCacheMillis());
+        assertEquals(100L, actual.getLastRefTime());
+        assertTrue(actual.isReachProtectionThreshold());
+        assertEquals(3, actual.getHosts().size());
+        assertInstance(ipv4, actual.getHosts().get(0));
+        assertInstance(ipv6, actual.getHosts().get(1));
+        assertInstance(leadingZero, actual.getHosts().get(2));
+        assertFalse(actual.getHosts().get(1).isHealthy());
+    }
+    
+    @Test
+    void testMetadataShared() {
+        Map<String, String> metadata1 = new HashMap<>();
+        metadata1.put("version", "1.0");
+        Map<String, String> metadata2 = new HashMap<>(metadata1);
+        assertSame(CompactValuePool.intern(metadata1), CompactValuePool.intern(metadata2));
+        
+        ServiceInfo serviceInfo = new ServiceInfo();
+        Instance instance = newInstance("10.0.0.1", true);
+        instance.setMetadata(metadata1);
+        serviceInfo.setHosts(Arrays.asList(instance));
+        CompactServiceInfo compact = CompactServiceInfo.of(serviceInfo);
+        Instance first = compact.toServiceInfo().getHosts().get(0);
+        Instance second = compact.toServiceInfo().getHosts().get(0);
+        assertNotSame(first.getMetadata(), second.getMetadata());
+        first.getMetadata().put("other", "value");
+        assertEquals(1, second.getMetadata().size());
+    }
+    
+    private Instance newInstance(String ip, boolean healthy) {
+        Instance result = new Instance();
+        result.setInstanceId(ip + "#8848");
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setWeight(2.0D);
+        result.setHealthy(healthy);
+        result.setEnabled(true);
+        result.setEphemeral(true);
+        result.setClusterName("DEFAULT");
+        result.setServiceName("group@@service");
+        result.getMetadata().put("ip", ip);
+        return result;
+    }
+    
+    private void assertInstance(Instance expected, Instance actual) {
+        assertEquals(expected.getInstanceId(), actual.getInstanceId());
+        assertEquals(expected.getIp(), actual.getIp());
+        assertEquals(expected.getPort(), actual.getPort());
+        assertEquals(expected.getWeight(), actual.getWeight());
+        assertEquals(expected.isHealthy(), actual.isHealthy());
+        assertEquals(expected.isEnabled(), actual.isEnabled());
+        assertEquals(expected.isEphemeral(), actual.isEphemeral());
+        assertEquals(expected.getClusterName(), actual.getClusterName());
+        assertEquals(expected.getServiceName(), actual.getServiceName());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+    }
+}
@@ -18,17 +18,22 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.constants.Constants;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -43,6 +48,8 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -73,6 +80,7 @@ class ServiceStorageTest {
     
     @BeforeEach
     void setUp() throws NoSuchFieldException, IllegalAccessException {
+        EnvUtil.setEnvironment(new MockEnvironment());
         serviceStorage = new ServiceStorage(clientServiceIndexesManager, clientManagerDelegate, switchDomain, namingMetadataManager);
         
         Field serviceClusterIndex = ServiceStorage.class.getDeclaredField("serviceClusterIndex");
@@ -163,4 +171,41 @@ class ServiceStorageTest {
         assertNotNull(instance);
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetDataWithCompactStorage() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(Constants.COMPACT_SERVICE_STORAGE, "true");
+        EnvUtil.setEnvironment(environment);
+        ServiceStorage compactStorage = new ServiceStorage(clientServiceIndexesManager, clientManagerDelegate,
+                switchDomain, namingMetadataManager);
+        Service service = Service.newService("namespaceId", "groupName", "compactService");
+        ServiceManager.getInstance().getSingleton(service);
+        try {
+            Client client = Mockito.mock(Client.class);
+            InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+            publishInfo.setCluster(NACOS);
+            publishInfo.setHealthy(true);
+            publishInfo.getExtendDatum().put("key", "value");
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList(NACOS));
+            Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+            Mockito.when(client.getInstancePublishInfo(service)).thenReturn(publishInfo);
+            
+            ServiceInfo first = compactStorage.getData(service);
+            ServiceInfo second = compactStorage.getData(service);
+            assertNotSame(first, second);
+            assertEquals(1, second.getHosts().size());
+            Instance instance = second.getHosts().get(0);
+            assertEquals("1.1.1.1", instance.getIp());
+            assertEquals(8848, instance.getPort());
+            assertEquals(NACOS, instance.getClusterName());
+            assertEquals("value", instance.getMetadata().get("key"));
+            assertTrue(instance.isHealthy());
+            assertEquals(first.getHosts().get(0), instance);
+            Mockito.verify(clientServiceIndexesManager).getAllClientsRegisteredService(service);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+            EnvUtil.setEnvironment(new MockEnvironment());
+        }
+    }
+}
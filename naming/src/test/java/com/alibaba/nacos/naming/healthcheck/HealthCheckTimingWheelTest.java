@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthCheckTimingWheelTest {
+    
+    private HealthCheckTimingWheel timingWheel;
+    
+    private long startTime;
+    
+    @BeforeEach
+    void setUp() {
+        startTime = HealthCheckTimingWheel.currentMillis();
+        timingWheel = new HealthCheckTimingWheel(100L, 8, 2, Runnable::run);
+    }
+    
+    @Test
+    void testScheduleOnce() {
+        AtomicInteger count = new AtomicInteger();
+        timingWheel.schedule(count::incrementAndGet, 250L);
+        timingWheel.advance(startTime + 100L);
+        assertEquals(0, count.get());
+        timingWheel.advance(startTime + 400L);
+        assertEquals(1, count.get());
+        timingWheel.advance(startTime + 2000L);
+        assertEquals(1, count.get());
+        assertEquals(0, timingWheel.size());
+    }
+    
+    @Test
+    void testScheduleMoreThanOneRound() {
+        AtomicInteger count = new AtomicInteger();
+        timingWheel.schedule(count::incrementAndGet, 1500L);
+        timingWheel.advance(startTime + 1000L);
+        assertEquals(0, count.get());
+        timingWheel.advance(startTime + 1700L);
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    void testScheduleWithFixedDelayAndCancel() {
+        AtomicInteger count = new AtomicInteger();
+        HealthCheckTimingWheel.Timeout timeout = timingWheel.schedule(count::incrementAndGet, 100L, 100L);
+        for (int i = 1; i <= 20; i++) {
+            timingWheel.advance(HealthCheckTimingWheel.currentMillis() + i * 100L);
+        }
+        int executed = count.get();
+        assertTrue(executed > 1);
+        timeout.cancel();
+        timingWheel.advance(HealthCheckTimingWheel.currentMillis() + 10000L);
+        assertEquals(executed, count.get());
+        assertEquals(0, timingWheel.size());
+    }
+    
+    @Test
+    void testRetryWhenDispatchRejected() {
+        AtomicInteger count = new AtomicInteger();
+        AtomicInteger dispatched = new AtomicInteger();
+        HealthCheckTimingWheel wheel = new HealthCheckTimingWheel(100L, 8, 2, task -> {
+            if (dispatched.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("test");
+            }
+            task.run();
+        });
+        wheel.schedule(count::incrementAndGet, 100L);
+        wheel.advance(startTime + 300L);
+        assertEquals(0, count.get());
+        assertEquals(1, wheel.size());
+        wheel.advance(HealthCheckTimingWheel.currentMillis() + 1000L);
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    void testExpiredTasksInBatches() {
+        AtomicInteger batches = new AtomicInteger();
+        HealthCheckTimingWheel wheel = new HealthCheckTimingWheel(100L, 8, 2, task -> {
+            batches.incrementAndGet();
+            task.run();
+        });
+        AtomicInteger count = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            wheel.schedule(count::incrementAndGet, 100L);
+        }
+        wheel.advance(startTime + 1000L);
+        assertEquals(5, count.get());
+        assertEquals(3, batches.get());
+    }
+}
@@ -16,14 +16,22 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.EncodedNotifySubscriberRequest;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
@@ -32,6 +40,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,13 +48,21 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +74,9 @@ class PushExecutorRpcImplTest {
     @Mock
     private RpcPushService pushService;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
     @Mock
     private Subscriber subscriber;
     
@@ -80,7 +100,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -103,6 +123,94 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushShareEncodedRequest() {
+        String anotherClientId = UUID.randomUUID().toString();
+        pushExecutor.doPush(rpcClientId, subscriber, pushData);
+        pushExecutor.doPush(anotherClientId, subscriber, pushData);
+        ArgumentCaptor<EncodedNotifySubscriberRequest> captor = ArgumentCaptor.forClass(
+                EncodedNotifySubscriberRequest.class);
+        verify(pushService).pushWithoutAck(eq(rpcClientId), captor.capture());
+        verify(pushService).pushWithoutAck(eq(anotherClientId), captor.capture());
+        EncodedNotifySubscriberRequest first = captor.getAllValues().get(0);
+        EncodedNotifySubscriberRequest second = captor.getAllValues().get(1);
+        assertNotSame(first, second);
+        assertSame(first.getServiceInfo(), second.getServiceInfo());
+        assertSame(first.encodedBodyWithoutRequestId(), second.encodedBodyWithoutRequestId());
+        assertSame(first.encodedBinaryBodyWithoutRequestId(), second.encodedBinaryBodyWithoutRequestId());
+    }
+    
+    @Test
+    void testDoPushWithCallbackDeltaPush() {
+        mockDeltaPushSupported();
+        doAnswer(invocationOnMock -> {
+            invocationOnMock.getArgument(2, PushCallBack.class).onSuccess();
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(ServerRequest.class), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        Subscriber realSubscriber = new Subscriber("1.1.1.1:1", "agent", "app", "1.1.1.1", "ns", "G@@S", 0);
+        PushDataWrapper first = new PushDataWrapper(serviceMetadata, buildServiceInfo(100));
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber, first, pushCallBack);
+        assertEquals(first.getRevision(), realSubscriber.getAckedPush().getRevision());
+        PushDataWrapper second = new PushDataWrapper(serviceMetadata, buildServiceInfo(101));
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber, second, pushCallBack);
+        
+        ArgumentCaptor<ServerRequest> captor = ArgumentCaptor.forClass(ServerRequest.class);
+        verify(pushService, times(2)).pushWithCallback(eq(rpcClientId), captor.capture(), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        EncodedNotifySubscriberRequest fullRequest = assertInstanceOf(EncodedNotifySubscriberRequest.class,
+                captor.getAllValues().get(0));
+        assertEquals(first.getRevision(), fullRequest.getRevision());
+        NotifySubscriberDeltaRequest deltaRequest = assertInstanceOf(NotifySubscriberDeltaRequest.class,
+                captor.getAllValues().get(1));
+        assertEquals(first.getRevision(), deltaRequest.getBaseRevision());
+        assertEquals(second.getRevision(), deltaRequest.getRevision());
+        assertEquals(1, deltaRequest.getAddedInstances().size());
+        assertEquals(0, deltaRequest.getRemovedInstances().size());
+        assertEquals(0, deltaRequest.getModifiedInstances().size());
+        assertEquals(second.getRevision(), realSubscriber.getAckedPush().getRevision());
+        verify(pushCallBack, times(2)).onSuccess();
+    }
+    
+    @Test
+    void testDoPushWithCallbackDeltaPushBaseMismatch() {
+        mockDeltaPushSupported();
+        doAnswer(invocationOnMock -> {
+            invocationOnMock.getArgument(2, PushCallBack.class)
+                    .onFail(new NacosException(NotifySubscriberResponse.BASE_REVISION_MISMATCH, "mismatch"));
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(ServerRequest.class), any(PushCallBack.class),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        Subscriber realSubscriber = new Subscriber("1.1.1.1:1", "agent", "app", "1.1.1.1", "ns", "G@@S", 0);
+        realSubscriber.ackPush(1L, buildServiceInfo(100));
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber,
+                new PushDataWrapper(serviceMetadata, buildServiceInfo(101)), pushCallBack);
+        verify(pushService).pushWithCallback(eq(rpcClientId), any(NotifySubscriberDeltaRequest.class),
+                any(PushCallBack.class), eq(GlobalExecutor.getCallbackExecutor()));
+        assertNull(realSubscriber.getAckedPush());
+        verify(pushCallBack).onFail(any(NacosException.class));
+    }
+    
+    private void mockDeltaPushSupported() {
+        Connection connection = mock(Connection.class);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_DELTA_PUSH.getName(), true));
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+    }
+    
+    private ServiceInfo buildServiceInfo(int instanceCount) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("1.1.1.1");
+            instance.setPort(i + 1);
+            hosts.add(instance);
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
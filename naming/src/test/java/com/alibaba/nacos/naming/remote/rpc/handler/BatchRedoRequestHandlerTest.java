@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
+import com.alibaba.nacos.api.naming.remote.request.BatchInstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.BatchRedoRequest;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.SubscribeServiceRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchInstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.BatchRedoResponse;
+import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.SubscribeServiceResponse;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchRedoRequestHandlerTest {
+    
+    @InjectMocks
+    private BatchRedoRequestHandler batchRedoRequestHandler;
+    
+    @Mock
+    private InstanceRequestHandler instanceRequestHandler;
+    
+    @Mock
+    private BatchInstanceRequestHandler batchInstanceRequestHandler;
+    
+    @Mock
+    private SubscribeServiceRequestHandler subscribeServiceRequestHandler;
+    
+    @Test
+    void testHandle() throws NacosException {
+        BatchRedoRequest request = new BatchRedoRequest("namespace");
+        request.putHeader("accessToken", "token");
+        InstanceRequest instanceRequest = new InstanceRequest("namespace", "service1", "group",
+                NamingRemoteConstants.REGISTER_INSTANCE, new Instance());
+        request.getInstanceRequests().add(instanceRequest);
+        BatchInstanceRequest batchInstanceRequest = new BatchInstanceRequest("namespace", "service2", "group",
+                NamingRemoteConstants.BATCH_REGISTER_INSTANCE, Collections.singletonList(new Instance()));
+        request.getBatchInstanceRequests().add(batchInstanceRequest);
+        SubscribeServiceRequest subscribed = new SubscribeServiceRequest("namespace", "group", "service3", "", true);
+        SubscribeServiceRequest denied = new SubscribeServiceRequest("namespace", "group", "service4", "", true);
+        SubscribeServiceRequest failed = new SubscribeServiceRequest("namespace", "group", "service5", "", true);
+        request.getSubscribeRequests().addAll(Arrays.asList(subscribed, denied, failed));
+        RequestMeta meta = new RequestMeta();
+        
+        when(instanceRequestHandler.handleRequest(eq(instanceRequest), any())).thenReturn(
+                new InstanceResponse(NamingRemoteConstants.REGISTER_INSTANCE));
+        when(batchInstanceRequestHandler.handleRequest(eq(batchInstanceRequest), any())).thenReturn(
+                new BatchInstanceResponse(NamingRemoteConstants.BATCH_REGISTER_INSTANCE));
+        when(subscribeServiceRequestHandler.handleRequest(eq(subscribed), any())).thenReturn(
+                new SubscribeServiceResponse(ResponseCode.SUCCESS.getCode(), "success", null));
+        SubscribeServiceResponse deniedResponse = new SubscribeServiceResponse();
+        deniedResponse.setErrorInfo(NacosException.NO_RIGHT, "no right");
+        when(subscribeServiceRequestHandler.handleRequest(eq(denied), any())).thenReturn(deniedResponse);
+        when(subscribeServiceRequestHandler.handleRequest(eq(failed), any())).thenThrow(
+                new NacosException(NacosException.SERVER_ERROR, "failed"));
+        
+        BatchRedoResponse response = batchRedoRequestHandler.handle(request, meta);
+        assertEquals(Collections.singletonList(true), response.getInstanceResults());
+        assertEquals(Collections.singletonList(true), response.getBatchInstanceResults());
+        assertEquals(Arrays.asList(true, false, false), response.getSubscribeResults());
+        assertEquals("token", instanceRequest.getHeader("accessToken"));
+        assertEquals("token", subscribed.getHeader("accessToken"));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.remote.rpc.handler;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataBatchRequest;
+import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroDataBatchRequestHandlerTest {
+    
+    @InjectMocks
+    private DistroDataBatchRequestHandler handler;
+    
+    @Mock
+    private DistroProtocol distroProtocol;
+    
+    @Test
+    void testHandleEmpty() throws NacosException {
+        DistroDataResponse response = handler.handle(new DistroDataBatchRequest(), new RequestMeta());
+        assertTrue(response.isSuccess());
+        verify(distroProtocol, never()).onReceive(any());
+    }
+    
+    @Test
+    void testHandleAllSuccess() throws NacosException {
+        DistroData data1 = new DistroData();
+        DistroData data2 = new DistroData();
+        when(distroProtocol.onReceive(data1)).thenReturn(true);
+        when(distroProtocol.onReceive(data2)).thenReturn(true);
+        DistroDataResponse response = handler
+                .handle(new DistroDataBatchRequest(Arrays.asList(data1, data2)), new RequestMeta());
+        assertTrue(response.isSuccess());
+    }
+    
+    @Test
+    void testHandlePartialFailure() throws NacosException {
+        DistroData data1 = new DistroData();
+        DistroData data2 = new DistroData();
+        when(distroProtocol.onReceive(data1)).thenReturn(false);
+        when(distroProtocol.onReceive(data2)).thenThrow(new IllegalStateException("test"));
+        DistroDataResponse response = handler
+                .handle(new DistroDataBatchRequest(Arrays.asList(data1, data2)), new RequestMeta());
+        assertEquals(ResponseCode.FAIL.getCode(), response.getErrorCode());
+        verify(distroProtocol).onReceive(data2);
+    }
+}
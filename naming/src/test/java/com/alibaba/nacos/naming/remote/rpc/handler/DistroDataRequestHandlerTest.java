@@ -22,8 +22,10 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -84,4 +86,14 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertNull(response4.getDistroData());
     }
+    
+    @Test
+    void testHandleSnapshotWithInvalidCursor() throws NacosException {
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(SNAPSHOT);
+        distroDataRequest.setDistroData(new DistroData(new DistroKey("0/0", DistroClientDataProcessor.TYPE), null));
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        assertEquals(ResponseCode.FAIL.getCode(), response.getResultCode());
+        assertNull(response.getDistroData());
+    }
 }